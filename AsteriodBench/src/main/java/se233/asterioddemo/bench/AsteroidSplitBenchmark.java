@@ -0,0 +1,35 @@
+package se233.asterioddemo.bench;
+
+import org.openjdk.jmh.annotations.*;
+import se233.asterioddemo.core.Asteroid;
+import se233.asterioddemo.core.EntityStore;
+import se233.asterioddemo.core.GameRandom;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splitting a large asteroid into two pieces spawned straight into a store; mostly interesting for
+ * what it allocates, which should be the two views and nothing else.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AsteroidSplitBenchmark {
+    private Asteroid asteroid;
+    private final EntityStore<Asteroid> pieces = new EntityStore<>();
+
+    @Setup(Level.Trial)
+    public void createAsteroid() {
+        asteroid = new Asteroid(640, 360, 2, 60, 60, false, new GameRandom(42));
+    }
+
+    @Benchmark
+    public int split() {
+        int count = asteroid.split(pieces);
+        pieces.clear();
+        return count;
+    }
+}
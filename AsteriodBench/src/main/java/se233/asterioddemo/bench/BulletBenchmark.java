@@ -0,0 +1,43 @@
+package se233.asterioddemo.bench;
+
+import org.openjdk.jmh.annotations.*;
+import se233.asterioddemo.core.BulletSystem;
+import se233.asterioddemo.core.Sprites;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link BulletSystem#update} tick with every bullet alive and its trail growing. The bounds are
+ * far beyond the screen so no bullet leaves during the run and the count stays fixed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulletBenchmark {
+    private static final double BOUNDS = 1e12;
+    private static final int[] SPRITES = {Sprites.LASER_BLUE_07, Sprites.LASER_BLUE_08, Sprites.LASER_BLUE_11, Sprites.LASER_RED_01};
+
+    @Param({"100", "1000", "10000"})
+    public int bullets;
+
+    private BulletSystem bulletSystem;
+
+    @Setup(Level.Trial)
+    public void spawnBullets() {
+        bulletSystem = new BulletSystem();
+        for (int i = 0; i < bullets; i++) {
+            // A mix of owners and of straight, pulsing and spinning shots
+            int owner = i % 4 == 3 ? BulletSystem.OWNER_ENEMY : BulletSystem.OWNER_PLAYER;
+            bulletSystem.spawn(BOUNDS / 2, BOUNDS / 2, i * 0.01, 10, owner, SPRITES[i % SPRITES.length]);
+        }
+    }
+
+    @Benchmark
+    public BulletSystem update() {
+        bulletSystem.update(BOUNDS, BOUNDS, 1.0);
+        return bulletSystem;
+    }
+}
@@ -0,0 +1,48 @@
+package se233.asterioddemo.bench;
+
+import org.openjdk.jmh.annotations.*;
+import se233.asterioddemo.core.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * One {@link GameEntityManager#checkCollisions} pass over a crowded screen. Collisions remove what
+ * they hit, so the same crowd is restored from a saved state before every call; the restore is
+ * not part of the measured time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+    private static final Logger logger = Logger.getLogger(CollisionBenchmark.class.getName());
+
+    // Asteroids, enemy ships, player bullets and enemy bullets together
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    private GameSimulation simulation;
+    private byte[] crowd;
+
+    @Setup(Level.Trial)
+    public void buildCrowd() {
+        Scenes.silenceLogging();
+        simulation = Scenes.crowd(entities, 42);
+        crowd = simulation.saveState();
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreCrowd() {
+        simulation.restoreState(crowd);
+    }
+
+    @Benchmark
+    public GameState checkCollisions() {
+        simulation.getEntityManager().checkCollisions(simulation.getGameState(), simulation.getPlayerShip(),
+                SoundEffect.NONE, SoundEffect.NONE, logger);
+        return simulation.getGameState();
+    }
+}
@@ -0,0 +1,79 @@
+package se233.asterioddemo.bench;
+
+import org.openjdk.jmh.annotations.*;
+import se233.asterioddemo.core.ExplosionEffect;
+import se233.asterioddemo.core.GameRandom;
+import se233.asterioddemo.core.ParticleEngine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spawning one asteroid explosion, with and without pre-baked templates, and one update of the
+ * particle engine with a number of fresh explosions alive.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExplosionBenchmark {
+    // Same budget the entity manager gives its engine
+    private static final int PARTICLE_BUDGET = 4096;
+
+    @State(Scope.Thread)
+    public static class Spawner {
+        @Param({"true", "false"})
+        public boolean templates;
+
+        ParticleEngine engine;
+        ExplosionEffect effect;
+
+        @Setup(Level.Trial)
+        public void create() {
+            engine = new ParticleEngine(PARTICLE_BUDGET, new GameRandom(42));
+            effect = new ExplosionEffect(engine, 60);
+            effect.getConfig().setUseTemplates(templates);
+        }
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            engine.clear();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Burst {
+        @Param({"1", "10", "50"})
+        public int explosions;
+
+        ParticleEngine engine;
+        ExplosionEffect effect;
+
+        @Setup(Level.Trial)
+        public void create() {
+            engine = new ParticleEngine(PARTICLE_BUDGET, new GameRandom(42));
+            effect = new ExplosionEffect(engine, 60);
+        }
+
+        // Particles fade as they update, so every call starts from the same fresh explosions
+        @Setup(Level.Invocation)
+        public void fill() {
+            engine.clear();
+            for (int i = 0; i < explosions; i++) {
+                effect.createExplosion(100 + (i * 97) % 1080, 100 + (i * 53) % 520, 60);
+            }
+        }
+    }
+
+    @Benchmark
+    public ParticleEngine spawnAsteroidExplosion(Spawner spawner) {
+        spawner.effect.createExplosion(640, 360, 60);
+        return spawner.engine;
+    }
+
+    @Benchmark
+    public ParticleEngine updateExplosions(Burst burst) {
+        burst.engine.update(1.0);
+        return burst.engine;
+    }
+}
@@ -0,0 +1,73 @@
+package se233.asterioddemo.bench;
+
+import org.openjdk.jmh.annotations.*;
+import se233.asterioddemo.core.Asteroid;
+import se233.asterioddemo.core.EnemyShip;
+import se233.asterioddemo.core.GameEntityManager;
+import se233.asterioddemo.core.GameSimulation;
+import se233.asterioddemo.core.ParallelRange;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One tick of asteroid and enemy ship movement in an asteroid storm, nine rocks to every ship, moved
+ * on one thread ({@code threads=1}) or split over a pool of that many workers. Comparing the rows
+ * at each entity count shows where splitting starts to pay on the machine running it, which is
+ * what {@code -Dasteroidx.parallelThreshold} should be set to:
+ * <pre>
+ * java -jar AsteriodBench/target/benchmarks.jar Kinematics -p threads=1,4,8,16
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KinematicsBenchmark {
+    @Param({"1000", "4000", "16000", "64000"})
+    public int entities;
+
+    @Param({"1", "4", "8", "16"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private GameEntityManager manager;
+
+    @Setup(Level.Trial)
+    public void fillStorm() {
+        Scenes.silenceLogging();
+        pool = new ForkJoinPool(threads);
+        GameSimulation simulation = new GameSimulation(Scenes.WIDTH, Scenes.HEIGHT, 42);
+        simulation.reset(42);
+        manager = simulation.getEntityManager();
+        // Everything splits when there is more than one worker, so each row is all serial or all parallel
+        manager.setKinematics(new ParallelRange(pool, threads > 1 ? 0 : Integer.MAX_VALUE, ParallelRange.DEFAULT_CHUNK));
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < entities; i++) {
+            if (i % 10 == 9) {
+                manager.getEnemyShips().add(new EnemyShip(random.nextDouble(Scenes.WIDTH), random.nextDouble(Scenes.HEIGHT),
+                        2, 30, random.nextDouble(2 * Math.PI), simulation.getClock(), simulation.getRandom()));
+            } else {
+                manager.getAsteroids().add(new Asteroid(random.nextDouble(Scenes.WIDTH), random.nextDouble(Scenes.HEIGHT),
+                        1 + random.nextDouble(2), 20, 20, false, simulation.getRandom()));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopPool() {
+        pool.shutdownNow();
+    }
+
+    // Asteroids wrap at the edges and the game clock stands still, so the counts never change
+    @Benchmark
+    public GameEntityManager move() {
+        manager.updateAsteroids(Scenes.WIDTH, Scenes.HEIGHT, 1.0);
+        manager.updateEnemyShips(Scenes.WIDTH / 2, Scenes.HEIGHT / 2, 1.0);
+        return manager;
+    }
+}
@@ -0,0 +1,62 @@
+package se233.asterioddemo.bench;
+
+import se233.asterioddemo.core.Asteroid;
+import se233.asterioddemo.core.BulletSystem;
+import se233.asterioddemo.core.EnemyShip;
+import se233.asterioddemo.core.GameEntityManager;
+import se233.asterioddemo.core.GameRandom;
+import se233.asterioddemo.core.GameSimulation;
+import se233.asterioddemo.core.Sprites;
+
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Reproducible game states for the benchmarks to start from
+final class Scenes {
+    static final double WIDTH = 1280;
+    static final double HEIGHT = 720;
+
+    private static final double[] ASTEROID_SIZES = {20, 40, 60};
+    private static final int[] PLAYER_BULLETS = {Sprites.LASER_BLUE_07, Sprites.LASER_BLUE_08, Sprites.LASER_BLUE_11};
+
+    private Scenes() {
+    }
+
+    // Hits, spawns and deaths log at INFO, which would swamp what is being measured
+    static void silenceLogging() {
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    /**
+     * A fresh game with {@code entities} things spread over the screen: half asteroids, a tenth enemy
+     * ships, three tenths player bullets and a tenth enemy bullets.
+     */
+    static GameSimulation crowd(int entities, long seed) {
+        GameSimulation simulation = new GameSimulation(WIDTH, HEIGHT, seed);
+        simulation.reset(seed);
+        GameEntityManager manager = simulation.getEntityManager();
+        GameRandom gameRandom = simulation.getRandom();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        for (int i = 0; i < entities / 2; i++) {
+            double size = ASTEROID_SIZES[i % ASTEROID_SIZES.length];
+            manager.getAsteroids().add(new Asteroid(random.nextDouble(WIDTH), random.nextDouble(HEIGHT),
+                    1 + random.nextDouble(2), size, (int) size, false, gameRandom));
+        }
+        for (int i = 0; i < entities / 10; i++) {
+            manager.getEnemyShips().add(new EnemyShip(random.nextDouble(WIDTH), random.nextDouble(HEIGHT),
+                    2, 30, random.nextDouble(2 * Math.PI), simulation.getClock(), gameRandom));
+        }
+        BulletSystem bullets = manager.getBulletSystem();
+        for (int i = 0; i < entities * 3 / 10; i++) {
+            bullets.spawn(random.nextDouble(WIDTH), random.nextDouble(HEIGHT), random.nextDouble(2 * Math.PI),
+                    10, BulletSystem.OWNER_PLAYER, PLAYER_BULLETS[i % PLAYER_BULLETS.length]);
+        }
+        for (int i = 0; i < entities / 10; i++) {
+            bullets.spawn(random.nextDouble(WIDTH), random.nextDouble(HEIGHT), random.nextDouble(2 * Math.PI),
+                    5, BulletSystem.OWNER_ENEMY, Sprites.LASER_RED_01);
+        }
+        return simulation;
+    }
+}
@@ -0,0 +1,38 @@
+package se233.asterioddemo.bench;
+
+import org.openjdk.jmh.annotations.*;
+import se233.asterioddemo.core.GameSimulation;
+import se233.asterioddemo.core.ShipAI;
+import se233.asterioddemo.core.SoundEffect;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link ShipAI#update} decision with a crowd of asteroids, enemies and bullets to pick from.
+ * The game clock does not move, so the pilot fires at most once per trial and the crowd stays put.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShipAIBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int entities;
+
+    private ShipAI shipAI;
+
+    @Setup(Level.Trial)
+    public void createPilot() {
+        GameSimulation simulation = Scenes.crowd(entities, 42);
+        shipAI = new ShipAI(simulation.getPlayerShip(), simulation.getEntityManager(),
+                Scenes.WIDTH, Scenes.HEIGHT, SoundEffect.NONE);
+    }
+
+    @Benchmark
+    public ShipAI update() {
+        shipAI.update(1.0);
+        return shipAI;
+    }
+}
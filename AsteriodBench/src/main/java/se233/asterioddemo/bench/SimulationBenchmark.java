@@ -0,0 +1,59 @@
+package se233.asterioddemo.bench;
+
+import org.openjdk.jmh.annotations.*;
+import se233.asterioddemo.core.GameSimulation;
+import se233.asterioddemo.core.PlayerInput;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One whole 60 Hz tick of a seeded game flown by the AI pilot, the same work the headless runner
+ * does. A new game starts from the same seed whenever the pilot dies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulationBenchmark {
+    private static final double TICK_SECONDS = 1.0 / 60;
+    private static final long SEED = 42;
+
+    private final PlayerInput aiPilot = new AiPilotInput();
+    private GameSimulation simulation;
+
+    @Setup(Level.Trial)
+    public void startGame() {
+        Scenes.silenceLogging();
+        simulation = new GameSimulation(Scenes.WIDTH, Scenes.HEIGHT, SEED);
+        simulation.reset(SEED);
+    }
+
+    @Benchmark
+    public GameSimulation tick() {
+        simulation.tick(aiPilot, TICK_SECONDS);
+        if (simulation.isGameOver()) {
+            simulation.reset(SEED);
+        }
+        return simulation;
+    }
+
+    // Switches AI mode on and otherwise leaves every control released
+    private static final class AiPilotInput implements PlayerInput {
+        @Override public boolean isLeftPressed() { return false; }
+        @Override public boolean isRightPressed() { return false; }
+        @Override public boolean isUpPressed() { return false; }
+        @Override public boolean isDownPressed() { return false; }
+        @Override public boolean isShootingPressed() { return false; }
+        @Override public boolean isCheatModeEnabled() { return false; }
+        @Override public boolean isAIModeActive() { return true; }
+        @Override public boolean isAIModeDeactivate() { return false; }
+        @Override public boolean isShurikenMode() { return false; }
+        @Override public boolean isPluseMode() { return false; }
+        @Override public boolean isDefaultMode() { return false; }
+        @Override public boolean isSummonDrone() { return false; }
+        @Override public double getMouseX() { return 0; }
+        @Override public double getMouseY() { return 0; }
+    }
+}
@@ -0,0 +1,41 @@
+package se233.asterioddemo.bench;
+
+import javafx.application.Platform;
+import org.openjdk.jmh.annotations.*;
+import se233.asterioddemo.SpriteLoader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the sprite map as the game does at start-up, from the baked atlas in the game's jar.
+ * Run with {@code -jvmArgs -Dasteroidx.atlas=missing} to time decoding the PNG instead. JavaFX images
+ * need the FX toolkit, so this one needs a display; leave it out on headless machines with
+ * {@code -e SpriteLoader}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpriteLoaderBenchmark {
+
+    @Setup(Level.Trial)
+    public void startToolkit() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException alreadyStarted) {
+            // Fine, the toolkit only has to be running
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopToolkit() {
+        Platform.exit();
+    }
+
+    @Benchmark
+    public SpriteLoader load() {
+        return new SpriteLoader("/sprite/sheet.png", "/sprite/sheet.xml");
+    }
+}
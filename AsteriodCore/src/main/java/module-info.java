@@ -0,0 +1,12 @@
+module se233.asterioddemo.core {
+    requires java.logging;
+    requires transitive jdk.jfr;
+    requires java.management;
+    requires jdk.httpserver;
+
+    exports se233.asterioddemo.core;
+    exports se233.asterioddemo.exception;
+    exports se233.asterioddemo.jfr;
+    exports se233.asterioddemo.metrics;
+    exports se233.asterioddemo.render;
+}
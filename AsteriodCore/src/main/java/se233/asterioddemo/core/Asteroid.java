@@ -0,0 +1,162 @@
+package se233.asterioddemo.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// An asteroid's row in the asteroid EntityStore: heading, rotation, spin, points and sprite
+public class Asteroid extends StoredCharacter {
+    private boolean isSplit;
+    private static final int[] ASTEROID_SPRITES = {
+            Sprites.METEOR_BROWN_BIG_1,
+            Sprites.METEOR_BROWN_BIG_2,
+            Sprites.METEOR_BROWN_BIG_3,
+            Sprites.METEOR_BROWN_BIG_4,
+            Sprites.METEOR_BROWN_MED_1,
+            Sprites.METEOR_BROWN_MED_3,
+            Sprites.METEOR_BROWN_SMALL_1,
+            Sprites.METEOR_BROWN_SMALL_2,
+            Sprites.METEOR_BROWN_TINY_1,
+            Sprites.METEOR_BROWN_TINY_2,
+            Sprites.METEOR_GREY_BIG_1,
+            Sprites.METEOR_GREY_BIG_2,
+            Sprites.METEOR_GREY_BIG_3,
+            Sprites.METEOR_GREY_BIG_4,
+            Sprites.METEOR_GREY_MED_1,
+            Sprites.METEOR_GREY_MED_2,
+            Sprites.METEOR_GREY_SMALL_1,
+            Sprites.METEOR_GREY_SMALL_2,
+            Sprites.METEOR_GREY_TINY_1,
+            Sprites.METEOR_GREY_TINY_2
+    };
+
+    private static final Logger logger = Logger.getLogger(Asteroid.class.getName());
+
+    private final GameRandom random;
+
+    public Asteroid(double x, double y, double speed, double size, int points,
+                    boolean isSplit) {
+        this(x, y, speed, size, points, isSplit, new GameRandom());
+    }
+
+    public Asteroid(double x, double y, double speed, double size, int points,
+                    boolean isSplit, GameRandom gameRandom) {
+        this(EntityStore.loose(), x, y, speed, size, points, isSplit, gameRandom);
+    }
+
+    private Asteroid(EntityStore<?> store, double x, double y, double speed, double size, int points,
+                     boolean isSplit, GameRandom gameRandom) {
+        super(store, x, y, speed, size);
+        store.setPoints(row, points);
+        this.isSplit = isSplit;
+        this.random = gameRandom;
+        SplittableRandom random = gameRandom.get(GameRandom.Stream.ASTEROIDS);
+        store.setHeading(row, random.nextDouble() * 2 * Math.PI);
+
+        // Random rotation speed between -2 and 2 degrees per frame
+        store.setSpin(row, random.nextDouble() * 4 - 2);
+        store.setRotation(row, random.nextDouble() * 360);
+
+        // Pick the sprite
+        store.setSpriteId(row, ASTEROID_SPRITES[random.nextInt(isSplit ?
+                ASTEROID_SPRITES.length : 4)]); // Use smaller sprites for split asteroids
+    }
+
+    // A new asteroid in the next row of the store, with no row of its own to copy over first
+    static Asteroid spawn(EntityStore<Asteroid> asteroids, double x, double y, double speed, double size,
+                          int points, boolean isSplit, GameRandom gameRandom) {
+        return asteroids.attach(new Asteroid(asteroids, x, y, speed, size, points, isSplit, gameRandom));
+    }
+
+    // Restores a keyframe without rolling anything, so the random streams are left alone
+    private Asteroid(EntityStore<?> store, DataInput in, GameRandom gameRandom) throws IOException {
+        super(store, 0, 0, 0, 0);
+        this.random = gameRandom;
+        readCharacter(in);
+        store.setPoints(row, in.readInt());
+        store.setRotation(row, in.readDouble());
+        store.setSpin(row, in.readDouble());
+        this.isSplit = in.readBoolean();
+        store.setHeading(row, in.readDouble());
+        store.setSpriteId(row, Sprites.id(in.readUTF()));
+    }
+
+    static Asteroid readState(EntityStore<Asteroid> asteroids, DataInput in, GameRandom gameRandom) throws IOException {
+        return asteroids.attach(new Asteroid(asteroids, in, gameRandom));
+    }
+
+    void writeState(DataOutput out) throws IOException {
+        writeCharacter(out);
+        out.writeInt(getPoints());
+        out.writeDouble(getRotationAngle());
+        out.writeDouble(store.getSpin(row));
+        out.writeBoolean(isSplit);
+        out.writeDouble(store.getHeading(row));
+        out.writeUTF(Sprites.name(getSpriteId()));
+    }
+
+    // The same drift GameEntityManager runs over every asteroid row at once
+    @Override
+    public void move(double frames) {
+        store.drift(row, row + 1, frames);
+    }
+
+    public boolean isOffScreen(double screenWidth, double screenHeight) {
+        double x = getX(), y = getY(), size = getSize();
+        return (x < -size || x > screenWidth + size ||
+                y < -size || y > screenHeight + size);
+    }
+
+    public void handleScreenEdges(double screenWidth, double screenHeight) {
+        store.wrap(row, row + 1, screenWidth, screenHeight);
+    }
+
+    // Spawns the two smaller pieces into the store, if this one is big enough to break up
+    public int split(EntityStore<Asteroid> asteroids) {
+        try {
+            double size = getSize();
+            if (size > 20) {
+                double newSize = size / 1.5;
+                int newPoints = getPoints() / 2;
+                double speed = store.getSpeed(row);
+
+                double direction = store.getHeading(row);
+                double splitAngle1 = direction + Math.PI / 4;
+                double splitAngle2 = direction - Math.PI / 4;
+
+                double x = getX(), y = getY();
+
+                Asteroid asteroid1 = spawn(asteroids, x, y, speed * 1.2, newSize,
+                        newPoints, true, random);
+                asteroids.setHeading(asteroid1.row, splitAngle1);
+
+                Asteroid asteroid2 = spawn(asteroids, x, y, speed * 1.2, newSize,
+                        newPoints, true, random);
+                asteroids.setHeading(asteroid2.row, splitAngle2);
+                return 2;
+            }
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Error during asteroid split: ", e);
+        }
+        return 0;
+    }
+
+    public int getPoints() {
+        return store.getPoints(row);
+    }
+
+    public boolean isSplit() {
+        return isSplit;
+    }
+
+    public double getRotationAngle() {
+        return store.getRotation(row);
+    }
+
+    public int getSpriteId() {
+        return store.getSpriteId(row);
+    }
+}
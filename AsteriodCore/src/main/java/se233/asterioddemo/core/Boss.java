@@ -0,0 +1,190 @@
+package se233.asterioddemo.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+
+public class Boss extends FreeCharacter {
+    private static final Logger logger = Logger.getLogger(Boss.class.getName());
+    private int health;
+    private boolean isVisible = true;
+    private int phase = 1;
+    private AttackPattern currentPattern = AttackPattern.SINGLE;
+    private double originalY;
+    private double verticalMovement = 0;
+    private long lastPatternChange;
+    private final GameClock clock;
+    private final GameRandom random;
+    private static final long PATTERN_CHANGE_INTERVAL = 5000; // 5 seconds
+
+    // Sprite animation properties
+    private int currentSpriteIndex;
+    private long lastSpriteChange;
+    private static final long SPRITE_CHANGE_INTERVAL = 200; // Change sprite every 200ms
+    private static final int[] BOSS_SPRITES = {
+            Sprites.UFO_BLUE, Sprites.UFO_GREEN, Sprites.UFO_RED, Sprites.UFO_YELLOW
+    };
+
+    public enum AttackPattern {
+        SINGLE,     // Single bullet
+        SPREAD,     // Multiple bullets in a spread pattern
+        SPIRAL,     // Rotating spiral of bullets
+        WAVE        // Sinusoidal wave pattern
+    }
+
+    public Boss(double x, double y, double speed, double size) {
+        this(x, y, speed, size, new GameClock(), new GameRandom());
+    }
+
+    public Boss(double x, double y, double speed, double size, GameClock clock, GameRandom random) {
+        super(x, y, speed, size);
+        this.clock = clock;
+        this.random = random;
+        this.originalY = y;
+        this.health = 200;
+        this.lastPatternChange = clock.millis();
+
+        this.currentSpriteIndex = 0;
+        this.lastSpriteChange = clock.millis();
+    }
+
+    void writeState(DataOutput out) throws IOException {
+        writeCharacter(out);
+        out.writeInt(health);
+        out.writeBoolean(isVisible);
+        out.writeInt(phase);
+        out.writeInt(currentPattern.ordinal());
+        out.writeDouble(originalY);
+        out.writeDouble(verticalMovement);
+        out.writeLong(lastPatternChange);
+        out.writeInt(currentSpriteIndex);
+        out.writeLong(lastSpriteChange);
+    }
+
+    void readState(DataInput in) throws IOException {
+        readCharacter(in);
+        health = in.readInt();
+        isVisible = in.readBoolean();
+        phase = in.readInt();
+        currentPattern = AttackPattern.values()[in.readInt()];
+        originalY = in.readDouble();
+        verticalMovement = in.readDouble();
+        lastPatternChange = in.readLong();
+        currentSpriteIndex = in.readInt();
+        lastSpriteChange = in.readLong();
+    }
+
+    private void updateSprite() {
+        long currentTime = clock.millis();
+        if (currentTime - lastSpriteChange > SPRITE_CHANGE_INTERVAL) {
+            currentSpriteIndex = (currentSpriteIndex + 1) % BOSS_SPRITES.length;
+            lastSpriteChange = currentTime;
+        }
+    }
+
+    @Override
+    public void move(double frames) {
+        // Horizontal movement with edge bouncing
+        x += speed * frames;
+        if (x > 1280 - size || x < 0) {
+            speed = -speed; // Switch direction when hitting edges
+        }
+        // Vertical movement based on phase
+        if (phase >= 2) {
+            verticalMovement += 0.05 * frames;
+            y = originalY + Math.sin(verticalMovement) * 50; // Sinusoidal movement
+        }
+
+        // Change attack pattern periodically
+        long currentTime = clock.millis();
+        if (currentTime - lastPatternChange > PATTERN_CHANGE_INTERVAL) {
+            switchAttackPattern();
+            lastPatternChange = currentTime;
+        }
+        updateSprite(); // Update sprite animation
+    }
+
+    private void switchAttackPattern() {
+        AttackPattern[] patterns = AttackPattern.values();
+        int nextPattern = (currentPattern.ordinal() + 1) % patterns.length;
+        currentPattern = patterns[nextPattern];
+        logger.info("Boss switched to attack pattern: " + currentPattern);
+    }
+
+    public void attack(BulletSystem bulletSystem) {
+        SplittableRandom random = this.random.get(GameRandom.Stream.BOSS);
+        switch (currentPattern) {
+            case SINGLE:
+                if (random.nextDouble() < 0.02) {
+                    bulletSystem.spawn(x, y + size / 2, Math.PI / 2, 20, BulletSystem.OWNER_BOSS, Sprites.LASER_RED_12);
+                }
+                break;
+
+            case SPREAD:
+                if (random.nextDouble() < 0.01) {
+                    for (int i = -2; i <= 2; i++) {
+                        double angle = Math.PI / 2 + (i * Math.PI / 8);
+                        bulletSystem.spawn(x, y + size / 2, angle, 15, BulletSystem.OWNER_BOSS, Sprites.LASER_RED_13);
+                    }
+                }
+                break;
+
+            case SPIRAL:
+                if (random.nextDouble() < 0.03) {
+                    double baseAngle = clock.millis() / 1000.0;
+                    for (int i = 0; i < 8; i++) {
+                        double angle = baseAngle + (i * Math.PI / 4);
+                        bulletSystem.spawn(x, y, angle, 12, BulletSystem.OWNER_BOSS, Sprites.LASER_RED_09);
+                    }
+                }
+                break;
+
+            case WAVE:
+                if (random.nextDouble() < 0.015) {
+                    double baseSpeed = 4;
+                    for (int i = 0; i < 3; i++) {
+                        bulletSystem.spawn(x + (i * 30), y + size / 2, Math.PI / 2, (int) (baseSpeed + i), BulletSystem.OWNER_BOSS, Sprites.LASER_RED_16);
+                    }
+                }
+                break;
+        }
+    }
+
+    public void takeDamage() {
+        health -= 10;
+        Logger.getLogger(Boss.class.getName()).info("Boss took damage. Current health: " + health);
+
+        // Phase transitions
+        if (health <= 60 && phase == 1) {
+            phase = 2;
+            speed *= 1.5;
+            logger.info("Boss entered phase 2!");
+        } else if (health <= 30 && phase == 2) {
+            phase = 3;
+            speed *= 1.5;
+            logger.info("Boss entered phase 3!");
+        }
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public boolean isVisible() {
+        return isVisible;
+    }
+
+    public int getPhase() {
+        return phase;
+    }
+
+    public AttackPattern getAttackPattern() {
+        return currentPattern;
+    }
+
+    public int getCurrentSpriteId() {
+        return BOSS_SPRITES[currentSpriteIndex];
+    }
+}
@@ -0,0 +1,41 @@
+package se233.asterioddemo.core;
+
+/**
+ * A bullet that is about to be fired. Live projectiles are kept in {@link BulletSystem}; this only
+ * carries the spawn parameters from whatever fired it to {@link GameEntityManager#addBullet(Bullet)}.
+ */
+public class Bullet implements GameObject {
+    private static final double SIZE = 10.0;
+
+    private final double x, y;
+    private final double angle;
+    private final int spriteId;
+    private final int damage;
+
+    public Bullet(double startX, double startY, double angle, int spriteId, int damage) {
+        this.x = startX;
+        this.y = startY;
+        this.angle = angle;
+        this.spriteId = spriteId;
+        this.damage = damage;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public double getAngle() {
+        return angle;
+    }
+
+    // One of the Sprites ids
+    public int getSpriteId() {
+        return spriteId;
+    }
+
+    public double getX() { return x; }
+
+    public double getY() { return y; }
+
+    public double getSize() { return SIZE; }
+}
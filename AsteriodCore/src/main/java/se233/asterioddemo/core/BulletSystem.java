@@ -0,0 +1,380 @@
+package se233.asterioddemo.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Every live projectile in the game (player, drone, enemy and boss bullets) stored as parallel
+ * primitive arrays indexed by slot.
+ * <p>
+ * Velocity is worked out once at spawn, so the per-tick update is a single pass over the alive
+ * slots with no trig and no allocation. Dead slots are recycled through a free-list; iterate with
+ * {@code for (int i = nextAlive(0); i >= 0; i = nextAlive(i + 1))}.
+ */
+public class BulletSystem {
+    public static final int OWNER_PLAYER = 0; // Player ship and drone
+    public static final int OWNER_ENEMY = 1;
+    public static final int OWNER_BOSS = 2;
+
+    private static final double BULLET_SPEED = 9;
+    private static final double BULLET_SIZE = 10.0;
+    private static final double PULSE_RATE = 1.0 / 6.0; // Radians per 60 Hz frame, about 1.6 pulses a second
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Trail dots fade by 0.05 alpha per tick, so at most 19 are visible behind a bullet
+    public static final int TRAIL_LENGTH = 19;
+
+    // Shuriken bullets turn by a fixed step each tick; rotate the velocity instead of recomputing it
+    public static final double SHURIKEN_SPIN = 0.2;
+    private static final double SPIN_COS = Math.cos(SHURIKEN_SPIN);
+    private static final double SPIN_SIN = Math.sin(SHURIKEN_SPIN);
+
+    private static final int MODE_DEFAULT = 0;
+    private static final int MODE_SHURIKEN = 1;
+    private static final int MODE_PULSE = 2;
+
+    private int capacity;
+    private double[] x, y;
+    private double[] prevX, prevY;
+    private double[] vx, vy;
+    private double[] rotation; // Sprite rotation in radians, fixed at spawn
+    private double[] spin;     // Extra spin for shuriken bullets
+    private int[] damage;
+    private int[] owner;
+    private int[] spriteId;    // One of the Sprites ids
+    private int[] mode;        // MODE_* for the sprite, worked out at spawn
+    private int[] trailLength; // Ticks travelled since spawn or the last wrap, capped at TRAIL_LENGTH
+    private long[] alive;
+
+    private int[] freeSlots;
+    private int freeCount = 0;
+    private int highWater = 0; // Slots at or above this index have never been used
+    private int liveCount = 0;
+
+    private double pulseSize = BULLET_SIZE;
+    private double pulsePhase = 0; // Advanced with the ticks so pulse bullets breathe in game time
+
+    public BulletSystem() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public int spawn(Bullet bullet, int bulletOwner) {
+        return spawn(bullet.getX(), bullet.getY(), bullet.getAngle(), bullet.getDamage(), bulletOwner, bullet.getSpriteId());
+    }
+
+    public int spawn(double startX, double startY, double angle, int bulletDamage, int bulletOwner, int bulletSprite) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (highWater == capacity) {
+                allocate(capacity * 2);
+            }
+            slot = highWater++;
+        }
+
+        x[slot] = startX;
+        y[slot] = startY;
+        prevX[slot] = startX;
+        prevY[slot] = startY;
+        vx[slot] = Math.cos(angle) * BULLET_SPEED;
+        vy[slot] = Math.sin(angle) * BULLET_SPEED;
+        rotation[slot] = angle + Math.PI / 2; // Sprites point up, bullets travel along the angle
+        spin[slot] = angle;
+        damage[slot] = bulletDamage;
+        owner[slot] = bulletOwner;
+        spriteId[slot] = bulletSprite;
+        mode[slot] = modeOf(bulletSprite);
+        trailLength[slot] = 0;
+        alive[slot >> 6] |= 1L << slot;
+        liveCount++;
+        return slot;
+    }
+
+    public void kill(int slot) {
+        long bit = 1L << slot;
+        if ((alive[slot >> 6] & bit) == 0) {
+            return;
+        }
+        alive[slot >> 6] &= ~bit;
+        freeSlots[freeCount++] = slot;
+        liveCount--;
+    }
+
+    public void clear() {
+        Arrays.fill(alive, 0L);
+        freeCount = 0;
+        highWater = 0;
+        liveCount = 0;
+        pulsePhase = 0;
+    }
+
+    public void update(double screenWidth, double screenHeight) {
+        update(screenWidth, screenHeight, 1.0);
+    }
+
+    /**
+     * Advances every bullet one tick of {@code frames} 60 Hz frames, wraps player and enemy bullets
+     * vertically and removes bullets that left the screen.
+     */
+    public void update(double screenWidth, double screenHeight, double frames) {
+        pulsePhase += frames * PULSE_RATE;
+        pulseSize = BULLET_SIZE + Math.sin(pulsePhase) * 2;
+        double spinCos = frames == 1.0 ? SPIN_COS : Math.cos(SHURIKEN_SPIN * frames);
+        double spinSin = frames == 1.0 ? SPIN_SIN : Math.sin(SHURIKEN_SPIN * frames);
+
+        for (int i = nextAlive(0); i >= 0; i = nextAlive(i + 1)) {
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] += vx[i] * frames;
+            y[i] += vy[i] * frames;
+
+            if (isShuriken(i)) {
+                double turnedX = vx[i] * spinCos - vy[i] * spinSin;
+                vy[i] = vx[i] * spinSin + vy[i] * spinCos;
+                vx[i] = turnedX;
+                spin[i] += SHURIKEN_SPIN * frames;
+            }
+
+            if (owner[i] != OWNER_BOSS) {
+                if (trailLength[i] < TRAIL_LENGTH) {
+                    trailLength[i]++;
+                }
+                // Wrap around the top and bottom edges; teleporting has no path to sweep or trail
+                if (y[i] < 0 || y[i] > screenHeight) {
+                    y[i] = y[i] < 0 ? screenHeight : 0;
+                    prevX[i] = x[i];
+                    prevY[i] = y[i];
+                    trailLength[i] = 0;
+                }
+            }
+
+            if (x[i] < 0 || x[i] > screenWidth || y[i] < 0 || y[i] > screenHeight) {
+                kill(i);
+            }
+        }
+    }
+
+    /**
+     * @return the first alive slot at or after {@code from}, or -1 if there is none
+     */
+    public int nextAlive(int from) {
+        if (from >= highWater) {
+            return -1;
+        }
+        int word = from >> 6;
+        long bits = alive[word] & (-1L << from);
+        int lastWord = (highWater - 1) >> 6;
+        while (true) {
+            if (bits != 0) {
+                int slot = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return slot < highWater ? slot : -1;
+            }
+            if (++word > lastWord) {
+                return -1;
+            }
+            bits = alive[word];
+        }
+    }
+
+    public boolean isAlive(int slot) {
+        return (alive[slot >> 6] & (1L << slot)) != 0;
+    }
+
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    public double getPrevX(int slot) {
+        return prevX[slot];
+    }
+
+    public double getPrevY(int slot) {
+        return prevY[slot];
+    }
+
+    public int getDamage(int slot) {
+        return damage[slot];
+    }
+
+    public int getOwner(int slot) {
+        return owner[slot];
+    }
+
+    public double getRadius(int slot) {
+        return getSize(slot) / 2;
+    }
+
+    public double getVelocityX(int slot) {
+        return vx[slot];
+    }
+
+    public double getVelocityY(int slot) {
+        return vy[slot];
+    }
+
+    // Sprite rotation in radians, plus the extra spin for shuriken bullets
+    public double getRotation(int slot) {
+        return isShuriken(slot) ? rotation[slot] + spin[slot] : rotation[slot];
+    }
+
+    public boolean isShuriken(int slot) {
+        return mode[slot] == MODE_SHURIKEN;
+    }
+
+    public int getTrailLength(int slot) {
+        return trailLength[slot];
+    }
+
+    public int getSpriteId(int slot) {
+        return spriteId[slot];
+    }
+
+    public double getSize(int slot) {
+        return mode[slot] == MODE_PULSE ? pulseSize : BULLET_SIZE;
+    }
+
+    // Makes this system an exact copy of another, for a snapshot the renderer can read while the original moves on
+    public void copyFrom(BulletSystem source) {
+        if (capacity < source.highWater) {
+            int newCapacity = capacity;
+            while (newCapacity < source.highWater) {
+                newCapacity *= 2;
+            }
+            allocate(newCapacity);
+        }
+        int n = source.highWater;
+        System.arraycopy(source.x, 0, x, 0, n);
+        System.arraycopy(source.y, 0, y, 0, n);
+        System.arraycopy(source.prevX, 0, prevX, 0, n);
+        System.arraycopy(source.prevY, 0, prevY, 0, n);
+        System.arraycopy(source.vx, 0, vx, 0, n);
+        System.arraycopy(source.vy, 0, vy, 0, n);
+        System.arraycopy(source.rotation, 0, rotation, 0, n);
+        System.arraycopy(source.spin, 0, spin, 0, n);
+        System.arraycopy(source.damage, 0, damage, 0, n);
+        System.arraycopy(source.owner, 0, owner, 0, n);
+        System.arraycopy(source.spriteId, 0, spriteId, 0, n);
+        System.arraycopy(source.mode, 0, mode, 0, n);
+        System.arraycopy(source.trailLength, 0, trailLength, 0, n);
+        Arrays.fill(alive, 0L);
+        System.arraycopy(source.alive, 0, alive, 0, (n + 63) >> 6);
+        System.arraycopy(source.freeSlots, 0, freeSlots, 0, source.freeCount);
+        freeCount = source.freeCount;
+        highWater = n;
+        liveCount = source.liveCount;
+        pulsePhase = source.pulsePhase;
+        pulseSize = source.pulseSize;
+    }
+
+    /**
+     * Writes every slot below the high-water mark, dead ones included, plus the free list, so a
+     * restored system hands out the same slots in the same order. Sprites go by name so a saved state
+     * outlives a change to the sheet.
+     */
+    void writeState(DataOutput out) throws IOException {
+        out.writeInt(highWater);
+        out.writeInt(liveCount);
+        out.writeDouble(pulsePhase);
+        out.writeDouble(pulseSize);
+        out.writeInt(freeCount);
+        for (int i = 0; i < freeCount; i++) {
+            out.writeInt(freeSlots[i]);
+        }
+        for (int slot = 0; slot < highWater; slot++) {
+            out.writeBoolean(isAlive(slot));
+            out.writeDouble(x[slot]);
+            out.writeDouble(y[slot]);
+            out.writeDouble(prevX[slot]);
+            out.writeDouble(prevY[slot]);
+            out.writeDouble(vx[slot]);
+            out.writeDouble(vy[slot]);
+            out.writeDouble(rotation[slot]);
+            out.writeDouble(spin[slot]);
+            out.writeInt(damage[slot]);
+            out.writeInt(owner[slot]);
+            out.writeUTF(Sprites.name(spriteId[slot]));
+            out.writeInt(trailLength[slot]);
+        }
+    }
+
+    void readState(DataInput in) throws IOException {
+        clear();
+        int restoredHighWater = in.readInt();
+        int newCapacity = capacity;
+        while (newCapacity < restoredHighWater) {
+            newCapacity *= 2;
+        }
+        if (newCapacity != capacity) {
+            allocate(newCapacity);
+        }
+        highWater = restoredHighWater;
+        liveCount = in.readInt();
+        pulsePhase = in.readDouble();
+        pulseSize = in.readDouble();
+        freeCount = in.readInt();
+        for (int i = 0; i < freeCount; i++) {
+            freeSlots[i] = in.readInt();
+        }
+        for (int slot = 0; slot < highWater; slot++) {
+            if (in.readBoolean()) {
+                alive[slot >> 6] |= 1L << slot;
+            }
+            x[slot] = in.readDouble();
+            y[slot] = in.readDouble();
+            prevX[slot] = in.readDouble();
+            prevY[slot] = in.readDouble();
+            vx[slot] = in.readDouble();
+            vy[slot] = in.readDouble();
+            rotation[slot] = in.readDouble();
+            spin[slot] = in.readDouble();
+            damage[slot] = in.readInt();
+            owner[slot] = in.readInt();
+            spriteId[slot] = Sprites.id(in.readUTF());
+            mode[slot] = modeOf(spriteId[slot]);
+            trailLength[slot] = in.readInt();
+        }
+    }
+
+    private static int modeOf(int sprite) {
+        return sprite == Sprites.LASER_BLUE_11 ? MODE_SHURIKEN :
+                sprite == Sprites.LASER_BLUE_08 ? MODE_PULSE : MODE_DEFAULT;
+    }
+
+    private void allocate(int newCapacity) {
+        x = grow(x, newCapacity);
+        y = grow(y, newCapacity);
+        prevX = grow(prevX, newCapacity);
+        prevY = grow(prevY, newCapacity);
+        vx = grow(vx, newCapacity);
+        vy = grow(vy, newCapacity);
+        rotation = grow(rotation, newCapacity);
+        spin = grow(spin, newCapacity);
+        damage = grow(damage, newCapacity);
+        owner = grow(owner, newCapacity);
+        spriteId = grow(spriteId, newCapacity);
+        mode = grow(mode, newCapacity);
+        trailLength = grow(trailLength, newCapacity);
+        freeSlots = grow(freeSlots, newCapacity);
+        alive = alive == null ? new long[(newCapacity + 63) >> 6] : Arrays.copyOf(alive, (newCapacity + 63) >> 6);
+        capacity = newCapacity;
+    }
+
+    private static double[] grow(double[] array, int newCapacity) {
+        return array == null ? new double[newCapacity] : Arrays.copyOf(array, newCapacity);
+    }
+
+    private static int[] grow(int[] array, int newCapacity) {
+        return array == null ? new int[newCapacity] : Arrays.copyOf(array, newCapacity);
+    }
+}
@@ -0,0 +1,41 @@
+package se233.asterioddemo.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Anything in the world with a position and a size. {@link FreeCharacter}s (the player ship, the
+ * drone and the boss) keep their state in fields; asteroids and enemy ships are
+ * {@link StoredCharacter}s, views over a row of an {@link EntityStore}.
+ */
+public abstract class Character implements GameObject {
+
+    public void move() {
+        move(1.0);
+    }
+
+    /**
+     * Moves by one tick. Speeds are tuned per 60 Hz frame; {@code frames} is how many of those
+     * frames the tick covers, so the game plays at the same pace whatever the tick rate.
+     */
+    public abstract void move(double frames);
+
+    // Remembers the position at the start of the tick, for render interpolation
+    public abstract void savePosition();
+
+    // Position, speed and size for replay keyframes; subclasses add their own fields after these
+    abstract void writeCharacter(DataOutput out) throws IOException;
+
+    abstract void readCharacter(DataInput in) throws IOException;
+
+    public abstract double getPrevX();
+
+    public abstract double getPrevY();
+
+    public abstract void setX(double x);
+
+    public abstract void setY(double y);
+
+    public abstract void setSize(double size);
+}
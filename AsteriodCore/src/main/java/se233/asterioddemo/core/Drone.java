@@ -1,43 +1,41 @@
-package se233.asterioddemo;
+package se233.asterioddemo.core;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
-public class Drone extends Character {
+public class Drone extends FreeCharacter {
     private PlayerShip player;
     private GameEntityManager gameEntityManager;
     private double angle;
     private double distanceFromPlayer = 100;
-    private Image droneImage;
     private boolean isActive = false;
     private long activationTime;
     private final long DRONE_DURATION = 7000;
     private final long BULLET_COOLDOWN = 300;
-    private long lastBulletTime = 0;
-    private SpriteLoader spriteLoader;
+    private long lastBulletTime = GameClock.NEVER;
+    private final GameClock clock; // The player's clock; the drone lives and dies on the same timeline
 
     private static final int DRONE_ATTACK_PATTERN = 2; // 0 = single, 1 = spread, 2 = spiral
 
-    public Drone(PlayerShip player, SpriteLoader spriteLoader, GameEntityManager gameEntityManager) {
+    public Drone(PlayerShip player, GameEntityManager gameEntityManager) {
         super(player.getX(), player.getY(), player.getSpeed(), 20);
         this.player = player;
-        this.spriteLoader = spriteLoader;
         this.gameEntityManager = gameEntityManager;
-        this.droneImage = spriteLoader.getSprite("playerLife1_orange.png");
+        this.clock = player.getClock();
     }
 
     public void activate() {
         isActive = true;
-        activationTime = System.currentTimeMillis();
+        activationTime = clock.millis();
     }
 
     @Override
-    public void move() {
+    public void move(double frames) {
         if (!isActive) return;
 
         // Increase the angle for smooth movement (rotate around the player).
-        angle += 0.05; // Adjust this value to control the speed of the orbit.
+        angle += 0.05 * frames; // Adjust this value to control the speed of the orbit.
 
         // Calculate new x and y positions to maintain circular movement.
         x = player.getX() + Math.cos(angle) * distanceFromPlayer;
@@ -45,14 +43,18 @@ public class Drone extends Character {
     }
 
     public void update(boolean playerShooting) {
+        update(playerShooting, 1.0);
+    }
+
+    public void update(boolean playerShooting, double frames) {
         if (!isActive) return;
 
-        move();
+        move(frames);
 
         // Fire bullets based on the drone's attack pattern
         handleAttack(playerShooting);
 
-        if (System.currentTimeMillis() - activationTime >= DRONE_DURATION) {
+        if (clock.millis() - activationTime >= DRONE_DURATION) {
             deactivate();
         }
     }
@@ -60,7 +62,7 @@ public class Drone extends Character {
     private void handleAttack(boolean playerShooting) {
         if (!playerShooting) return;
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
         if (currentTime - lastBulletTime >= BULLET_COOLDOWN) {
             fireBulletPattern();
             lastBulletTime = currentTime;
@@ -79,7 +81,7 @@ public class Drone extends Character {
                 }
                 break;
             case 2: // Spiral shot
-                double baseAngle = System.currentTimeMillis() / 1000.0;
+                double baseAngle = clock.millis() / 1000.0;
                 for (int i = 0; i < 8; i++) {
                     double angle = baseAngle + (i * Math.PI / 4);
                     fireBulletAt(angle);
@@ -95,8 +97,7 @@ public class Drone extends Character {
                 bulletX,
                 bulletY,
                 angle,
-                spriteLoader,
-                "laserGreen07.png",
+                Sprites.LASER_GREEN_07,
                 7
         );
 
@@ -106,30 +107,10 @@ public class Drone extends Character {
 
 
 
-    @Override
-    public void draw(GraphicsContext gc) {
-        if (!isActive) return;
-
-        gc.save();
-        gc.translate(x, y);
-        gc.rotate(Math.toDegrees(angle));
-
-        if (droneImage != null) {
-            double imageWidth = droneImage.getWidth();
-            double imageHeight = droneImage.getHeight();
-            gc.drawImage(droneImage, -imageWidth / 2, -imageHeight / 2, imageWidth, imageHeight);
-        } else {
-            gc.setFill(Color.GRAY);
-            gc.fillOval(-10, -10, 20, 20);
-        }
-
-        gc.restore();
-    }
-
-    void handleShooting(boolean playerShooting) {
+    public void handleShooting(boolean playerShooting) {
         if (!playerShooting) return;
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
         if (currentTime - lastBulletTime >= BULLET_COOLDOWN) {
             fireBullet();
             lastBulletTime = currentTime;
@@ -144,8 +125,7 @@ public class Drone extends Character {
                 bulletX,
                 bulletY,
                 angle - Math.PI / 2,
-                spriteLoader,
-                "laserGreen07.png",
+                Sprites.LASER_GREEN_07,
                 7
         );
 
@@ -153,6 +133,22 @@ public class Drone extends Character {
         System.out.println("Drone fired a bullet!");
     }
 
+    void writeState(DataOutput out) throws IOException {
+        writeCharacter(out);
+        out.writeDouble(angle);
+        out.writeBoolean(isActive);
+        out.writeLong(activationTime);
+        out.writeLong(lastBulletTime);
+    }
+
+    void readState(DataInput in) throws IOException {
+        readCharacter(in);
+        angle = in.readDouble();
+        isActive = in.readBoolean();
+        activationTime = in.readLong();
+        lastBulletTime = in.readLong();
+    }
+
     public void deactivate() {
         isActive = false;
     }
@@ -0,0 +1,168 @@
+package se233.asterioddemo.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+// An enemy ship's row in the enemy EntityStore: heading, turn timer, health, sprite and last shot
+public class EnemyShip extends StoredCharacter {
+    private static final int HEALTH = 30;
+    private double shootInterval = 2000; // Milliseconds between shots
+    private final GameRandom random;
+    private final GameClock clock;
+
+    // Array of enemy sprites from the texture atlas
+    private static final int[] ENEMY_SPRITES = {
+            Sprites.ENEMY_BLACK_1,
+            Sprites.ENEMY_BLACK_2,
+            Sprites.ENEMY_BLACK_3,
+            Sprites.ENEMY_BLACK_4,
+            Sprites.ENEMY_BLACK_5,
+            Sprites.ENEMY_BLUE_1,
+            Sprites.ENEMY_BLUE_2,
+            Sprites.ENEMY_BLUE_3,
+            Sprites.ENEMY_BLUE_4,
+            Sprites.ENEMY_BLUE_5,
+            Sprites.ENEMY_GREEN_1,
+            Sprites.ENEMY_GREEN_2,
+            Sprites.ENEMY_GREEN_3,
+            Sprites.ENEMY_GREEN_4,
+            Sprites.ENEMY_GREEN_5,
+            Sprites.ENEMY_RED_1,
+            Sprites.ENEMY_RED_2,
+            Sprites.ENEMY_RED_3,
+            Sprites.ENEMY_RED_4,
+            Sprites.ENEMY_RED_5
+    };
+
+    // Constructor
+    public EnemyShip(double x, double y, double speed, double size, double angle) {
+        this(x, y, speed, size, angle, new GameClock(), new GameRandom());
+    }
+
+    public EnemyShip(double x, double y, double speed, double size, double angle, GameClock clock, GameRandom random) {
+        this(EntityStore.loose(), x, y, speed, size, angle, clock, random);
+    }
+
+    private EnemyShip(EntityStore<?> store, double x, double y, double speed, double size, double angle,
+                      GameClock clock, GameRandom random) {
+        super(store, x, y, speed, size);
+        store.setHeading(row, angle);
+        store.setHealth(row, HEALTH);
+        store.setLastShot(row, GameClock.NEVER);
+        this.clock = clock;
+        this.random = random;
+
+        // Pick a random sprite for this enemy from the texture atlas
+        store.setSpriteId(row, ENEMY_SPRITES[random.get(GameRandom.Stream.ENEMIES).nextInt(ENEMY_SPRITES.length)]);
+    }
+
+    // A new enemy in the next row of the store, with no row of its own to copy over first
+    static EnemyShip spawn(EntityStore<EnemyShip> enemyShips, double x, double y, double speed, double size,
+                           double angle, GameClock clock, GameRandom random) {
+        return enemyShips.attach(new EnemyShip(enemyShips, x, y, speed, size, angle, clock, random));
+    }
+
+    // Restores a keyframe without rolling a sprite, so the random streams are left alone
+    private EnemyShip(EntityStore<?> store, DataInput in, GameClock clock, GameRandom random) throws IOException {
+        super(store, 0, 0, 0, 0);
+        this.clock = clock;
+        this.random = random;
+        readCharacter(in);
+        this.shootInterval = in.readDouble();
+        store.setHeading(row, in.readDouble());
+        store.setHealth(row, in.readInt());
+        store.setLastShot(row, in.readLong());
+        store.setTimer(row, in.readDouble());
+        store.setSpriteId(row, Sprites.id(in.readUTF()));
+    }
+
+    static EnemyShip readState(EntityStore<EnemyShip> enemyShips, DataInput in, GameClock clock, GameRandom random)
+            throws IOException {
+        return enemyShips.attach(new EnemyShip(enemyShips, in, clock, random));
+    }
+
+    void writeState(DataOutput out) throws IOException {
+        writeCharacter(out);
+        out.writeDouble(shootInterval);
+        out.writeDouble(getAngle());
+        out.writeInt(getHealth());
+        out.writeLong(store.getLastShot(row));
+        out.writeDouble(store.getTimer(row));
+        out.writeUTF(Sprites.name(getSpriteId()));
+    }
+
+    // Shooting logic towards the player
+    public void shootTowards(double playerX, double playerY, BulletSystem bulletSystem) {
+        double x = getX(), y = getY();
+        double angleToPlayer = Math.atan2(playerY - y, playerX - x);
+        bulletSystem.spawn(x, y, angleToPlayer, 10, BulletSystem.OWNER_ENEMY, Sprites.LASER_RED_01);  // Shoot bullet towards player
+    }
+
+    public boolean canShoot() {
+        long currentTime = clock.millis();
+        if (currentTime - store.getLastShot(row) >= shootInterval) {
+            store.setLastShot(row, currentTime);
+            return true;
+        }
+        return false;
+    }
+
+    // Move the enemy towards the player or in random movement
+    public void move(double targetX, double targetY) {
+        move(targetX, targetY, 1.0);
+    }
+
+    public void move(double targetX, double targetY, double frames) {
+        if (!glide(frames)) {
+            turn(targetX, targetY, frames);
+        }
+    }
+
+    /**
+     * Moves on the current heading and counts down to the next change of direction. Rolls nothing,
+     * so ships can glide on any thread. Returns false, without moving, when the ship is due to
+     * {@link #turn} instead.
+     */
+    boolean glide(double frames) {
+        return store.glide(row, frames);
+    }
+
+    // Picks a new heading from the shared enemy stream, so turns must run one ship at a time in order
+    void turn(double targetX, double targetY, double frames) {
+        SplittableRandom random = this.random.get(GameRandom.Stream.ENEMIES);
+        if (random.nextDouble() < 0.5) {
+            // Move randomly
+            store.setHeading(row, random.nextDouble() * Math.PI * 2);
+        } else {
+            // Move towards the player
+            double directionX = targetX - getX();
+            double directionY = targetY - getY();
+            store.setHeading(row, Math.atan2(directionY, directionX));
+        }
+        store.setTimer(row, random.nextInt(100) + 50);  // Reset timer for direction change
+        store.advance(row, frames);
+    }
+
+    @Override
+    public void move(double frames) {
+
+    }
+
+    public int getHealth() {
+        return store.getHealth(row);
+    }
+
+    public void takeDamage(int damage) {
+        store.setHealth(row, store.getHealth(row) - damage);
+    }
+
+    public double getAngle() {
+        return store.getHeading(row);
+    }
+
+    public int getSpriteId() {
+        return store.getSpriteId(row);
+    }
+}
@@ -0,0 +1,592 @@
+package se233.asterioddemo.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * Every entity of one kind (asteroids, or enemy ships) stored as parallel primitive arrays, one per
+ * component, indexed by row. Rows are dense, so a system is a single pass over a few arrays and the
+ * snapshot copies whole columns at once.
+ * <p>
+ * The store is also the {@link java.util.List} of its entities: each row has a
+ * {@link StoredCharacter} view that reads and writes it. The game builds new entities straight over
+ * the next row ({@link Asteroid#spawn}), so spawning allocates nothing but the view; one made on
+ * its own has a row of its own, and adding it moves that state into a new row. Removing one copies the row out to the store's removed rows, which are reused from one tick
+ * to the next, so removal does not allocate. A view held onto after removal still reads as it was
+ * until the next {@link #removeDead()}. After that its row is recycled, and reading it or adding it
+ * to a store fails. Each kind uses the components it needs and leaves the rest at zero.
+ * <p>
+ * During a tick entities are {@link #kill killed} rather than removed, which only marks the row, so
+ * every other row stays where it is while collisions are worked out. {@link #removeDead()} then
+ * fills each dead row with the last live one. Rows therefore do not keep their order across a
+ * removal; anything that needs to find an entity again later keeps its {@link #handle}, which stops
+ * resolving once the entity is gone, even if its slot has been handed out again.
+ */
+public final class EntityStore<T extends StoredCharacter> extends AbstractList<T> implements RandomAccess {
+    public static final int NO_HANDLE = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    // A handle is a slot in its low bits and that slot's generation above, kept clear of the sign bit
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+
+    // Where views point once their removed row has been reused; it has no rows, so reads fail
+    private static final EntityStore<StoredCharacter> RECYCLED = new EntityStore<>(0, true);
+
+    private final boolean detached; // Rows of entities outside the game rather than a list in it
+    private EntityStore<StoredCharacter> removed; // Rows removed since the last removeDead
+    private int count = 0;
+    private StoredCharacter[] views;
+    private double[] x, y;
+    private double[] prevX, prevY; // Position at the start of the current tick, for render interpolation
+    private double[] speed;        // Distance per 60 Hz frame
+    private double[] size;
+    private double[] heading;      // Direction of travel in radians
+    private double[] rotation;     // Sprite rotation in degrees, for things that spin as they go
+    private double[] spin;         // Degrees of rotation per 60 Hz frame
+    private double[] timer;        // Frames until the next change of heading
+    private int[] health;
+    private int[] points;          // Score for destroying it
+    private int[] spriteId;        // One of the Sprites ids
+    private long[] lastShot;       // Game time of the last shot, in ms
+
+    // Killed rows waiting for removeDead, one bit per row
+    private long[] dead;
+    private int deadCount = 0;
+
+    // Handles: each row owns a slot until it is removed, and freeing a slot moves its generation on
+    private int[] rowSlot;
+    private int[] slotRow;         // -1 while the slot is free
+    private int[] slotGeneration;
+    private int[] freeSlots;
+    private int freeCount = 0;
+    private int slotCount = 0;     // Slots at or above this have never been used
+
+    public EntityStore() {
+        this(INITIAL_CAPACITY, false);
+    }
+
+    private EntityStore(int capacity, boolean detached) {
+        this.detached = detached;
+        allocate(capacity);
+    }
+
+    // A row of its own, row 0, for an entity made outside the game's stores
+    static EntityStore<StoredCharacter> loose() {
+        return new EntityStore<>(1, true);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int row) {
+        Objects.checkIndex(row, count);
+        return (T) views[row];
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Moves a detached entity into a new last row. An entity that is already in a store has to be
+     * removed from it first.
+     */
+    @Override
+    public boolean add(T view) {
+        EntityStore<?> from = view.store;
+        if (from == RECYCLED) {
+            throw new IllegalStateException("Entity was removed before the last removeDead and its row has been reused");
+        }
+        if (!from.detached) {
+            throw new IllegalArgumentException("Entity is already in a store");
+        }
+        ensureRow();
+        copyRow(from, view.row, this, count);
+        view.moveTo(this, count);
+        attach(view);
+        return true;
+    }
+
+    /**
+     * Clears the row after the last one for a new entity to be built over, and returns it. The row
+     * only joins the store once that entity is {@link #attach attached}; until then it is not
+     * counted, so an entity that fails half way through being built leaves nothing behind.
+     */
+    int nextRow() {
+        ensureRow();
+        clearRow(count);
+        return count;
+    }
+
+    // Takes on the entity built over nextRow as the new last row
+    T attach(T view) {
+        if (detached || view.store != this || view.row != count) {
+            throw new IllegalStateException("Entity was not built over this store's next row");
+        }
+        views[count] = view;
+        int slot = freeCount > 0 ? freeSlots[--freeCount] : slotCount++;
+        rowSlot[count] = slot;
+        slotRow[slot] = count;
+        count++;
+        modCount++;
+        return view;
+    }
+
+    // Marks the row for the next removeDead; it keeps its place, and its data, until then
+    public void kill(int row) {
+        Objects.checkIndex(row, count);
+        long bit = 1L << row;
+        if ((dead[row >> 6] & bit) == 0) {
+            dead[row >> 6] |= bit;
+            deadCount++;
+        }
+    }
+
+    public boolean isDead(int row) {
+        return (dead[row >> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Removes every killed row, each in constant time by moving the last live row into it. Goes
+     * from the highest dead row down, so the last row is always a live one. Rows removed before
+     * this call are recycled first.
+     */
+    public void removeDead() {
+        recycleRemoved();
+        if (deadCount == 0) {
+            return;
+        }
+        for (int word = (count - 1) >> 6; word >= 0; word--) {
+            long bits = dead[word];
+            dead[word] = 0;
+            while (bits != 0) {
+                int bit = 63 - Long.numberOfLeadingZeros(bits);
+                bits &= ~(1L << bit);
+                removeRow((word << 6) + bit);
+            }
+        }
+        deadCount = 0;
+        modCount++;
+    }
+
+    // Identifies the entity in this row for as long as it stays in the store
+    public int handle(int row) {
+        Objects.checkIndex(row, count);
+        int slot = rowSlot[row];
+        return (slotGeneration[slot] << SLOT_BITS) | slot;
+    }
+
+    // The entity's row, or -1 once it has been killed or removed
+    public int rowOf(int handle) {
+        if (handle < 0 || (handle & SLOT_MASK) >= slotCount) {
+            return -1;
+        }
+        int slot = handle & SLOT_MASK;
+        int row = slotRow[slot];
+        if (row < 0 || slotGeneration[slot] != handle >>> SLOT_BITS || isDead(row)) {
+            return -1;
+        }
+        return row;
+    }
+
+    // Removes the row straight away; the last row takes its place
+    @Override
+    public T remove(int row) {
+        T view = get(row);
+        unkill(row);
+        removeRow(row);
+        modCount++;
+        return view;
+    }
+
+    /**
+     * Removes the matching rows straight away, from the highest down so every row that fills a gap
+     * has already been tested. Rows killed elsewhere stay put for the next {@link #removeDead()}.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = false;
+        for (int row = count - 1; row >= 0; row--) {
+            if (filter.test(get(row))) {
+                unkill(row);
+                removeRow(row);
+                removed = true;
+            }
+        }
+        if (removed) {
+            modCount++;
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> entities) {
+        return removeIf(entities::contains);
+    }
+
+    @Override
+    public void clear() {
+        recycleRemoved();
+        for (int row = 0; row < count; row++) {
+            detach(row);
+            freeSlot(rowSlot[row]);
+        }
+        Arrays.fill(views, 0, count, null);
+        Arrays.fill(dead, 0L);
+        deadCount = 0;
+        count = 0;
+        modCount++;
+    }
+
+    // Drops a pending kill, for a row that is being removed straight away
+    private void unkill(int row) {
+        if (isDead(row)) {
+            dead[row >> 6] &= ~(1L << row);
+            deadCount--;
+        }
+    }
+
+    private void removeRow(int row) {
+        detach(row);
+        freeSlot(rowSlot[row]);
+        int last = --count;
+        if (row != last) {
+            copyRow(this, last, this, row);
+            views[row] = views[last];
+            views[row].moveTo(this, row);
+            rowSlot[row] = rowSlot[last];
+            slotRow[rowSlot[row]] = row;
+            if (isDead(last)) {
+                dead[last >> 6] &= ~(1L << last);
+                dead[row >> 6] |= 1L << row;
+            }
+        }
+        views[last] = null;
+    }
+
+    private void freeSlot(int slot) {
+        slotGeneration[slot] = (slotGeneration[slot] + 1) & GENERATION_MASK;
+        slotRow[slot] = -1;
+        freeSlots[freeCount++] = slot;
+    }
+
+    // Copies the row out to the removed rows, so the view stays readable once it is gone
+    private void detach(int row) {
+        if (removed == null) {
+            removed = new EntityStore<>(INITIAL_CAPACITY, true);
+        }
+        removed.takeRow(views[row], this, row);
+    }
+
+    // Lets the removed rows be reused; views still pointing at them can no longer be read
+    private void recycleRemoved() {
+        if (removed == null || removed.count == 0) {
+            return;
+        }
+        for (int row = 0; row < removed.count; row++) {
+            StoredCharacter view = removed.views[row];
+            if (view.store == removed) { // Not added to a store again since
+                view.moveTo(RECYCLED, 0);
+            }
+        }
+        Arrays.fill(removed.views, 0, removed.count, null);
+        removed.count = 0;
+    }
+
+    // Copies a row from another store into a new last row here, and points its view at it
+    private void takeRow(StoredCharacter view, EntityStore<?> from, int fromRow) {
+        ensureRow();
+        copyRow(from, fromRow, this, count);
+        views[count] = view;
+        view.moveTo(this, count);
+        count++;
+    }
+
+    // Makes room for one more row
+    private void ensureRow() {
+        if (count < views.length) {
+            return;
+        }
+        if (!detached && count > SLOT_MASK) {
+            throw new IllegalStateException("A store holds at most " + (SLOT_MASK + 1) + " entities");
+        }
+        allocate(count * 2);
+    }
+
+    private void clearRow(int row) {
+        x[row] = 0;
+        y[row] = 0;
+        prevX[row] = 0;
+        prevY[row] = 0;
+        speed[row] = 0;
+        size[row] = 0;
+        heading[row] = 0;
+        rotation[row] = 0;
+        spin[row] = 0;
+        timer[row] = 0;
+        health[row] = 0;
+        points[row] = 0;
+        spriteId[row] = 0;
+        lastShot[row] = 0;
+    }
+
+    private static void copyRow(EntityStore<?> from, int fromRow, EntityStore<?> to, int toRow) {
+        to.x[toRow] = from.x[fromRow];
+        to.y[toRow] = from.y[fromRow];
+        to.prevX[toRow] = from.prevX[fromRow];
+        to.prevY[toRow] = from.prevY[fromRow];
+        to.speed[toRow] = from.speed[fromRow];
+        to.size[toRow] = from.size[fromRow];
+        to.heading[toRow] = from.heading[fromRow];
+        to.rotation[toRow] = from.rotation[fromRow];
+        to.spin[toRow] = from.spin[fromRow];
+        to.timer[toRow] = from.timer[fromRow];
+        to.health[toRow] = from.health[fromRow];
+        to.points[toRow] = from.points[fromRow];
+        to.spriteId[toRow] = from.spriteId[fromRow];
+        to.lastShot[toRow] = from.lastShot[fromRow];
+    }
+
+    // Systems over a range of rows, so ParallelRange can hand out chunks
+
+    public void savePositions() {
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    // Straight along the heading, spinning as it goes
+    void drift(int from, int to, double frames) {
+        for (int row = from; row < to; row++) {
+            x[row] += Math.cos(heading[row]) * speed[row] * frames;
+            y[row] += Math.sin(heading[row]) * speed[row] * frames;
+            rotation[row] += spin[row] * frames;
+        }
+    }
+
+    // Along the heading while the turn timer runs down; false, without moving, once it is due to turn
+    boolean glide(int row, double frames) {
+        if (timer[row] <= 0) {
+            return false;
+        }
+        timer[row] -= frames;
+        advance(row, frames);
+        return true;
+    }
+
+    void advance(int row, double frames) {
+        x[row] += Math.cos(heading[row]) * speed[row] * frames;
+        y[row] += Math.sin(heading[row]) * speed[row] * frames;
+    }
+
+    /**
+     * Wraps rows that have gone a full size past an edge round to the other side. Wrapping is a
+     * jump, not something to interpolate, so it resets the previous position too.
+     */
+    void wrap(int from, int to, double screenWidth, double screenHeight) {
+        for (int row = from; row < to; row++) {
+            double margin = size[row];
+            double oldX = x[row];
+            double oldY = y[row];
+
+            if (oldX < -margin) {
+                x[row] = screenWidth + margin;
+            } else if (oldX > screenWidth + margin) {
+                x[row] = -margin;
+            }
+
+            if (oldY < -margin) {
+                y[row] = screenHeight + margin;
+            } else if (oldY > screenHeight + margin) {
+                y[row] = -margin;
+            }
+
+            if (x[row] != oldX || y[row] != oldY) {
+                prevX[row] = x[row];
+                prevY[row] = y[row];
+            }
+        }
+    }
+
+    // Component access by row
+
+    public double getX(int row) {
+        return x[row];
+    }
+
+    void setX(int row, double value) {
+        x[row] = value;
+    }
+
+    public double getY(int row) {
+        return y[row];
+    }
+
+    void setY(int row, double value) {
+        y[row] = value;
+    }
+
+    public double getPrevX(int row) {
+        return prevX[row];
+    }
+
+    public double getPrevY(int row) {
+        return prevY[row];
+    }
+
+    void setPrev(int row, double valueX, double valueY) {
+        prevX[row] = valueX;
+        prevY[row] = valueY;
+    }
+
+    public double getSpeed(int row) {
+        return speed[row];
+    }
+
+    void setSpeed(int row, double value) {
+        speed[row] = value;
+    }
+
+    public double getSize(int row) {
+        return size[row];
+    }
+
+    void setSize(int row, double value) {
+        size[row] = value;
+    }
+
+    public double getHeading(int row) {
+        return heading[row];
+    }
+
+    void setHeading(int row, double value) {
+        heading[row] = value;
+    }
+
+    public double getRotation(int row) {
+        return rotation[row];
+    }
+
+    void setRotation(int row, double value) {
+        rotation[row] = value;
+    }
+
+    public double getSpin(int row) {
+        return spin[row];
+    }
+
+    void setSpin(int row, double value) {
+        spin[row] = value;
+    }
+
+    double getTimer(int row) {
+        return timer[row];
+    }
+
+    void setTimer(int row, double value) {
+        timer[row] = value;
+    }
+
+    public int getHealth(int row) {
+        return health[row];
+    }
+
+    void setHealth(int row, int value) {
+        health[row] = value;
+    }
+
+    public int getPoints(int row) {
+        return points[row];
+    }
+
+    void setPoints(int row, int value) {
+        points[row] = value;
+    }
+
+    public int getSpriteId(int row) {
+        return spriteId[row];
+    }
+
+    void setSpriteId(int row, int value) {
+        spriteId[row] = value;
+    }
+
+    long getLastShot(int row) {
+        return lastShot[row];
+    }
+
+    void setLastShot(int row, long value) {
+        lastShot[row] = value;
+    }
+
+    // Whole columns, for copying into a snapshot
+    double[] xs() {
+        return x;
+    }
+
+    double[] ys() {
+        return y;
+    }
+
+    double[] prevXs() {
+        return prevX;
+    }
+
+    double[] prevYs() {
+        return prevY;
+    }
+
+    double[] sizes() {
+        return size;
+    }
+
+    double[] headings() {
+        return heading;
+    }
+
+    double[] rotations() {
+        return rotation;
+    }
+
+    int[] spriteIds() {
+        return spriteId;
+    }
+
+    private void allocate(int capacity) {
+        views = views == null ? new StoredCharacter[capacity] : Arrays.copyOf(views, capacity);
+        x = grow(x, capacity);
+        y = grow(y, capacity);
+        prevX = grow(prevX, capacity);
+        prevY = grow(prevY, capacity);
+        speed = grow(speed, capacity);
+        size = grow(size, capacity);
+        heading = grow(heading, capacity);
+        rotation = grow(rotation, capacity);
+        spin = grow(spin, capacity);
+        timer = grow(timer, capacity);
+        health = grow(health, capacity);
+        points = grow(points, capacity);
+        spriteId = grow(spriteId, capacity);
+        lastShot = lastShot == null ? new long[capacity] : Arrays.copyOf(lastShot, capacity);
+        if (!detached) {
+            dead = dead == null ? new long[(capacity + 63) >> 6] : Arrays.copyOf(dead, (capacity + 63) >> 6);
+            rowSlot = grow(rowSlot, capacity);
+            slotRow = grow(slotRow, capacity);
+            slotGeneration = grow(slotGeneration, capacity);
+            freeSlots = grow(freeSlots, capacity);
+        }
+    }
+
+    private static double[] grow(double[] array, int capacity) {
+        return array == null ? new double[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    private static int[] grow(int[] array, int capacity) {
+        return array == null ? new int[capacity] : Arrays.copyOf(array, capacity);
+    }
+}
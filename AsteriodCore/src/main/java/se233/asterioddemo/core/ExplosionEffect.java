@@ -0,0 +1,212 @@
+package se233.asterioddemo.core;
+
+import se233.asterioddemo.jfr.ExplosionEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Emitter for asteroid-style explosions. It only rolls the particle parameters; the particles
+ * themselves are stored, updated and drawn by the shared {@link ParticleEngine}.
+ */
+public class ExplosionEffect {
+    // Caps to prevent excessive particle counts on large explosions
+    private static final int MAX_DEBRIS = 28;
+    private static final int MAX_SPARKS = 36;
+    private static final int MAX_SMOKE = 24;
+
+    // Pre-rolled variants per size class, and how far a copy may be nudged from the impact point
+    private static final int TEMPLATE_VARIANTS = 4;
+    private static final long TEMPLATE_SEED = 0x5EED_0000L;
+    private static final double TEMPLATE_OFFSET = 3.0;
+
+    // Shared defaults; the setters replace the array instead of changing it
+    private static final int[] DEFAULT_DEBRIS_COLORS = {Palette.BROWN, Palette.GRAY, Palette.DARKGRAY};
+    private static final int[] DEFAULT_SPARK_COLORS = {Palette.ORANGE, Palette.YELLOW, Palette.WHITE};
+    private static final int[] DEFAULT_SMOKE_COLORS = {Palette.DARKGRAY, Palette.GRAY, Palette.LIGHTGRAY};
+    private static final int[] DEFAULT_CORE_COLORS = {Palette.WHITE, Palette.YELLOW, Palette.ORANGE};
+
+    public enum ParticleType {
+        DEBRIS(ParticleEngine.DEBRIS),
+        SPARK(ParticleEngine.SPARK),
+        SMOKE(ParticleEngine.SMOKE),
+        CORE(ParticleEngine.CORE);
+
+        private final int kind;
+
+        ParticleType(int kind) {
+            this.kind = kind;
+        }
+    }
+
+    public static class ExplosionConfig {
+        private final double baseSize;
+        private int[] debrisColors = DEFAULT_DEBRIS_COLORS;
+        private int[] sparkColors = DEFAULT_SPARK_COLORS;
+        private int[] smokeColors = DEFAULT_SMOKE_COLORS;
+        private int[] coreColors = DEFAULT_CORE_COLORS;
+        private boolean useTemplates = true;
+        // Baked variants keyed by size class; dropped whenever the colours change
+        private final Map<Integer, ParticleTemplate[]> templates = new HashMap<>();
+
+        public ExplosionConfig(double baseSize) {
+            this.baseSize = baseSize;
+        }
+
+        public void setDebrisColors(int... colors) {
+            this.debrisColors = colors;
+            templates.clear();
+        }
+
+        public void setSparkColors(int... colors) {
+            this.sparkColors = colors;
+            templates.clear();
+        }
+
+        public void setSmokeColors(int... colors) {
+            this.smokeColors = colors;
+            templates.clear();
+        }
+
+        public void setCoreColors(int... colors) {
+            this.coreColors = colors;
+            templates.clear();
+        }
+
+        /**
+         * Turns pre-baked templates on or off. When off every particle is rolled at spawn time.
+         */
+        public void setUseTemplates(boolean useTemplates) {
+            this.useTemplates = useTemplates;
+        }
+
+        private int getColorForType(ParticleType type, SplittableRandom random) {
+            int[] colors = switch (type) {
+                case DEBRIS -> debrisColors;
+                case SPARK -> sparkColors;
+                case SMOKE -> smokeColors;
+                case CORE -> coreColors;
+            };
+            return colors[random.nextInt(colors.length)];
+        }
+    }
+
+    private final ParticleEngine engine;
+    private final ExplosionConfig config;
+    private final ParticleTemplate scratch = new ParticleTemplate();
+
+    public ExplosionEffect(ParticleEngine engine, double baseSize) {
+        this.engine = engine;
+        this.config = new ExplosionConfig(baseSize);
+    }
+
+    public void createExplosion(double x, double y, double size) {
+        ExplosionEvent event = new ExplosionEvent();
+        event.begin();
+        spawn(x, y, size);
+        event.end();
+        if (event.shouldCommit()) {
+            event.effect = "explosion";
+            event.x = x;
+            event.y = y;
+            event.size = size;
+            event.templated = config.useTemplates;
+            event.liveParticles = engine.getLiveCount();
+            event.commit();
+        }
+    }
+
+    private void spawn(double x, double y, double size) {
+        SplittableRandom random = engine.getRandom();
+        if (!config.useTemplates) {
+            scratch.clear();
+            roll(scratch, size, random);
+            scratch.emit(engine, x, y, 0);
+            return;
+        }
+
+        // Copy one of the baked variants, turned and nudged so repeats do not line up
+        int sizeClass = ParticleTemplate.sizeClass(size);
+        ParticleTemplate[] variants = config.templates.get(sizeClass);
+        if (variants == null) {
+            // Baked from a fixed seed so the templates never depend on what the game rolled before
+            variants = bake(ParticleTemplate.classSize(sizeClass), new SplittableRandom(TEMPLATE_SEED + sizeClass));
+            config.templates.put(sizeClass, variants);
+        }
+        ParticleTemplate template = variants[random.nextInt(variants.length)];
+        template.emit(engine,
+                x + (random.nextDouble() * 2 - 1) * TEMPLATE_OFFSET,
+                y + (random.nextDouble() * 2 - 1) * TEMPLATE_OFFSET,
+                random.nextDouble() * 2 * Math.PI);
+    }
+
+    private ParticleTemplate[] bake(double size, SplittableRandom random) {
+        ParticleTemplate[] variants = new ParticleTemplate[TEMPLATE_VARIANTS];
+        for (int v = 0; v < variants.length; v++) {
+            variants[v] = new ParticleTemplate();
+            roll(variants[v], size, random);
+        }
+        return variants;
+    }
+
+    private void roll(ParticleTemplate target, double size, SplittableRandom random) {
+        // Core flash
+        roll(target, ParticleType.CORE, random);
+
+        // Debris particles (clamped)
+        int debrisCount = Math.min((int) (size * 1.0), MAX_DEBRIS);
+        for (int i = 0; i < debrisCount; i++) {
+            roll(target, ParticleType.DEBRIS, random);
+        }
+
+        // Spark particles (clamped)
+        int sparkCount = Math.min((int) (size * 1.2), MAX_SPARKS);
+        for (int i = 0; i < sparkCount; i++) {
+            roll(target, ParticleType.SPARK, random);
+        }
+
+        // Smoke particles (clamped)
+        int smokeCount = Math.min((int) (size * 0.8), MAX_SMOKE);
+        for (int i = 0; i < smokeCount; i++) {
+            roll(target, ParticleType.SMOKE, random);
+        }
+    }
+
+    private void roll(ParticleTemplate target, ParticleType type, SplittableRandom random) {
+        double baseSize = config.baseSize;
+
+        double angle = random.nextDouble() * 2 * Math.PI;
+        double speed = switch (type) {
+            case DEBRIS -> 2 + random.nextDouble() * 5;
+            case SPARK -> 3 + random.nextDouble() * 7;
+            case SMOKE -> 0.5 + random.nextDouble() * 2;
+            case CORE -> 0.2 + random.nextDouble();
+        };
+
+        double rotationAngle = random.nextDouble() * 360;
+        double rotationSpeed = random.nextDouble() * 10 - 5;
+
+        double size = switch (type) {
+            case DEBRIS -> 3 + random.nextDouble() * (baseSize / 3);
+            case SPARK -> 1 + random.nextDouble() * (baseSize / 4);
+            case SMOKE -> 5 + random.nextDouble() * (baseSize / 2);
+            case CORE -> baseSize / 2;
+        };
+
+        double life = switch (type) {
+            case DEBRIS -> 12 + random.nextDouble() * 8;
+            case SPARK -> 6 + random.nextDouble() * 6;
+            case SMOKE -> 18 + random.nextDouble() * 10;
+            case CORE -> 4 + random.nextDouble() * 4;
+        };
+
+        int color = config.getColorForType(type, random);
+        target.add(type.kind, Math.cos(angle) * speed, Math.sin(angle) * speed,
+                rotationAngle, rotationSpeed, size, life, color, color, 1.0, 0);
+    }
+
+    public ExplosionConfig getConfig() {
+        return config;
+    }
+}
@@ -0,0 +1,63 @@
+package se233.asterioddemo.core;
+
+/**
+ * Turns variable display frame times into a whole number of fixed-length simulation ticks.
+ * Leftover time carries over to the next frame, and {@link #getAlpha()} says how far the display
+ * is between the last two ticks so the renderer can interpolate.
+ */
+public class FixedTimestep {
+    public static final int[] SUPPORTED_RATES = {30, 60, 120, 240};
+    public static final int DEFAULT_RATE = 60;
+
+    // A frame longer than this (debugger pause, window drag) is cut short so the simulation slows
+    // down instead of trying to catch up with more and more ticks every frame
+    private static final double MAX_FRAME_SECONDS = 0.25;
+
+    private final int tickRate;
+    private final double stepSeconds;
+    private double accumulator = 0;
+
+    public FixedTimestep(int tickRate) {
+        if (!isSupported(tickRate)) {
+            throw new IllegalArgumentException("Unsupported tick rate: " + tickRate + " Hz");
+        }
+        this.tickRate = tickRate;
+        this.stepSeconds = 1.0 / tickRate;
+    }
+
+    public static boolean isSupported(int tickRate) {
+        for (int rate : SUPPORTED_RATES) {
+            if (rate == tickRate) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds one display frame's worth of time and returns how many ticks to run for it.
+     */
+    public int advance(double frameSeconds) {
+        accumulator += Math.min(Math.max(frameSeconds, 0), MAX_FRAME_SECONDS);
+        int ticks = (int) (accumulator / stepSeconds);
+        accumulator -= ticks * stepSeconds;
+        return ticks;
+    }
+
+    // 0 right after a tick, approaching 1 just before the next one
+    public double getAlpha() {
+        return accumulator / stepSeconds;
+    }
+
+    public void reset() {
+        accumulator = 0;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public double getStepSeconds() {
+        return stepSeconds;
+    }
+}
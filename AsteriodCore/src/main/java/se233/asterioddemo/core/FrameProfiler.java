@@ -0,0 +1,169 @@
+package se233.asterioddemo.core;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Times each phase of a frame with {@link System#nanoTime()}. Phases add up over a frame (a frame
+ * may run several ticks); {@link #endFrame()} then records every phase that ran into its
+ * {@link LatencyHistogram} and keeps the frame in a short history for the overlay graph.
+ *
+ * <p>Timing a phase is two calls: {@code long t = profiler.start(); ...; t = profiler.end(Phase.X, t);}
+ * where {@code end} returns the current time so the next phase can start from it.
+ */
+public final class FrameProfiler {
+    public enum Phase {
+        PLAYER("player"),           // Player ship, drone and AI pilot
+        SPAWNING("spawning"),
+        BULLETS("bullets"),
+        ENEMIES("enemies"),
+        ASTEROIDS("asteroids"),
+        BOSS("boss"),
+        EXPLOSIONS("explosions"),   // Particle update in the simulation
+        COLLISIONS("collisions"),
+        DRAW_WORLD("draw world"),   // Background, ships, bullets and asteroids
+        DRAW_PARTICLES("draw particles"),
+        DRAW_UI("draw ui");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    public static final int HISTORY_FRAMES = 240;
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+
+    private final LatencyHistogram[] phaseHistograms = new LatencyHistogram[PHASES.length];
+    private final LatencyHistogram frameHistogram = new LatencyHistogram();
+    private final LatencyHistogram intervalHistogram = new LatencyHistogram();
+
+    // Written and read by the thread that runs the frames
+    private final long[] current = new long[PHASES.length];
+    private final boolean[] ran = new boolean[PHASES.length];
+    private final long[] history = new long[HISTORY_FRAMES * PHASES.length];
+    private final long[] historyTotal = new long[HISTORY_FRAMES];
+    private int historyEnd = 0; // Slot the next frame goes into
+    private int historySize = 0;
+    private long frameStart;
+
+    public FrameProfiler() {
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    // Adds the time since startNanos to the phase and returns now
+    public long end(Phase phase, long startNanos) {
+        long now = System.nanoTime();
+        add(phase, now - startNanos);
+        return now;
+    }
+
+    // Adds time measured elsewhere, such as on a TaskGraph worker, to the phase
+    public void add(Phase phase, long nanos) {
+        current[phase.ordinal()] += nanos;
+        ran[phase.ordinal()] = true;
+    }
+
+    public void beginFrame() {
+        frameStart = System.nanoTime();
+    }
+
+    /**
+     * Closes the frame begun by {@link #beginFrame()}: records the whole frame and each phase that
+     * ran, and moves the frame into the history.
+     */
+    public void endFrame() {
+        long frameNanos = System.nanoTime() - frameStart;
+        frameHistogram.record(frameNanos);
+        int base = historyEnd * PHASES.length;
+        for (int i = 0; i < PHASES.length; i++) {
+            if (ran[i]) {
+                phaseHistograms[i].record(current[i]);
+            }
+            history[base + i] = current[i];
+            current[i] = 0;
+            ran[i] = false;
+        }
+        historyTotal[historyEnd] = frameNanos;
+        historyEnd = (historyEnd + 1) % HISTORY_FRAMES;
+        historySize = Math.min(historySize + 1, HISTORY_FRAMES);
+    }
+
+    // Time between the starts of two display frames, which is what the player feels as a hitch
+    public void recordFrameInterval(long nanos) {
+        intervalHistogram.record(nanos);
+    }
+
+    public LatencyHistogram getHistogram(Phase phase) {
+        return phaseHistograms[phase.ordinal()];
+    }
+
+    public LatencyHistogram getFrameHistogram() {
+        return frameHistogram;
+    }
+
+    public LatencyHistogram getIntervalHistogram() {
+        return intervalHistogram;
+    }
+
+    // Frames in the history, up to HISTORY_FRAMES
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    // age 0 is the last finished frame
+    public long getHistoryPhaseNanos(int age, Phase phase) {
+        return history[historySlot(age) * PHASES.length + phase.ordinal()];
+    }
+
+    public long getHistoryFrameNanos(int age) {
+        return historyTotal[historySlot(age)];
+    }
+
+    private int historySlot(int age) {
+        return Math.floorMod(historyEnd - 1 - age, HISTORY_FRAMES);
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : phaseHistograms) {
+            histogram.reset();
+        }
+        frameHistogram.reset();
+        intervalHistogram.reset();
+        historySize = 0;
+    }
+
+    /**
+     * Writes one line per histogram: how many frames it covers and p50, p99, p99.9 and max in
+     * milliseconds.
+     */
+    public void writeReport(Appendable out) throws IOException {
+        out.append(String.format(Locale.ROOT, "%-16s %9s %9s %9s %9s %9s%n", "phase", "frames", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        writeLine(out, "frame interval", intervalHistogram);
+        writeLine(out, "frame work", frameHistogram);
+        for (Phase phase : PHASES) {
+            writeLine(out, phase.getLabel(), getHistogram(phase));
+        }
+    }
+
+    private static void writeLine(Appendable out, String name, LatencyHistogram histogram) throws IOException {
+        out.append(String.format(Locale.ROOT, "%-16s %9d", name, histogram.getCount()));
+        for (double quantile : QUANTILES) {
+            out.append(String.format(Locale.ROOT, " %9.3f", histogram.getValueAtQuantile(quantile) / 1e6));
+        }
+        out.append(String.format(Locale.ROOT, " %9.3f%n", histogram.getMax() / 1e6));
+    }
+}
@@ -0,0 +1,88 @@
+package se233.asterioddemo.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// A character that keeps its own state in fields, for the few there is only one of
+public abstract class FreeCharacter extends Character {
+    protected double x, y;
+    protected double prevX, prevY; // Position at the start of the current tick, for render interpolation
+    protected double speed;
+    protected double size;
+
+    public FreeCharacter(double x, double y, double speed, double size) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        this.speed = speed;
+        this.size = size;
+    }
+
+    @Override
+    public void savePosition() {
+        prevX = x;
+        prevY = y;
+    }
+
+    @Override
+    void writeCharacter(DataOutput out) throws IOException {
+        out.writeDouble(x);
+        out.writeDouble(y);
+        out.writeDouble(prevX);
+        out.writeDouble(prevY);
+        out.writeDouble(speed);
+        out.writeDouble(size);
+    }
+
+    @Override
+    void readCharacter(DataInput in) throws IOException {
+        x = in.readDouble();
+        y = in.readDouble();
+        prevX = in.readDouble();
+        prevY = in.readDouble();
+        speed = in.readDouble();
+        size = in.readDouble();
+    }
+
+    @Override
+    public double getPrevX() {
+        return prevX;
+    }
+
+    @Override
+    public double getPrevY() {
+        return prevY;
+    }
+
+    @Override
+    public double getX() {
+        return x;
+    }
+
+    @Override
+    public void setX(double x) {
+        this.x = x;
+    }
+
+    @Override
+    public double getY() {
+        return y;
+    }
+
+    @Override
+    public void setY(double y) {
+        this.y = y;
+    }
+
+    @Override
+    public double getSize() {
+        return size;
+    }
+
+    @Override
+    public void setSize(double size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,773 @@
+package se233.asterioddemo.core;
+
+import se233.asterioddemo.exception.GameException;
+import se233.asterioddemo.jfr.StageTransitionEvent;
+import se233.asterioddemo.metrics.GameMetrics;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+
+public class GameEntityManager {
+    private static final Logger logger = Logger.getLogger(GameEntityManager.class.getName());
+
+    // One store per kind of entity; the lists are views over their rows
+    public final EntityStore<Asteroid> asteroids;
+    private final ParticleEngine particleEngine;
+    private final BulletSystem bulletSystem;
+    public final EntityStore<EnemyShip> enemyShips;
+    public Boss boss;
+    private boolean bossActive;
+    private final GameRandom random;
+    private final GameClock clock;
+    private final GameMetrics metrics;
+
+    // Bullet cooldown currently unused (enemy ships use their own timers)
+    private long lastBulletTime = 0;
+    private long lastAsteroidSpawnTime = GameClock.NEVER;
+    private long lastEnemySpawnTime = GameClock.NEVER;
+    private static final long BULLET_COOLDOWN = 300;
+    private static final long BASE_ASTEROID_SPAWN_COOLDOWN = 1000; // ms base, scales with difficulty
+    private static final long BASE_ENEMY_SPAWN_COOLDOWN = 5000; // ms base, scales with difficulty
+    private static final int BASE_ASTEROIDS_PER_SPAWN = 2;
+    
+    // Time-based spawning accumulators (ms)
+    private long spawnAccumulatorMsAsteroid = 0;
+    private long spawnAccumulatorMsEnemy = 0;
+
+    private static final double SMALL_ASTEROID_SIZE = 20;
+    private static final double MEDIUM_ASTEROID_SIZE = 40;
+    private static final double LARGE_ASTEROID_SIZE = 60;
+
+    // Explosion emitters that are the same every time are created once and reused
+    private static final int PARTICLE_BUDGET = 4096;
+    private final ShipExplosionEffect shipExplosion;
+    private final ExplosionEffect hitSpark;
+    private final Map<Integer, ExplosionEffect> asteroidExplosions = new HashMap<>(); // Keyed by template size class
+
+    // Performance optimization flags
+    private static final boolean ENABLE_OBJECT_POOLING = false; // Placeholder for future optimization
+
+    // Collision broadphase: one grid per candidate list, rebuilt right before it is queried
+    private static final double WORLD_WIDTH = 1280;
+    private static final double WORLD_HEIGHT = 720;
+    private static final double GRID_CELL_SIZE = 80;
+    private final SpatialHashGrid asteroidGrid = new SpatialHashGrid(WORLD_WIDTH, WORLD_HEIGHT, GRID_CELL_SIZE);
+    private final SpatialHashGrid enemyShipGrid = new SpatialHashGrid(WORLD_WIDTH, WORLD_HEIGHT, GRID_CELL_SIZE);
+
+    // Player bullets are tested along their whole path for the tick, paired up by sweep-and-prune on x
+    private final SweepAndPrune bulletSweep = new SweepAndPrune();
+    private int sweptHitCount = 0;
+    private long[] sweptHitOrder = new long[32];
+    private int[] sweptHitBullets = new int[32];
+    private int[] sweptHitTargets = new int[32];
+
+    // Asteroid and enemy movement is split across the fork-join pool once there are enough of them
+    private static final ParallelRange DEFAULT_KINEMATICS = ParallelRange.fromSystemProperties();
+    private ParallelRange kinematics = DEFAULT_KINEMATICS;
+    private boolean[] enemyTurning = new boolean[64];
+
+
+    public GameEntityManager() {
+        this(new GameClock(), new GameRandom());
+    }
+
+    public GameEntityManager(GameClock clock, GameRandom random) {
+        this(clock, random, new GameMetrics());
+    }
+
+    public GameEntityManager(GameClock clock, GameRandom random, GameMetrics metrics) {
+        this.clock = clock;
+        this.random = random;
+        this.metrics = metrics;
+        this.asteroids = new EntityStore<>();
+        this.particleEngine = new ParticleEngine(PARTICLE_BUDGET, random);
+        this.shipExplosion = new ShipExplosionEffect(particleEngine, 20);
+        this.hitSpark = new ExplosionEffect(particleEngine, 6);
+        this.hitSpark.getConfig().setSparkColors(Palette.CYAN, Palette.WHITE);
+        this.bulletSystem = new BulletSystem();
+        this.enemyShips = new EntityStore<>();
+        this.bossActive = false;
+    }
+
+    public void updateExplosions(double frames) {
+        // Asteroid and ship explosions share one engine, updated in a single pass
+        particleEngine.update(frames);
+    }
+
+    // Remembers where everything was at the start of the tick, for render interpolation
+    public void savePositions() {
+        asteroids.savePositions();
+        enemyShips.savePositions();
+        if (boss != null) {
+            boss.savePosition();
+        }
+    }
+
+    public void startBossStage(SoundEffect bossMusic) {
+        try {
+            if (!bossActive) {
+                logger.info("Attempting to start boss stage...");
+                bossActive = true;
+                boss = new Boss(400, 100, 2.0, 91, clock, random);
+                clearAll();
+                bossMusic.play();
+                StageTransitionEvent.emit(StageTransitionEvent.BOSS_STAGE_STARTED, clock.millis());
+                logger.info("Boss created successfully");
+            } else {
+                logger.info("Boss is already active, skipping creation.");
+            }
+        } catch (GameException e) {
+            logger.severe("Failed to start boss stage: " + e.getMessage());
+        }
+    }
+
+    public void updateSpawning(double deltaSeconds) {
+        if (!bossActive) {
+            long deltaMs = (long) (deltaSeconds * 1000.0);
+            spawnAccumulatorMsAsteroid += deltaMs;
+            spawnAccumulatorMsEnemy += deltaMs;
+
+            // We'll compute difficulty factor from total entities to keep self-contained if GameState not accessible here
+            double difficultyFactor = 1.0 + Math.min(2.0, (asteroids.size() + enemyShips.size()) / 20.0);
+
+            long asteroidCooldown = (long) (BASE_ASTEROID_SPAWN_COOLDOWN / difficultyFactor);
+            long enemyCooldown = (long) Math.max(1800, BASE_ENEMY_SPAWN_COOLDOWN / Math.max(1.0, (difficultyFactor * 0.6)));
+            int asteroidsPerSpawn = Math.min(4, (int) Math.round(BASE_ASTEROIDS_PER_SPAWN * difficultyFactor));
+
+            while (spawnAccumulatorMsAsteroid >= asteroidCooldown) {
+                for (int i = 0; i < asteroidsPerSpawn; i++) {
+                    spawnSingleAsteroid();
+                }
+                spawnAccumulatorMsAsteroid -= asteroidCooldown;
+            }
+
+            while (spawnAccumulatorMsEnemy >= enemyCooldown) {
+                spawnEnemyShip();
+                spawnAccumulatorMsEnemy -= enemyCooldown;
+            }
+        }
+    }
+
+    public void continuousSpawnAsteroids() {
+        if (!bossActive) {
+            long currentTime = clock.millis();
+            if (currentTime - lastAsteroidSpawnTime >= BASE_ASTEROID_SPAWN_COOLDOWN) {
+                for (int i = 0; i < BASE_ASTEROIDS_PER_SPAWN; i++) {
+                    spawnSingleAsteroid();
+                }
+                lastAsteroidSpawnTime = currentTime;
+            }
+        }
+    }
+
+    private void spawnSingleAsteroid() {
+        SplittableRandom random = this.random.get(GameRandom.Stream.SPAWNS);
+        double speed = 1.0 + random.nextDouble() * 2.0;
+        AsteroidSize size = getRandomAsteroidSize(random);
+
+        Asteroid.spawn(
+                asteroids,
+                random.nextInt((int) WORLD_WIDTH),
+                random.nextInt((int) WORLD_HEIGHT),
+                speed,
+                size.size,
+                size.points,
+                false,
+                this.random
+        );
+        metrics.increment(GameMetrics.Counter.ASTEROIDS_SPAWNED);
+    }
+
+    public boolean isBossActive() {
+        return bossActive;
+    }
+
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public Boss getBoss() {
+        return boss;
+    }
+
+    private static class AsteroidSize {
+        final double size;
+        final int points;
+
+        AsteroidSize(double size, int points) {
+            this.size = size;
+            this.points = points;
+        }
+    }
+
+    private AsteroidSize getRandomAsteroidSize(SplittableRandom random) {
+        double roll = random.nextDouble();
+        if (roll < 0.33) {
+            return new AsteroidSize(SMALL_ASTEROID_SIZE, 3);
+        } else if (roll < 0.66) {
+            return new AsteroidSize(MEDIUM_ASTEROID_SIZE, 2);
+        } else {
+            return new AsteroidSize(LARGE_ASTEROID_SIZE, 1);
+        }
+    }
+
+    public void continuousSpawnEnemyShips() {
+        try {
+            if (!bossActive) {
+                long currentTime = clock.millis();
+                if (currentTime - lastEnemySpawnTime >= BASE_ENEMY_SPAWN_COOLDOWN) {
+                    spawnEnemyShip();
+                    lastEnemySpawnTime = currentTime;
+                }
+            }
+        } catch (GameException e) {
+            logger.severe("Error during continuous enemy ship spawning: " + e.getMessage());
+        }
+    }
+
+    private void spawnEnemyShip() {
+        SplittableRandom random = this.random.get(GameRandom.Stream.SPAWNS);
+        double x = random.nextInt(800);
+        double y = random.nextInt(600);
+        double speed = 1.0 + random.nextDouble() * 2.0;
+        double size = 75;
+        double angle = Math.PI / 2;
+
+        EnemyShip.spawn(enemyShips, x, y, speed, size, angle, clock, this.random);
+        metrics.increment(GameMetrics.Counter.ENEMY_SHIPS_SPAWNED);
+    }
+
+    public void updateBoss(double frames) {
+        if (bossActive && boss != null) {
+            boss.move(frames);
+            boss.attack(bulletSystem); // Boss bullets move with the rest in updateBullets
+        } else {
+            logger.severe("Boss object is null in updateBoss!");
+        }
+    }
+
+    // Moves every bullet in play: player, drone, enemy and boss
+    public void updateBullets(double screenWidth, double screenHeight, double frames) {
+        bulletSystem.update(screenWidth, screenHeight, frames);
+    }
+
+    public void updateAsteroids(double screenWidth, double screenHeight, double frames) {
+        kinematics.forEach(asteroids.size(), (from, to) -> {
+            asteroids.drift(from, to, frames);
+            asteroids.wrap(from, to, screenWidth, screenHeight);
+        });
+    }
+
+    public void updateEnemyShips(double playerX, double playerY, double frames) {
+        int count = enemyShips.size();
+        if (enemyTurning.length < count) {
+            enemyTurning = new boolean[Math.max(count, enemyTurning.length * 2)];
+        }
+        boolean[] turning = enemyTurning;
+        // Gliding rolls nothing, so it can be split up; turns roll the shared stream, so they follow in order
+        kinematics.forEach(count, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                turning[i] = !enemyShips.glide(i, frames);
+            }
+        });
+
+        for (int i = 0; i < count; i++) {
+            EnemyShip enemy = enemyShips.get(i);
+            if (turning[i]) {
+                enemy.turn(playerX, playerY, frames);
+            }
+            if (enemy.canShoot()) {
+                enemy.shootTowards(playerX, playerY, bulletSystem);
+            }
+            if (enemy.getHealth() <= 0) {
+                enemyShips.kill(i);
+            }
+        }
+    }
+
+    public void checkCollisions(GameState gameState, PlayerShip playerShip, SoundEffect hitSound, SoundEffect explodeSound, Logger logger) {
+        if (!bossActive) {
+            checkPlayerEnemyBulletCollisions(playerShip, gameState);
+            checkPlayerEnemyShipCollisions(playerShip, gameState, hitSound, explodeSound);
+            checkPlayerBulletEnemyCollisions(gameState);
+            checkPlayerBulletAsteroidCollisions(gameState, logger);
+            checkPlayerAsteroidCollisions(playerShip, gameState, hitSound, explodeSound);
+        }
+
+        if (bossActive && boss != null) {
+            checkBossCollisions(playerShip, gameState, logger, hitSound);
+        }
+        removeDead();
+    }
+
+    // Drops everything killed this tick; rows stay put until here so indices found earlier hold
+    public void removeDead() {
+        asteroids.removeDead();
+        enemyShips.removeDead();
+    }
+
+    public void defeatBoss(GameState gameState, Logger logger) {
+        bossActive = false;
+        boss = null;
+        gameState.addScore(5); // Example score for defeating the boss
+        logger.info("Boss defeated! Bonus score added.");
+    }
+
+    private void checkPlayerEnemyBulletCollisions(PlayerShip playerShip, GameState gameState) {
+        // Single target, so a straight pass over the bullet arrays beats building a grid for it
+        int tested = 0;
+        int hits = 0;
+        for (int i = bulletSystem.nextAlive(0); i >= 0; i = bulletSystem.nextAlive(i + 1)) {
+            if (bulletSystem.getOwner(i) != BulletSystem.OWNER_ENEMY) {
+                continue;
+            }
+            tested++;
+            if (isBulletColliding(i, playerShip)) {
+                hits++;
+                playerShip.reduceHealth(5);
+                bulletSystem.kill(i);
+
+                if (playerShip.getHealth() <= 0) {
+                    gameState.setGameOver(true);
+                }
+            }
+        }
+        metrics.recordCollisions(tested, hits);
+    }
+
+    private void checkPlayerEnemyShipCollisions(PlayerShip playerShip, GameState gameState, SoundEffect hitSound, SoundEffect explodeSound) {
+        indexRows(enemyShipGrid, enemyShips);
+        int count = enemyShipGrid.query(playerShip.getX(), playerShip.getY(), playerShip.getSize() / 2);
+        int[] candidates = enemyShipGrid.results();
+
+        int hits = 0;
+        for (int i = 0; i < count; i++) {
+            EnemyShip enemy = enemyShips.get(candidates[i]);
+            if (isColliding(playerShip, enemy)) {
+                playerShip.reduceHealth(10);
+                enemyShips.kill(candidates[i]);
+                hits++;
+                hitSound.play();
+                logger.info("Player hit by EnemyShip! Remaining Health: " + playerShip.getHealth());
+
+                if (playerShip.getHealth() <= 0) {
+                    gameState.setGameOver(true);
+                    logger.warning("Player killed by EnemyShip. Game Over!");
+                    explodeSound.play();
+                }
+            }
+        }
+        metrics.recordCollisions(count, hits);
+    }
+
+    public void checkPlayerBulletEnemyCollisions(GameState gameState) {
+        int hitCount = collectSweptHits(enemyShips);
+
+        // Resolve hits in the order they happened along the bullets' paths
+        for (int h = 0; h < hitCount; h++) {
+            int bullet = sweptHitBullets[(int) sweptHitOrder[h]];
+            EnemyShip enemy = enemyShips.get(sweptHitTargets[(int) sweptHitOrder[h]]);
+            if (!bulletSystem.isAlive(bullet) || enemy.getHealth() <= 0) {
+                continue;
+            }
+
+            // Deal damage to enemy based on bullet's damage, then remove the bullet that hit
+            enemy.takeDamage(bulletSystem.getDamage(bullet));
+            bulletSystem.kill(bullet);
+
+            // Check if enemy is destroyed
+            if (enemy.getHealth() <= 0) {
+                defeatEnemyShip(enemy, gameState, logger); // Killed, so it keeps its row until removeDead
+
+                // Create explosion effect
+                shipExplosion.createExplosion(
+                        enemy.getX(),
+                        enemy.getY(),
+                        enemy.getSize(),
+                        "standard"
+                );
+            } else {
+                // Small hit spark for feedback
+                hitSpark.createExplosion(enemy.getX(), enemy.getY(), 8);
+            }
+        }
+    }
+
+    public void checkPlayerBulletAsteroidCollisions(GameState gameState, Logger logger) {
+        int hitCount = collectSweptHits(asteroids);
+
+        // Resolve hits in time-of-impact order
+        for (int h = 0; h < hitCount; h++) {
+            int bullet = sweptHitBullets[(int) sweptHitOrder[h]];
+            int row = sweptHitTargets[(int) sweptHitOrder[h]];
+            if (!bulletSystem.isAlive(bullet) || asteroids.isDead(row)) {
+                continue;
+            }
+
+            // Remove the bullet and kill the asteroid; its row goes at the end of the tick
+            Asteroid asteroid = asteroids.get(row);
+            bulletSystem.kill(bullet);
+            asteroids.kill(row);
+
+            // Update score
+            gameState.addScore(asteroid.getPoints());
+            logger.fine("Asteroid destroyed! Score: " + gameState.getScore());
+
+            // Create explosion effect
+            asteroidExplosion(asteroid.getSize()).createExplosion(asteroid.getX(), asteroid.getY(), asteroid.getSize());
+
+            // The pieces go after the last row, past every hit collected above, so the same bullets
+            // cannot hit them
+            synchronized (this) {
+                asteroid.split(asteroids);
+            }
+        }
+    }
+
+    // One reusable emitter per size class, so its baked templates survive between explosions
+    private ExplosionEffect asteroidExplosion(double size) {
+        int sizeClass = ParticleTemplate.sizeClass(size);
+        ExplosionEffect explosion = asteroidExplosions.get(sizeClass);
+        if (explosion == null) {
+            explosion = new ExplosionEffect(particleEngine, ParticleTemplate.classSize(sizeClass));
+            asteroidExplosions.put(sizeClass, explosion);
+        }
+        return explosion;
+    }
+
+    /**
+     * Pairs every player bullet's swept box with the targets via sweep-and-prune, runs the swept
+     * circle test on each pair and leaves the hits in {@code sweptHit*}, sorted by time of impact.
+     */
+    private int collectSweptHits(EntityStore<?> targets) {
+        bulletSweep.clear();
+        for (int i = bulletSystem.nextAlive(0); i >= 0; i = bulletSystem.nextAlive(i + 1)) {
+            if (bulletSystem.getOwner(i) != BulletSystem.OWNER_PLAYER) {
+                continue;
+            }
+            double r = bulletSystem.getRadius(i);
+            double startX = bulletSystem.getPrevX(i), endX = bulletSystem.getX(i);
+            double startY = bulletSystem.getPrevY(i), endY = bulletSystem.getY(i);
+            bulletSweep.addMover(i,
+                    Math.min(startX, endX) - r, Math.max(startX, endX) + r,
+                    Math.min(startY, endY) - r, Math.max(startY, endY) + r);
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            if (targets.isDead(i)) {
+                continue;
+            }
+            double r = targets.getSize(i) / 2;
+            double x = targets.getX(i), y = targets.getY(i);
+            bulletSweep.addTarget(i, x - r, x + r, y - r, y + r);
+        }
+
+        int pairCount = bulletSweep.findPairs();
+        int[] movers = bulletSweep.pairMovers();
+        int[] pairTargets = bulletSweep.pairTargets();
+
+        sweptHitCount = 0;
+        for (int p = 0; p < pairCount; p++) {
+            double hitTime = sweptHitTime(movers[p], targets, pairTargets[p]);
+            if (hitTime >= 0) {
+                addSweptHit(hitTime, movers[p], pairTargets[p]);
+            }
+        }
+        Arrays.sort(sweptHitOrder, 0, sweptHitCount);
+        metrics.recordCollisions(pairCount, sweptHitCount);
+        return sweptHitCount;
+    }
+
+    private void addSweptHit(double hitTime, int bulletIndex, int targetIndex) {
+        if (sweptHitCount == sweptHitBullets.length) {
+            int capacity = sweptHitCount * 2;
+            sweptHitOrder = Arrays.copyOf(sweptHitOrder, capacity);
+            sweptHitBullets = Arrays.copyOf(sweptHitBullets, capacity);
+            sweptHitTargets = Arrays.copyOf(sweptHitTargets, capacity);
+        }
+        sweptHitBullets[sweptHitCount] = bulletIndex;
+        sweptHitTargets[sweptHitCount] = targetIndex;
+        // Time of impact (0..1) quantised into the high bits so sorting the keys orders the hits
+        sweptHitOrder[sweptHitCount] = ((long) (hitTime * (1 << 24)) << 32) | sweptHitCount;
+        sweptHitCount++;
+    }
+
+    private void checkPlayerAsteroidCollisions(PlayerShip playerShip, GameState gameState, SoundEffect hitSound, SoundEffect explodeSound) {
+        indexRows(asteroidGrid, asteroids);
+        int count = asteroidGrid.query(playerShip.getX(), playerShip.getY(), playerShip.getSize() / 2);
+        int[] candidates = asteroidGrid.results();
+
+        for (int i = 0; i < count; i++) {
+            Asteroid asteroid = asteroids.get(candidates[i]);
+            if (isColliding(playerShip, asteroid)) {
+                metrics.recordCollisions(i + 1, 1);
+                gameState.loseLife();
+                logger.warning("Player hit by Asteroid! Lives remaining: " + gameState.getLives());
+                asteroids.kill(candidates[i]);
+                hitSound.play();
+
+                // Automatically activate shield when a life is lost
+                playerShip.reset(playerShip.getX(), playerShip.getY(), playerShip.getSpeed());
+                playerShip.activateShield();
+
+                if (playerShip.getHealth() <= 0) {
+                    gameState.setGameOver(true);
+                    logger.warning("Player killed by Asteroid. Game Over!");
+                    explodeSound.play();
+                }
+                return;
+            }
+        }
+        metrics.recordCollisions(count, 0);
+    }
+
+    private void checkBossCollisions(PlayerShip playerShip, GameState gameState, Logger logger, SoundEffect hitSound) {
+        if (boss != null) {
+            int tested = 0;
+            int hits = 0;
+            // Check for boss bullets hitting player
+            for (int i = bulletSystem.nextAlive(0); i >= 0; i = bulletSystem.nextAlive(i + 1)) {
+                if (bulletSystem.getOwner(i) != BulletSystem.OWNER_BOSS) {
+                    continue;
+                }
+                tested++;
+                if (isBulletColliding(i, playerShip)) {
+                    hits++;
+                    playerShip.reduceHealth(20);  // Reduce player health on hit
+                    bulletSystem.kill(i);
+                    hitSound.play();
+                    logger.warning("Player hit by boss bullet! Player health: " + playerShip.getHealth());
+
+                    if (playerShip.getHealth() <= 0) {
+                        // If the player's health drops to 0, they lose a life
+                        gameState.loseLife();
+                        logger.warning("Player lost a life! Lives remaining: " + gameState.getLives());
+
+                        if (!gameState.isGameOver()) {
+                            // If the game is not over, respawn the player with full health
+                            playerShip.resetHealth();
+                            playerShip.reset(640, 360, playerShip.getSpeed()); // Respawn at a default position
+                            playerShip.activateShield(); // Optionally activate a temporary shield
+                            logger.warning("Player respawned with " + gameState.getLives() + " lives.");
+                        } else {
+                            logger.warning("Player has no remaining lives. Game Over!");
+                        }
+                    }
+                }
+            }
+
+            // Check for player bullets hitting the boss
+            for (int i = bulletSystem.nextAlive(0); i >= 0 && boss != null; i = bulletSystem.nextAlive(i + 1)) {
+                if (bulletSystem.getOwner(i) != BulletSystem.OWNER_PLAYER) {
+                    continue;
+                }
+                tested++;
+                if (isBulletColliding(i, boss)) {
+                    hits++;
+                    boss.takeDamage();
+                    bulletSystem.kill(i);
+                    logger.info("Boss hit! Boss health: " + boss.getHealth());
+
+                    if (boss.getHealth() <= 0) {
+                        defeatBoss(gameState, logger);  // Call defeat method when boss health reaches zero
+                    }
+                }
+            }
+            metrics.recordCollisions(tested, hits);
+        } else {
+            logger.warning("checkBossCollisions called but boss is null.");
+        }
+    }
+
+    private static void indexRows(SpatialHashGrid grid, EntityStore<?> store) {
+        grid.clear();
+        for (int i = 0; i < store.size(); i++) {
+            if (store.isDead(i)) {
+                continue;
+            }
+            grid.insert(i, store.getX(i), store.getY(i), store.getSize(i) / 2);
+        }
+    }
+
+    /**
+     * Swept circle test: moves the bullet from its previous to its current position and returns the
+     * fraction of that path (0..1) at which it first touches the target, or -1 if it never does.
+     */
+    private double sweptHitTime(int bullet, EntityStore<?> targets, int row) {
+        double radius = bulletSystem.getRadius(bullet) + targets.getSize(row) / 2;
+        double startX = bulletSystem.getPrevX(bullet) - targets.getX(row);
+        double startY = bulletSystem.getPrevY(bullet) - targets.getY(row);
+        double c = startX * startX + startY * startY - radius * radius;
+        if (c < 0) {
+            return 0; // Already overlapping at the start of the tick
+        }
+
+        double dx = bulletSystem.getX(bullet) - bulletSystem.getPrevX(bullet);
+        double dy = bulletSystem.getY(bullet) - bulletSystem.getPrevY(bullet);
+        double a = dx * dx + dy * dy;
+        double b = startX * dx + startY * dy;
+        if (a == 0 || b >= 0) {
+            return -1; // Not moving, or moving away from the target
+        }
+
+        double discriminant = b * b - a * c;
+        if (discriminant < 0) {
+            return -1;
+        }
+        double t = (-b - Math.sqrt(discriminant)) / a;
+        return t <= 1 ? t : -1;
+    }
+
+    private boolean isBulletColliding(int bullet, Character target) {
+        if (target == null) {
+            return false;
+        }
+        double distance = Math.hypot(bulletSystem.getX(bullet) - target.getX(), bulletSystem.getY(bullet) - target.getY());
+        return distance < (bulletSystem.getRadius(bullet) + target.getSize() / 2);
+    }
+
+    private boolean isColliding(Character entityA, Character entityB) {
+        if (entityA == null || entityB == null) {
+            return false;
+        }
+        double distance = Math.hypot(entityA.getX() - entityB.getX(), entityA.getY() - entityB.getY());
+        return distance < (entityA.getSize() / 2 + entityB.getSize() / 2);
+    }
+
+    public void addBullet(Bullet bullet) {
+        bulletSystem.spawn(bullet, BulletSystem.OWNER_PLAYER);
+    }
+
+    public BulletSystem getBulletSystem() {
+        return bulletSystem;
+    }
+
+    // How asteroid and enemy movement is split up; the result is the same either way
+    public void setKinematics(ParallelRange kinematics) {
+        this.kinematics = kinematics;
+    }
+
+    public ParticleEngine getParticleEngine() {
+        return particleEngine;
+    }
+
+    public void clearAsteroids() {
+        asteroids.clear();
+    }
+
+    public void clearBullets() {
+        bulletSystem.clear();
+    }
+
+    public void clearEnemyShips() {
+        enemyShips.clear();
+    }
+
+    public void clearAll() {
+        asteroids.clear();
+        enemyShips.clear();
+        bulletSystem.clear();
+    }
+
+    // Everything back to how a new manager starts, so a reset game plays like a fresh one
+    public void reset() {
+        clearAll();
+        particleEngine.clear();
+        setBossActive(false);
+        spawnAccumulatorMsAsteroid = 0;
+        spawnAccumulatorMsEnemy = 0;
+        lastAsteroidSpawnTime = GameClock.NEVER;
+        lastEnemySpawnTime = GameClock.NEVER;
+    }
+
+    /**
+     * Writes everything that decides how the game plays on: entities, bullets, the boss and the
+     * spawn timers. Particles are left out; they are only drawn and restart empty after a restore.
+     */
+    void writeState(DataOutput out) throws IOException {
+        out.writeBoolean(bossActive);
+        out.writeLong(spawnAccumulatorMsAsteroid);
+        out.writeLong(spawnAccumulatorMsEnemy);
+        out.writeLong(lastAsteroidSpawnTime);
+        out.writeLong(lastEnemySpawnTime);
+        out.writeInt(asteroids.size());
+        for (Asteroid asteroid : asteroids) {
+            asteroid.writeState(out);
+        }
+        out.writeInt(enemyShips.size());
+        for (EnemyShip enemy : enemyShips) {
+            enemy.writeState(out);
+        }
+        out.writeBoolean(boss != null);
+        if (boss != null) {
+            boss.writeState(out);
+        }
+        bulletSystem.writeState(out);
+    }
+
+    void readState(DataInput in) throws IOException {
+        particleEngine.clear();
+        bossActive = in.readBoolean();
+        spawnAccumulatorMsAsteroid = in.readLong();
+        spawnAccumulatorMsEnemy = in.readLong();
+        lastAsteroidSpawnTime = in.readLong();
+        lastEnemySpawnTime = in.readLong();
+        asteroids.clear();
+        for (int i = in.readInt(); i > 0; i--) {
+            Asteroid.readState(asteroids, in, random);
+        }
+        enemyShips.clear();
+        for (int i = in.readInt(); i > 0; i--) {
+            EnemyShip.readState(enemyShips, in, clock, random);
+        }
+        boss = null;
+        if (in.readBoolean()) {
+            boss = new Boss(0, 0, 0, 0, clock, random);
+            boss.readState(in);
+        }
+        bulletSystem.readState(in);
+    }
+
+    public void setBossActive(boolean active) {
+        this.bossActive = active;
+        if (!active) {
+            this.boss = null; // Ensure that the boss object is set to null when deactivating
+        }
+    }
+
+    public List<Asteroid> getAsteroids() {
+        return asteroids;
+    }
+
+    public List<EnemyShip> getEnemyShips() {
+        return enemyShips;
+    }
+
+
+    public void defeatEnemyShip(EnemyShip enemy, GameState gameState, Logger logger) {
+        // Remove the enemy from the game at the end of the tick
+        if (enemy.store == enemyShips) {
+            enemyShips.kill(enemy.row);
+        }
+
+        // Add score for defeating the enemy
+        gameState.addScore(2); // Example score for defeating an enemy ship.
+
+        // Log the defeat of the enemy
+        logger.fine("Enemy ship defeated! " + gameState.getScore());
+
+        // Create an explosion effect at the enemy's location
+        shipExplosion.createExplosion(enemy.getX(), enemy.getY(), enemy.getSize(), "standard");
+    }
+
+}
@@ -1,4 +1,4 @@
-package se233.asterioddemo;
+package se233.asterioddemo.core;
 
 public interface GameObject {
     double getX();
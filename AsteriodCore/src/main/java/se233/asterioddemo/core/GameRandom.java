@@ -0,0 +1,78 @@
+package se233.asterioddemo.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * All the randomness in one game, derived from a single seed. Each subsystem draws from its own
+ * stream so, for example, an extra explosion never changes where the next asteroid spawns. The same
+ * seed and the same inputs give the same game.
+ *
+ * <p>Streams are looked up on every use rather than cached by their users, so {@link #reseed} takes
+ * effect everywhere at once.
+ */
+public final class GameRandom {
+    public enum Stream {
+        SPAWNS,     // Where and what the entity manager spawns
+        ASTEROIDS,  // Asteroid heading, spin, sprite and split pieces
+        ENEMIES,    // Enemy ship sprites and wandering
+        BOSS,       // Boss attack rolls
+        PILOT,      // AI pilot aim error
+        PARTICLES   // Explosion placement and electric arc jitter
+    }
+
+    private static final Stream[] STREAMS = Stream.values();
+
+    private final SplittableRandom[] streams = new SplittableRandom[STREAMS.length];
+    private long seed;
+
+    // Seeded from the system; for games that do not need to be repeated
+    public GameRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    public GameRandom(long seed) {
+        reseed(seed);
+    }
+
+    public void reseed(long seed) {
+        this.seed = seed;
+        rekey(0);
+    }
+
+    /**
+     * Restarts every stream from a state that depends only on the seed and {@code tick}. A
+     * {@link SplittableRandom} cannot be saved part way through, so the simulation rekeys at fixed
+     * ticks and a saved game only has to remember the seed and the tick to roll the same numbers.
+     */
+    public void rekey(long tick) {
+        for (Stream stream : STREAMS) {
+            streams[stream.ordinal()] = new SplittableRandom(mix(seed, stream.ordinal(), tick));
+        }
+    }
+
+    public SplittableRandom get(Stream stream) {
+        return streams[stream.ordinal()];
+    }
+
+    /**
+     * A fresh stream for one chunk of parallel work. It depends only on the seed, the stream, the
+     * tick and the chunk index, never on which or how many threads run the chunks, so a parallel
+     * update rolls the same numbers as a serial one.
+     */
+    public SplittableRandom forChunk(Stream stream, long tick, int chunk) {
+        // Bit 40 keeps chunk keys apart from the subsystem stream keys
+        return new SplittableRandom(mix(seed, (1L << 40) | ((long) chunk << 8) | stream.ordinal(), tick));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // SplitMix64 finaliser over the combined inputs, so neighbouring keys give unrelated seeds
+    private static long mix(long seed, long key, long tick) {
+        long z = seed + 0x9E3779B97F4A7C15L * (key + 1) + 0xC2B2AE3D27D4EB4FL * tick;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
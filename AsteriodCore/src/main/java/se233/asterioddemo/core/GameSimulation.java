@@ -0,0 +1,531 @@
+package se233.asterioddemo.core;
+
+import se233.asterioddemo.exception.GameException;
+import se233.asterioddemo.jfr.StageTransitionEvent;
+import se233.asterioddemo.metrics.GameMetrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.logging.Logger;
+
+/**
+ * One game session without any rendering: the player, drone, AI pilot, entities and score,
+ * advanced one tick at a time from a {@link PlayerInput}. The JavaFX front-end draws whatever
+ * state this leaves behind; headless runs just call {@link #tick} in a loop.
+ */
+public class GameSimulation {
+    private static final Logger logger = Logger.getLogger(GameSimulation.class.getName());
+
+    private static final int BOSS_TRIGGER_SCORE = 100; // increase base; we'll ramp to trigger once per threshold without modulo spikes
+    private static final long DRONE_COOLDOWN = 10000; // Cooldown time in milliseconds (10 seconds)
+    // Speeds and per-tick constants throughout the entities are tuned for this rate
+    private static final double REFERENCE_TICK_RATE = 60.0;
+    // Randomness restarts from (seed, tick) this often; saved states are only taken on these ticks
+    public static final int RANDOM_EPOCH_TICKS = 600;
+
+    // What the tick's systems touch, so the task graph only runs two side by side when they share none
+    private static final long PLAYER = 1L;
+    private static final long ASTEROIDS = 1L << 1;
+    private static final long ENEMY_SHIPS = 1L << 2;
+    private static final long BOSS = 1L << 3;
+    private static final long BULLETS = 1L << 4;
+    private static final long PARTICLES = 1L << 5;
+    private static final long SPAWN_STREAM = 1L << 6;
+    private static final long ASTEROID_STREAM = 1L << 7;
+    private static final long ENEMY_STREAM = 1L << 8;
+    private static final long BOSS_STREAM = 1L << 9;
+    private static final long PARTICLE_STREAM = 1L << 10;
+
+    private final double width;
+    private final double height;
+    private final GameClock clock = new GameClock();
+    private final GameRandom random;
+    private final GameState gameState;
+    private final GameEntityManager gameEntityManager;
+    private final PlayerShip playerShip;
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final GameMetrics metrics = new GameMetrics();
+    private TaskGraph systems = TaskGraph.fromSystemProperties();
+
+    // The systems as reusable tasks; they read the tick's length from these fields
+    private double tickSeconds;
+    private double tickFrames;
+    private final Runnable spawnUpdate;
+    private final Runnable bulletUpdate;
+    private final Runnable enemyUpdate;
+    private final Runnable asteroidUpdate;
+    private final Runnable bossUpdate;
+    private final Runnable explosionUpdate;
+
+    private SoundEffect laserSound = SoundEffect.NONE;
+    private SoundEffect hitSound = SoundEffect.NONE;
+    private SoundEffect explodeSound = SoundEffect.NONE;
+    private SoundEffect bossMusic = SoundEffect.NONE;
+    private SoundEffect bossStageMusic = SoundEffect.NONE;
+
+    private Drone drone; // To track the drone
+    private boolean canSummonDrone = true; // Track if the drone can be summoned
+    private long lastDroneTime = GameClock.NEVER;
+
+    private ShipAI shipAI;
+    private boolean aiMode = false;
+    private boolean bossDefeated;
+    private boolean gameOver;
+    private long tickCount;
+    private long nextGameSeed;
+
+    private boolean isMovingLeft = false;
+    private boolean isMovingRight = false;
+    private boolean isMovingUp = false;
+    private boolean isMovingDown = false;
+
+    public GameSimulation(double width, double height) {
+        this(width, height, new GameRandom().getSeed());
+    }
+
+    // The same seed and the same inputs tick by tick play out the same game
+    public GameSimulation(double width, double height, long seed) {
+        this.width = width;
+        this.height = height;
+        this.random = new GameRandom(seed);
+        this.nextGameSeed = seed;
+        this.gameState = new GameState();
+        this.gameEntityManager = new GameEntityManager(clock, random, metrics);
+        this.playerShip = new PlayerShip(640, 360, 5, 30, clock);
+
+        GameEntityManager manager = gameEntityManager;
+        this.spawnUpdate = () -> manager.updateSpawning(tickSeconds);
+        this.bulletUpdate = () -> manager.updateBullets(width, height, tickFrames);
+        this.enemyUpdate = () -> manager.updateEnemyShips(playerShip.getX(), playerShip.getY(), tickFrames);
+        this.asteroidUpdate = () -> manager.updateAsteroids(width, height, tickFrames);
+        this.bossUpdate = () -> manager.updateBoss(tickFrames);
+        this.explosionUpdate = () -> manager.updateExplosions(tickFrames);
+    }
+
+    public void setSounds(SoundEffect laserSound, SoundEffect hitSound, SoundEffect explodeSound,
+                          SoundEffect bossMusic, SoundEffect bossStageMusic) {
+        this.laserSound = laserSound;
+        this.hitSound = hitSound;
+        this.explodeSound = explodeSound;
+        this.bossMusic = bossMusic;
+        this.bossStageMusic = bossStageMusic;
+    }
+
+    // Starts a new game that plays out exactly like any other game started from this seed
+    public void reset(long seed) {
+        random.reseed(seed);
+        nextGameSeed = new SplittableRandom(seed).nextLong();
+        startNewGame();
+    }
+
+    /**
+     * Puts everything back to the start of a fresh game. The first game is played from the seed the
+     * simulation was created with and each later one from a seed derived from the game before.
+     */
+    public void reset() {
+        reset(nextGameSeed);
+    }
+
+    private void startNewGame() {
+        gameOver = false;
+        bossDefeated = false;
+        tickCount = 0;
+        clock.reset(); // Nothing below keeps a timestamp from the old game
+        gameState.reset();
+        playerShip.resetForNewGame();
+        playerShip.reset(840, 450, 5);
+        playerShip.resetHealth();
+        gameEntityManager.reset();
+
+        canSummonDrone = true;
+        lastDroneTime = GameClock.NEVER;
+        drone = null;
+
+        shipAI = new ShipAI(playerShip, gameEntityManager, width, height, laserSound);
+        publishGauges();
+    }
+
+    /**
+     * Advances the game by one tick of {@code deltaSeconds}. Meant to be called at a fixed rate
+     * (see {@link FixedTimestep}); movement scales with the tick length.
+     */
+    public void tick(PlayerInput input, double deltaSeconds) {
+        if (gameOver) {
+            return;
+        }
+        double frames = deltaSeconds * REFERENCE_TICK_RATE;
+        if (tickCount % RANDOM_EPOCH_TICKS == 0) {
+            random.rekey(tickCount);
+        }
+        tickCount++;
+        metrics.increment(GameMetrics.Counter.TICKS);
+        clock.advance(deltaSeconds);
+
+        long t = profiler.start();
+        savePositions();
+        checkShipAIMode(input);
+
+        if (aiMode && shipAI != null) {
+            shipAI.update(frames);
+        } else {
+            updatePlayerShip(input, frames);
+            handleDroneSummon(input, frames);
+        }
+        playerShip.advanceAnimation();
+        profiler.end(FrameProfiler.Phase.PLAYER, t);
+
+        // Spawning, movement and particles share nothing with each other until collisions, so these
+        // may run side by side; the graph keeps any two that do share state in this order
+        tickSeconds = deltaSeconds;
+        tickFrames = frames;
+        boolean bossStage = gameEntityManager.isBossActive();
+        systems.add(FrameProfiler.Phase.SPAWNING, 0, ASTEROIDS | ENEMY_SHIPS | SPAWN_STREAM | ASTEROID_STREAM | ENEMY_STREAM,
+                spawnUpdate); // Time-based spawning for consistent behavior across FPS
+        if (!bossStage) {
+            systems.add(FrameProfiler.Phase.BULLETS, 0, BULLETS, bulletUpdate);
+            systems.add(FrameProfiler.Phase.ENEMIES, PLAYER, ENEMY_SHIPS | BULLETS | ENEMY_STREAM, enemyUpdate);
+            systems.add(FrameProfiler.Phase.ASTEROIDS, 0, ASTEROIDS, asteroidUpdate);
+        } else {
+            systems.add(FrameProfiler.Phase.BOSS, 0, BOSS | BULLETS | BOSS_STREAM, bossUpdate);
+            systems.add(FrameProfiler.Phase.BULLETS, 0, BULLETS, bulletUpdate);
+        }
+        systems.add(FrameProfiler.Phase.EXPLOSIONS, 0, PARTICLES | PARTICLE_STREAM, explosionUpdate);
+        systems.run(profiler);
+
+        if (!bossStage) {
+            checkBossStage();
+            checkCheatMode(input);
+        }
+
+        t = profiler.start(); // Boss stage changes above are rare and left out
+        gameEntityManager.checkCollisions(gameState, playerShip, hitSound, explodeSound, logger);
+        profiler.end(FrameProfiler.Phase.COLLISIONS, t);
+
+        // The boss dies to a bullet in the collision pass above, so this is where the stage ends
+        if (bossStage && !gameEntityManager.isBossActive()) {
+            bossDefeated = true;
+            bossStageMusic.stop();
+            StageTransitionEvent.emit(StageTransitionEvent.BOSS_DEFEATED, clock.millis());
+            logger.info("Boss defeated, returning to normal stage.");
+        }
+
+        if (gameState.isGameOver()) {
+            gameOver = true;
+            bossStageMusic.stop();
+            explodeSound.play();
+            logger.warning("Game Over! Final Score: " + gameState.getScore());
+        }
+
+        if (!aiMode && input.isShootingPressed()) {
+            t = profiler.start();
+            fireBullet(input);
+            profiler.end(FrameProfiler.Phase.PLAYER, t);
+        }
+        publishGauges();
+    }
+
+    // A few stores that never wait, read whenever someone scrapes the metrics
+    private void publishGauges() {
+        metrics.set(GameMetrics.Gauge.ASTEROIDS, gameEntityManager.getAsteroids().size());
+        metrics.set(GameMetrics.Gauge.ENEMY_SHIPS, gameEntityManager.getEnemyShips().size());
+        metrics.set(GameMetrics.Gauge.BULLETS, gameEntityManager.getBulletSystem().getLiveCount());
+        metrics.set(GameMetrics.Gauge.BOSS, gameEntityManager.getBoss() != null ? 1 : 0);
+        metrics.set(GameMetrics.Gauge.PARTICLES, gameEntityManager.getParticleEngine().getLiveCount());
+        metrics.set(GameMetrics.Gauge.SCORE, gameState.getScore());
+        metrics.set(GameMetrics.Gauge.LEVEL, gameState.getLevel());
+        metrics.set(GameMetrics.Gauge.LIVES, gameState.getLives());
+    }
+
+    /**
+     * Everything needed to carry on exactly where the game is now, as long as the state is taken
+     * between ticks and {@link #isAtRandomEpoch()} holds. Sounds and particles are not included.
+     */
+    public byte[] saveState() {
+        if (!isAtRandomEpoch()) {
+            throw new GameException("Game state can only be saved on a random epoch, not at tick " + tickCount);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeState(out);
+        } catch (IOException e) {
+            throw new GameException("Failed to save game state", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public void restoreState(byte[] state) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(state))) {
+            readState(in);
+        } catch (IOException e) {
+            throw new GameException("Failed to restore game state", e);
+        }
+        publishGauges();
+    }
+
+    // True between ticks where the next tick rekeys the random streams
+    public boolean isAtRandomEpoch() {
+        return tickCount % RANDOM_EPOCH_TICKS == 0;
+    }
+
+    private void writeState(DataOutput out) throws IOException {
+        out.writeLong(random.getSeed());
+        out.writeLong(tickCount);
+        out.writeLong(clock.getElapsedNanos());
+        out.writeBoolean(gameOver);
+        out.writeBoolean(bossDefeated);
+        out.writeBoolean(aiMode);
+        out.writeBoolean(canSummonDrone);
+        out.writeLong(lastDroneTime);
+        out.writeBoolean(isMovingLeft);
+        out.writeBoolean(isMovingRight);
+        out.writeBoolean(isMovingUp);
+        out.writeBoolean(isMovingDown);
+        gameState.writeState(out);
+        playerShip.writeState(out);
+        out.writeBoolean(drone != null);
+        if (drone != null) {
+            drone.writeState(out);
+        }
+        out.writeBoolean(shipAI != null);
+        if (shipAI != null) {
+            out.writeLong(shipAI.getLastShootTime());
+        }
+        gameEntityManager.writeState(out);
+    }
+
+    private void readState(DataInput in) throws IOException {
+        random.reseed(in.readLong());
+        tickCount = in.readLong();
+        random.rekey(tickCount);
+        clock.setElapsedNanos(in.readLong());
+        gameOver = in.readBoolean();
+        bossDefeated = in.readBoolean();
+        aiMode = in.readBoolean();
+        canSummonDrone = in.readBoolean();
+        lastDroneTime = in.readLong();
+        isMovingLeft = in.readBoolean();
+        isMovingRight = in.readBoolean();
+        isMovingUp = in.readBoolean();
+        isMovingDown = in.readBoolean();
+        gameState.readState(in);
+        playerShip.readState(in);
+        drone = null;
+        if (in.readBoolean()) {
+            drone = new Drone(playerShip, gameEntityManager);
+            drone.readState(in);
+        }
+        shipAI = null;
+        if (in.readBoolean()) {
+            shipAI = new ShipAI(playerShip, gameEntityManager, width, height, laserSound);
+            shipAI.setLastShootTime(in.readLong());
+        }
+        gameEntityManager.readState(in);
+    }
+
+    private void savePositions() {
+        playerShip.savePosition();
+        if (drone != null) {
+            drone.savePosition();
+        }
+        gameEntityManager.savePositions();
+    }
+
+    private void checkBossStage() {
+        if (!gameEntityManager.isBossActive() && !bossDefeated) {
+            // Use a soft gate: trigger once when passing threshold, then require next multiple
+            int score = gameState.getScore();
+            if (score >= BOSS_TRIGGER_SCORE && (score / BOSS_TRIGGER_SCORE) >= gameState.getLevel()) {
+                gameEntityManager.startBossStage(bossMusic);
+                bossStageMusic.play();
+                logger.info("Boss stage started, playing boss stage music.");
+                gameState.nextLevel();
+            }
+        }
+    }
+
+    private void checkShipAIMode(PlayerInput input) {
+        if (input.isAIModeActive()) {
+            if (!aiMode) {
+                aiMode = true; // Activate AI mode
+                shipAI = new ShipAI(playerShip, gameEntityManager, width, height, laserSound);
+                logger.info("AI Mode activated");
+            }
+        }
+
+        if (input.isAIModeDeactivate()) {
+            if (aiMode) {
+                aiMode = false; // Deactivate AI mode
+                shipAI = null;
+                logger.info("AI Mode deactivated");
+            }
+        }
+    }
+
+    private void checkCheatMode(PlayerInput input) {
+        if (input.isCheatModeEnabled() && !gameEntityManager.isBossActive()) {
+            gameEntityManager.startBossStage(bossMusic);
+            bossStageMusic.play(); // Play the boss stage background music when cheat mode activates the boss
+            logger.info("Cheat mode activated: Boss stage started.");
+        }
+    }
+
+    private void fireBullet(PlayerInput input) {
+        // Player's bullet
+        Bullet bullet = playerShip.fireBullet(input);
+        if (bullet != null) {
+            gameEntityManager.addBullet(bullet);
+            laserSound.play();
+        }
+
+        // If the drone is active, make it fire as well
+        if (drone != null && drone.isActive()) {
+            drone.handleShooting(true); // Trigger drone shooting when the player shoots
+        }
+    }
+
+    private void updatePlayerShip(PlayerInput input, double frames) {
+        if (input.isLeftPressed()) {
+            if (!isMovingLeft) {
+                logger.info("PlayerShip moved left");
+                isMovingLeft = true;
+            }
+            playerShip.moveHorizontallyLeft(frames);
+        } else {
+            isMovingLeft = false;
+        }
+
+        // Check for right movement input
+        if (input.isRightPressed()) {
+            if (!isMovingRight) {
+                logger.info("PlayerShip moved right");
+                isMovingRight = true;
+            }
+            playerShip.moveHorizontallyRight(frames);
+        } else {
+            isMovingRight = false;
+        }
+
+        // Check for up movement input
+        if (input.isUpPressed()) {
+            if (!isMovingUp) {
+                logger.info("PlayerShip moved up");
+                isMovingUp = true;
+            }
+            playerShip.moveVerticallyUp(frames);
+        } else {
+            isMovingUp = false;
+        }
+
+        if (input.isDownPressed()) {
+            if (!isMovingDown) {
+                logger.info("PlayerShip moved down");
+                isMovingDown = true;
+            }
+            playerShip.moveVerticallyDown(frames);
+        } else {
+            isMovingDown = false;
+        }
+
+        playerShip.rotateToMouse(input.getMouseX(), input.getMouseY());
+
+        playerShip.updateShield();
+        playerShip.move(frames);
+        playerShip.handleScreenEdges(width, height);
+    }
+
+    private void handleDroneSummon(PlayerInput input, double frames) {
+        long currentTime = clock.millis();
+
+        if (input.isSummonDrone() && canSummonDrone) {
+            drone = new Drone(playerShip, gameEntityManager);
+            drone.activate();
+            canSummonDrone = false;
+            lastDroneTime = currentTime;
+            logger.info("Drone summoned!");
+        }
+
+        if (drone != null && drone.isActive()) {
+            drone.update(input.isShootingPressed(), frames);
+        }
+
+        if (!canSummonDrone && currentTime - lastDroneTime >= DRONE_COOLDOWN) {
+            canSummonDrone = true;
+            logger.info("Drone is ready to be summoned again.");
+        }
+    }
+
+    // Milliseconds until the drone can be summoned again, 0 or less when it is ready
+    public long getDroneCooldownRemainingMs() {
+        return lastDroneTime + DRONE_COOLDOWN - clock.millis();
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    // Ticks run since the last reset
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public boolean isAiMode() {
+        return aiMode;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    // getRandom().getSeed() is the seed of the game being played
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    // Shared with the renderer, which times its own phases and closes each frame
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Replaces how the tick's systems are run; the game plays out the same with any number of
+     * workers. The old graph is closed.
+     */
+    public void setTaskGraph(TaskGraph systems) {
+        this.systems.close();
+        this.systems = systems;
+    }
+
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public GameEntityManager getEntityManager() {
+        return gameEntityManager;
+    }
+
+    public PlayerShip getPlayerShip() {
+        return playerShip;
+    }
+
+    public Drone getDrone() {
+        return drone;
+    }
+}
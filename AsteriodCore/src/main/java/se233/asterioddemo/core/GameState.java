@@ -1,4 +1,8 @@
-package se233.asterioddemo;
+package se233.asterioddemo.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 public class GameState {
     private int score;
@@ -54,6 +58,20 @@ public class GameState {
         level++;
     }
 
+    void writeState(DataOutput out) throws IOException {
+        out.writeInt(score);
+        out.writeInt(lives);
+        out.writeInt(level);
+        out.writeBoolean(gameOver);
+    }
+
+    void readState(DataInput in) throws IOException {
+        score = in.readInt();
+        lives = in.readInt();
+        level = in.readInt();
+        gameOver = in.readBoolean();
+    }
+
     public void reset() {
         this.score = 0;
         this.lives = 3;
@@ -0,0 +1,80 @@
+package se233.asterioddemo.core;
+
+import se233.asterioddemo.metrics.MetricsServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Runs the simulation with no window, the AI pilot flying, and reports how many ticks per second
+ * the core manages on its own and how much faster than real time that is. Starts a new game whenever the AI dies.
+ *
+ * <pre>
+ * mvn -q -pl AsteriodCore compile exec:java -Dexec.mainClass=se233.asterioddemo.core.HeadlessRunner -Dexec.args="100000 42"
+ * </pre>
+ * The optional second argument is the seed; the same seed always gives the same games and score.
+ * Afterwards it prints the per-phase tick-time percentiles from the {@link FrameProfiler}.
+ * With {@code -Dasteroidx.metricsPort} set the run can be scraped while it goes, see {@link MetricsServer}.
+ */
+public final class HeadlessRunner {
+    private static final double TICK_SECONDS = 1.0 / 60.0;
+
+    private HeadlessRunner() {
+    }
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : new GameRandom().getSeed();
+
+        GameSimulation simulation = new GameSimulation(1280, 720, seed);
+        PlayerInput input = new AiPilotInput();
+        simulation.reset();
+        MetricsServer metricsServer = MetricsServer.startIfConfigured(simulation);
+
+        int games = 1;
+        FrameProfiler profiler = simulation.getProfiler();
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            // Without a display every tick is a frame of its own
+            profiler.beginFrame();
+            simulation.tick(input, TICK_SECONDS);
+            profiler.endFrame();
+            if (simulation.isGameOver()) {
+                simulation.reset();
+                games++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        if (metricsServer != null) {
+            metricsServer.close();
+        }
+
+        // Everything runs on the simulation's GameClock, so game time races ahead of the wall clock
+        double gameSeconds = ticks * TICK_SECONDS;
+        System.out.printf("%d ticks in %.2f s (%.0f ticks/s, %.0fx real time), seed %d, %d games, final score %d%n",
+                ticks, seconds, ticks / seconds, gameSeconds / seconds, seed, games, simulation.getGameState().getScore());
+        try {
+            profiler.writeReport(System.out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Switches AI mode on and otherwise leaves every control released
+    private static final class AiPilotInput implements PlayerInput {
+        @Override public boolean isLeftPressed() { return false; }
+        @Override public boolean isRightPressed() { return false; }
+        @Override public boolean isUpPressed() { return false; }
+        @Override public boolean isDownPressed() { return false; }
+        @Override public boolean isShootingPressed() { return false; }
+        @Override public boolean isCheatModeEnabled() { return false; }
+        @Override public boolean isAIModeActive() { return true; }
+        @Override public boolean isAIModeDeactivate() { return false; }
+        @Override public boolean isShurikenMode() { return false; }
+        @Override public boolean isPluseMode() { return false; }
+        @Override public boolean isDefaultMode() { return false; }
+        @Override public boolean isSummonDrone() { return false; }
+        @Override public double getMouseX() { return 0; }
+        @Override public double getMouseY() { return 0; }
+    }
+}
@@ -0,0 +1,49 @@
+package se233.asterioddemo.core;
+
+/**
+ * Colours used by the simulation, as packed 0xAARRGGBB ints so the core does not depend on JavaFX.
+ * Values match the JavaFX named colours of the same name.
+ */
+public final class Palette {
+    public static final int WHITE = 0xFFFFFFFF;
+    public static final int GRAY = 0xFF808080;
+    public static final int DARKGRAY = 0xFFA9A9A9;
+    public static final int LIGHTGRAY = 0xFFD3D3D3;
+    public static final int BROWN = 0xFFA52A2A;
+    public static final int ORANGE = 0xFFFFA500;
+    public static final int YELLOW = 0xFFFFFF00;
+    public static final int RED = 0xFFFF0000;
+    public static final int DARKRED = 0xFF8B0000;
+    public static final int GREEN = 0xFF008000;
+    public static final int DARKGREEN = 0xFF006400;
+    public static final int BLUE = 0xFF0000FF;
+    public static final int DARKBLUE = 0xFF00008B;
+    public static final int CYAN = 0xFF00FFFF;
+    public static final int MAGENTA = 0xFFFF00FF;
+
+    private static final double BRIGHTER_FACTOR = 1.0 / 0.7;
+
+    private Palette() {
+    }
+
+    // Same as JavaFX Color.brighter(): raise the HSB brightness, keeping hue and saturation
+    public static int brighter(int argb) {
+        int red = (argb >> 16) & 0xff;
+        int green = (argb >> 8) & 0xff;
+        int blue = argb & 0xff;
+        int max = Math.max(red, Math.max(green, blue));
+        if (max == 0) {
+            return argb;
+        }
+        double scale = Math.min(BRIGHTER_FACTOR, 255.0 / max);
+        return (argb & 0xff000000)
+                | ((int) Math.round(red * scale) << 16)
+                | ((int) Math.round(green * scale) << 8)
+                | (int) Math.round(blue * scale);
+    }
+
+    public static int withOpacity(int argb, double opacity) {
+        int alpha = (int) Math.round(((argb >>> 24) / 255.0) * opacity * 255);
+        return (alpha << 24) | (argb & 0x00ffffff);
+    }
+}
@@ -0,0 +1,109 @@
+package se233.asterioddemo.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+
+/**
+ * Runs an update over the indices {@code [0, count)} as contiguous chunks on a fork-join pool, so
+ * each worker walks its own run of neighbouring entities. Below the threshold everything runs on
+ * the calling thread, since waking the pool would cost more than the work.
+ * <p>
+ * The game's threshold comes from {@code -Dasteroidx.parallelThreshold}; benchmarks build their
+ * own to find where splitting starts to pay.
+ */
+public final class ParallelRange {
+    private static final Logger logger = Logger.getLogger(ParallelRange.class.getName());
+
+    public static final String THRESHOLD_PROPERTY = "asteroidx.parallelThreshold";
+    public static final int DEFAULT_THRESHOLD = 8192;
+    public static final int DEFAULT_CHUNK = 1024;
+
+    @FunctionalInterface
+    public interface Chunk {
+        void run(int from, int to);
+    }
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final int chunkSize;
+
+    public ParallelRange(ForkJoinPool pool, int threshold, int chunkSize) {
+        if (threshold < 0 || chunkSize < 1) {
+            throw new IllegalArgumentException("Need a threshold of at least 0 and chunks of at least 1, got "
+                    + threshold + " and " + chunkSize);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * The common pool with the threshold from {@code -Dasteroidx.parallelThreshold}, or
+     * {@link #DEFAULT_THRESHOLD} when it is unset or not a count.
+     */
+    public static ParallelRange fromSystemProperties() {
+        String value = System.getProperty(THRESHOLD_PROPERTY);
+        int threshold = DEFAULT_THRESHOLD;
+        if (value != null) {
+            try {
+                threshold = Integer.parseInt(value.trim());
+                if (threshold < 0) {
+                    throw new NumberFormatException();
+                }
+                logger.info("Moving entities in parallel from " + threshold + " of a kind");
+            } catch (NumberFormatException e) {
+                logger.warning("Unsupported " + THRESHOLD_PROPERTY + " '" + value + "', using " + DEFAULT_THRESHOLD);
+                threshold = DEFAULT_THRESHOLD;
+            }
+        }
+        return new ParallelRange(ForkJoinPool.commonPool(), threshold, DEFAULT_CHUNK);
+    }
+
+    // Whether forEach would hand this many indices to the pool
+    public boolean isParallel(int count) {
+        return count >= threshold && count > chunkSize && pool.getParallelism() > 1;
+    }
+
+    /**
+     * Calls {@code chunk} over disjoint ranges that together cover {@code [0, count)}, and returns
+     * once all have run. Chunks may run at the same time, so each must only touch its own indices.
+     */
+    public void forEach(int count, Chunk chunk) {
+        if (!isParallel(count)) {
+            if (count > 0) {
+                chunk.run(0, count);
+            }
+            return;
+        }
+        pool.invoke(new Split(chunk, 0, count, chunkSize));
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    // Halves the range on chunk boundaries until each piece is one chunk
+    private static final class Split extends RecursiveAction {
+        private final Chunk chunk;
+        private final int from, to, chunkSize;
+
+        Split(Chunk chunk, int from, int to, int chunkSize) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            int chunks = (to - from + chunkSize - 1) / chunkSize;
+            if (chunks <= 1) {
+                chunk.run(from, to);
+                return;
+            }
+            int mid = from + (chunks / 2) * chunkSize;
+            invokeAll(new Split(chunk, from, mid, chunkSize), new Split(chunk, mid, to, chunkSize));
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package se233.asterioddemo.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Shared storage and simulation for every explosion particle in the game.
+ * <p>
+ * Particles live in preallocated primitive arrays, one ring buffer per draw layer, kept in spawn
+ * order. Dead particles are squeezed out in place during {@link #update()}, so nothing is allocated
+ * after construction. The engine enforces a global particle budget: when it is full, the oldest
+ * particle across all layers is evicted to make room. {@link ExplosionEffect} and
+ * {@link ShipExplosionEffect} only decide what to spawn; the renderer walks the layers read-only
+ * through {@link #getParticleCount(int)} and {@link #slot(int, int)}.
+ */
+public class ParticleEngine {
+    // Draw layers, back to front
+    public static final int LAYER_BACK = 0;   // Smoke and plasma
+    public static final int LAYER_MIDDLE = 1; // Debris
+    public static final int LAYER_FRONT = 2;  // Sparks, cores and arcs
+    public static final int LAYER_COUNT = 3;
+
+    // Particle kinds: asteroid explosions, then ship explosions
+    public static final int DEBRIS = 0;
+    public static final int SPARK = 1;
+    public static final int SMOKE = 2;
+    public static final int CORE = 3;
+    public static final int SHIP_DEBRIS = 4;
+    public static final int ENERGY_SPARK = 5;
+    public static final int PLASMA_CLOUD = 6;
+    public static final int CORE_BURST = 7;
+    public static final int ELECTRIC_ARC = 8;
+    private static final int KIND_COUNT = 9;
+
+    // Per-kind behaviour, indexed by kind
+    private static final int[] LAYER = {
+            LAYER_MIDDLE, LAYER_FRONT, LAYER_BACK, LAYER_FRONT,
+            LAYER_MIDDLE, LAYER_FRONT, LAYER_BACK, LAYER_FRONT, LAYER_FRONT
+    };
+    private static final double[] DRAG = {0.98, 0.95, 0.99, 0.9, 0.98, 0.98, 0.98, 0.98, 0.98};
+    private static final double[] GRAVITY = {0.2, 0.1, -0.05, 0, 0, 0, 0, 0, 0}; // Smoke rises
+    private static final double[] GROWTH = {0.97, 0.97, 1.02, 0.97, 0.97, 0.97, 1.03, 1.0, 0.97};
+    private static final boolean[] ADDITIVE = {false, true, false, false, false, true, false, false, false};
+    private static final boolean[] FLICKERS = {false, false, false, false, false, true, false, false, true};
+
+    public static final int MAX_ARC_POINTS = 5;
+
+    private final Layer[] layers = new Layer[LAYER_COUNT];
+    private final int budget;
+    private final GameRandom random;
+    // Per-kind drag and growth for the current tick length, recomputed once per update
+    private final double[] drag = new double[KIND_COUNT];
+    private final double[] growth = new double[KIND_COUNT];
+    private int liveCount = 0;
+    private long nextBirth = 0;
+
+    public ParticleEngine(int budget) {
+        this(budget, new GameRandom());
+    }
+
+    public ParticleEngine(int budget, GameRandom random) {
+        this.budget = budget;
+        this.random = random;
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            // Any single layer may end up holding the whole budget
+            layers[i] = new Layer(budget);
+        }
+    }
+
+    /**
+     * Adds one particle. Electric arcs get a random jagged shape of {@code arcSegments} points.
+     *
+     * @param flicker base opacity for flickering kinds, ignored for the others
+     */
+    public void spawn(int kind, double x, double y, double velocityX, double velocityY,
+                      double rotation, double rotationSpeed, double size, double life,
+                      int primary, int secondary, double flicker, int arcSegments) {
+        if (liveCount == budget) {
+            evictOldest();
+        }
+
+        Layer layer = layers[LAYER[kind]];
+        int i = layer.slot(layer.count);
+        layer.kind[i] = kind;
+        layer.x[i] = x;
+        layer.y[i] = y;
+        layer.prevX[i] = x;
+        layer.prevY[i] = y;
+        layer.vx[i] = velocityX;
+        layer.vy[i] = velocityY;
+        layer.rotation[i] = rotation;
+        layer.rotationSpeed[i] = rotationSpeed;
+        layer.size[i] = size;
+        layer.life[i] = life;
+        layer.maxLife[i] = life;
+        layer.flicker[i] = flicker;
+        layer.primary[i] = primary;
+        layer.secondary[i] = secondary;
+        layer.birth[i] = nextBirth++;
+
+        if (kind == ELECTRIC_ARC) {
+            int segments = Math.min(arcSegments, MAX_ARC_POINTS);
+            layer.arcPoints[i] = segments;
+            layer.arcStep[i] = size / segments;
+            SplittableRandom random = getRandom();
+            double currentY = 0;
+            int base = i * MAX_ARC_POINTS;
+            layer.arcY[base] = 0;
+            for (int p = 1; p < segments; p++) {
+                currentY += (random.nextDouble() - 0.5) * layer.arcStep[i];
+                layer.arcY[base + p] = currentY;
+            }
+        }
+
+        layer.count++;
+        liveCount++;
+    }
+
+    public void update() {
+        update(1.0);
+    }
+
+    // Advances every particle by one tick covering {@code frames} 60 Hz frames
+    public void update(double frames) {
+        for (int kind = 0; kind < KIND_COUNT; kind++) {
+            drag[kind] = frames == 1.0 ? DRAG[kind] : Math.pow(DRAG[kind], frames);
+            growth[kind] = frames == 1.0 ? GROWTH[kind] : Math.pow(GROWTH[kind], frames);
+        }
+
+        for (Layer layer : layers) {
+            int write = 0;
+            for (int read = 0; read < layer.count; read++) {
+                int i = layer.slot(read);
+                int kind = layer.kind[i];
+
+                layer.prevX[i] = layer.x[i];
+                layer.prevY[i] = layer.y[i];
+                layer.vx[i] *= drag[kind];
+                layer.vy[i] *= drag[kind];
+                layer.vy[i] += GRAVITY[kind] * frames;
+                layer.x[i] += layer.vx[i] * frames;
+                layer.y[i] += layer.vy[i] * frames;
+                layer.rotation[i] += layer.rotationSpeed[i] * frames;
+                layer.life[i] -= frames;
+                layer.size[i] *= growth[kind];
+
+                if (kind == ELECTRIC_ARC) {
+                    // Makes the arc crackle
+                    SplittableRandom random = getRandom();
+                    int base = i * MAX_ARC_POINTS;
+                    for (int p = 0; p < layer.arcPoints[i]; p++) {
+                        layer.arcY[base + p] += (random.nextDouble() - 0.5) * 2;
+                    }
+                }
+
+                if (layer.life[i] <= 0 || layer.size[i] < 0.5) {
+                    liveCount--;
+                    continue;
+                }
+                if (write != read) {
+                    layer.move(i, layer.slot(write));
+                }
+                write++;
+            }
+            layer.count = write;
+        }
+    }
+
+    private void evictOldest() {
+        Layer oldest = null;
+        for (Layer layer : layers) {
+            if (layer.count > 0 && (oldest == null || layer.birth[layer.head] < oldest.birth[oldest.head])) {
+                oldest = layer;
+            }
+        }
+        if (oldest != null) {
+            oldest.head = oldest.slot(1);
+            oldest.count--;
+            liveCount--;
+        }
+    }
+
+    public static boolean isAdditive(int kind) {
+        return ADDITIVE[kind];
+    }
+
+    public static boolean flickers(int kind) {
+        return FLICKERS[kind];
+    }
+
+    public int getParticleCount(int layer) {
+        return layers[layer].count;
+    }
+
+    /**
+     * @return the array slot of the {@code n}-th oldest particle in {@code layer}
+     */
+    public int slot(int layer, int n) {
+        return layers[layer].slot(n);
+    }
+
+    public int getKind(int layer, int slot) {
+        return layers[layer].kind[slot];
+    }
+
+    public double getX(int layer, int slot) {
+        return layers[layer].x[slot];
+    }
+
+    public double getY(int layer, int slot) {
+        return layers[layer].y[slot];
+    }
+
+    public double getPrevX(int layer, int slot) {
+        return layers[layer].prevX[slot];
+    }
+
+    public double getPrevY(int layer, int slot) {
+        return layers[layer].prevY[slot];
+    }
+
+    public double getRotation(int layer, int slot) {
+        return layers[layer].rotation[slot];
+    }
+
+    public double getSize(int layer, int slot) {
+        return layers[layer].size[slot];
+    }
+
+    // Remaining life as a fraction of the starting life
+    public double getLifeFraction(int layer, int slot) {
+        return layers[layer].life[slot] / layers[layer].maxLife[slot];
+    }
+
+    public double getFlicker(int layer, int slot) {
+        return layers[layer].flicker[slot];
+    }
+
+    public int getPrimaryColor(int layer, int slot) {
+        return layers[layer].primary[slot];
+    }
+
+    public int getSecondaryColor(int layer, int slot) {
+        return layers[layer].secondary[slot];
+    }
+
+    public int getArcPointCount(int layer, int slot) {
+        return layers[layer].arcPoints[slot];
+    }
+
+    public double getArcStep(int layer, int slot) {
+        return layers[layer].arcStep[slot];
+    }
+
+    public double getArcY(int layer, int slot, int point) {
+        return layers[layer].arcY[slot * MAX_ARC_POINTS + point];
+    }
+
+    public SplittableRandom getRandom() {
+        return random.get(GameRandom.Stream.PARTICLES);
+    }
+
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    public boolean isActive() {
+        return liveCount > 0;
+    }
+
+    public void clear() {
+        for (Layer layer : layers) {
+            layer.head = 0;
+            layer.count = 0;
+        }
+        liveCount = 0;
+    }
+
+    /**
+     * Makes this engine an exact copy of another with the same budget, copying only the live part
+     * of each ring, for a snapshot the renderer can read while the original moves on.
+     */
+    public void copyFrom(ParticleEngine source) {
+        if (source.budget != budget) {
+            throw new IllegalArgumentException("Particle budgets differ: " + source.budget + " and " + budget);
+        }
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            layers[i].copyFrom(source.layers[i]);
+        }
+        liveCount = source.liveCount;
+        nextBirth = source.nextBirth;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    // Ring buffer of particles for one draw layer, oldest at head
+    private static final class Layer {
+        final int capacity;
+        final int[] kind;
+        final double[] x, y, prevX, prevY, vx, vy;
+        final double[] rotation, rotationSpeed;
+        final double[] size, life, maxLife, flicker;
+        final int[] primary, secondary; // Packed ARGB, see Palette
+        final long[] birth;
+        final int[] arcPoints;
+        final double[] arcStep;
+        final double[] arcY;
+        int head = 0;
+        int count = 0;
+
+        Layer(int capacity) {
+            this.capacity = capacity;
+            kind = new int[capacity];
+            x = new double[capacity];
+            y = new double[capacity];
+            prevX = new double[capacity];
+            prevY = new double[capacity];
+            vx = new double[capacity];
+            vy = new double[capacity];
+            rotation = new double[capacity];
+            rotationSpeed = new double[capacity];
+            size = new double[capacity];
+            life = new double[capacity];
+            maxLife = new double[capacity];
+            flicker = new double[capacity];
+            primary = new int[capacity];
+            secondary = new int[capacity];
+            birth = new long[capacity];
+            arcPoints = new int[capacity];
+            arcStep = new double[capacity];
+            arcY = new double[capacity * MAX_ARC_POINTS];
+        }
+
+        int slot(int offset) {
+            int i = head + offset;
+            return i >= capacity ? i - capacity : i;
+        }
+
+        void copyFrom(Layer source) {
+            head = source.head;
+            count = source.count;
+            // The live particles run from head, wrapping at most once
+            int first = Math.min(count, capacity - head);
+            copySlots(source, head, first);
+            copySlots(source, 0, count - first);
+        }
+
+        private void copySlots(Layer source, int from, int length) {
+            if (length == 0) {
+                return;
+            }
+            System.arraycopy(source.kind, from, kind, from, length);
+            System.arraycopy(source.x, from, x, from, length);
+            System.arraycopy(source.y, from, y, from, length);
+            System.arraycopy(source.prevX, from, prevX, from, length);
+            System.arraycopy(source.prevY, from, prevY, from, length);
+            System.arraycopy(source.vx, from, vx, from, length);
+            System.arraycopy(source.vy, from, vy, from, length);
+            System.arraycopy(source.rotation, from, rotation, from, length);
+            System.arraycopy(source.rotationSpeed, from, rotationSpeed, from, length);
+            System.arraycopy(source.size, from, size, from, length);
+            System.arraycopy(source.life, from, life, from, length);
+            System.arraycopy(source.maxLife, from, maxLife, from, length);
+            System.arraycopy(source.flicker, from, flicker, from, length);
+            System.arraycopy(source.primary, from, primary, from, length);
+            System.arraycopy(source.secondary, from, secondary, from, length);
+            System.arraycopy(source.birth, from, birth, from, length);
+            System.arraycopy(source.arcPoints, from, arcPoints, from, length);
+            System.arraycopy(source.arcStep, from, arcStep, from, length);
+            System.arraycopy(source.arcY, from * MAX_ARC_POINTS, arcY, from * MAX_ARC_POINTS, length * MAX_ARC_POINTS);
+        }
+
+        void move(int from, int to) {
+            kind[to] = kind[from];
+            x[to] = x[from];
+            y[to] = y[from];
+            prevX[to] = prevX[from];
+            prevY[to] = prevY[from];
+            vx[to] = vx[from];
+            vy[to] = vy[from];
+            rotation[to] = rotation[from];
+            rotationSpeed[to] = rotationSpeed[from];
+            size[to] = size[from];
+            life[to] = life[from];
+            maxLife[to] = maxLife[from];
+            flicker[to] = flicker[from];
+            primary[to] = primary[from];
+            secondary[to] = secondary[from];
+            birth[to] = birth[from];
+            if (kind[from] == ELECTRIC_ARC) {
+                arcPoints[to] = arcPoints[from];
+                arcStep[to] = arcStep[from];
+                System.arraycopy(arcY, from * MAX_ARC_POINTS, arcY, to * MAX_ARC_POINTS, MAX_ARC_POINTS);
+            }
+        }
+    }
+}
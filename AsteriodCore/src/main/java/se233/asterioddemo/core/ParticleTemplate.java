@@ -0,0 +1,93 @@
+package se233.asterioddemo.core;
+
+import java.util.Arrays;
+
+/**
+ * Pre-rolled initial state for every particle of one explosion, relative to its centre.
+ * <p>
+ * Emitters bake a few variants per size class once, then each explosion is a straight copy into
+ * the {@link ParticleEngine}, turned by a random angle so repeated explosions do not look identical.
+ */
+public class ParticleTemplate {
+    // Explosion sizes are grouped into classes of this width so a handful of templates cover them all
+    private static final double SIZE_CLASS_STEP = 5;
+
+    private int count = 0;
+    private int[] kind = new int[64];
+    private double[] vx = new double[64];
+    private double[] vy = new double[64];
+    private double[] rotation = new double[64];
+    private double[] rotationSpeed = new double[64];
+    private double[] size = new double[64];
+    private double[] life = new double[64];
+    private double[] flicker = new double[64];
+    private int[] primary = new int[64];
+    private int[] secondary = new int[64];
+    private int[] arcSegments = new int[64];
+
+    public static int sizeClass(double explosionSize) {
+        return (int) Math.round(explosionSize / SIZE_CLASS_STEP);
+    }
+
+    public static double classSize(int sizeClass) {
+        return sizeClass * SIZE_CLASS_STEP;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public void add(int particleKind, double velocityX, double velocityY, double rotationAngle,
+                    double particleRotationSpeed, double particleSize, double particleLife,
+                    int primaryColor, int secondaryColor, double particleFlicker, int particleArcSegments) {
+        if (count == kind.length) {
+            grow(count * 2);
+        }
+        kind[count] = particleKind;
+        vx[count] = velocityX;
+        vy[count] = velocityY;
+        rotation[count] = rotationAngle;
+        rotationSpeed[count] = particleRotationSpeed;
+        size[count] = particleSize;
+        life[count] = particleLife;
+        primary[count] = primaryColor;
+        secondary[count] = secondaryColor;
+        flicker[count] = particleFlicker;
+        arcSegments[count] = particleArcSegments;
+        count++;
+    }
+
+    /**
+     * Spawns every particle of the template around ({@code x}, {@code y}), with velocities and
+     * sprite rotations turned by {@code angle} radians.
+     */
+    public void emit(ParticleEngine engine, double x, double y, double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double degrees = Math.toDegrees(angle);
+        for (int i = 0; i < count; i++) {
+            engine.spawn(kind[i], x, y,
+                    vx[i] * cos - vy[i] * sin, vx[i] * sin + vy[i] * cos,
+                    rotation[i] + degrees, rotationSpeed[i], size[i], life[i],
+                    primary[i], secondary[i], flicker[i], arcSegments[i]);
+        }
+    }
+
+    public int getParticleCount() {
+        return count;
+    }
+
+    private void grow(int capacity) {
+        kind = Arrays.copyOf(kind, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        rotationSpeed = Arrays.copyOf(rotationSpeed, capacity);
+        size = Arrays.copyOf(size, capacity);
+        life = Arrays.copyOf(life, capacity);
+        flicker = Arrays.copyOf(flicker, capacity);
+        primary = Arrays.copyOf(primary, capacity);
+        secondary = Arrays.copyOf(secondary, capacity);
+        arcSegments = Arrays.copyOf(arcSegments, capacity);
+    }
+}
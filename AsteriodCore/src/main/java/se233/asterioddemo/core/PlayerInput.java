@@ -0,0 +1,35 @@
+package se233.asterioddemo.core;
+
+/**
+ * Input state the simulation reads once per tick. Implemented by the JavaFX {@code InputController}
+ * and by scripted inputs in headless runs.
+ */
+public interface PlayerInput {
+    boolean isLeftPressed();
+
+    boolean isRightPressed();
+
+    boolean isUpPressed();
+
+    boolean isDownPressed();
+
+    boolean isShootingPressed();
+
+    boolean isCheatModeEnabled();
+
+    boolean isAIModeActive();
+
+    boolean isAIModeDeactivate();
+
+    boolean isShurikenMode();
+
+    boolean isPluseMode();
+
+    boolean isDefaultMode();
+
+    boolean isSummonDrone();
+
+    double getMouseX();
+
+    double getMouseY();
+}
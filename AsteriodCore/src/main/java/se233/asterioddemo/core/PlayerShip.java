@@ -1,15 +1,10 @@
-package se233.asterioddemo;
+package se233.asterioddemo.core;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
-import se233.asterioddemo.exception.SpriteNotFoundException;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
-import java.util.ArrayList;
-import java.util.List;
-
-
-public class PlayerShip extends Character {
+public class PlayerShip extends FreeCharacter {
     private int health = 100;
     private double angle;
     private double velocityX = 0;
@@ -18,12 +13,9 @@ public class PlayerShip extends Character {
     private final double THRUST = 0.08;  // Power of thrust
     private final double DECELERATION = 0.98;  // Friction to slow down over time
     private boolean isThrusting = false;  // Track if the ship is thrusting
-    private Image shipImage;
-    private long lastBulletTime = 0;
+    private long lastBulletTime = GameClock.NEVER;
     private final long bulletCooldown = 150;
-    private SpriteLoader spriteLoader;
     private String bulletMode = "default";
-    private static List<Bullet> bullets = new ArrayList<>();
     private boolean isShieldActive = false;
     private double shieldAlpha = 0.0;
     private boolean isHit = false;
@@ -31,100 +23,41 @@ public class PlayerShip extends Character {
     private final long HIT_ANIMATION_DURATION = 500; // milliseconds
     private long shieldActivationTime = 0;
     private final long SHIELD_DURATION = 3000; // Shield lasts for 3 seconds
-    private AnimatedSprite shipSprite;
+    private int animationFrame = 0; // Advanced once per tick; the renderer maps it onto the sprite sheet
 
     // Invincibility frames after being hit
     private boolean isInvincible = false;
     private long invincibleUntilMs = 0;
     private static final long INVINCIBILITY_DURATION_MS = 700; // milliseconds
     private boolean tookDamageEvent = false; // consumed by outer game to trigger camera shake
+    private final GameClock clock;
 
-    public PlayerShip(double x, double y, double speed, double size, SpriteLoader spriteLoader) {
+    public PlayerShip(double x, double y, double speed, double size) {
+        this(x, y, speed, size, new GameClock());
+    }
+
+    public PlayerShip(double x, double y, double speed, double size, GameClock clock) {
         super(x, y, speed, size);
         this.angle = 0;
         this.health = 100;
-        this.spriteLoader = spriteLoader; // Assign the spriteLoader instance
-
-        try {
-            Image newShipImage = new Image(getClass().getResource("/sprite/newship.png").toExternalForm());
-            if (newShipImage.isError()) {
-                throw new SpriteNotFoundException("Failed to load ship sprite sheet");
-            }
-
-            int frameCount = 4; // Assuming 4 frames in a row
-            int frameWidth = 117;
-            int frameHeight = 117;
-            int columns = 4;
-            int rows = 1;
-
-            this.shipSprite = new AnimatedSprite(newShipImage, frameCount, columns, rows, 0, 0, frameWidth, frameHeight);
-        } catch (Exception e) {
-            System.err.print("");
-        }
-    }
-
-    @Override
-    public void draw(GraphicsContext gc) {
-        gc.save();
-        gc.translate(x, y);
-        gc.rotate(Math.toDegrees(angle));
-
-        // Hit animation effect
-        if (isHit) {
-            long currentTime = System.currentTimeMillis();
-            if (currentTime - hitAnimationStart < HIT_ANIMATION_DURATION) {
-                if ((currentTime / 100) % 2 == 0) {
-                    gc.setGlobalAlpha(0.5);
-                }
-            } else {
-                isHit = false;
-            }
-        }
-
-        // Update and draw the animated sprite for the ship
-        shipSprite.tick();
-        shipSprite.render(gc, -shipSprite.getWidth() / 2, -shipSprite.getHeight() / 2);
-
-        // Draw shield if active
-        if (isShieldActive) {
-            drawShield(gc, shipSprite.getWidth() * 1.2);
-        }
-
-        // Draw thrust effect
-        if (isThrusting) {
-            drawThrustEffect(gc);
-        }
-
-        gc.restore();
-    }
-
-
-    private void drawShield(GraphicsContext gc, double size) {
-        gc.setStroke(Color.rgb(100, 200, 255, shieldAlpha));
-        gc.setLineWidth(3);
-        gc.strokeOval(-size/2, -size/2, size, size);
-
-        // Add shield wave effect
-        double waveSize = size * (1 + Math.sin(System.currentTimeMillis() * 0.005) * 0.05);
-        gc.setStroke(Color.rgb(100, 200, 255, shieldAlpha * 0.5));
-        gc.strokeOval(-waveSize/2, -waveSize/2, waveSize, waveSize);
+        this.clock = clock;
     }
 
     public void activateShield() {
         isShieldActive = true;
         shieldAlpha = Math.min(shieldAlpha + 0.1, 0.7);
-        shieldActivationTime = System.currentTimeMillis();
+        shieldActivationTime = clock.millis();
     }
 
     public void updateShield() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
         if (isShieldActive && currentTime - shieldActivationTime >= SHIELD_DURATION) {
             deactivateShield();
         }
     }
 
     public void updateInvincibility() {
-        long now = System.currentTimeMillis();
+        long now = clock.millis();
         if (isInvincible && now >= invincibleUntilMs) {
             isInvincible = false;
         }
@@ -135,59 +68,9 @@ public class PlayerShip extends Character {
         shieldAlpha = Math.max(shieldAlpha - 0.1, 0);
     }
 
-    private void drawThrustEffect(GraphicsContext gc) {
-        double baseSize = shipImage.getHeight() * 0.2;
-        double time = System.currentTimeMillis() * 0.001;
-
-        // Main thrust
-        for (int i = 0; i < 3; i++) {
-            double flickerSize = baseSize * (1 + Math.sin(time * 10 + i) * 0.2);
-            double opacity = 0.7 - (i * 0.2);
-
-            gc.setGlobalAlpha(opacity);
-            gc.setFill(getFlameColor());
-
-            double flickerX = Math.sin(time * 20 + i) * baseSize * 0.1;
-            double[] xPoints = {
-                    flickerX,
-                    -flickerSize + flickerX,
-                    flickerSize + flickerX
-            };
-            double[] yPoints = {
-                    0,
-                    flickerSize * 1.5,
-                    flickerSize * 1.5
-            };
-
-            gc.fillPolygon(xPoints, yPoints, 3);
-        }
-
-        // Add particle effects
-        for (int i = 0; i < 2; i++) {
-            double particleSize = baseSize * 0.3;
-            double particleX = (Math.random() - 0.5) * baseSize;
-            double particleY = baseSize * 1.2 + Math.random() * baseSize * 0.5;
-
-            gc.setGlobalAlpha(0.3);
-            gc.setFill(Color.WHITE);
-            gc.fillOval(particleX - particleSize/2, particleY - particleSize/2,
-                    particleSize, particleSize);
-        }
-
-        gc.setGlobalAlpha(1.0);
-    }
-
-    private Color getFlameColor() {
-        // Returns different colors for flame variation
-        double random = Math.random();
-        if (random < 0.3) return Color.ORANGE;
-        if (random < 0.6) return Color.YELLOW;
-        return Color.RED;
-    }
-
     // Add this overloaded method in PlayerShip class to handle AI shooting directly with an angle
     public Bullet fireBullet(double angle) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.millis();
         if (currentTime - lastBulletTime >= bulletCooldown) {
             lastBulletTime = currentTime;
             double shipTipOffset = this.getSize() / 2;
@@ -195,34 +78,32 @@ public class PlayerShip extends Character {
             double bulletStartY = this.getY() + Math.sin(angle) * shipTipOffset;
 
             // Select the appropriate bullet sprite and damage based on the current bullet mode
-            String bulletSprite;
+            int bulletSprite;
             int damage;
             switch (bulletMode) {
                 case "shuriken":
-                    bulletSprite = "laserBlue11.png";
+                    bulletSprite = Sprites.LASER_BLUE_11;
                     damage = 12;
                     break;
                 case "pluse":
-                    bulletSprite = "laserBlue08.png";
+                    bulletSprite = Sprites.LASER_BLUE_08;
                     damage = 15;
                     break;
                 default:
-                    bulletSprite = "laserBlue07.png";
+                    bulletSprite = Sprites.LASER_BLUE_07;
                     damage = 10;
                     break;
             }
 
-            Bullet bullet = new Bullet(bulletStartX, bulletStartY, angle, spriteLoader, bulletSprite, damage);
-            bullets.add(bullet);
-            return bullet;
+            return new Bullet(bulletStartX, bulletStartY, angle, bulletSprite, damage);
         }
         return null;
     }
 
 
     // Method to fire bullets from the ship
-    public Bullet fireBullet(InputController inputController) {
-        long currentTime = System.currentTimeMillis();
+    public Bullet fireBullet(PlayerInput inputController) {
+        long currentTime = clock.millis();
         if (currentTime - lastBulletTime >= bulletCooldown) {
             lastBulletTime = currentTime;
             double shipTipOffset = this.getSize() / 2;
@@ -239,33 +120,31 @@ public class PlayerShip extends Character {
             }
 
             // Select the appropriate bullet sprite and damage based on the current mode
-            String bulletSprite;
+            int bulletSprite;
             int damage;
             switch (bulletMode) {
                 case "shuriken":
-                    bulletSprite = "laserBlue11.png";
+                    bulletSprite = Sprites.LASER_BLUE_11;
                     damage = 12; // Shuriken damage
                     break;
                 case "pluse":
-                    bulletSprite = "laserBlue08.png";
+                    bulletSprite = Sprites.LASER_BLUE_08;
                     damage = 15; // Pluse damage
                     break;
                 default:
-                    bulletSprite = "laserBlue07.png";
+                    bulletSprite = Sprites.LASER_BLUE_07;
                     damage = 10; // Default damage
                     break;
             }
 
-            Bullet bullet = new Bullet(bulletStartX, bulletStartY, this.getAngle() - Math.PI / 2, spriteLoader, bulletSprite, damage);
-            bullets.add(bullet);  // Add the new bullet to the list
-            return bullet;
+            return new Bullet(bulletStartX, bulletStartY, this.getAngle() - Math.PI / 2, bulletSprite, damage);
         }
         return null;
     }
 
     public void reduceHealth(int amount) {
         // Ignore damage if shielded or within invincibility window
-        long now = System.currentTimeMillis();
+        long now = clock.millis();
         if (isShieldActive || (isInvincible && now < invincibleUntilMs)) {
             return;
         }
@@ -289,25 +168,32 @@ public class PlayerShip extends Character {
         this.velocityX = 0;
         this.velocityY = 0;
         this.isThrusting = false;
+        savePosition(); // A respawn is a jump, not something to interpolate
         activateShield(); // Activate the shield when the ship resets.
     }
 
     public void handleScreenEdges(double screenWidth, double screenHeight) {
+        double oldX = x;
+        double oldY = y;
         if (x < 0) x = screenWidth;
         if (x > screenWidth) x = 0;
         if (y < 0) y = screenHeight;
         if (y > screenHeight) y = 0;
+        if (x != oldX || y != oldY) {
+            savePosition(); // Wrapping is a jump, not something to interpolate
+        }
     }
 
     @Override
-    public void move() {
+    public void move(double frames) {
         // Apply velocity to the position
-        x += velocityX;
-        y += velocityY;
+        x += velocityX * frames;
+        y += velocityY * frames;
 
         // Decelerate slightly to simulate inertia in space
-        velocityX *= DECELERATION;
-        velocityY *= DECELERATION;
+        double deceleration = frames == 1.0 ? DECELERATION : Math.pow(DECELERATION, frames);
+        velocityX *= deceleration;
+        velocityY *= deceleration;
     }
 
 
@@ -323,6 +209,18 @@ public class PlayerShip extends Character {
         health = 100;
     }
 
+    // Forgets what the last game left behind: cooldowns, hit and shield state, bullet mode, animation
+    public void resetForNewGame() {
+        lastBulletTime = GameClock.NEVER;
+        bulletMode = "default";
+        isShieldActive = false;
+        shieldAlpha = 0.0;
+        isHit = false;
+        isInvincible = false;
+        tookDamageEvent = false;
+        animationFrame = 0;
+    }
+
     public void rotateLeft() {
         angle -= 2;
     }
@@ -377,27 +275,39 @@ public class PlayerShip extends Character {
     }
 
     public void moveHorizontallyLeft() {
-        x -= MAX_SPEED;
+        moveHorizontallyLeft(1.0);
+    }
+
+    public void moveHorizontallyLeft(double frames) {
+        x -= MAX_SPEED * frames;
     }
 
     public void moveHorizontallyRight() {
-        x += MAX_SPEED;
+        moveHorizontallyRight(1.0);
+    }
+
+    public void moveHorizontallyRight(double frames) {
+        x += MAX_SPEED * frames;
     }
 
     public void moveVerticallyUp() {
-        y -= MAX_SPEED;
+        moveVerticallyUp(1.0);
+    }
+
+    public void moveVerticallyUp(double frames) {
+        y -= MAX_SPEED * frames;
     }
 
     public void moveVerticallyDown() {
-        y += MAX_SPEED;
+        moveVerticallyDown(1.0);
     }
 
-    public String getBulletMode() {
-        return bulletMode;
+    public void moveVerticallyDown(double frames) {
+        y += MAX_SPEED * frames;
     }
 
-    public static List<Bullet> getBullets() {
-        return bullets;
+    public String getBulletMode() {
+        return bulletMode;
     }
 
     public double getSpeed() {
@@ -408,6 +318,73 @@ public class PlayerShip extends Character {
         this.angle = angle;
     }
 
+    public void advanceAnimation() {
+        animationFrame++;
+    }
+
+    public int getAnimationFrame() {
+        return animationFrame;
+    }
+
+    public boolean isHitFlashing() {
+        return isHit && clock.millis() - hitAnimationStart < HIT_ANIMATION_DURATION;
+    }
+
+    public boolean isShieldActive() {
+        return isShieldActive;
+    }
+
+    public double getShieldAlpha() {
+        return shieldAlpha;
+    }
+
+    public boolean isThrusting() {
+        return isThrusting;
+    }
+
+    // The damage event is a signal to the display, not game state, so keyframes leave it out
+    void writeState(DataOutput out) throws IOException {
+        writeCharacter(out);
+        out.writeInt(health);
+        out.writeDouble(angle);
+        out.writeDouble(velocityX);
+        out.writeDouble(velocityY);
+        out.writeBoolean(isThrusting);
+        out.writeLong(lastBulletTime);
+        out.writeUTF(bulletMode);
+        out.writeBoolean(isShieldActive);
+        out.writeDouble(shieldAlpha);
+        out.writeBoolean(isHit);
+        out.writeLong(hitAnimationStart);
+        out.writeLong(shieldActivationTime);
+        out.writeInt(animationFrame);
+        out.writeBoolean(isInvincible);
+        out.writeLong(invincibleUntilMs);
+    }
+
+    void readState(DataInput in) throws IOException {
+        readCharacter(in);
+        health = in.readInt();
+        angle = in.readDouble();
+        velocityX = in.readDouble();
+        velocityY = in.readDouble();
+        isThrusting = in.readBoolean();
+        lastBulletTime = in.readLong();
+        bulletMode = in.readUTF();
+        isShieldActive = in.readBoolean();
+        shieldAlpha = in.readDouble();
+        isHit = in.readBoolean();
+        hitAnimationStart = in.readLong();
+        shieldActivationTime = in.readLong();
+        animationFrame = in.readInt();
+        isInvincible = in.readBoolean();
+        invincibleUntilMs = in.readLong();
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
     public boolean consumeDamageEvent() {
         boolean had = tookDamageEvent;
         tookDamageEvent = false;
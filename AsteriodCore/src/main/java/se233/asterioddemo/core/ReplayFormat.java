@@ -0,0 +1,62 @@
+package se233.asterioddemo.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of a replay file, shared by {@link ReplayRecorder} and {@link ReplayPlayer}.
+ *
+ * <pre>
+ * header:  int magic "AXRP", byte version, int tick rate, long seed, int keyframe interval,
+ *          double width, double height
+ * per tick: byte tags, then in this order whichever the tags announce:
+ *          KEYFRAME  varint length + {@link GameSimulation#saveState()} taken before the tick
+ *          BUTTONS   varint button mask
+ *          MOUSE     zigzag varint x and y change in pixels
+ * </pre>
+ * A tick whose input matches the one before is a single zero byte. Keyframes reset the previous
+ * input to all zero so decoding can start at any of them.
+ */
+final class ReplayFormat {
+    static final int MAGIC = 0x41585250; // "AXRP"
+    static final byte VERSION = 2; // 2: entities are removed by swapping, so version 1 input plays out differently
+    static final int HEADER_BYTES = 4 + 1 + 4 + 8 + 4 + 8 + 8;
+
+    static final int TAG_BUTTONS = 0x01;
+    static final int TAG_MOUSE = 0x02;
+    static final int TAG_KEYFRAME = 0x04;
+
+    // Longest varint a long can need
+    static final int MAX_VARINT_BYTES = 10;
+
+    private ReplayFormat() {
+    }
+
+    static void writeVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in replay");
+    }
+
+    // Small negative numbers become small positive ones so mouse deltas stay one or two bytes
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
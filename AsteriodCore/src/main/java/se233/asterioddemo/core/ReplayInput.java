@@ -0,0 +1,76 @@
+package se233.asterioddemo.core;
+
+/**
+ * One tick of player input as it is stored in a replay: every button as a bit and the mouse rounded
+ * to whole pixels. The live game ticks with the same rounded input it records, so a replay never
+ * drifts from the game it came from.
+ */
+public final class ReplayInput implements PlayerInput {
+    static final int LEFT = 1;
+    static final int RIGHT = 1 << 1;
+    static final int UP = 1 << 2;
+    static final int DOWN = 1 << 3;
+    static final int SHOOT = 1 << 4;
+    static final int CHEAT = 1 << 5;
+    static final int AI_ON = 1 << 6;
+    static final int AI_OFF = 1 << 7;
+    static final int SHURIKEN = 1 << 8;
+    static final int PULSE = 1 << 9;
+    static final int DEFAULT = 1 << 10;
+    static final int DRONE = 1 << 11;
+
+    private int buttons;
+    private int mouseX;
+    private int mouseY;
+
+    void set(int buttons, int mouseX, int mouseY) {
+        this.buttons = buttons;
+        this.mouseX = mouseX;
+        this.mouseY = mouseY;
+    }
+
+    // Copies the live input, rounding the mouse the same way the replay will see it
+    void capture(PlayerInput input) {
+        int mask = 0;
+        if (input.isLeftPressed()) mask |= LEFT;
+        if (input.isRightPressed()) mask |= RIGHT;
+        if (input.isUpPressed()) mask |= UP;
+        if (input.isDownPressed()) mask |= DOWN;
+        if (input.isShootingPressed()) mask |= SHOOT;
+        if (input.isCheatModeEnabled()) mask |= CHEAT;
+        if (input.isAIModeActive()) mask |= AI_ON;
+        if (input.isAIModeDeactivate()) mask |= AI_OFF;
+        if (input.isShurikenMode()) mask |= SHURIKEN;
+        if (input.isPluseMode()) mask |= PULSE;
+        if (input.isDefaultMode()) mask |= DEFAULT;
+        if (input.isSummonDrone()) mask |= DRONE;
+        set(mask, (int) Math.round(input.getMouseX()), (int) Math.round(input.getMouseY()));
+    }
+
+    int getButtons() {
+        return buttons;
+    }
+
+    int getMouseXPixels() {
+        return mouseX;
+    }
+
+    int getMouseYPixels() {
+        return mouseY;
+    }
+
+    @Override public boolean isLeftPressed() { return (buttons & LEFT) != 0; }
+    @Override public boolean isRightPressed() { return (buttons & RIGHT) != 0; }
+    @Override public boolean isUpPressed() { return (buttons & UP) != 0; }
+    @Override public boolean isDownPressed() { return (buttons & DOWN) != 0; }
+    @Override public boolean isShootingPressed() { return (buttons & SHOOT) != 0; }
+    @Override public boolean isCheatModeEnabled() { return (buttons & CHEAT) != 0; }
+    @Override public boolean isAIModeActive() { return (buttons & AI_ON) != 0; }
+    @Override public boolean isAIModeDeactivate() { return (buttons & AI_OFF) != 0; }
+    @Override public boolean isShurikenMode() { return (buttons & SHURIKEN) != 0; }
+    @Override public boolean isPluseMode() { return (buttons & PULSE) != 0; }
+    @Override public boolean isDefaultMode() { return (buttons & DEFAULT) != 0; }
+    @Override public boolean isSummonDrone() { return (buttons & DRONE) != 0; }
+    @Override public double getMouseX() { return mouseX; }
+    @Override public double getMouseY() { return mouseY; }
+}
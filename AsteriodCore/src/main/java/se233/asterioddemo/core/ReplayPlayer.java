@@ -0,0 +1,209 @@
+package se233.asterioddemo.core;
+
+import se233.asterioddemo.exception.GameException;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Plays a file written by {@link ReplayRecorder} back into a fresh {@link GameSimulation}. Seeking
+ * restores the nearest keyframe at or before the target and only simulates the ticks after it.
+ *
+ * <pre>
+ * mvn -q -pl AsteriodCore exec:java -Dexec.mainClass=se233.asterioddemo.core.ReplayPlayer -Dexec.args="replay.axr"
+ * </pre>
+ * Run as a program it plays the whole replay headless and reports the slowest tick.
+ */
+public final class ReplayPlayer {
+    private final ByteBuffer data;
+    private final int tickRate;
+    private final long seed;
+    private final int keyframeInterval;
+    private final GameSimulation simulation;
+    private final ReplayInput input = new ReplayInput();
+
+    // Byte offset of the record holding keyframe i, which is taken before tick i * keyframeInterval
+    private final int[] keyframeOffsets;
+    private final long tickCount;
+
+    private long tick;
+    private int lastButtons;
+    private int lastMouseX;
+    private int lastMouseY;
+
+    private ReplayPlayer(ByteBuffer data) {
+        this.data = data;
+        if (data.remaining() < ReplayFormat.HEADER_BYTES || data.getInt() != ReplayFormat.MAGIC) {
+            throw new GameException("Not a replay file");
+        }
+        byte version = data.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new GameException("Unsupported replay version " + version);
+        }
+        tickRate = data.getInt();
+        seed = data.getLong();
+        keyframeInterval = data.getInt();
+        double width = data.getDouble();
+        double height = data.getDouble();
+
+        // One pass over the records to count ticks and find the keyframes; a torn last record is dropped
+        int[] offsets = new int[16];
+        int keyframes = 0;
+        long ticks = 0;
+        int start = data.position();
+        try {
+            while (data.hasRemaining()) {
+                int recordStart = data.position();
+                int tags = data.get();
+                if ((tags & ReplayFormat.TAG_KEYFRAME) != 0) {
+                    int length = (int) ReplayFormat.readVarint(data);
+                    data.position(data.position() + length);
+                }
+                if ((tags & ReplayFormat.TAG_BUTTONS) != 0) {
+                    ReplayFormat.readVarint(data);
+                }
+                if ((tags & ReplayFormat.TAG_MOUSE) != 0) {
+                    ReplayFormat.readVarint(data);
+                    ReplayFormat.readVarint(data);
+                }
+                if ((tags & ReplayFormat.TAG_KEYFRAME) != 0) {
+                    if (keyframes == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, keyframes * 2);
+                    }
+                    offsets[keyframes++] = recordStart;
+                }
+                ticks++;
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException e) {
+            // Recording was cut off mid-write; keep every complete tick before it
+        }
+        if (keyframes == 0) {
+            throw new GameException("Replay has no keyframe");
+        }
+        keyframeOffsets = Arrays.copyOf(offsets, keyframes);
+        tickCount = ticks;
+        data.position(start);
+
+        simulation = new GameSimulation(width, height, seed);
+        simulation.reset(seed);
+    }
+
+    public static ReplayPlayer open(Path file) throws IOException {
+        return new ReplayPlayer(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Runs the next recorded tick. Returns false once the replay has ended.
+     */
+    public boolean step() {
+        if (tick >= tickCount) {
+            return false;
+        }
+        int tags = data.get();
+        if ((tags & ReplayFormat.TAG_KEYFRAME) != 0) {
+            // Already in this state from playing up to here; only a seek needs to load it
+            int length = (int) ReplayFormat.readVarint(data);
+            data.position(data.position() + length);
+            lastButtons = 0;
+            lastMouseX = 0;
+            lastMouseY = 0;
+        }
+        if ((tags & ReplayFormat.TAG_BUTTONS) != 0) {
+            lastButtons = (int) ReplayFormat.readVarint(data);
+        }
+        if ((tags & ReplayFormat.TAG_MOUSE) != 0) {
+            lastMouseX += (int) ReplayFormat.unzigzag(ReplayFormat.readVarint(data));
+            lastMouseY += (int) ReplayFormat.unzigzag(ReplayFormat.readVarint(data));
+        }
+        input.set(lastButtons, lastMouseX, lastMouseY);
+        simulation.tick(input, 1.0 / tickRate);
+        tick++;
+        return true;
+    }
+
+    /**
+     * Moves to the state right before {@code target} ticks have run, loading a keyframe when that is
+     * quicker than playing on from here.
+     */
+    public void seek(long target) {
+        target = Math.max(0, Math.min(target, tickCount));
+        int keyframe = (int) Math.min(target / keyframeInterval, keyframeOffsets.length - 1);
+        long keyframeTick = (long) keyframe * keyframeInterval;
+        if (target < tick || keyframeTick > tick) {
+            loadKeyframe(keyframe);
+        }
+        while (tick < target) {
+            step();
+        }
+    }
+
+    private void loadKeyframe(int keyframe) {
+        int offset = keyframeOffsets[keyframe];
+        data.position(offset + 1);
+        byte[] state = new byte[(int) ReplayFormat.readVarint(data)];
+        data.get(state);
+        simulation.restoreState(state);
+        // step() reads the record again for its input and skips the keyframe it has just loaded
+        data.position(offset);
+        tick = (long) keyframe * keyframeInterval;
+    }
+
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    // Ticks played so far
+    public long getTick() {
+        return tick;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayPlayer <replay file> [start tick]");
+            return;
+        }
+        ReplayPlayer player = open(Paths.get(args[0]));
+        if (args.length > 1) {
+            player.seek(Long.parseLong(args[1]));
+        }
+
+        long slowestNanos = 0;
+        long slowestTick = -1;
+        long start = System.nanoTime();
+        long played = 0;
+        while (true) {
+            long tickStart = System.nanoTime();
+            long current = player.getTick();
+            if (!player.step()) {
+                break;
+            }
+            long nanos = System.nanoTime() - tickStart;
+            if (nanos > slowestNanos) {
+                slowestNanos = nanos;
+                slowestTick = current;
+            }
+            played++;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d ticks in %.2f s, seed %d, final score %d, slowest tick %d took %.3f ms%n",
+                played, seconds, player.getSeed(), player.getSimulation().getGameState().getScore(),
+                slowestTick, slowestNanos / 1e6);
+    }
+}
@@ -0,0 +1,131 @@
+package se233.asterioddemo.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+/**
+ * Records one game as the input of every tick plus a full keyframe every
+ * {@link GameSimulation#RANDOM_EPOCH_TICKS} ticks (see {@link ReplayFormat}). Call {@link #record}
+ * right before each tick and tick with the input it returns.
+ */
+public final class ReplayRecorder implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(ReplayRecorder.class.getName());
+
+    private final ReplayWriter writer;
+    private final ReplayInput input = new ReplayInput();
+    private ByteBuffer buffer;
+    private boolean closed;
+
+    private int lastButtons;
+    private int lastMouseX;
+    private int lastMouseY;
+
+    private ReplayRecorder(ReplayWriter writer) {
+        this.writer = writer;
+        this.buffer = writer.acquire(ReplayFormat.HEADER_BYTES);
+    }
+
+    /**
+     * Starts recording a game that has just been reset; the file is replaced if it exists.
+     */
+    public static ReplayRecorder start(Path file, GameSimulation simulation, int tickRate) throws IOException {
+        if (simulation.getTickCount() != 0) {
+            throw new IllegalStateException("Replays start from a freshly reset game, not tick " + simulation.getTickCount());
+        }
+        ReplayRecorder recorder = new ReplayRecorder(new ReplayWriter(file));
+        ByteBuffer header = recorder.buffer;
+        header.putInt(ReplayFormat.MAGIC);
+        header.put(ReplayFormat.VERSION);
+        header.putInt(tickRate);
+        header.putLong(simulation.getRandom().getSeed());
+        header.putInt(GameSimulation.RANDOM_EPOCH_TICKS);
+        header.putDouble(simulation.getWidth());
+        header.putDouble(simulation.getHeight());
+        logger.info("Recording replay to " + file);
+        return recorder;
+    }
+
+    /**
+     * Records the input for the tick {@code simulation} is about to run and returns it rounded the
+     * way the replay stores it. The returned object is reused on the next call.
+     */
+    public PlayerInput record(GameSimulation simulation, PlayerInput live) {
+        input.capture(live);
+        if (closed || writer.hasFailed()) {
+            return input;
+        }
+
+        byte[] keyframe = null;
+        int tags = 0;
+        if (simulation.isAtRandomEpoch()) {
+            keyframe = simulation.saveState();
+            tags |= ReplayFormat.TAG_KEYFRAME;
+            lastButtons = 0;
+            lastMouseX = 0;
+            lastMouseY = 0;
+        }
+        int buttons = input.getButtons();
+        int mouseX = input.getMouseXPixels();
+        int mouseY = input.getMouseYPixels();
+        if (buttons != lastButtons) {
+            tags |= ReplayFormat.TAG_BUTTONS;
+        }
+        if (mouseX != lastMouseX || mouseY != lastMouseY) {
+            tags |= ReplayFormat.TAG_MOUSE;
+        }
+
+        int keyframeBytes = keyframe == null ? 0 : ReplayFormat.MAX_VARINT_BYTES + keyframe.length;
+        if (keyframe != null) {
+            flush(); // Lands the last epoch on disk; a crash loses at most one keyframe interval
+        }
+        ensureRemaining(1 + keyframeBytes + 3 * ReplayFormat.MAX_VARINT_BYTES);
+        buffer.put((byte) tags);
+        if (keyframe != null) {
+            ReplayFormat.writeVarint(buffer, keyframe.length);
+            buffer.put(keyframe);
+        }
+        if ((tags & ReplayFormat.TAG_BUTTONS) != 0) {
+            ReplayFormat.writeVarint(buffer, buttons);
+        }
+        if ((tags & ReplayFormat.TAG_MOUSE) != 0) {
+            ReplayFormat.writeVarint(buffer, ReplayFormat.zigzag(mouseX - lastMouseX));
+            ReplayFormat.writeVarint(buffer, ReplayFormat.zigzag(mouseY - lastMouseY));
+        }
+        lastButtons = buttons;
+        lastMouseX = mouseX;
+        lastMouseY = mouseY;
+        return input;
+    }
+
+    // Hands what is left to the writer thread; returns without waiting for the disk
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flush();
+        writer.close();
+    }
+
+    // For tests and tools that open the file straight after recording
+    void awaitWritten() throws InterruptedException {
+        writer.awaitTermination();
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            writer.submit(buffer);
+            buffer = writer.acquire(bytes);
+        }
+    }
+
+    private void flush() {
+        if (buffer.position() > 0) {
+            writer.submit(buffer);
+            buffer = writer.acquire(0);
+        }
+    }
+}
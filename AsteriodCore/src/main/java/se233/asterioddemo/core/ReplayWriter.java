@@ -0,0 +1,101 @@
+package se233.asterioddemo.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Logger;
+
+/**
+ * Appends filled buffers to a file on its own thread, so the game loop only ever hands a buffer
+ * over and never waits on the disk. Written buffers go back to a pool for the recorder to reuse.
+ */
+final class ReplayWriter {
+    private static final Logger logger = Logger.getLogger(ReplayWriter.class.getName());
+
+    private static final int BUFFER_BYTES = 16 * 1024;
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final BlockingQueue<ByteBuffer> pending = new LinkedBlockingQueue<>();
+    private final ConcurrentLinkedQueue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private volatile boolean failed;
+
+    ReplayWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        thread = new Thread(this::run, "replay-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // An empty buffer with room for at least minBytes
+    ByteBuffer acquire(int minBytes) {
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null || buffer.capacity() < minBytes) {
+            buffer = ByteBuffer.allocate(Math.max(minBytes, BUFFER_BYTES));
+        }
+        return buffer;
+    }
+
+    // Queues everything written to the buffer so far; the caller must not touch it afterwards
+    void submit(ByteBuffer buffer) {
+        buffer.flip();
+        if (failed || !buffer.hasRemaining()) {
+            buffer.clear();
+            pool.offer(buffer);
+            return;
+        }
+        pending.offer(buffer);
+    }
+
+    // Finishes writing what is queued, then closes the file; does not wait for it
+    void close() {
+        pending.offer(END);
+    }
+
+    boolean hasFailed() {
+        return failed;
+    }
+
+    // For tests and tools that read the file right after recording
+    void awaitTermination() throws InterruptedException {
+        thread.join();
+    }
+
+    private void run() {
+        try (channel) {
+            while (true) {
+                ByteBuffer buffer = pending.take();
+                if (buffer == END) {
+                    break;
+                }
+                if (!failed) {
+                    write(buffer);
+                }
+                buffer.clear();
+                pool.offer(buffer);
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to close replay file: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            failed = true;
+            logger.severe("Replay recording stopped, failed to write: " + e.getMessage());
+        }
+    }
+}
@@ -1,10 +1,7 @@
-package se233.asterioddemo;
+package se233.asterioddemo.core;
 
-import javafx.scene.media.AudioClip;
+import se233.asterioddemo.jfr.AiDecisionEvent;
 
-import java.util.List;
-import java.util.Comparator;
-import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class ShipAI {
@@ -14,12 +11,17 @@ public class ShipAI {
     private final double screenHeight;
     private static final double SAFE_DISTANCE = 150.0;
     private static final double SHOOTING_ACCURACY = 0.95; // AI accuracy factor
-    private final AtomicLong lastShootTime = new AtomicLong(0);
+    private final AtomicLong lastShootTime = new AtomicLong(GameClock.NEVER);
     private static final long SHOOT_COOLDOWN = 300; // Milliseconds between shots
-    private final AudioClip laserSound;
+    private final SoundEffect laserSound;
+    private double frames = 1.0; // Length of the current tick in 60 Hz frames, scales every move
 
+    // The threat being dealt with, as a handle into its store so a removed one is noticed, not used
+    private EntityStore<?> threatStore;
+    private int threatHandle = EntityStore.NO_HANDLE;
 
-    public ShipAI(PlayerShip playerShip, GameEntityManager entityManager, double screenWidth, double screenHeight,AudioClip laserSound) {
+
+    public ShipAI(PlayerShip playerShip, GameEntityManager entityManager, double screenWidth, double screenHeight, SoundEffect laserSound) {
         this.playerShip = playerShip;
         this.entityManager = entityManager;
         this.screenWidth = screenWidth;
@@ -27,104 +29,154 @@ public class ShipAI {
         this.laserSound = laserSound;
     }
 
+    long getLastShootTime() {
+        return lastShootTime.get();
+    }
+
+    void setLastShootTime(long time) {
+        lastShootTime.set(time);
+    }
+
     public void update() {
+        update(1.0);
+    }
+
+    public void update(double frames) {
+        this.frames = frames;
+        // Filled in by the handlers; only committed when a JFR recording wants it
+        AiDecisionEvent decision = new AiDecisionEvent();
+        decision.begin();
         synchronized (entityManager) {
             if (entityManager.isBossActive()) {
-                handleBossFight();
+                handleBossFight(decision);
             } else {
-                handleNormalGameplay();
+                handleNormalGameplay(decision);
             }
         }
+        decision.commit();
     }
 
-    private void handleNormalGameplay() {
+    private void handleNormalGameplay(AiDecisionEvent decision) {
         // Find the closest threat (asteroid or enemy ship)
-        Optional<GameObject> closestThreat = findClosestThreat();
+        findClosestThreat();
+        int row = threatStore == null ? -1 : threatStore.rowOf(threatHandle);
 
-        if (closestThreat.isPresent()) {
-            GameObject threat = closestThreat.get();
+        if (row >= 0) {
+            GameObject threat = threatStore.get(row);
             double distanceToThreat = calculateDistance(playerShip.getX(), playerShip.getY(),
                     threat.getX(), threat.getY());
+            decision.target = threatStore == entityManager.asteroids ? "asteroid" : "enemy";
+            decision.targetDistance = distanceToThreat;
+            decision.action = "attack";
 
             // Dodge if too close
             if (distanceToThreat < SAFE_DISTANCE) {
                 dodge(threat);
+                decision.action = "dodge";
             }
 
             // Aim and shoot at the threat
-            aimAndShoot(threat.getX(), threat.getY());
+            decision.fired = aimAndShoot(threat.getX(), threat.getY());
         } else {
             // Move to the center if no threats are present
             moveToCenter();
+            decision.target = "none";
+            decision.action = "center";
         }
     }
 
-    private void handleBossFight() {
+    private void handleBossFight(AiDecisionEvent decision) {
         Boss boss = entityManager.getBoss();
+        decision.target = "none";
         if (boss != null) {
             double distanceToBoss = calculateDistance(playerShip.getX(), playerShip.getY(), boss.getX(), boss.getY());
+            decision.target = "boss";
+            decision.targetDistance = distanceToBoss;
+            decision.action = "attack";
 
             // Find and dodge the closest boss bullet
-            Optional<Bullet> closestBossBullet = findClosestBossBullet();
-            closestBossBullet.ifPresent(this::dodge);
+            int closestBossBullet = findClosestBossBullet();
+            if (closestBossBullet >= 0) {
+                BulletSystem bulletSystem = entityManager.getBulletSystem();
+                dodge(bulletSystem.getX(closestBossBullet), bulletSystem.getY(closestBossBullet));
+                decision.action = "dodge";
+            }
 
             // Adjust position based on distance to the boss
             if (distanceToBoss < SAFE_DISTANCE * 1.5) {
                 moveAwayFrom(boss.getX(), boss.getY());
+                decision.action = "retreat";
             } else if (distanceToBoss > SAFE_DISTANCE * 2.5) {
                 moveTowards(boss.getX(), boss.getY());
+                decision.action = "approach";
             }
 
             // Aim and shoot at the boss
-            aimAndShoot(boss.getX(), boss.getY());
+            decision.fired = aimAndShoot(boss.getX(), boss.getY());
         }
     }
 
-    private Optional<GameObject> findClosestThreat() {
-        double closestDistance = Double.MAX_VALUE;
-        GameObject closestThreat = null;
-
-        // Check for closest asteroid
+    // Points threatStore and threatHandle at the closest asteroid or enemy ship, if there is one
+    private void findClosestThreat() {
+        threatStore = null;
+        threatHandle = EntityStore.NO_HANDLE;
         synchronized (entityManager) {
-            for (Asteroid asteroid : entityManager.getAsteroids()) {
-                double distance = calculateDistance(playerShip.getX(), playerShip.getY(), asteroid.getX(), asteroid.getY());
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    closestThreat = asteroid;
-                }
-            }
+            // Asteroids first, so an enemy ship only wins when it is strictly closer
+            double closestDistance = closerThreat(entityManager.asteroids, Double.MAX_VALUE);
+            closerThreat(entityManager.enemyShips, closestDistance);
+        }
+    }
 
-            // Check for closest enemy ship
-            for (EnemyShip enemy : entityManager.getEnemyShips()) {
-                double distance = calculateDistance(playerShip.getX(), playerShip.getY(), enemy.getX(), enemy.getY());
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    closestThreat = enemy;
-                }
+    // Takes any live entity in the store closer than closestDistance as the threat; returns the new closest distance
+    private double closerThreat(EntityStore<?> store, double closestDistance) {
+        for (int i = 0; i < store.size(); i++) {
+            if (store.isDead(i)) {
+                continue;
+            }
+            double distance = calculateDistance(playerShip.getX(), playerShip.getY(), store.getX(i), store.getY(i));
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                threatStore = store;
+                threatHandle = store.handle(i);
             }
         }
-
-        return Optional.ofNullable(closestThreat);
+        return closestDistance;
     }
 
-    private Optional<Bullet> findClosestBossBullet() {
+    // Returns the bullet system slot of the closest boss bullet, or -1 if there is none
+    private int findClosestBossBullet() {
         synchronized (entityManager) {
             if (!entityManager.isBossActive() || entityManager.getBoss() == null) {
-                return Optional.empty();
+                return -1;
             }
 
-            return entityManager.getBoss().getBossBullets().stream()
-                    .min(Comparator.comparingDouble(bullet ->
-                            calculateDistance(playerShip.getX(), playerShip.getY(), bullet.getX(), bullet.getY())));
+            BulletSystem bulletSystem = entityManager.getBulletSystem();
+            double closestDistance = Double.MAX_VALUE;
+            int closest = -1;
+            for (int i = bulletSystem.nextAlive(0); i >= 0; i = bulletSystem.nextAlive(i + 1)) {
+                if (bulletSystem.getOwner(i) != BulletSystem.OWNER_BOSS) {
+                    continue;
+                }
+                double distance = calculateDistance(playerShip.getX(), playerShip.getY(), bulletSystem.getX(i), bulletSystem.getY(i));
+                if (distance < closestDistance) {
+                    closestDistance = distance;
+                    closest = i;
+                }
+            }
+            return closest;
         }
     }
 
     private void dodge(GameObject threat) {
+        dodge(threat.getX(), threat.getY());
+    }
+
+    private void dodge(double threatX, double threatY) {
         synchronized (playerShip) {
-            double angleToThreat = Math.atan2(threat.getY() - playerShip.getY(), threat.getX() - playerShip.getX());
+            double angleToThreat = Math.atan2(threatY - playerShip.getY(), threatX - playerShip.getX());
             double dodgeAngle = angleToThreat + Math.PI / 2; // Move perpendicular to the threat
-            double moveX = Math.cos(dodgeAngle) * playerShip.getSpeed();
-            double moveY = Math.sin(dodgeAngle) * playerShip.getSpeed();
+            double moveX = Math.cos(dodgeAngle) * playerShip.getSpeed() * frames;
+            double moveY = Math.sin(dodgeAngle) * playerShip.getSpeed() * frames;
             double newX = playerShip.getX() + moveX;
             double newY = playerShip.getY() + moveY;
 
@@ -134,13 +186,14 @@ public class ShipAI {
         }
     }
 
-    private void aimAndShoot(double targetX, double targetY) {
+    // True when a bullet was fired
+    private boolean aimAndShoot(double targetX, double targetY) {
         synchronized (playerShip) {
             double angleToTarget = Math.atan2(targetY - playerShip.getY(), targetX - playerShip.getX());
-            angleToTarget += (Math.random() - 0.5) * (1 - SHOOTING_ACCURACY); // Add some randomness for realism
+            angleToTarget += (entityManager.getRandom().get(GameRandom.Stream.PILOT).nextDouble() - 0.5) * (1 - SHOOTING_ACCURACY); // Add some randomness for realism
             playerShip.setAngle(angleToTarget);
 
-            long currentTime = System.currentTimeMillis();
+            long currentTime = playerShip.getClock().millis();
             if (currentTime - lastShootTime.get() >= SHOOT_COOLDOWN) {
                 Bullet bullet = playerShip.fireBullet(angleToTarget);
                 if (bullet != null) {
@@ -149,9 +202,11 @@ public class ShipAI {
                     }
                     lastShootTime.set(currentTime);
                     laserSound.play();
+                    return true;
                 }
             }
         }
+        return false;
     }
 
     private void moveToCenter() {
@@ -165,8 +220,8 @@ public class ShipAI {
             double distance = Math.sqrt(dx * dx + dy * dy);
 
             if (distance > 0) {
-                double moveX = (dx / distance) * playerShip.getSpeed();
-                double moveY = (dy / distance) * playerShip.getSpeed();
+                double moveX = (dx / distance) * playerShip.getSpeed() * frames;
+                double moveY = (dy / distance) * playerShip.getSpeed() * frames;
                 playerShip.setX(playerShip.getX() + moveX);
                 playerShip.setY(playerShip.getY() + moveY);
             }
@@ -180,8 +235,8 @@ public class ShipAI {
             double distance = Math.sqrt(dx * dx + dy * dy);
 
             if (distance > 0) {
-                double moveX = (dx / distance) * playerShip.getSpeed();
-                double moveY = (dy / distance) * playerShip.getSpeed();
+                double moveX = (dx / distance) * playerShip.getSpeed() * frames;
+                double moveY = (dy / distance) * playerShip.getSpeed() * frames;
                 playerShip.setX(playerShip.getX() + moveX);
                 playerShip.setY(playerShip.getY() + moveY);
             }
@@ -0,0 +1,236 @@
+package se233.asterioddemo.core;
+
+import se233.asterioddemo.jfr.ExplosionEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Emitter for ship explosions. It only rolls the particle parameters; the particles themselves are
+ * stored, updated and drawn by the shared {@link ParticleEngine}.
+ */
+public class ShipExplosionEffect {
+    // Caps to prevent excessive particle counts on large explosions
+    private static final int MAX_SHIP_DEBRIS = 28;
+    private static final int MAX_ENERGY_SPARKS = 36;
+    private static final int MAX_PLASMA_CLOUDS = 24;
+    private static final int MAX_ELECTRIC_ARCS = 12;
+
+    // Pre-rolled variants per size class and colour scheme, and how far a copy may be nudged
+    private static final int TEMPLATE_VARIANTS = 4;
+    private static final long TEMPLATE_SEED = 0x5EED_0100L;
+    private static final double TEMPLATE_OFFSET = 3.0;
+
+    public enum ParticleType {
+        SHIP_DEBRIS(ParticleEngine.SHIP_DEBRIS),
+        ENERGY_SPARK(ParticleEngine.ENERGY_SPARK),
+        PLASMA_CLOUD(ParticleEngine.PLASMA_CLOUD),
+        CORE_BURST(ParticleEngine.CORE_BURST),
+        ELECTRIC_ARC(ParticleEngine.ELECTRIC_ARC);
+
+        private final int kind;
+
+        ParticleType(int kind) {
+            this.kind = kind;
+        }
+    }
+
+    public static class ShipExplosionConfig {
+        private final double baseSize;
+
+        // Default color schemes for different ship types
+        private final int[][] debrisColors = {
+                {Palette.GRAY, Palette.LIGHTGRAY}, // Standard
+                {Palette.DARKBLUE, Palette.BLUE},  // Blue ships
+                {Palette.DARKGREEN, Palette.GREEN}, // Green ships
+                {Palette.DARKRED, Palette.RED}      // Red ships
+        };
+
+        private final int[][] energyColors = {
+                {Palette.YELLOW, Palette.WHITE},
+                {Palette.CYAN, Palette.WHITE},
+                {Palette.MAGENTA, Palette.WHITE}
+        };
+
+        private final int[] coreBurstColors = {Palette.WHITE, Palette.YELLOW};
+
+        // Plasma fills per scheme with their translucency baked in, so drawing never derives colours
+        private final int[][] plasmaColors = new int[debrisColors.length][];
+
+        private int colorSchemeIndex = 0;
+        private boolean useTemplates = true;
+        // Baked variants keyed by colour scheme and size class
+        private final Map<Integer, ParticleTemplate[]> templates = new HashMap<>();
+
+        public ShipExplosionConfig(double baseSize) {
+            this.baseSize = baseSize;
+            for (int i = 0; i < debrisColors.length; i++) {
+                plasmaColors[i] = new int[]{
+                        Palette.withOpacity(Palette.brighter(debrisColors[i][0]), 0.35),
+                        Palette.withOpacity(debrisColors[i][1], 0.5)
+                };
+            }
+        }
+
+        public void setColorScheme(String shipType) {
+            switch (shipType.toLowerCase()) {
+                case "blue" -> colorSchemeIndex = 1;
+                case "green" -> colorSchemeIndex = 2;
+                case "red" -> colorSchemeIndex = 3;
+                default -> colorSchemeIndex = 0;
+            }
+        }
+
+        /**
+         * Turns pre-baked templates on or off. When off every particle is rolled at spawn time.
+         */
+        public void setUseTemplates(boolean useTemplates) {
+            this.useTemplates = useTemplates;
+        }
+
+        int[] getColorsForType(ParticleType type, SplittableRandom random) {
+            return switch (type) {
+                case SHIP_DEBRIS -> debrisColors[colorSchemeIndex];
+                case ENERGY_SPARK, ELECTRIC_ARC ->
+                        energyColors[random.nextInt(energyColors.length)];
+                case PLASMA_CLOUD -> plasmaColors[colorSchemeIndex];
+                case CORE_BURST -> coreBurstColors;
+            };
+        }
+    }
+
+    private final ParticleEngine engine;
+    private final ShipExplosionConfig config;
+    private final ParticleTemplate scratch = new ParticleTemplate();
+
+    public ShipExplosionEffect(ParticleEngine engine, double baseSize) {
+        this.engine = engine;
+        this.config = new ShipExplosionConfig(baseSize);
+    }
+
+    public void createExplosion(double x, double y, double size, String shipType) {
+        ExplosionEvent event = new ExplosionEvent();
+        event.begin();
+        spawn(x, y, size, shipType);
+        event.end();
+        if (event.shouldCommit()) {
+            event.effect = shipType;
+            event.x = x;
+            event.y = y;
+            event.size = size;
+            event.templated = config.useTemplates;
+            event.liveParticles = engine.getLiveCount();
+            event.commit();
+        }
+    }
+
+    private void spawn(double x, double y, double size, String shipType) {
+        config.setColorScheme(shipType);
+        SplittableRandom random = engine.getRandom();
+        if (!config.useTemplates) {
+            scratch.clear();
+            roll(scratch, size, random);
+            scratch.emit(engine, x, y, 0);
+            return;
+        }
+
+        // Copy one of the baked variants, turned and nudged so repeats do not line up
+        int sizeClass = ParticleTemplate.sizeClass(size);
+        int key = sizeClass * config.debrisColors.length + config.colorSchemeIndex;
+        ParticleTemplate[] variants = config.templates.get(key);
+        if (variants == null) {
+            // Baked from a fixed seed so the templates never depend on what the game rolled before
+            variants = bake(ParticleTemplate.classSize(sizeClass), new SplittableRandom(TEMPLATE_SEED + sizeClass));
+            config.templates.put(key, variants);
+        }
+        ParticleTemplate template = variants[random.nextInt(variants.length)];
+        template.emit(engine,
+                x + (random.nextDouble() * 2 - 1) * TEMPLATE_OFFSET,
+                y + (random.nextDouble() * 2 - 1) * TEMPLATE_OFFSET,
+                random.nextDouble() * 2 * Math.PI);
+    }
+
+    private ParticleTemplate[] bake(double size, SplittableRandom random) {
+        ParticleTemplate[] variants = new ParticleTemplate[TEMPLATE_VARIANTS];
+        for (int v = 0; v < variants.length; v++) {
+            variants[v] = new ParticleTemplate();
+            roll(variants[v], size, random);
+        }
+        return variants;
+    }
+
+    private void roll(ParticleTemplate target, double size, SplittableRandom random) {
+        // Core burst
+        roll(target, ParticleType.CORE_BURST, random);
+
+        // Ship debris
+        int debrisCount = Math.min((int) (size * 1.0), MAX_SHIP_DEBRIS);
+        for (int i = 0; i < debrisCount; i++) {
+            roll(target, ParticleType.SHIP_DEBRIS, random);
+        }
+
+        // Energy sparks
+        int sparkCount = Math.min((int) (size * 1.2), MAX_ENERGY_SPARKS);
+        for (int i = 0; i < sparkCount; i++) {
+            roll(target, ParticleType.ENERGY_SPARK, random);
+        }
+
+        // Plasma clouds
+        int cloudCount = Math.min((int) (size * 0.8), MAX_PLASMA_CLOUDS);
+        for (int i = 0; i < cloudCount; i++) {
+            roll(target, ParticleType.PLASMA_CLOUD, random);
+        }
+
+        // Electric arcs
+        int arcCount = Math.min((int) (size * 0.6), MAX_ELECTRIC_ARCS);
+        for (int i = 0; i < arcCount; i++) {
+            roll(target, ParticleType.ELECTRIC_ARC, random);
+        }
+    }
+
+    private void roll(ParticleTemplate target, ParticleType type, SplittableRandom random) {
+        double baseSize = config.baseSize;
+
+        double angle = random.nextDouble() * 2 * Math.PI;
+        double speed = switch (type) {
+            case SHIP_DEBRIS -> 2 + random.nextDouble() * 6;
+            case ENERGY_SPARK -> 4 + random.nextDouble() * 8;
+            case PLASMA_CLOUD -> 1 + random.nextDouble() * 3;
+            case CORE_BURST -> 0.5 + random.nextDouble() * 2;
+            case ELECTRIC_ARC -> 0.2 + random.nextDouble();
+        };
+
+        double rotationAngle = random.nextDouble() * 360;
+        double rotationSpeed = random.nextDouble() * 15 - 7.5;
+
+        double size = switch (type) {
+            case SHIP_DEBRIS -> 4 + random.nextDouble() * (baseSize / 2.5);
+            case ENERGY_SPARK -> 2 + random.nextDouble() * (baseSize / 3);
+            case PLASMA_CLOUD -> 6 + random.nextDouble() * (baseSize / 2);
+            case CORE_BURST -> baseSize / 1.5;
+            case ELECTRIC_ARC -> 3 + random.nextDouble() * (baseSize / 4);
+        };
+
+        double life = switch (type) {
+            // Shorter lifetimes to reduce total per-frame workload
+            case SHIP_DEBRIS -> 12 + random.nextDouble() * 8;
+            case ENERGY_SPARK -> 6 + random.nextDouble() * 6;
+            case PLASMA_CLOUD -> 18 + random.nextDouble() * 10;
+            case CORE_BURST -> 6 + random.nextDouble() * 6;
+            case ELECTRIC_ARC -> 6 + random.nextDouble() * 4;
+        };
+
+        double flicker = random.nextDouble() * 0.3 + 0.7;
+        int[] colors = config.getColorsForType(type, random);
+        int secondary = colors.length > 1 ? colors[1] : colors[0];
+        int arcSegments = type == ParticleType.ELECTRIC_ARC ? 3 + random.nextInt(3) : 0; // fewer segments for performance
+
+        target.add(type.kind, Math.cos(angle) * speed, Math.sin(angle) * speed,
+                rotationAngle, rotationSpeed, size, life, colors[0], secondary, flicker, arcSegments);
+    }
+
+    public ShipExplosionConfig getConfig() {
+        return config;
+    }
+}
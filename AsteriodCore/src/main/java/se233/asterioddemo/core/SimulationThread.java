@@ -0,0 +1,155 @@
+package se233.asterioddemo.core;
+
+import se233.asterioddemo.jfr.FrameEvent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a {@link GameSimulation} on its own thread, waking once per tick on a
+ * {@link LockSupport#parkNanos} schedule, and publishes a {@link WorldSnapshot} after every wake-up
+ * for the display to draw. The display never touches the live simulation, so a heavy tick and a
+ * slow frame no longer hold each other up.
+ * <p>
+ * Snapshots are triple buffered: the simulation writes one, one holds the newest published, and
+ * the display draws the third. Publishing and taking are a single atomic swap each, so neither
+ * side ever waits for the other.
+ */
+public final class SimulationThread implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(SimulationThread.class.getName());
+
+    // Further behind schedule than this and the thread gives up catching up, as FixedTimestep does
+    private static final long MAX_LAG_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final GameSimulation simulation;
+    private final FixedTimestep timestep;
+    private final Supplier<PlayerInput> input;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private final AtomicBoolean pauseRequested = new AtomicBoolean();
+    private final AtomicBoolean playerDamaged = new AtomicBoolean();
+
+    private WorldSnapshot back = new WorldSnapshot();   // Simulation thread only
+    private final AtomicReference<WorldSnapshot> ready;
+    private WorldSnapshot front = new WorldSnapshot();  // Display thread only
+    private long published = 0;
+
+    private SimulationThread(GameSimulation simulation, FixedTimestep timestep, Supplier<PlayerInput> input) {
+        this.simulation = simulation;
+        this.timestep = timestep;
+        this.input = input;
+        WorldSnapshot first = new WorldSnapshot();
+        capture(first);
+        this.ready = new AtomicReference<>(first);
+        this.thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts ticking {@code simulation} in real time. {@code input} is asked once per tick, on the
+     * simulation thread, so it must be safe to read from there.
+     */
+    public static SimulationThread start(GameSimulation simulation, FixedTimestep timestep, Supplier<PlayerInput> input) {
+        SimulationThread simulationThread = new SimulationThread(simulation, timestep, input);
+        simulationThread.thread.start();
+        logger.info("Simulation running on its own thread at " + timestep.getTickRate() + " Hz");
+        return simulationThread;
+    }
+
+    /**
+     * The newest published snapshot. Call from one display thread only; the snapshot returned stays
+     * untouched until the next call.
+     */
+    public WorldSnapshot latest() {
+        if (ready.get().getSequence() > front.getSequence()) {
+            front = ready.getAndSet(front);
+        }
+        return front;
+    }
+
+    // Pauses or resumes at the next wake-up
+    public void togglePause() {
+        pauseRequested.set(true);
+    }
+
+    // Whether the player took damage since the last call
+    public boolean consumePlayerDamage() {
+        return playerDamaged.getAndSet(false);
+    }
+
+    public boolean isRunning() {
+        return thread.isAlive();
+    }
+
+    // Stops after the tick in progress and waits for the thread to finish
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long stepNanos = Math.round(timestep.getStepSeconds() * 1e9);
+        long last = System.nanoTime();
+        long next = last + stepNanos;
+        try {
+            while (running && !simulation.isGameOver()) {
+                long now = System.nanoTime();
+                if (now < next) {
+                    LockSupport.parkNanos(next - now);
+                    continue;
+                }
+                next = now - next > MAX_LAG_NANOS ? now + stepNanos : next + stepNanos;
+                step((now - last) / 1e9);
+                last = now;
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Simulation thread stopped", e);
+        }
+    }
+
+    private void step(double realSeconds) {
+        GameClock clock = simulation.getClock();
+        if (pauseRequested.getAndSet(false)) {
+            clock.setPaused(!clock.isPaused());
+            logger.info(clock.isPaused() ? "Game paused." : "Game resumed.");
+        }
+
+        FrameEvent frameEvent = new FrameEvent();
+        frameEvent.begin();
+        FrameProfiler profiler = simulation.getProfiler();
+        profiler.beginFrame();
+        int ticks = timestep.advance(clock.toGameSeconds(realSeconds));
+        for (int i = 0; i < ticks && !simulation.isGameOver(); i++) {
+            simulation.tick(input.get(), timestep.getStepSeconds());
+            if (simulation.getPlayerShip().consumeDamageEvent()) {
+                playerDamaged.set(true);
+            }
+        }
+        profiler.endFrame();
+        frameEvent.end();
+        if (frameEvent.shouldCommit()) {
+            frameEvent.capture(simulation, ticks);
+            frameEvent.commit();
+        }
+
+        capture(back);
+        back.setSequence(++published);
+        back = ready.getAndSet(back);
+    }
+
+    private void capture(WorldSnapshot snapshot) {
+        double ticksPerSecond = simulation.getClock().toGameSeconds(1.0) / timestep.getStepSeconds();
+        snapshot.capture(simulation, timestep.getAlpha(), ticksPerSecond);
+    }
+}
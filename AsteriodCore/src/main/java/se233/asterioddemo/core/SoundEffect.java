@@ -0,0 +1,15 @@
+package se233.asterioddemo.core;
+
+/**
+ * A sound the simulation can trigger without knowing how it is played. The JavaFX front-end
+ * passes {@code AudioClip} method references; headless runs use {@link #NONE}.
+ */
+@FunctionalInterface
+public interface SoundEffect {
+    SoundEffect NONE = () -> { };
+
+    void play();
+
+    default void stop() {
+    }
+}
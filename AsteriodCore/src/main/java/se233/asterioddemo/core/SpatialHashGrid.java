@@ -0,0 +1,123 @@
+package se233.asterioddemo.core;
+
+import java.util.Arrays;
+
+/**
+ * Uniform spatial hash used as the collision broadphase.
+ * <p>
+ * Entities are inserted by integer id (normally their index in the owning list) with a bounding
+ * circle. Cell coordinates are clamped to the world, so anything that has drifted past an edge
+ * shares the border cells with whatever is just inside it and never needs extra cells. The grid does
+ * not wrap across the seam because the narrow phase does not either: an entity at one edge never
+ * collides with one at the opposite edge. Queries return a superset of the real overlaps; callers
+ * keep their exact circle test as the narrow phase.
+ */
+public class SpatialHashGrid {
+    private final int columns;
+    private final int rows;
+    private final double cellWidth;
+    private final double cellHeight;
+
+    // Per-cell singly linked lists kept in flat arrays so a rebuild does not allocate
+    private final int[] cellHead;
+    private int[] entryNext = new int[256];
+    private int[] entryId = new int[256];
+    private int entryCount = 0;
+
+    // Query output plus a stamp per id so entities spanning several cells are reported once
+    private int[] results = new int[64];
+    private int[] visitedStamp = new int[64];
+    private int stamp = 0;
+
+    public SpatialHashGrid(double worldWidth, double worldHeight, double targetCellSize) {
+        // Round the cell size so the cells tile the world exactly
+        this.columns = Math.max(1, (int) Math.round(worldWidth / targetCellSize));
+        this.rows = Math.max(1, (int) Math.round(worldHeight / targetCellSize));
+        this.cellWidth = worldWidth / columns;
+        this.cellHeight = worldHeight / rows;
+        this.cellHead = new int[columns * rows];
+        Arrays.fill(cellHead, -1);
+    }
+
+    public void clear() {
+        Arrays.fill(cellHead, -1);
+        entryCount = 0;
+    }
+
+    public void insert(int id, double x, double y, double radius) {
+        if (id >= visitedStamp.length) {
+            visitedStamp = Arrays.copyOf(visitedStamp, Math.max(id + 1, visitedStamp.length * 2));
+        }
+
+        int minCol = column(x - radius);
+        int maxCol = column(x + radius);
+        int minRow = row(y - radius);
+        int maxRow = row(y + radius);
+
+        for (int r = minRow; r <= maxRow; r++) {
+            int rowOffset = r * columns;
+            for (int c = minCol; c <= maxCol; c++) {
+                addEntry(rowOffset + c, id);
+            }
+        }
+    }
+
+    /**
+     * Collects the ids of every entity whose cells overlap the given circle's bounding box.
+     * The ids are available from {@link #results()} until the next query.
+     *
+     * @return number of candidate ids written to {@link #results()}
+     */
+    public int query(double x, double y, double radius) {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(visitedStamp, 0);
+            stamp = 1;
+        }
+
+        int minCol = column(x - radius);
+        int maxCol = column(x + radius);
+        int minRow = row(y - radius);
+        int maxRow = row(y + radius);
+
+        int count = 0;
+        for (int r = minRow; r <= maxRow; r++) {
+            int rowOffset = r * columns;
+            for (int c = minCol; c <= maxCol; c++) {
+                for (int e = cellHead[rowOffset + c]; e != -1; e = entryNext[e]) {
+                    int id = entryId[e];
+                    if (visitedStamp[id] != stamp) {
+                        visitedStamp[id] = stamp;
+                        if (count == results.length) {
+                            results = Arrays.copyOf(results, count * 2);
+                        }
+                        results[count++] = id;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    public int[] results() {
+        return results;
+    }
+
+    // Positions past an edge fall into the border cells
+    private int column(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor(x / cellWidth)));
+    }
+
+    private int row(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / cellHeight)));
+    }
+
+    private void addEntry(int cell, int id) {
+        if (entryCount == entryId.length) {
+            entryId = Arrays.copyOf(entryId, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        entryId[entryCount] = id;
+        entryNext[entryCount] = cellHead[cell];
+        cellHead[cell] = entryCount++;
+    }
+}
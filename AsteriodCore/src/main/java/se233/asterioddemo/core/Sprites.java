@@ -0,0 +1,628 @@
+package se233.asterioddemo.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ids for every sprite on the sprite sheet, numbered in the order of {@code sheet.xml}, so
+ * spawning and drawing can index arrays instead of looking names up. Generated by
+ * {@code SpriteIdGenerator}; do not edit.
+ */
+public final class Sprites {
+    public static final int NONE = -1;
+
+    public static final int BEAM_0 = 0;
+    public static final int BEAM_1 = 1;
+    public static final int BEAM_2 = 2;
+    public static final int BEAM_3 = 3;
+    public static final int BEAM_4 = 4;
+    public static final int BEAM_5 = 5;
+    public static final int BEAM_6 = 6;
+    public static final int BEAM_LONG_1 = 7;
+    public static final int BEAM_LONG_2 = 8;
+    public static final int BOLD_SILVER = 9;
+    public static final int BOLT_BRONZE = 10;
+    public static final int BOLT_GOLD = 11;
+    public static final int BUTTON_BLUE = 12;
+    public static final int BUTTON_GREEN = 13;
+    public static final int BUTTON_RED = 14;
+    public static final int BUTTON_YELLOW = 15;
+    public static final int COCKPIT_BLUE_0 = 16;
+    public static final int COCKPIT_BLUE_1 = 17;
+    public static final int COCKPIT_BLUE_2 = 18;
+    public static final int COCKPIT_BLUE_3 = 19;
+    public static final int COCKPIT_BLUE_4 = 20;
+    public static final int COCKPIT_BLUE_5 = 21;
+    public static final int COCKPIT_BLUE_6 = 22;
+    public static final int COCKPIT_BLUE_7 = 23;
+    public static final int COCKPIT_GREEN_0 = 24;
+    public static final int COCKPIT_GREEN_1 = 25;
+    public static final int COCKPIT_GREEN_2 = 26;
+    public static final int COCKPIT_GREEN_3 = 27;
+    public static final int COCKPIT_GREEN_4 = 28;
+    public static final int COCKPIT_GREEN_5 = 29;
+    public static final int COCKPIT_GREEN_6 = 30;
+    public static final int COCKPIT_GREEN_7 = 31;
+    public static final int COCKPIT_RED_0 = 32;
+    public static final int COCKPIT_RED_1 = 33;
+    public static final int COCKPIT_RED_2 = 34;
+    public static final int COCKPIT_RED_3 = 35;
+    public static final int COCKPIT_RED_4 = 36;
+    public static final int COCKPIT_RED_5 = 37;
+    public static final int COCKPIT_RED_6 = 38;
+    public static final int COCKPIT_RED_7 = 39;
+    public static final int COCKPIT_YELLOW_0 = 40;
+    public static final int COCKPIT_YELLOW_1 = 41;
+    public static final int COCKPIT_YELLOW_2 = 42;
+    public static final int COCKPIT_YELLOW_3 = 43;
+    public static final int COCKPIT_YELLOW_4 = 44;
+    public static final int COCKPIT_YELLOW_5 = 45;
+    public static final int COCKPIT_YELLOW_6 = 46;
+    public static final int COCKPIT_YELLOW_7 = 47;
+    public static final int CURSOR = 48;
+    public static final int ENEMY_BLACK_1 = 49;
+    public static final int ENEMY_BLACK_2 = 50;
+    public static final int ENEMY_BLACK_3 = 51;
+    public static final int ENEMY_BLACK_4 = 52;
+    public static final int ENEMY_BLACK_5 = 53;
+    public static final int ENEMY_BLUE_1 = 54;
+    public static final int ENEMY_BLUE_2 = 55;
+    public static final int ENEMY_BLUE_3 = 56;
+    public static final int ENEMY_BLUE_4 = 57;
+    public static final int ENEMY_BLUE_5 = 58;
+    public static final int ENEMY_GREEN_1 = 59;
+    public static final int ENEMY_GREEN_2 = 60;
+    public static final int ENEMY_GREEN_3 = 61;
+    public static final int ENEMY_GREEN_4 = 62;
+    public static final int ENEMY_GREEN_5 = 63;
+    public static final int ENEMY_RED_1 = 64;
+    public static final int ENEMY_RED_2 = 65;
+    public static final int ENEMY_RED_3 = 66;
+    public static final int ENEMY_RED_4 = 67;
+    public static final int ENEMY_RED_5 = 68;
+    public static final int ENGINE_1 = 69;
+    public static final int ENGINE_2 = 70;
+    public static final int ENGINE_3 = 71;
+    public static final int ENGINE_4 = 72;
+    public static final int ENGINE_5 = 73;
+    public static final int FIRE_00 = 74;
+    public static final int FIRE_01 = 75;
+    public static final int FIRE_02 = 76;
+    public static final int FIRE_03 = 77;
+    public static final int FIRE_04 = 78;
+    public static final int FIRE_05 = 79;
+    public static final int FIRE_06 = 80;
+    public static final int FIRE_07 = 81;
+    public static final int FIRE_08 = 82;
+    public static final int FIRE_09 = 83;
+    public static final int FIRE_10 = 84;
+    public static final int FIRE_11 = 85;
+    public static final int FIRE_12 = 86;
+    public static final int FIRE_13 = 87;
+    public static final int FIRE_14 = 88;
+    public static final int FIRE_15 = 89;
+    public static final int FIRE_16 = 90;
+    public static final int FIRE_17 = 91;
+    public static final int FIRE_18 = 92;
+    public static final int FIRE_19 = 93;
+    public static final int GUN_00 = 94;
+    public static final int GUN_01 = 95;
+    public static final int GUN_02 = 96;
+    public static final int GUN_03 = 97;
+    public static final int GUN_04 = 98;
+    public static final int GUN_05 = 99;
+    public static final int GUN_06 = 100;
+    public static final int GUN_07 = 101;
+    public static final int GUN_08 = 102;
+    public static final int GUN_09 = 103;
+    public static final int GUN_10 = 104;
+    public static final int LASER_BLUE_01 = 105;
+    public static final int LASER_BLUE_02 = 106;
+    public static final int LASER_BLUE_03 = 107;
+    public static final int LASER_BLUE_04 = 108;
+    public static final int LASER_BLUE_05 = 109;
+    public static final int LASER_BLUE_06 = 110;
+    public static final int LASER_BLUE_07 = 111;
+    public static final int LASER_BLUE_08 = 112;
+    public static final int LASER_BLUE_09 = 113;
+    public static final int LASER_BLUE_10 = 114;
+    public static final int LASER_BLUE_11 = 115;
+    public static final int LASER_BLUE_12 = 116;
+    public static final int LASER_BLUE_13 = 117;
+    public static final int LASER_BLUE_14 = 118;
+    public static final int LASER_BLUE_15 = 119;
+    public static final int LASER_BLUE_16 = 120;
+    public static final int LASER_GREEN_01 = 121;
+    public static final int LASER_GREEN_02 = 122;
+    public static final int LASER_GREEN_03 = 123;
+    public static final int LASER_GREEN_04 = 124;
+    public static final int LASER_GREEN_05 = 125;
+    public static final int LASER_GREEN_06 = 126;
+    public static final int LASER_GREEN_07 = 127;
+    public static final int LASER_GREEN_08 = 128;
+    public static final int LASER_GREEN_09 = 129;
+    public static final int LASER_GREEN_10 = 130;
+    public static final int LASER_GREEN_11 = 131;
+    public static final int LASER_GREEN_12 = 132;
+    public static final int LASER_GREEN_13 = 133;
+    public static final int LASER_GREEN_14 = 134;
+    public static final int LASER_GREEN_15 = 135;
+    public static final int LASER_GREEN_16 = 136;
+    public static final int LASER_RED_01 = 137;
+    public static final int LASER_RED_02 = 138;
+    public static final int LASER_RED_03 = 139;
+    public static final int LASER_RED_04 = 140;
+    public static final int LASER_RED_05 = 141;
+    public static final int LASER_RED_06 = 142;
+    public static final int LASER_RED_07 = 143;
+    public static final int LASER_RED_08 = 144;
+    public static final int LASER_RED_09 = 145;
+    public static final int LASER_RED_10 = 146;
+    public static final int LASER_RED_11 = 147;
+    public static final int LASER_RED_12 = 148;
+    public static final int LASER_RED_13 = 149;
+    public static final int LASER_RED_14 = 150;
+    public static final int LASER_RED_15 = 151;
+    public static final int LASER_RED_16 = 152;
+    public static final int METEOR_BROWN_BIG_1 = 153;
+    public static final int METEOR_BROWN_BIG_2 = 154;
+    public static final int METEOR_BROWN_BIG_3 = 155;
+    public static final int METEOR_BROWN_BIG_4 = 156;
+    public static final int METEOR_BROWN_MED_1 = 157;
+    public static final int METEOR_BROWN_MED_3 = 158;
+    public static final int METEOR_BROWN_SMALL_1 = 159;
+    public static final int METEOR_BROWN_SMALL_2 = 160;
+    public static final int METEOR_BROWN_TINY_1 = 161;
+    public static final int METEOR_BROWN_TINY_2 = 162;
+    public static final int METEOR_GREY_BIG_1 = 163;
+    public static final int METEOR_GREY_BIG_2 = 164;
+    public static final int METEOR_GREY_BIG_3 = 165;
+    public static final int METEOR_GREY_BIG_4 = 166;
+    public static final int METEOR_GREY_MED_1 = 167;
+    public static final int METEOR_GREY_MED_2 = 168;
+    public static final int METEOR_GREY_SMALL_1 = 169;
+    public static final int METEOR_GREY_SMALL_2 = 170;
+    public static final int METEOR_GREY_TINY_1 = 171;
+    public static final int METEOR_GREY_TINY_2 = 172;
+    public static final int NUMERAL_0 = 173;
+    public static final int NUMERAL_1 = 174;
+    public static final int NUMERAL_2 = 175;
+    public static final int NUMERAL_3 = 176;
+    public static final int NUMERAL_4 = 177;
+    public static final int NUMERAL_5 = 178;
+    public static final int NUMERAL_6 = 179;
+    public static final int NUMERAL_7 = 180;
+    public static final int NUMERAL_8 = 181;
+    public static final int NUMERAL_9 = 182;
+    public static final int NUMERAL_X = 183;
+    public static final int PILL_BLUE = 184;
+    public static final int PILL_GREEN = 185;
+    public static final int PILL_RED = 186;
+    public static final int PILL_YELLOW = 187;
+    public static final int PLAYER_LIFE_1_BLUE = 188;
+    public static final int PLAYER_LIFE_1_GREEN = 189;
+    public static final int PLAYER_LIFE_1_ORANGE = 190;
+    public static final int PLAYER_LIFE_1_RED = 191;
+    public static final int PLAYER_LIFE_2_BLUE = 192;
+    public static final int PLAYER_LIFE_2_GREEN = 193;
+    public static final int PLAYER_LIFE_2_ORANGE = 194;
+    public static final int PLAYER_LIFE_2_RED = 195;
+    public static final int PLAYER_LIFE_3_BLUE = 196;
+    public static final int PLAYER_LIFE_3_GREEN = 197;
+    public static final int PLAYER_LIFE_3_ORANGE = 198;
+    public static final int PLAYER_LIFE_3_RED = 199;
+    public static final int PLAYER_SHIP_1_BLUE = 200;
+    public static final int PLAYER_SHIP_1_DAMAGE_1 = 201;
+    public static final int PLAYER_SHIP_1_DAMAGE_2 = 202;
+    public static final int PLAYER_SHIP_1_DAMAGE_3 = 203;
+    public static final int PLAYER_SHIP_1_GREEN = 204;
+    public static final int PLAYER_SHIP_1_ORANGE = 205;
+    public static final int PLAYER_SHIP_1_RED = 206;
+    public static final int PLAYER_SHIP_2_BLUE = 207;
+    public static final int PLAYER_SHIP_2_DAMAGE_1 = 208;
+    public static final int PLAYER_SHIP_2_DAMAGE_2 = 209;
+    public static final int PLAYER_SHIP_2_DAMAGE_3 = 210;
+    public static final int PLAYER_SHIP_2_GREEN = 211;
+    public static final int PLAYER_SHIP_2_ORANGE = 212;
+    public static final int PLAYER_SHIP_2_RED = 213;
+    public static final int PLAYER_SHIP_3_BLUE = 214;
+    public static final int PLAYER_SHIP_3_DAMAGE_1 = 215;
+    public static final int PLAYER_SHIP_3_DAMAGE_2 = 216;
+    public static final int PLAYER_SHIP_3_DAMAGE_3 = 217;
+    public static final int PLAYER_SHIP_3_GREEN = 218;
+    public static final int PLAYER_SHIP_3_ORANGE = 219;
+    public static final int PLAYER_SHIP_3_RED = 220;
+    public static final int POWERUP_BLUE = 221;
+    public static final int POWERUP_BLUE_BOLT = 222;
+    public static final int POWERUP_BLUE_SHIELD = 223;
+    public static final int POWERUP_BLUE_STAR = 224;
+    public static final int POWERUP_GREEN = 225;
+    public static final int POWERUP_GREEN_BOLT = 226;
+    public static final int POWERUP_GREEN_SHIELD = 227;
+    public static final int POWERUP_GREEN_STAR = 228;
+    public static final int POWERUP_RED = 229;
+    public static final int POWERUP_RED_BOLT = 230;
+    public static final int POWERUP_RED_SHIELD = 231;
+    public static final int POWERUP_RED_STAR = 232;
+    public static final int POWERUP_YELLOW = 233;
+    public static final int POWERUP_YELLOW_BOLT = 234;
+    public static final int POWERUP_YELLOW_SHIELD = 235;
+    public static final int POWERUP_YELLOW_STAR = 236;
+    public static final int SCRATCH_1 = 237;
+    public static final int SCRATCH_2 = 238;
+    public static final int SCRATCH_3 = 239;
+    public static final int SHIELD_1 = 240;
+    public static final int SHIELD_2 = 241;
+    public static final int SHIELD_3 = 242;
+    public static final int SHIELD_BRONZE = 243;
+    public static final int SHIELD_GOLD = 244;
+    public static final int SHIELD_SILVER = 245;
+    public static final int SPEED = 246;
+    public static final int STAR_1 = 247;
+    public static final int STAR_2 = 248;
+    public static final int STAR_3 = 249;
+    public static final int STAR_BRONZE = 250;
+    public static final int STAR_GOLD = 251;
+    public static final int STAR_SILVER = 252;
+    public static final int THINGS_BRONZE = 253;
+    public static final int THINGS_GOLD = 254;
+    public static final int THINGS_SILVER = 255;
+    public static final int TURRET_BASE_BIG = 256;
+    public static final int TURRET_BASE_SMALL = 257;
+    public static final int UFO_BLUE = 258;
+    public static final int UFO_GREEN = 259;
+    public static final int UFO_RED = 260;
+    public static final int UFO_YELLOW = 261;
+    public static final int WING_BLUE_0 = 262;
+    public static final int WING_BLUE_1 = 263;
+    public static final int WING_BLUE_2 = 264;
+    public static final int WING_BLUE_3 = 265;
+    public static final int WING_BLUE_4 = 266;
+    public static final int WING_BLUE_5 = 267;
+    public static final int WING_BLUE_6 = 268;
+    public static final int WING_BLUE_7 = 269;
+    public static final int WING_GREEN_0 = 270;
+    public static final int WING_GREEN_1 = 271;
+    public static final int WING_GREEN_2 = 272;
+    public static final int WING_GREEN_3 = 273;
+    public static final int WING_GREEN_4 = 274;
+    public static final int WING_GREEN_5 = 275;
+    public static final int WING_GREEN_6 = 276;
+    public static final int WING_GREEN_7 = 277;
+    public static final int WING_RED_0 = 278;
+    public static final int WING_RED_1 = 279;
+    public static final int WING_RED_2 = 280;
+    public static final int WING_RED_3 = 281;
+    public static final int WING_RED_4 = 282;
+    public static final int WING_RED_5 = 283;
+    public static final int WING_RED_6 = 284;
+    public static final int WING_RED_7 = 285;
+    public static final int WING_YELLOW_0 = 286;
+    public static final int WING_YELLOW_1 = 287;
+    public static final int WING_YELLOW_2 = 288;
+    public static final int WING_YELLOW_3 = 289;
+    public static final int WING_YELLOW_4 = 290;
+    public static final int WING_YELLOW_5 = 291;
+    public static final int WING_YELLOW_6 = 292;
+    public static final int WING_YELLOW_7 = 293;
+
+    public static final int COUNT = 294;
+
+    private static final String[] NAMES = {
+            "beam0.png",
+            "beam1.png",
+            "beam2.png",
+            "beam3.png",
+            "beam4.png",
+            "beam5.png",
+            "beam6.png",
+            "beamLong1.png",
+            "beamLong2.png",
+            "bold_silver.png",
+            "bolt_bronze.png",
+            "bolt_gold.png",
+            "buttonBlue.png",
+            "buttonGreen.png",
+            "buttonRed.png",
+            "buttonYellow.png",
+            "cockpitBlue_0.png",
+            "cockpitBlue_1.png",
+            "cockpitBlue_2.png",
+            "cockpitBlue_3.png",
+            "cockpitBlue_4.png",
+            "cockpitBlue_5.png",
+            "cockpitBlue_6.png",
+            "cockpitBlue_7.png",
+            "cockpitGreen_0.png",
+            "cockpitGreen_1.png",
+            "cockpitGreen_2.png",
+            "cockpitGreen_3.png",
+            "cockpitGreen_4.png",
+            "cockpitGreen_5.png",
+            "cockpitGreen_6.png",
+            "cockpitGreen_7.png",
+            "cockpitRed_0.png",
+            "cockpitRed_1.png",
+            "cockpitRed_2.png",
+            "cockpitRed_3.png",
+            "cockpitRed_4.png",
+            "cockpitRed_5.png",
+            "cockpitRed_6.png",
+            "cockpitRed_7.png",
+            "cockpitYellow_0.png",
+            "cockpitYellow_1.png",
+            "cockpitYellow_2.png",
+            "cockpitYellow_3.png",
+            "cockpitYellow_4.png",
+            "cockpitYellow_5.png",
+            "cockpitYellow_6.png",
+            "cockpitYellow_7.png",
+            "cursor.png",
+            "enemyBlack1.png",
+            "enemyBlack2.png",
+            "enemyBlack3.png",
+            "enemyBlack4.png",
+            "enemyBlack5.png",
+            "enemyBlue1.png",
+            "enemyBlue2.png",
+            "enemyBlue3.png",
+            "enemyBlue4.png",
+            "enemyBlue5.png",
+            "enemyGreen1.png",
+            "enemyGreen2.png",
+            "enemyGreen3.png",
+            "enemyGreen4.png",
+            "enemyGreen5.png",
+            "enemyRed1.png",
+            "enemyRed2.png",
+            "enemyRed3.png",
+            "enemyRed4.png",
+            "enemyRed5.png",
+            "engine1.png",
+            "engine2.png",
+            "engine3.png",
+            "engine4.png",
+            "engine5.png",
+            "fire00.png",
+            "fire01.png",
+            "fire02.png",
+            "fire03.png",
+            "fire04.png",
+            "fire05.png",
+            "fire06.png",
+            "fire07.png",
+            "fire08.png",
+            "fire09.png",
+            "fire10.png",
+            "fire11.png",
+            "fire12.png",
+            "fire13.png",
+            "fire14.png",
+            "fire15.png",
+            "fire16.png",
+            "fire17.png",
+            "fire18.png",
+            "fire19.png",
+            "gun00.png",
+            "gun01.png",
+            "gun02.png",
+            "gun03.png",
+            "gun04.png",
+            "gun05.png",
+            "gun06.png",
+            "gun07.png",
+            "gun08.png",
+            "gun09.png",
+            "gun10.png",
+            "laserBlue01.png",
+            "laserBlue02.png",
+            "laserBlue03.png",
+            "laserBlue04.png",
+            "laserBlue05.png",
+            "laserBlue06.png",
+            "laserBlue07.png",
+            "laserBlue08.png",
+            "laserBlue09.png",
+            "laserBlue10.png",
+            "laserBlue11.png",
+            "laserBlue12.png",
+            "laserBlue13.png",
+            "laserBlue14.png",
+            "laserBlue15.png",
+            "laserBlue16.png",
+            "laserGreen01.png",
+            "laserGreen02.png",
+            "laserGreen03.png",
+            "laserGreen04.png",
+            "laserGreen05.png",
+            "laserGreen06.png",
+            "laserGreen07.png",
+            "laserGreen08.png",
+            "laserGreen09.png",
+            "laserGreen10.png",
+            "laserGreen11.png",
+            "laserGreen12.png",
+            "laserGreen13.png",
+            "laserGreen14.png",
+            "laserGreen15.png",
+            "laserGreen16.png",
+            "laserRed01.png",
+            "laserRed02.png",
+            "laserRed03.png",
+            "laserRed04.png",
+            "laserRed05.png",
+            "laserRed06.png",
+            "laserRed07.png",
+            "laserRed08.png",
+            "laserRed09.png",
+            "laserRed10.png",
+            "laserRed11.png",
+            "laserRed12.png",
+            "laserRed13.png",
+            "laserRed14.png",
+            "laserRed15.png",
+            "laserRed16.png",
+            "meteorBrown_big1.png",
+            "meteorBrown_big2.png",
+            "meteorBrown_big3.png",
+            "meteorBrown_big4.png",
+            "meteorBrown_med1.png",
+            "meteorBrown_med3.png",
+            "meteorBrown_small1.png",
+            "meteorBrown_small2.png",
+            "meteorBrown_tiny1.png",
+            "meteorBrown_tiny2.png",
+            "meteorGrey_big1.png",
+            "meteorGrey_big2.png",
+            "meteorGrey_big3.png",
+            "meteorGrey_big4.png",
+            "meteorGrey_med1.png",
+            "meteorGrey_med2.png",
+            "meteorGrey_small1.png",
+            "meteorGrey_small2.png",
+            "meteorGrey_tiny1.png",
+            "meteorGrey_tiny2.png",
+            "numeral0.png",
+            "numeral1.png",
+            "numeral2.png",
+            "numeral3.png",
+            "numeral4.png",
+            "numeral5.png",
+            "numeral6.png",
+            "numeral7.png",
+            "numeral8.png",
+            "numeral9.png",
+            "numeralX.png",
+            "pill_blue.png",
+            "pill_green.png",
+            "pill_red.png",
+            "pill_yellow.png",
+            "playerLife1_blue.png",
+            "playerLife1_green.png",
+            "playerLife1_orange.png",
+            "playerLife1_red.png",
+            "playerLife2_blue.png",
+            "playerLife2_green.png",
+            "playerLife2_orange.png",
+            "playerLife2_red.png",
+            "playerLife3_blue.png",
+            "playerLife3_green.png",
+            "playerLife3_orange.png",
+            "playerLife3_red.png",
+            "playerShip1_blue.png",
+            "playerShip1_damage1.png",
+            "playerShip1_damage2.png",
+            "playerShip1_damage3.png",
+            "playerShip1_green.png",
+            "playerShip1_orange.png",
+            "playerShip1_red.png",
+            "playerShip2_blue.png",
+            "playerShip2_damage1.png",
+            "playerShip2_damage2.png",
+            "playerShip2_damage3.png",
+            "playerShip2_green.png",
+            "playerShip2_orange.png",
+            "playerShip2_red.png",
+            "playerShip3_blue.png",
+            "playerShip3_damage1.png",
+            "playerShip3_damage2.png",
+            "playerShip3_damage3.png",
+            "playerShip3_green.png",
+            "playerShip3_orange.png",
+            "playerShip3_red.png",
+            "powerupBlue.png",
+            "powerupBlue_bolt.png",
+            "powerupBlue_shield.png",
+            "powerupBlue_star.png",
+            "powerupGreen.png",
+            "powerupGreen_bolt.png",
+            "powerupGreen_shield.png",
+            "powerupGreen_star.png",
+            "powerupRed.png",
+            "powerupRed_bolt.png",
+            "powerupRed_shield.png",
+            "powerupRed_star.png",
+            "powerupYellow.png",
+            "powerupYellow_bolt.png",
+            "powerupYellow_shield.png",
+            "powerupYellow_star.png",
+            "scratch1.png",
+            "scratch2.png",
+            "scratch3.png",
+            "shield1.png",
+            "shield2.png",
+            "shield3.png",
+            "shield_bronze.png",
+            "shield_gold.png",
+            "shield_silver.png",
+            "speed.png",
+            "star1.png",
+            "star2.png",
+            "star3.png",
+            "star_bronze.png",
+            "star_gold.png",
+            "star_silver.png",
+            "things_bronze.png",
+            "things_gold.png",
+            "things_silver.png",
+            "turretBase_big.png",
+            "turretBase_small.png",
+            "ufoBlue.png",
+            "ufoGreen.png",
+            "ufoRed.png",
+            "ufoYellow.png",
+            "wingBlue_0.png",
+            "wingBlue_1.png",
+            "wingBlue_2.png",
+            "wingBlue_3.png",
+            "wingBlue_4.png",
+            "wingBlue_5.png",
+            "wingBlue_6.png",
+            "wingBlue_7.png",
+            "wingGreen_0.png",
+            "wingGreen_1.png",
+            "wingGreen_2.png",
+            "wingGreen_3.png",
+            "wingGreen_4.png",
+            "wingGreen_5.png",
+            "wingGreen_6.png",
+            "wingGreen_7.png",
+            "wingRed_0.png",
+            "wingRed_1.png",
+            "wingRed_2.png",
+            "wingRed_3.png",
+            "wingRed_4.png",
+            "wingRed_5.png",
+            "wingRed_6.png",
+            "wingRed_7.png",
+            "wingYellow_0.png",
+            "wingYellow_1.png",
+            "wingYellow_2.png",
+            "wingYellow_3.png",
+            "wingYellow_4.png",
+            "wingYellow_5.png",
+            "wingYellow_6.png",
+            "wingYellow_7.png",
+    };
+
+    private static final Map<String, Integer> IDS = new HashMap<>();
+
+    static {
+        for (int id = 0; id < NAMES.length; id++) {
+            IDS.put(NAMES[id], id);
+        }
+    }
+
+    private Sprites() {
+    }
+
+    // For loading and saved state, not per frame; NONE for a name not on the sheet
+    public static int id(String name) {
+        Integer id = IDS.get(name);
+        return id == null ? NONE : id;
+    }
+
+    public static String name(int id) {
+        return NAMES[id];
+    }
+}
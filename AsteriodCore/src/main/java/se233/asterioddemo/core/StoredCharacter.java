@@ -0,0 +1,97 @@
+package se233.asterioddemo.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A character whose state is a row of an {@link EntityStore}. The game builds it straight over the
+ * next row of its store; one made on its own has a row of its own, so it can be set up and moved
+ * like any other character until it is added to a store.
+ */
+public abstract class StoredCharacter extends Character {
+    EntityStore<?> store;
+    int row;
+
+    // Sets up the store's next row; the store takes the entity on when the subclass is done with it
+    StoredCharacter(EntityStore<?> store, double x, double y, double speed, double size) {
+        this.store = store;
+        this.row = store.nextRow();
+        store.setX(row, x);
+        store.setY(row, y);
+        store.setPrev(row, x, y);
+        store.setSpeed(row, speed);
+        store.setSize(row, size);
+    }
+
+    // Called by the store whenever the row moves
+    final void moveTo(EntityStore<?> store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
+    @Override
+    public void savePosition() {
+        store.setPrev(row, store.getX(row), store.getY(row));
+    }
+
+    @Override
+    void writeCharacter(DataOutput out) throws IOException {
+        out.writeDouble(store.getX(row));
+        out.writeDouble(store.getY(row));
+        out.writeDouble(store.getPrevX(row));
+        out.writeDouble(store.getPrevY(row));
+        out.writeDouble(store.getSpeed(row));
+        out.writeDouble(store.getSize(row));
+    }
+
+    @Override
+    void readCharacter(DataInput in) throws IOException {
+        store.setX(row, in.readDouble());
+        store.setY(row, in.readDouble());
+        double restoredPrevX = in.readDouble();
+        store.setPrev(row, restoredPrevX, in.readDouble());
+        store.setSpeed(row, in.readDouble());
+        store.setSize(row, in.readDouble());
+    }
+
+    @Override
+    public double getPrevX() {
+        return store.getPrevX(row);
+    }
+
+    @Override
+    public double getPrevY() {
+        return store.getPrevY(row);
+    }
+
+    @Override
+    public double getX() {
+        return store.getX(row);
+    }
+
+    @Override
+    public void setX(double x) {
+        store.setX(row, x);
+    }
+
+    @Override
+    public double getY() {
+        return store.getY(row);
+    }
+
+    @Override
+    public void setY(double y) {
+        store.setY(row, y);
+    }
+
+    @Override
+    public double getSize() {
+        return store.getSize(row);
+    }
+
+    @Override
+    public void setSize(double size) {
+        store.setSize(row, size);
+    }
+}
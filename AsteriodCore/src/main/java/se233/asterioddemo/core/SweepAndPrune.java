@@ -0,0 +1,125 @@
+package se233.asterioddemo.core;
+
+import java.util.Arrays;
+
+/**
+ * Sweep-and-prune broadphase along the x axis between two sets: movers (bullets, using the box
+ * around their swept path for the tick) and targets (asteroids, ships).
+ * <p>
+ * Intervals are sorted once per call with a primitive sort and swept left to right, so the cost is
+ * O(n log n) for the sort plus the number of x-overlaps, instead of movers times targets.
+ * Only mover/target pairs whose boxes also overlap on y are reported; callers run the exact test.
+ */
+public class SweepAndPrune {
+    private int entryCount = 0;
+    private double[] minX = new double[64];
+    private double[] maxX = new double[64];
+    private double[] minY = new double[64];
+    private double[] maxY = new double[64];
+    private int[] ids = new int[64];
+    private boolean[] isTarget = new boolean[64];
+
+    // Sort keys: floor(minX) in the high 32 bits, entry index in the low 32 bits
+    private long[] order = new long[64];
+
+    private int pairCount = 0;
+    private int[] pairMovers = new int[64];
+    private int[] pairTargets = new int[64];
+
+    public void clear() {
+        entryCount = 0;
+        pairCount = 0;
+    }
+
+    public void addMover(int id, double minX, double maxX, double minY, double maxY) {
+        add(id, minX, maxX, minY, maxY, false);
+    }
+
+    public void addTarget(int id, double minX, double maxX, double minY, double maxY) {
+        add(id, minX, maxX, minY, maxY, true);
+    }
+
+    /**
+     * Finds all mover/target pairs whose boxes overlap. The pairs are available from
+     * {@link #pairMovers()} and {@link #pairTargets()} until the next call to {@link #clear()}.
+     *
+     * @return number of pairs found
+     */
+    public int findPairs() {
+        for (int i = 0; i < entryCount; i++) {
+            long key = (long) clampToInt(Math.floor(minX[i]));
+            order[i] = (key << 32) | i;
+        }
+        Arrays.sort(order, 0, entryCount);
+
+        pairCount = 0;
+        for (int i = 0; i < entryCount; i++) {
+            int a = (int) order[i];
+            double reach = maxX[a];
+
+            for (int j = i + 1; j < entryCount; j++) {
+                // The floored key never exceeds the real minX, so once it passes our maxX nothing later can overlap
+                if ((order[j] >> 32) > reach) {
+                    break;
+                }
+                int b = (int) order[j];
+                if (isTarget[a] == isTarget[b] || minX[b] > reach) {
+                    continue;
+                }
+                if (minY[a] > maxY[b] || minY[b] > maxY[a]) {
+                    continue;
+                }
+                if (isTarget[a]) {
+                    addPair(ids[b], ids[a]);
+                } else {
+                    addPair(ids[a], ids[b]);
+                }
+            }
+        }
+        return pairCount;
+    }
+
+    public int[] pairMovers() {
+        return pairMovers;
+    }
+
+    public int[] pairTargets() {
+        return pairTargets;
+    }
+
+    private void add(int id, double minX, double maxX, double minY, double maxY, boolean target) {
+        if (entryCount == ids.length) {
+            int capacity = entryCount * 2;
+            this.minX = Arrays.copyOf(this.minX, capacity);
+            this.maxX = Arrays.copyOf(this.maxX, capacity);
+            this.minY = Arrays.copyOf(this.minY, capacity);
+            this.maxY = Arrays.copyOf(this.maxY, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            isTarget = Arrays.copyOf(isTarget, capacity);
+            order = Arrays.copyOf(order, capacity);
+        }
+        this.minX[entryCount] = minX;
+        this.maxX[entryCount] = maxX;
+        this.minY[entryCount] = minY;
+        this.maxY[entryCount] = maxY;
+        ids[entryCount] = id;
+        isTarget[entryCount] = target;
+        entryCount++;
+    }
+
+    private void addPair(int mover, int target) {
+        if (pairCount == pairMovers.length) {
+            pairMovers = Arrays.copyOf(pairMovers, pairCount * 2);
+            pairTargets = Arrays.copyOf(pairTargets, pairCount * 2);
+        }
+        pairMovers[pairCount] = mover;
+        pairTargets[pairCount] = target;
+        pairCount++;
+    }
+
+    private static int clampToInt(double value) {
+        if (value <= Integer.MIN_VALUE) return Integer.MIN_VALUE;
+        if (value >= Integer.MAX_VALUE) return Integer.MAX_VALUE;
+        return (int) value;
+    }
+}
@@ -0,0 +1,203 @@
+package se233.asterioddemo.core;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+/**
+ * The systems of one tick, each with the state it reads and writes as a bit mask. A system depends
+ * on every earlier one it conflicts with (one writes what the other reads or writes), which makes a
+ * graph with no cycles. {@link #run} then starts each system once everything it depends on has
+ * finished, on a fixed pool of workers. Systems that conflict always run in the order they were
+ * added, so the tick comes out the same as running them one after another, however the rest
+ * interleave.
+ * <p>
+ * With no workers, which is the default, systems simply run in order on the calling thread.
+ * {@code -Dasteroidx.workers=<n>} gives the game a pool.
+ */
+public final class TaskGraph implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(TaskGraph.class.getName());
+
+    public static final String WORKERS_PROPERTY = "asteroidx.workers";
+    public static final int MAX_TASKS = 64; // Dependencies are kept as one bit per earlier task
+
+    private final int workers;
+    private final ExecutorService pool; // Null without workers
+    private final Task[] tasks = new Task[MAX_TASKS];
+    private int count = 0;
+
+    private final AtomicInteger remaining = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile Thread waiter;
+
+    public TaskGraph(int workers) {
+        if (workers < 0) {
+            throw new IllegalArgumentException("Worker count cannot be negative: " + workers);
+        }
+        this.workers = workers;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = workers == 0 ? null : Executors.newFixedThreadPool(workers, task -> {
+            Thread thread = new Thread(task, "tick-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < MAX_TASKS; i++) {
+            tasks[i] = new Task();
+        }
+    }
+
+    // The pool sized by -Dasteroidx.workers, or none when it is unset or not a count
+    public static TaskGraph fromSystemProperties() {
+        String value = System.getProperty(WORKERS_PROPERTY);
+        if (value == null) {
+            return new TaskGraph(0);
+        }
+        try {
+            int workers = Integer.parseInt(value.trim());
+            if (workers >= 0) {
+                logger.info("Running tick systems on " + workers + " workers");
+                return new TaskGraph(workers);
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through to the warning below
+        }
+        logger.warning("Unsupported " + WORKERS_PROPERTY + " '" + value + "', running systems in order");
+        return new TaskGraph(0);
+    }
+
+    /**
+     * Adds a system to the next {@link #run}, after every system already added that it conflicts
+     * with. Its time is added to {@code phase} in the profiler.
+     */
+    public void add(FrameProfiler.Phase phase, long reads, long writes, Runnable work) {
+        if (count == MAX_TASKS) {
+            throw new IllegalStateException("A task graph holds at most " + MAX_TASKS + " tasks");
+        }
+        Task task = tasks[count];
+        task.phase = phase;
+        task.reads = reads;
+        task.writes = writes;
+        task.work = work;
+        task.dependents = 0;
+        int dependencies = 0;
+        for (int i = 0; i < count; i++) {
+            Task earlier = tasks[i];
+            if ((writes & (earlier.reads | earlier.writes)) != 0 || (reads & earlier.writes) != 0) {
+                earlier.dependents |= 1L << count;
+                dependencies++;
+            }
+        }
+        task.dependencies = dependencies;
+        count++;
+    }
+
+    /**
+     * Runs every system added since the last run and returns when all have finished. The first
+     * exception a system throws is rethrown here; systems that had not started by then are skipped.
+     */
+    public void run(FrameProfiler profiler) {
+        if (pool == null || count == 1) {
+            try {
+                long t = profiler.start();
+                for (int i = 0; i < count; i++) {
+                    tasks[i].work.run();
+                    t = profiler.end(tasks[i].phase, t);
+                }
+            } finally {
+                clear();
+            }
+            return;
+        }
+
+        waiter = Thread.currentThread();
+        remaining.set(count);
+        // Every count is set before anything starts, or a quick task could count down a stale one
+        for (int i = 0; i < count; i++) {
+            tasks[i].pending.set(tasks[i].dependencies);
+        }
+        Task first = null;
+        for (int i = 0; i < count; i++) {
+            Task task = tasks[i];
+            if (task.dependencies > 0) {
+                continue;
+            }
+            if (first == null) {
+                first = task; // The calling thread takes one itself rather than only waiting
+            } else {
+                pool.execute(task);
+            }
+        }
+        if (first != null) {
+            first.run();
+        }
+        while (remaining.get() > 0) {
+            LockSupport.park(this);
+        }
+
+        for (int i = 0; i < count; i++) {
+            profiler.add(tasks[i].phase, tasks[i].nanos);
+        }
+        clear();
+        Throwable thrown = failure.getAndSet(null);
+        if (thrown instanceof RuntimeException e) {
+            throw e;
+        } else if (thrown instanceof Error e) {
+            throw e;
+        }
+    }
+
+    // Drops the systems so the next tick starts an empty graph
+    private void clear() {
+        for (int i = 0; i < count; i++) {
+            tasks[i].work = null;
+        }
+        count = 0;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private final class Task implements Runnable {
+        private FrameProfiler.Phase phase;
+        private long reads, writes;
+        private Runnable work;
+        private long dependents; // Later tasks that wait for this one, one bit each
+        private int dependencies;
+        private final AtomicInteger pending = new AtomicInteger();
+        private long nanos;
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            if (failure.get() == null) {
+                try {
+                    work.run();
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+            nanos = System.nanoTime() - start;
+
+            for (long rest = dependents; rest != 0; rest &= rest - 1) {
+                Task dependent = tasks[Long.numberOfTrailingZeros(rest)];
+                if (dependent.pending.decrementAndGet() == 0) {
+                    pool.execute(dependent);
+                }
+            }
+            if (remaining.decrementAndGet() == 0) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+}
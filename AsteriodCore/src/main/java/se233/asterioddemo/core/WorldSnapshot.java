@@ -0,0 +1,330 @@
+package se233.asterioddemo.core;
+
+/**
+ * A copy of everything the renderer draws, taken between ticks. Once captured it is only read, so
+ * it can be drawn on one thread while the simulation carries on on another. Captures reuse the
+ * snapshot's arrays, so nothing is allocated after warm-up.
+ */
+public class WorldSnapshot {
+    private volatile long sequence; // Which publish this is, see SimulationThread
+    private long capturedNanos;
+    private long tick;
+    private long timeMillis;
+    private double alpha;        // How far game time had got towards the next tick at capture
+    private double ticksPerSecond; // Game ticks per real second at capture, zero while paused
+    private boolean paused;
+    private boolean gameOver;
+
+    private int score;
+    private int lives;
+    private boolean bossActive;
+    private long droneCooldownMs;
+
+    private final Body ship = new Body();
+    private boolean shipHitFlashing;
+    private int shipAnimationFrame;
+    private boolean shieldActive;
+    private double shieldAlpha;
+    private boolean thrusting;
+    private String bulletMode;
+    private int shipHealth;
+
+    private final Body drone = new Body();
+    private boolean droneActive;
+
+    private final Body boss = new Body();
+    private boolean bossPresent;
+    private boolean bossVisible;
+    private int bossHealth;
+    private int bossPhase;
+    private Boss.AttackPattern bossPattern;
+
+    private final Bodies asteroids = new Bodies();
+    private final Bodies enemyShips = new Bodies();
+    private final BulletSystem bullets = new BulletSystem();
+    private ParticleEngine particles;
+
+    /**
+     * Copies the simulation as it stands. {@code alpha} is how far game time has got from the last
+     * tick to the next, and {@code ticksPerSecond} how fast it is moving, so the renderer can carry
+     * on interpolating for as long as this stays the newest snapshot.
+     */
+    public void capture(GameSimulation simulation, double alpha, double ticksPerSecond) {
+        this.capturedNanos = System.nanoTime();
+        this.alpha = alpha;
+        this.ticksPerSecond = ticksPerSecond;
+        GameClock clock = simulation.getClock();
+        tick = simulation.getTickCount();
+        timeMillis = clock.millis();
+        paused = clock.isPaused();
+        gameOver = simulation.isGameOver();
+
+        GameState state = simulation.getGameState();
+        score = state.getScore();
+        lives = state.getLives();
+        droneCooldownMs = simulation.getDroneCooldownRemainingMs();
+
+        PlayerShip playerShip = simulation.getPlayerShip();
+        ship.set(playerShip, Math.toDegrees(playerShip.getAngle()), Sprites.NONE);
+        shipHitFlashing = playerShip.isHitFlashing();
+        shipAnimationFrame = playerShip.getAnimationFrame();
+        shieldActive = playerShip.isShieldActive();
+        shieldAlpha = playerShip.getShieldAlpha();
+        thrusting = playerShip.isThrusting();
+        bulletMode = playerShip.getBulletMode();
+        shipHealth = playerShip.getHealth();
+
+        Drone liveDrone = simulation.getDrone();
+        droneActive = liveDrone != null && liveDrone.isActive();
+        if (droneActive) {
+            drone.set(liveDrone, Math.toDegrees(liveDrone.getAngle()), Sprites.NONE);
+        }
+
+        GameEntityManager entities = simulation.getEntityManager();
+        bossActive = entities.isBossActive();
+        Boss liveBoss = entities.getBoss();
+        bossPresent = liveBoss != null;
+        if (bossPresent) {
+            boss.set(liveBoss, 0, liveBoss.getCurrentSpriteId());
+            bossVisible = liveBoss.isVisible();
+            bossHealth = liveBoss.getHealth();
+            bossPhase = liveBoss.getPhase();
+            bossPattern = liveBoss.getAttackPattern();
+        }
+
+        // Asteroids spin on their own; enemy ships point where they are heading
+        asteroids.copyFrom(entities.asteroids, false);
+        enemyShips.copyFrom(entities.enemyShips, true);
+
+        bullets.copyFrom(entities.getBulletSystem());
+        ParticleEngine liveParticles = entities.getParticleEngine();
+        if (particles == null || particles.getBudget() != liveParticles.getBudget()) {
+            particles = new ParticleEngine(liveParticles.getBudget());
+        }
+        particles.copyFrom(liveParticles);
+    }
+
+    // How far between the last two ticks to draw a frame shown at nowNanos (System.nanoTime())
+    public double alphaAt(long nowNanos) {
+        double elapsedTicks = (nowNanos - capturedNanos) / 1e9 * ticksPerSecond;
+        return Math.min(1.0, alpha + Math.max(0, elapsedTicks));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public boolean isBossActive() {
+        return bossActive;
+    }
+
+    public long getDroneCooldownRemainingMs() {
+        return droneCooldownMs;
+    }
+
+    public Body getShip() {
+        return ship;
+    }
+
+    public boolean isShipHitFlashing() {
+        return shipHitFlashing;
+    }
+
+    public int getShipAnimationFrame() {
+        return shipAnimationFrame;
+    }
+
+    public boolean isShieldActive() {
+        return shieldActive;
+    }
+
+    public double getShieldAlpha() {
+        return shieldAlpha;
+    }
+
+    public boolean isThrusting() {
+        return thrusting;
+    }
+
+    public String getBulletMode() {
+        return bulletMode;
+    }
+
+    public int getShipHealth() {
+        return shipHealth;
+    }
+
+    // Null when there is no active drone
+    public Body getDrone() {
+        return droneActive ? drone : null;
+    }
+
+    // Null when there is no boss
+    public Body getBoss() {
+        return bossPresent ? boss : null;
+    }
+
+    public boolean isBossVisible() {
+        return bossVisible;
+    }
+
+    public int getBossHealth() {
+        return bossHealth;
+    }
+
+    public int getBossPhase() {
+        return bossPhase;
+    }
+
+    public Boss.AttackPattern getBossPattern() {
+        return bossPattern;
+    }
+
+    public Bodies getAsteroids() {
+        return asteroids;
+    }
+
+    public Bodies getEnemyShips() {
+        return enemyShips;
+    }
+
+    public BulletSystem getBullets() {
+        return bullets;
+    }
+
+    public ParticleEngine getParticles() {
+        return particles;
+    }
+
+    /**
+     * Where one thing was before and after the last tick, which way it faces and what it looks like.
+     */
+    public static final class Body {
+        private double prevX, prevY, x, y, size, degrees;
+        private int spriteId;
+
+        void set(Character character, double rotation, int sprite) {
+            prevX = character.getPrevX();
+            prevY = character.getPrevY();
+            x = character.getX();
+            y = character.getY();
+            size = character.getSize();
+            degrees = rotation;
+            spriteId = sprite;
+        }
+
+        public double getX(double alpha) {
+            return prevX + (x - prevX) * alpha;
+        }
+
+        public double getY(double alpha) {
+            return prevY + (y - prevY) * alpha;
+        }
+
+        public double getSize() {
+            return size;
+        }
+
+        // Clockwise, in degrees
+        public double getRotation() {
+            return degrees;
+        }
+
+        public int getSpriteId() {
+            return spriteId;
+        }
+    }
+
+    /**
+     * Many bodies of one kind in parallel arrays, in the simulation's order.
+     */
+    public static final class Bodies {
+        private int count;
+        private double[] prevX = new double[64], prevY = new double[64], x = new double[64], y = new double[64];
+        private double[] size = new double[64], degrees = new double[64];
+        private int[] spriteId = new int[64];
+
+        // Whole columns at once, with the rotation taken from the heading rather than the spin if asked
+        void copyFrom(EntityStore<?> store, boolean faceHeading) {
+            int n = store.size();
+            if (x.length < n) {
+                int capacity = Math.max(n, x.length * 2); // Everything is copied over, so no need to keep the old contents
+                prevX = new double[capacity];
+                prevY = new double[capacity];
+                x = new double[capacity];
+                y = new double[capacity];
+                size = new double[capacity];
+                degrees = new double[capacity];
+                spriteId = new int[capacity];
+            }
+            System.arraycopy(store.prevXs(), 0, prevX, 0, n);
+            System.arraycopy(store.prevYs(), 0, prevY, 0, n);
+            System.arraycopy(store.xs(), 0, x, 0, n);
+            System.arraycopy(store.ys(), 0, y, 0, n);
+            System.arraycopy(store.sizes(), 0, size, 0, n);
+            System.arraycopy(store.spriteIds(), 0, spriteId, 0, n);
+            if (faceHeading) {
+                double[] headings = store.headings();
+                for (int i = 0; i < n; i++) {
+                    degrees[i] = Math.toDegrees(headings[i]);
+                }
+            } else {
+                System.arraycopy(store.rotations(), 0, degrees, 0, n);
+            }
+            count = n;
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public double getX(int i, double alpha) {
+            return prevX[i] + (x[i] - prevX[i]) * alpha;
+        }
+
+        public double getY(int i, double alpha) {
+            return prevY[i] + (y[i] - prevY[i]) * alpha;
+        }
+
+        public double getSize(int i) {
+            return size[i];
+        }
+
+        // Clockwise, in degrees
+        public double getRotation(int i) {
+            return degrees[i];
+        }
+
+        public int getSpriteId(int i) {
+            return spriteId[i];
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package se233.asterioddemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One tick of the AI pilot: what it went for and what it did about it.
+ */
+@Name("se233.asterioddemo.AiDecision")
+@Label("AI Decision")
+@Category({"AsteroidX", "Game"})
+@Description("One update of the AI pilot")
+@StackTrace(false)
+public final class AiDecisionEvent extends jdk.jfr.Event {
+    @Label("Target")
+    @Description("asteroid, enemy, boss or none")
+    public String target;
+
+    @Label("Action")
+    @Description("dodge, attack, retreat, approach or center")
+    public String action;
+
+    @Label("Target Distance")
+    public double targetDistance;
+
+    @Label("Fired")
+    public boolean fired;
+}
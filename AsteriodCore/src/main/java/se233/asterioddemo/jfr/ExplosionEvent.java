@@ -0,0 +1,38 @@
+package se233.asterioddemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One explosion spawned into the particle engine; the duration is the cost of spawning it.
+ */
+@Name("se233.asterioddemo.Explosion")
+@Label("Explosion Spawn")
+@Category({"AsteroidX", "Game"})
+@Description("Particles spawned for one explosion")
+@StackTrace(false)
+public final class ExplosionEvent extends jdk.jfr.Event {
+    @Label("Effect")
+    @Description("explosion, or the ship type for ship explosions")
+    public String effect;
+
+    @Label("X")
+    public double x;
+
+    @Label("Y")
+    public double y;
+
+    @Label("Size")
+    public double size;
+
+    @Label("Templated")
+    @Description("Copied from a pre-baked template rather than rolled")
+    public boolean templated;
+
+    @Label("Live Particles")
+    @Description("Particles alive in the engine after the spawn")
+    public int liveParticles;
+}
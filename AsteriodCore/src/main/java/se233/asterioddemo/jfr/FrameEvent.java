@@ -0,0 +1,79 @@
+package se233.asterioddemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import se233.asterioddemo.core.FrameProfiler;
+import se233.asterioddemo.core.GameEntityManager;
+import se233.asterioddemo.core.GameSimulation;
+
+/**
+ * One display frame of the game loop: how long it took, what was on screen and how long each
+ * {@link FrameProfiler} phase took within it.
+ */
+@Name("se233.asterioddemo.Frame")
+@Label("Frame")
+@Category({"AsteroidX", "Game Loop"})
+@Description("One display frame with entity counts and per-phase durations")
+@StackTrace(false)
+public final class FrameEvent extends jdk.jfr.Event {
+    @Label("Ticks")
+    @Description("Simulation ticks run during the frame")
+    public int ticks;
+
+    @Label("Asteroids")
+    public int asteroids;
+
+    @Label("Enemy Ships")
+    public int enemyShips;
+
+    @Label("Bullets")
+    public int bullets;
+
+    @Label("Particles")
+    public int particles;
+
+    @Label("Boss Active")
+    public boolean bossActive;
+
+    @Label("Player") @Timespan(Timespan.NANOSECONDS) public long player;
+    @Label("Spawning") @Timespan(Timespan.NANOSECONDS) public long spawning;
+    @Label("Bullet Update") @Timespan(Timespan.NANOSECONDS) public long bulletUpdate;
+    @Label("Enemy Update") @Timespan(Timespan.NANOSECONDS) public long enemyUpdate;
+    @Label("Asteroid Update") @Timespan(Timespan.NANOSECONDS) public long asteroidUpdate;
+    @Label("Boss Update") @Timespan(Timespan.NANOSECONDS) public long bossUpdate;
+    @Label("Explosions") @Timespan(Timespan.NANOSECONDS) public long explosions;
+    @Label("Collisions") @Timespan(Timespan.NANOSECONDS) public long collisions;
+    @Label("Draw World") @Timespan(Timespan.NANOSECONDS) public long drawWorld;
+    @Label("Draw Particles") @Timespan(Timespan.NANOSECONDS) public long drawParticles;
+    @Label("Draw UI") @Timespan(Timespan.NANOSECONDS) public long drawUi;
+
+    /**
+     * Fills in the counts from the simulation and the phases from the frame the profiler closed last.
+     */
+    public void capture(GameSimulation simulation, int ticks) {
+        GameEntityManager entities = simulation.getEntityManager();
+        this.ticks = ticks;
+        asteroids = entities.getAsteroids().size();
+        enemyShips = entities.getEnemyShips().size();
+        bullets = entities.getBulletSystem().getLiveCount();
+        particles = entities.getParticleEngine().getLiveCount();
+        bossActive = entities.isBossActive();
+
+        FrameProfiler profiler = simulation.getProfiler();
+        player = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.PLAYER);
+        spawning = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.SPAWNING);
+        bulletUpdate = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.BULLETS);
+        enemyUpdate = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.ENEMIES);
+        asteroidUpdate = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.ASTEROIDS);
+        bossUpdate = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.BOSS);
+        explosions = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.EXPLOSIONS);
+        collisions = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.COLLISIONS);
+        drawWorld = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.DRAW_WORLD);
+        drawParticles = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.DRAW_PARTICLES);
+        drawUi = profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.DRAW_UI);
+    }
+}
@@ -0,0 +1,38 @@
+package se233.asterioddemo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The boss stage starting or the boss being defeated.
+ */
+@Name("se233.asterioddemo.StageTransition")
+@Label("Stage Transition")
+@Category({"AsteroidX", "Game"})
+@Description("Boss stage started or boss defeated")
+@StackTrace(false)
+public final class StageTransitionEvent extends jdk.jfr.Event {
+    public static final String BOSS_STAGE_STARTED = "boss stage started";
+    public static final String BOSS_DEFEATED = "boss defeated";
+
+    @Label("Transition")
+    public String transition;
+
+    @Label("Game Time")
+    @Description("Game clock when it happened, which stops while paused")
+    @Timespan(Timespan.MILLISECONDS)
+    public long gameTime;
+
+    public static void emit(String transition, long gameTimeMillis) {
+        StageTransitionEvent event = new StageTransitionEvent();
+        if (event.shouldCommit()) {
+            event.transition = transition;
+            event.gameTime = gameTimeMillis;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package se233.asterioddemo.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters and gauges for one simulation. The game thread only adds to counters and
+ * overwrites gauges, neither of which waits on anything, so a scrape from another thread can
+ * read them at any time without slowing a tick down.
+ */
+public final class GameMetrics {
+    // Metrics sharing a name sit next to each other, so the exporter writes HELP and TYPE once for them
+    public enum Counter {
+        TICKS("asteroidx_ticks_total", null, "Simulation ticks run"),
+        ASTEROIDS_SPAWNED("asteroidx_spawns_total", "kind=\"asteroid\"", "Entities spawned by the spawner"),
+        ENEMY_SHIPS_SPAWNED("asteroidx_spawns_total", "kind=\"enemy_ship\"", "Entities spawned by the spawner"),
+        COLLISIONS_TESTED("asteroidx_collision_tests_total", null, "Narrow-phase collision tests run"),
+        COLLISIONS_HIT("asteroidx_collision_hits_total", null, "Collision tests that found a hit");
+
+        final String metric;
+        final String labels;
+        final String help;
+
+        Counter(String metric, String labels, String help) {
+            this.metric = metric;
+            this.labels = labels;
+            this.help = help;
+        }
+    }
+
+    public enum Gauge {
+        ASTEROIDS("asteroidx_entities", "list=\"asteroids\"", "Entities alive at the end of the last tick"),
+        ENEMY_SHIPS("asteroidx_entities", "list=\"enemy_ships\"", "Entities alive at the end of the last tick"),
+        BULLETS("asteroidx_entities", "list=\"bullets\"", "Entities alive at the end of the last tick"),
+        BOSS("asteroidx_entities", "list=\"boss\"", "Entities alive at the end of the last tick"),
+        PARTICLES("asteroidx_particles", null, "Explosion particles alive at the end of the last tick"),
+        SCORE("asteroidx_score", null, "Score of the current game"),
+        LEVEL("asteroidx_level", null, "Level of the current game"),
+        LIVES("asteroidx_lives", null, "Lives left in the current game");
+
+        final String metric;
+        final String labels;
+        final String help;
+
+        Gauge(String metric, String labels, String help) {
+            this.metric = metric;
+            this.labels = labels;
+            this.help = help;
+        }
+    }
+
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private final LongAdder[] counters = new LongAdder[COUNTERS.length];
+    private final AtomicLongArray gauges = new AtomicLongArray(Gauge.values().length);
+
+    public GameMetrics() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    public void increment(Counter counter) {
+        counters[counter.ordinal()].increment();
+    }
+
+    public void add(Counter counter, long amount) {
+        counters[counter.ordinal()].add(amount);
+    }
+
+    public void recordCollisions(int tested, int hits) {
+        if (tested > 0) {
+            counters[Counter.COLLISIONS_TESTED.ordinal()].add(tested);
+            counters[Counter.COLLISIONS_HIT.ordinal()].add(hits);
+        }
+    }
+
+    public long get(Counter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    // A release store: never waits, and a scrape sees it soon after
+    public void set(Gauge gauge, long value) {
+        gauges.lazySet(gauge.ordinal(), value);
+    }
+
+    public long get(Gauge gauge) {
+        return gauges.get(gauge.ordinal());
+    }
+}
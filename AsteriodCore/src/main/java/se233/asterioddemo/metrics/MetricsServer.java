@@ -0,0 +1,186 @@
+package se233.asterioddemo.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import se233.asterioddemo.core.FrameProfiler;
+import se233.asterioddemo.core.GameSimulation;
+import se233.asterioddemo.core.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Serves a simulation's {@link GameMetrics}, its {@link FrameProfiler} percentiles and JVM heap and
+ * GC stats in the Prometheus text format at {@code http://localhost:<port>/metrics}. Only listens
+ * on the loopback address, and answers on a thread of its own so the game loop never waits on it.
+ *
+ * <p>Opt in with {@code -Dasteroidx.metricsPort=9464}.
+ */
+public final class MetricsServer implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(MetricsServer.class.getName());
+
+    public static final String PORT_PROPERTY = "asteroidx.metricsPort";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final GameSimulation simulation;
+
+    private MetricsServer(HttpServer server, ExecutorService executor, GameSimulation simulation) {
+        this.server = server;
+        this.executor = executor;
+        this.simulation = simulation;
+    }
+
+    /**
+     * Starts serving {@code simulation} on {@code port}; 0 picks a free port.
+     */
+    public static MetricsServer start(int port, GameSimulation simulation) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        MetricsServer metricsServer = new MetricsServer(server, executor, simulation);
+        server.createContext("/metrics", metricsServer::handle);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Serving metrics on http://localhost:" + metricsServer.getPort() + "/metrics");
+        return metricsServer;
+    }
+
+    /**
+     * Starts a server when {@code -Dasteroidx.metricsPort} is set, otherwise returns null. A bad
+     * port or one already in use is logged and the game carries on without metrics.
+     */
+    public static MetricsServer startIfConfigured(GameSimulation simulation) {
+        String value = System.getProperty(PORT_PROPERTY);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return start(Integer.parseInt(value.trim()), simulation);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Cannot serve metrics on " + PORT_PROPERTY + " '" + value + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            StringBuilder body = new StringBuilder(8192);
+            write(body, simulation);
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    static void write(StringBuilder out, GameSimulation simulation) {
+        GameMetrics metrics = simulation.getMetrics();
+        String last = null;
+        for (GameMetrics.Counter counter : GameMetrics.Counter.values()) {
+            if (!counter.metric.equals(last)) {
+                header(out, counter.metric, "counter", counter.help);
+                last = counter.metric;
+            }
+            sample(out, counter.metric, counter.labels, metrics.get(counter));
+        }
+        for (GameMetrics.Gauge gauge : GameMetrics.Gauge.values()) {
+            if (!gauge.metric.equals(last)) {
+                header(out, gauge.metric, "gauge", gauge.help);
+                last = gauge.metric;
+            }
+            sample(out, gauge.metric, gauge.labels, metrics.get(gauge));
+        }
+
+        FrameProfiler profiler = simulation.getProfiler();
+        header(out, "asteroidx_frame_interval_seconds", "summary", "Time between the starts of two display frames");
+        summary(out, "asteroidx_frame_interval_seconds", null, profiler.getIntervalHistogram());
+        header(out, "asteroidx_frame_work_seconds", "summary", "Time spent updating and drawing one frame");
+        summary(out, "asteroidx_frame_work_seconds", null, profiler.getFrameHistogram());
+        header(out, "asteroidx_phase_seconds", "summary", "Time spent in each phase of a frame");
+        for (FrameProfiler.Phase phase : FrameProfiler.Phase.values()) {
+            summary(out, "asteroidx_phase_seconds", "phase=\"" + phase.name().toLowerCase(Locale.ROOT) + "\"",
+                    profiler.getHistogram(phase));
+        }
+
+        writeJvm(out);
+    }
+
+    private static void writeJvm(StringBuilder out) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        header(out, "jvm_memory_heap_bytes", "gauge", "Heap memory by area");
+        sample(out, "jvm_memory_heap_bytes", "area=\"used\"", heap.getUsed());
+        sample(out, "jvm_memory_heap_bytes", "area=\"committed\"", heap.getCommitted());
+        sample(out, "jvm_memory_heap_bytes", "area=\"max\"", heap.getMax());
+
+        header(out, "jvm_gc_collections_total", "counter", "Collections run by each garbage collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            sample(out, "jvm_gc_collections_total", gcLabel(gc), Math.max(0, gc.getCollectionCount()));
+        }
+        header(out, "jvm_gc_collection_seconds_total", "counter", "Time spent collecting by each garbage collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            out.append("jvm_gc_collection_seconds_total{").append(gcLabel(gc)).append("} ")
+                    .append(Math.max(0, gc.getCollectionTime()) / 1e3).append('\n');
+        }
+    }
+
+    private static String gcLabel(GarbageCollectorMXBean gc) {
+        return "gc=\"" + gc.getName().replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static void header(StringBuilder out, String metric, String type, String help) {
+        out.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String metric, String labels, long value) {
+        out.append(metric);
+        if (labels != null) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    // Percentiles cover everything since the profiler was created, so a long session smooths out
+    private static void summary(StringBuilder out, String metric, String labels, LatencyHistogram histogram) {
+        String prefix = labels == null ? "" : labels + ",";
+        for (double quantile : QUANTILES) {
+            out.append(metric).append('{').append(prefix).append("quantile=\"").append(quantile).append("\"} ")
+                    .append(histogram.getValueAtQuantile(quantile) / 1e9).append('\n');
+        }
+        String suffix = labels == null ? "" : "{" + labels + "}";
+        out.append(metric).append("_sum").append(suffix).append(' ').append(histogram.getSum() / 1e9).append('\n');
+        out.append(metric).append("_count").append(suffix).append(' ').append(histogram.getCount()).append('\n');
+    }
+}
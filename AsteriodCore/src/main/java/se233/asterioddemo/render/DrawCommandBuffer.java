@@ -0,0 +1,182 @@
+package se233.asterioddemo.render;
+
+import java.util.Arrays;
+
+/**
+ * A reusable list of draw commands, stored as parallel primitive arrays. Renderers submit sprites
+ * and shapes in any order; {@link #flush(DrawTarget)} sorts them by layer, then blend mode, and
+ * plays them into a {@link DrawTarget} setting blend, alpha, paint and line width only when they
+ * change.
+ * <p>
+ * Within a layer and blend mode normal blending keeps submission order, since later draws cover
+ * earlier ones. Additive draws commute, so those are also grouped by paint to save colour changes.
+ */
+public class DrawCommandBuffer {
+    public static final int BLEND_NORMAL = 0;
+    public static final int BLEND_ADD = 1;
+    public static final int MAX_LAYERS = 64;
+
+    private static final int SPRITE = 0;
+    private static final int FILL_RECT = 1;
+    private static final int FILL_OVAL = 2;
+    private static final int STROKE_OVAL = 3;
+    private static final int STROKE_LINE = 4;
+
+    // Sort key: layer, blend, paint group, then the command's index, which keeps the sort stable
+    private static final int INDEX_BITS = 24;
+    private static final int MAX_COMMANDS = 1 << INDEX_BITS;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int capacity;
+    private int count = 0;
+    private long[] keys;
+    private int[] kind;
+    private int[] blend;
+    private int[] paint;       // ARGB for shapes, the Sprites id for sprites
+    private double[] alpha;
+    private double[] x, y;     // Centre, or the start of a line
+    private double[] width, height; // Size, or the end of a line
+    private double[] degrees;
+    private double[] lineWidth;
+
+    public DrawCommandBuffer() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public void sprite(int layer, int spriteId, double cx, double cy, double size, double rotation, double opacity) {
+        int i = add(layer, SPRITE, BLEND_NORMAL, spriteId, opacity);
+        set(i, cx, cy, size, size, rotation, 0);
+    }
+
+    public void fillRect(int layer, int blendMode, double opacity, int argb, double cx, double cy, double w, double h, double rotation) {
+        int i = add(layer, FILL_RECT, blendMode, argb, opacity);
+        set(i, cx, cy, w, h, rotation, 0);
+    }
+
+    public void fillOval(int layer, int blendMode, double opacity, int argb, double cx, double cy, double w, double h) {
+        int i = add(layer, FILL_OVAL, blendMode, argb, opacity);
+        set(i, cx, cy, w, h, 0, 0);
+    }
+
+    public void strokeOval(int layer, int blendMode, double opacity, int argb, double stroke, double cx, double cy, double w, double h) {
+        int i = add(layer, STROKE_OVAL, blendMode, argb, opacity);
+        set(i, cx, cy, w, h, 0, stroke);
+    }
+
+    public void strokeLine(int layer, int blendMode, double opacity, int argb, double stroke, double x1, double y1, double x2, double y2) {
+        int i = add(layer, STROKE_LINE, blendMode, argb, opacity);
+        set(i, x1, y1, x2, y2, 0, stroke);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Draws every command in order and empties the buffer. The target is left with normal blending
+     * and full alpha; paint and line width are left as the last command set them.
+     */
+    public void flush(DrawTarget target) {
+        Arrays.sort(keys, 0, count);
+
+        int currentBlend = -1;
+        double currentAlpha = Double.NaN;
+        boolean paintSet = false;
+        int currentPaint = 0;
+        double currentLineWidth = Double.NaN;
+        for (int n = 0; n < count; n++) {
+            int i = (int) (keys[n] & (MAX_COMMANDS - 1));
+            if (blend[i] != currentBlend) {
+                currentBlend = blend[i];
+                target.setBlend(currentBlend);
+            }
+            if (alpha[i] != currentAlpha) {
+                currentAlpha = alpha[i];
+                target.setAlpha(currentAlpha);
+            }
+            if (kind[i] == SPRITE) {
+                target.drawSprite(paint[i], x[i], y[i], width[i], degrees[i]);
+                continue;
+            }
+            if (!paintSet || paint[i] != currentPaint) {
+                paintSet = true;
+                currentPaint = paint[i];
+                target.setPaint(currentPaint);
+            }
+            if ((kind[i] == STROKE_OVAL || kind[i] == STROKE_LINE) && lineWidth[i] != currentLineWidth) {
+                currentLineWidth = lineWidth[i];
+                target.setLineWidth(currentLineWidth);
+            }
+            switch (kind[i]) {
+                case FILL_RECT -> target.fillRect(x[i], y[i], width[i], height[i], degrees[i]);
+                case FILL_OVAL -> target.fillOval(x[i], y[i], width[i], height[i]);
+                case STROKE_OVAL -> target.strokeOval(x[i], y[i], width[i], height[i]);
+                default -> target.strokeLine(x[i], y[i], width[i], height[i]);
+            }
+        }
+
+        if (currentBlend > BLEND_NORMAL) {
+            target.setBlend(BLEND_NORMAL);
+        }
+        if (count > 0 && currentAlpha != 1.0) {
+            target.setAlpha(1.0);
+        }
+        count = 0;
+    }
+
+    private int add(int layer, int commandKind, int blendMode, int commandPaint, double opacity) {
+        if (layer < 0 || layer >= MAX_LAYERS) {
+            throw new IllegalArgumentException("Draw layer " + layer + " is outside 0.." + (MAX_LAYERS - 1));
+        }
+        if (count == capacity) {
+            if (capacity == MAX_COMMANDS) {
+                throw new IllegalStateException("Draw command buffer is full; flush it more often");
+            }
+            allocate(capacity * 2);
+        }
+        int i = count++;
+        long group = blendMode == BLEND_ADD ? Integer.toUnsignedLong(commandPaint) : 0;
+        keys[i] = ((long) layer << 57) | ((long) blendMode << 56) | (group << INDEX_BITS) | i;
+        kind[i] = commandKind;
+        blend[i] = blendMode;
+        paint[i] = commandPaint;
+        alpha[i] = opacity;
+        return i;
+    }
+
+    private void set(int i, double commandX, double commandY, double w, double h, double rotation, double stroke) {
+        x[i] = commandX;
+        y[i] = commandY;
+        width[i] = w;
+        height[i] = h;
+        degrees[i] = rotation;
+        lineWidth[i] = stroke;
+    }
+
+    private void allocate(int newCapacity) {
+        keys = keys == null ? new long[newCapacity] : Arrays.copyOf(keys, newCapacity);
+        kind = grow(kind, newCapacity);
+        blend = grow(blend, newCapacity);
+        paint = grow(paint, newCapacity);
+        alpha = grow(alpha, newCapacity);
+        x = grow(x, newCapacity);
+        y = grow(y, newCapacity);
+        width = grow(width, newCapacity);
+        height = grow(height, newCapacity);
+        degrees = grow(degrees, newCapacity);
+        lineWidth = grow(lineWidth, newCapacity);
+        capacity = newCapacity;
+    }
+
+    private static double[] grow(double[] array, int newCapacity) {
+        return array == null ? new double[newCapacity] : Arrays.copyOf(array, newCapacity);
+    }
+
+    private static int[] grow(int[] array, int newCapacity) {
+        return array == null ? new int[newCapacity] : Arrays.copyOf(array, newCapacity);
+    }
+}
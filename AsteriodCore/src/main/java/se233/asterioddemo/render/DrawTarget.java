@@ -0,0 +1,27 @@
+package se233.asterioddemo.render;
+
+/**
+ * Where a {@link DrawCommandBuffer} flushes to: the game's Canvas, or a recorder in tests. State
+ * set here stays in force until it is set again; the buffer only sets what actually changes.
+ */
+public interface DrawTarget {
+    void setBlend(int blend);
+
+    void setAlpha(double alpha);
+
+    // Fill and stroke colour, as ARGB
+    void setPaint(int argb);
+
+    void setLineWidth(double width);
+
+    // Centred on (x, y), turned {@code degrees} clockwise, longer side {@code size} pixels
+    void drawSprite(int spriteId, double x, double y, double size, double degrees);
+
+    void fillRect(double x, double y, double width, double height, double degrees);
+
+    void fillOval(double x, double y, double width, double height);
+
+    void strokeOval(double x, double y, double width, double height);
+
+    void strokeLine(double x1, double y1, double x2, double y2);
+}
@@ -0,0 +1,70 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulletSystemTest {
+
+    private BulletSystem bulletSystem;
+
+    @BeforeEach
+    public void setUp() {
+        bulletSystem = new BulletSystem();
+    }
+
+    @Test
+    public void testBulletMovesAlongSpawnAngle() {
+        int slot = bulletSystem.spawn(100, 100, 0, 10, BulletSystem.OWNER_PLAYER, Sprites.LASER_BLUE_07);
+
+        bulletSystem.update(1280, 720);
+
+        assertEquals(109, bulletSystem.getX(slot), 0.001, "Bullet should move 9px along its angle.");
+        assertEquals(100, bulletSystem.getPrevX(slot), 0.001, "Previous position should be kept for swept tests.");
+    }
+
+    @Test
+    public void testOffScreenBulletIsRemoved() {
+        bulletSystem.spawn(1275, 100, 0, 10, BulletSystem.OWNER_PLAYER, Sprites.LASER_BLUE_07);
+
+        bulletSystem.update(1280, 720);
+
+        assertEquals(0, bulletSystem.getLiveCount(), "Bullet leaving the screen should be removed.");
+        assertEquals(-1, bulletSystem.nextAlive(0));
+    }
+
+    @Test
+    public void testKilledSlotIsReused() {
+        int first = bulletSystem.spawn(100, 100, 0, 10, BulletSystem.OWNER_ENEMY, Sprites.LASER_RED_01);
+        int second = bulletSystem.spawn(200, 100, 0, 10, BulletSystem.OWNER_ENEMY, Sprites.LASER_RED_01);
+
+        bulletSystem.kill(first);
+
+        assertEquals(second, bulletSystem.nextAlive(0), "Iteration should skip dead slots.");
+        assertEquals(first, bulletSystem.spawn(300, 100, 0, 10, BulletSystem.OWNER_BOSS, Sprites.LASER_RED_09),
+                "A freed slot should be reused before growing.");
+        assertEquals(2, bulletSystem.getLiveCount());
+    }
+
+    @Test
+    public void testGrowsPastInitialCapacity() {
+        for (int i = 0; i < 3000; i++) {
+            bulletSystem.spawn(640, 360, i * 0.01, 12, BulletSystem.OWNER_BOSS, Sprites.LASER_RED_09);
+        }
+
+        assertEquals(3000, bulletSystem.getLiveCount(), "Boss patterns should be able to fill thousands of slots.");
+    }
+
+    @Test
+    public void testSpriteIdPicksTheBulletMode() {
+        int shuriken = bulletSystem.spawn(100, 100, 0, 12, BulletSystem.OWNER_PLAYER, Sprites.LASER_BLUE_11);
+        int pulse = bulletSystem.spawn(100, 200, 0, 15, BulletSystem.OWNER_PLAYER, Sprites.LASER_BLUE_08);
+
+        assertTrue(bulletSystem.isShuriken(shuriken));
+        assertFalse(bulletSystem.isShuriken(pulse));
+        assertEquals(Sprites.LASER_BLUE_08, bulletSystem.getSpriteId(pulse));
+        assertEquals(Sprites.LASER_BLUE_11, Sprites.id("laserBlue11.png"), "Ids should follow sheet.xml.");
+        assertEquals(Sprites.NONE, Sprites.id("missing.png"));
+    }
+}
@@ -1,4 +1,4 @@
-package se233.asterioddemo;
+package se233.asterioddemo.core;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,16 +11,14 @@ public class CharacterActionsTest {
     private PlayerShip playerShip;
     private Drone drone;
     private GameEntityManager gameEntityManager;
-    private SpriteLoader spriteLoader;
-    private InputController inputController;
+    private PlayerInput inputController;
 
     @BeforeEach
     public void setUp() {
-        SpriteLoader spriteLoader = new SpriteLoader("/sprite/sheet.png", "/sprite/sheet.xml");
         gameEntityManager = mock(GameEntityManager.class);
-        inputController = mock(InputController.class);
-        playerShip = new PlayerShip(100, 100, 5, 30, mock(SpriteLoader.class));
-        drone = new Drone(playerShip, spriteLoader, gameEntityManager);
+        inputController = mock(PlayerInput.class);
+        playerShip = new PlayerShip(100, 100, 5, 30);
+        drone = new Drone(playerShip, gameEntityManager);
     }
 
     @Test
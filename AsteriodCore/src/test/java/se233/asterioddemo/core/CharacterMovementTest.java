@@ -1,10 +1,9 @@
-package se233.asterioddemo;
+package se233.asterioddemo.core;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
 
 public class CharacterMovementTest {
 
@@ -12,8 +11,7 @@ public class CharacterMovementTest {
 
     @BeforeEach
     public void setUp() {
-        SpriteLoader spriteLoader = new SpriteLoader("/sprite/sheet.png", "/sprite/sheet.xml");
-        playerShip = new PlayerShip(100, 100, 5, 30, mock(SpriteLoader.class));
+        playerShip = new PlayerShip(100, 100, 5, 30);
     }
 
     @Test
@@ -0,0 +1,143 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import se233.asterioddemo.render.DrawCommandBuffer;
+import se233.asterioddemo.render.DrawTarget;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DrawCommandBufferTest {
+
+    private static final int RED = 0xffff0000;
+    private static final int BLUE = 0xff0000ff;
+
+    private DrawCommandBuffer buffer;
+    private RecordingTarget target;
+
+    @BeforeEach
+    public void setUp() {
+        buffer = new DrawCommandBuffer();
+        target = new RecordingTarget();
+    }
+
+    @Test
+    public void testLayersDrawBackToFront() {
+        buffer.fillOval(2, DrawCommandBuffer.BLEND_NORMAL, 1.0, RED, 30, 0, 4, 4);
+        buffer.sprite(0, Sprites.METEOR_BROWN_BIG_1, 10, 0, 60, 0, 1.0);
+        buffer.fillOval(1, DrawCommandBuffer.BLEND_NORMAL, 1.0, RED, 20, 0, 4, 4);
+
+        buffer.flush(target);
+
+        assertEquals(List.of("sprite " + Sprites.METEOR_BROWN_BIG_1 + " 10", "fillOval 20", "fillOval 30"), target.draws());
+        assertEquals(0, buffer.size(), "Flushing should empty the buffer.");
+    }
+
+    @Test
+    public void testNormalBlendKeepsSubmissionOrder() {
+        buffer.fillOval(0, DrawCommandBuffer.BLEND_NORMAL, 1.0, RED, 1, 0, 4, 4);
+        buffer.fillOval(0, DrawCommandBuffer.BLEND_NORMAL, 1.0, BLUE, 2, 0, 4, 4);
+        buffer.fillOval(0, DrawCommandBuffer.BLEND_NORMAL, 1.0, RED, 3, 0, 4, 4);
+
+        buffer.flush(target);
+
+        assertEquals(List.of("fillOval 1", "fillOval 2", "fillOval 3"), target.draws(), "Later draws cover earlier ones.");
+    }
+
+    @Test
+    public void testAdditiveDrawsAreGroupedByPaint() {
+        for (int i = 0; i < 10; i++) {
+            buffer.fillOval(0, DrawCommandBuffer.BLEND_ADD, 0.5, i % 2 == 0 ? RED : BLUE, i, 0, 4, 4);
+        }
+
+        buffer.flush(target);
+
+        assertEquals(2, target.count("paint"), "Ten additive ovals in two colours need two paint changes.");
+        assertEquals(1, target.count("alpha 0.5"), "Alpha should only be set when it changes.");
+        assertEquals(10, target.draws().size());
+    }
+
+    @Test
+    public void testBlendIsSortedAndResetAfterFlush() {
+        buffer.fillOval(0, DrawCommandBuffer.BLEND_ADD, 1.0, RED, 1, 0, 4, 4);
+        buffer.fillOval(0, DrawCommandBuffer.BLEND_NORMAL, 1.0, RED, 2, 0, 4, 4);
+        buffer.fillOval(0, DrawCommandBuffer.BLEND_ADD, 1.0, RED, 3, 0, 4, 4);
+
+        buffer.flush(target);
+
+        assertEquals(List.of("blend 0", "alpha 1.0", "paint ffff0000", "fillOval 2", "blend 1", "fillOval 1", "fillOval 3", "blend 0"),
+                target.calls);
+    }
+
+    @Test
+    public void testGrowsPastInitialCapacity() {
+        for (int i = 0; i < 5000; i++) {
+            buffer.strokeLine(3, DrawCommandBuffer.BLEND_NORMAL, 1.0, BLUE, 2, i, 0, i + 1, 1);
+        }
+
+        buffer.flush(target);
+
+        assertEquals(5000, target.draws().size());
+        assertEquals(1, target.count("lineWidth"));
+    }
+
+    private static final class RecordingTarget implements DrawTarget {
+        final List<String> calls = new ArrayList<>();
+
+        List<String> draws() {
+            return calls.stream().filter(call -> call.startsWith("fill") || call.startsWith("stroke") || call.startsWith("sprite")).toList();
+        }
+
+        long count(String prefix) {
+            return calls.stream().filter(call -> call.startsWith(prefix)).count();
+        }
+
+        @Override
+        public void setBlend(int blend) {
+            calls.add("blend " + blend);
+        }
+
+        @Override
+        public void setAlpha(double alpha) {
+            calls.add("alpha " + alpha);
+        }
+
+        @Override
+        public void setPaint(int argb) {
+            calls.add("paint " + Integer.toHexString(argb));
+        }
+
+        @Override
+        public void setLineWidth(double width) {
+            calls.add("lineWidth " + width);
+        }
+
+        @Override
+        public void drawSprite(int spriteId, double x, double y, double size, double degrees) {
+            calls.add("sprite " + spriteId + " " + (int) x);
+        }
+
+        @Override
+        public void fillRect(double x, double y, double width, double height, double degrees) {
+            calls.add("fillRect " + (int) x);
+        }
+
+        @Override
+        public void fillOval(double x, double y, double width, double height) {
+            calls.add("fillOval " + (int) x);
+        }
+
+        @Override
+        public void strokeOval(double x, double y, double width, double height) {
+            calls.add("strokeOval " + (int) x);
+        }
+
+        @Override
+        public void strokeLine(double x1, double y1, double x2, double y2) {
+            calls.add("strokeLine " + (int) x1);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityStoreTest {
+
+    private EntityStore<Asteroid> asteroids;
+    private GameRandom random;
+
+    @BeforeEach
+    public void setUp() {
+        asteroids = new EntityStore<>();
+        random = new GameRandom(42);
+    }
+
+    @Test
+    public void testAddedAsteroidKeepsItsState() {
+        Asteroid asteroid = new Asteroid(100, 200, 2, 40, 2, false, random);
+        double rotation = asteroid.getRotationAngle();
+        int sprite = asteroid.getSpriteId();
+
+        asteroids.add(asteroid);
+
+        assertSame(asteroid, asteroids.get(0));
+        assertEquals(100, asteroids.getX(0));
+        assertEquals(200, asteroid.getY());
+        assertEquals(40, asteroid.getSize());
+        assertEquals(2, asteroid.getPoints());
+        assertEquals(rotation, asteroid.getRotationAngle());
+        assertEquals(sprite, asteroids.getSpriteId(0));
+    }
+
+    @Test
+    public void testSpawnBuildsStraightOverTheNextRow() {
+        Asteroid loose = new Asteroid(100, 200, 2, 40, 2, false, new GameRandom(42));
+        Asteroid spawned = Asteroid.spawn(asteroids, 100, 200, 2, 40, 2, false, new GameRandom(42));
+
+        assertSame(asteroids, spawned.store, "A spawned asteroid should not have a row of its own first.");
+        assertSame(spawned, asteroids.get(0));
+        assertEquals(0, asteroids.rowOf(asteroids.handle(0)));
+        assertEquals(loose.getRotationAngle(), spawned.getRotationAngle(), "Spawning should roll the same as constructing.");
+        assertEquals(loose.getSpriteId(), spawned.getSpriteId());
+        assertThrows(IllegalStateException.class, () -> asteroids.attach(spawned), "A row is only taken on once.");
+    }
+
+    @Test
+    public void testSpawnedRowStartsClean() {
+        Asteroid first = add(10);
+        asteroids.setHealth(0, 5);
+        asteroids.setTimer(0, 30);
+        asteroids.remove(first);
+
+        Asteroid.spawn(asteroids, 20, 100, 1, 20, 1, false, random);
+
+        assertEquals(0, asteroids.getHealth(0), "A reused row should not keep the last entity's state.");
+        assertEquals(0, asteroids.getTimer(0));
+        assertEquals(10, first.getX(), "The removed asteroid should still read as it was.");
+    }
+
+    @Test
+    public void testSplitSpawnsThePiecesIntoTheStore() {
+        Asteroid asteroid = add(300);
+        asteroid.setSize(60);
+
+        assertEquals(2, asteroid.split(asteroids));
+        assertEquals(3, asteroids.size());
+        assertSame(asteroids, asteroids.get(2).store);
+        assertEquals(40, asteroids.getSize(1));
+        assertEquals(300, asteroids.getX(2));
+
+        Asteroid small = add(500);
+        assertEquals(0, small.split(asteroids), "A small asteroid should not break up.");
+        assertEquals(4, asteroids.size());
+    }
+
+    @Test
+    public void testRemovingMovesTheLastRowIntoTheGap() {
+        Asteroid first = add(10);
+        Asteroid second = add(20);
+        Asteroid third = add(30);
+
+        asteroids.remove(first);
+
+        assertEquals(2, asteroids.size());
+        assertSame(third, asteroids.get(0));
+        assertSame(second, asteroids.get(1));
+        third.setX(35);
+        assertEquals(35, asteroids.getX(0), "A view should write the row it moved to.");
+        assertEquals(10, first.getX(), "A removed view should still read as it was.");
+        first.setX(15);
+        assertEquals(35, asteroids.getX(0), "A removed view should no longer touch the store.");
+    }
+
+    @Test
+    public void testKilledRowsStayPutUntilRemoveDead() {
+        for (int i = 0; i < 10; i++) {
+            add(i);
+        }
+
+        asteroids.kill(2);
+        asteroids.kill(9);
+        asteroids.kill(2);
+
+        assertEquals(10, asteroids.size(), "Killing only marks the row.");
+        assertTrue(asteroids.isDead(2));
+        assertEquals(3, asteroids.getX(3), "Other rows should not move before removeDead.");
+
+        asteroids.removeDead();
+
+        assertEquals(8, asteroids.size());
+        Set<Double> left = new HashSet<>();
+        for (int i = 0; i < asteroids.size(); i++) {
+            assertFalse(asteroids.isDead(i));
+            assertEquals(i, asteroids.get(i).row, "Every view should know its new row.");
+            left.add(asteroids.getX(i));
+        }
+        assertEquals(Set.of(0.0, 1.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0), left);
+    }
+
+    @Test
+    public void testRemoveIfRemovesEveryMatch() {
+        for (int i = 0; i < 100; i++) {
+            add(i);
+        }
+
+        asteroids.removeIf(asteroid -> asteroid.getX() % 2 == 0);
+
+        assertEquals(50, asteroids.size());
+        for (Asteroid asteroid : asteroids) {
+            assertEquals(1, asteroid.getX() % 2);
+        }
+    }
+
+    @Test
+    public void testRemoveIfLeavesRowsKilledElsewhereForRemoveDead() {
+        for (int i = 0; i < 10; i++) {
+            add(i);
+        }
+        asteroids.kill(2);
+        asteroids.kill(8);
+        Asteroid killedLast = asteroids.get(8);
+
+        asteroids.removeIf(asteroid -> asteroid.getX() == 5 || asteroid.getX() == 9 || asteroid.getX() == 8);
+
+        assertEquals(7, asteroids.size());
+        assertEquals(2, asteroids.getX(2), "A killed row should keep its place until removeDead.");
+        assertTrue(asteroids.isDead(2));
+        assertFalse(asteroids.contains(killedLast), "A killed row that matched should go with the rest.");
+        Set<Double> left = new HashSet<>();
+        for (int i = 0; i < asteroids.size(); i++) {
+            assertEquals(i == 2, asteroids.isDead(i), "Only the row killed elsewhere should be pending.");
+            left.add(asteroids.getX(i));
+        }
+        assertEquals(Set.of(0.0, 1.0, 2.0, 3.0, 4.0, 6.0, 7.0), left);
+
+        asteroids.removeDead();
+        assertEquals(6, asteroids.size());
+    }
+
+    @Test
+    public void testKillRejectsRowsPastTheEnd() {
+        add(10);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> asteroids.kill(1));
+        add(20);
+        assertFalse(asteroids.isDead(1), "A new row should not start out killed.");
+    }
+
+    @Test
+    public void testHandleFollowsItsEntityAndGoesStaleWhenItIsGone() {
+        add(10);
+        add(20);
+        Asteroid third = add(30);
+        int handle = asteroids.handle(2);
+        int removedHandle = asteroids.handle(0);
+
+        asteroids.kill(0);
+        assertEquals(-1, asteroids.rowOf(removedHandle), "A killed entity should not resolve.");
+        asteroids.removeDead();
+
+        assertSame(third, asteroids.get(asteroids.rowOf(handle)), "The handle should follow the row that filled the gap.");
+        assertEquals(-1, asteroids.rowOf(removedHandle));
+        add(40); // Takes the freed slot
+        assertEquals(-1, asteroids.rowOf(removedHandle), "A reused slot should not bring an old handle back.");
+        assertEquals(-1, asteroids.rowOf(EntityStore.NO_HANDLE));
+    }
+
+    @Test
+    public void testEntityCanOnlyBeInOneStore() {
+        Asteroid asteroid = add(10);
+        EntityStore<Asteroid> other = new EntityStore<>();
+
+        assertThrows(IllegalArgumentException.class, () -> other.add(asteroid));
+        asteroids.remove(asteroid);
+        other.add(asteroid);
+        assertEquals(10, other.getX(0), "Once removed it can move to another store.");
+    }
+
+    @Test
+    public void testRemovedRowsShareOneStoreUntilTheNextRemoveDead() {
+        Asteroid first = add(10);
+        Asteroid second = add(20);
+        add(30);
+
+        asteroids.kill(0);
+        asteroids.kill(1);
+        asteroids.removeDead();
+
+        assertSame(first.store, second.store, "Removal should not make a store per entity.");
+        assertEquals(10, first.getX(), "A removed view should read as it was until the next removeDead.");
+        assertEquals(20, second.getX());
+
+        asteroids.kill(0);
+        asteroids.removeDead();
+
+        assertThrows(IndexOutOfBoundsException.class, first::getX, "A recycled row should not be readable.");
+        assertThrows(IllegalStateException.class, () -> asteroids.add(first));
+    }
+
+    @Test
+    public void testReaddedViewIsNotRecycled() {
+        Asteroid asteroid = add(10);
+        EntityStore<Asteroid> other = new EntityStore<>();
+
+        asteroids.remove(asteroid);
+        other.add(asteroid);
+        asteroids.removeDead();
+
+        assertEquals(10, asteroid.getX(), "Moving on to another store should keep it out of the removed rows.");
+        assertSame(asteroid, other.get(0));
+    }
+
+    @Test
+    public void testDriftOverTheStoreMatchesMovingEachAsteroid() {
+        Asteroid loose = new Asteroid(400, 300, 2, 40, 1, false, new GameRandom(7));
+        Asteroid stored = new Asteroid(400, 300, 2, 40, 1, false, new GameRandom(7));
+        asteroids.add(stored);
+        for (int i = 0; i < 70; i++) {
+            add(i * 10);
+        }
+
+        for (int i = 0; i < 300; i++) {
+            loose.move(1.0);
+            loose.handleScreenEdges(1280, 720);
+            asteroids.drift(0, asteroids.size(), 1.0);
+            asteroids.wrap(0, asteroids.size(), 1280, 720);
+        }
+
+        assertEquals(loose.getX(), stored.getX());
+        assertEquals(loose.getY(), stored.getY());
+        assertEquals(loose.getRotationAngle(), stored.getRotationAngle());
+    }
+
+    private Asteroid add(double x) {
+        Asteroid asteroid = new Asteroid(x, 100, 1, 20, 1, false, random);
+        asteroids.add(asteroid);
+        return asteroid;
+    }
+}
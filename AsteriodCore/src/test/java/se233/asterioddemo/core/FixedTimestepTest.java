@@ -0,0 +1,63 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedTimestepTest {
+
+    @Test
+    public void testOneSecondRunsOneSecondOfTicksAtEveryRate() {
+        for (int rate : FixedTimestep.SUPPORTED_RATES) {
+            FixedTimestep timestep = new FixedTimestep(rate);
+            int ticks = 0;
+            // Display at 144 Hz so frame and tick boundaries never line up
+            for (int frame = 0; frame < 144; frame++) {
+                ticks += timestep.advance(1.0 / 144);
+            }
+            assertTrue(Math.abs(ticks - rate) <= 1, rate + " Hz should run about " + rate + " ticks per second, ran " + ticks);
+        }
+    }
+
+    @Test
+    public void testLongFrameIsClampedToAvoidCatchUpSpiral() {
+        FixedTimestep timestep = new FixedTimestep(60);
+
+        int ticks = timestep.advance(5.0);
+
+        assertEquals(15, ticks, "A five second stall should only run a quarter second of ticks.");
+    }
+
+    @Test
+    public void testAlphaIsLeftoverFractionOfATick() {
+        FixedTimestep timestep = new FixedTimestep(60);
+
+        int ticks = timestep.advance(1.5 / 60);
+
+        assertEquals(1, ticks);
+        assertEquals(0.5, timestep.getAlpha(), 1e-9);
+    }
+
+    @Test
+    public void testUnsupportedRateIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(75));
+    }
+
+    @Test
+    public void testFasterTickRateCoversSameDistance() {
+        Asteroid asteroid = new Asteroid(400, 300, 2, 40, 1, false);
+
+        // One 60 Hz tick, then the same time as four 240 Hz ticks
+        asteroid.move(1.0);
+        double stepX = asteroid.getX() - 400;
+        double stepY = asteroid.getY() - 300;
+        double x = asteroid.getX();
+        double y = asteroid.getY();
+        for (int i = 0; i < 4; i++) {
+            asteroid.move(0.25);
+        }
+
+        assertEquals(stepX, asteroid.getX() - x, 1e-9);
+        assertEquals(stepY, asteroid.getY() - y, 1e-9);
+    }
+}
@@ -0,0 +1,95 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class FrameProfilerTest {
+
+    @Test
+    public void testPercentilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long ms = 1; ms <= 1000; ms++) {
+            histogram.record(ms * 1_000_000);
+        }
+
+        assertEquals(500e6, histogram.getValueAtQuantile(0.5), 500e6 * 0.04);
+        assertEquals(990e6, histogram.getValueAtQuantile(0.99), 990e6 * 0.04);
+        assertEquals(1000_000_000L, histogram.getMax());
+        assertTrue(histogram.getValueAtQuantile(0.999) <= histogram.getMax(), "No percentile should exceed the max.");
+    }
+
+    @Test
+    public void testSingleSpikeShowsOnlyInTheTail() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 999; i++) {
+            histogram.record(2_000_000);
+        }
+        histogram.record(40_000_000);
+
+        assertTrue(histogram.getValueAtQuantile(0.99) < 2_100_000, "One spike in a thousand should not move p99.");
+        assertEquals(40_000_000, histogram.getMax());
+        assertTrue(histogram.getValueAtQuantile(0.9995) >= 39_000_000, "The spike should show at p99.95.");
+    }
+
+    @Test
+    public void testBucketsCoverEveryValueInOrder() {
+        int previous = -1;
+        for (long value = 0; value < 1 << 20; value += 7) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(bucket >= previous, "Buckets should never go backwards.");
+            assertTrue(value <= LatencyHistogram.upperBoundOf(bucket), "A value should be within its bucket.");
+            previous = bucket;
+        }
+        assertTrue(LatencyHistogram.bucketOf(Long.MAX_VALUE) >= 0);
+    }
+
+    @Test
+    public void testConcurrentRecordingLosesNothing() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+    }
+
+    @Test
+    public void testTicksRecordTheirPhasesPerFrame() throws IOException {
+        GameSimulation simulation = new GameSimulation(1280, 720, 7);
+        simulation.reset();
+        FrameProfiler profiler = simulation.getProfiler();
+        PlayerInput input = mock(PlayerInput.class);
+
+        for (int frame = 0; frame < 10; frame++) {
+            profiler.beginFrame();
+            simulation.tick(input, 1.0 / 60);
+            simulation.tick(input, 1.0 / 60);
+            profiler.endFrame();
+        }
+
+        assertEquals(10, profiler.getFrameHistogram().getCount());
+        assertEquals(10, profiler.getHistogram(FrameProfiler.Phase.COLLISIONS).getCount(), "Two ticks should add up to one frame.");
+        assertEquals(0, profiler.getHistogram(FrameProfiler.Phase.BOSS).getCount(), "Phases that never ran stay empty.");
+        assertEquals(10, profiler.getHistorySize());
+        assertTrue(profiler.getHistoryFrameNanos(0) >= profiler.getHistoryPhaseNanos(0, FrameProfiler.Phase.COLLISIONS));
+
+        StringBuilder report = new StringBuilder();
+        profiler.writeReport(report);
+        assertTrue(report.toString().contains("collisions"));
+    }
+}
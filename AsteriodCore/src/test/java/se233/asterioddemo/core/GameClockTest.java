@@ -0,0 +1,50 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameClockTest {
+
+    @Test
+    public void testAdvanceAccumulatesWithoutDrift() {
+        GameClock clock = new GameClock();
+
+        for (int i = 0; i < 6000; i++) {
+            clock.advance(1.0 / 60.0);
+        }
+
+        assertEquals(100_000, clock.millis(), "6000 ticks at 60 Hz should be exactly 100 seconds.");
+    }
+
+    @Test
+    public void testPausedClockLetsNoGameTimePass() {
+        GameClock clock = new GameClock();
+        clock.setPaused(true);
+
+        assertEquals(0, clock.toGameSeconds(0.5));
+    }
+
+    @Test
+    public void testTimeScaleStretchesRealTime() {
+        GameClock clock = new GameClock();
+        clock.setTimeScale(0.25);
+
+        assertEquals(0.25, clock.toGameSeconds(1.0), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> clock.setTimeScale(0));
+    }
+
+    @Test
+    public void testShieldExpiresOnGameTimeNotWallTime() {
+        GameClock clock = new GameClock();
+        PlayerShip ship = new PlayerShip(100, 100, 5, 30, clock);
+        ship.activateShield();
+
+        ship.updateShield();
+        assertTrue(ship.isShieldActive(), "Shield should hold until game time moves.");
+
+        clock.advance(3.0);
+        ship.updateShield();
+        assertFalse(ship.isShieldActive(), "Shield should drop after three seconds of game time.");
+    }
+}
@@ -0,0 +1,65 @@
+package se233.asterioddemo.core;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class GameEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testGameActivityShowsUpInAFlightRecording() throws Exception {
+        GameSimulation simulation = new GameSimulation(1280, 720, 11);
+        simulation.reset();
+        PlayerInput input = mock(PlayerInput.class);
+        when(input.isAIModeActive()).thenReturn(true);
+
+        Path file = tempDir.resolve("game.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("se233.asterioddemo.AiDecision");
+            recording.enable("se233.asterioddemo.Explosion");
+            recording.enable("se233.asterioddemo.StageTransition");
+            recording.start();
+
+            for (int i = 0; i < 600 && !simulation.isGameOver(); i++) {
+                simulation.tick(input, 1.0 / 60);
+            }
+            assertFalse(simulation.isGameOver(), "The AI should survive long enough to meet the boss.");
+            GameEntityManager entities = simulation.getEntityManager();
+            entities.startBossStage(SoundEffect.NONE);
+            Boss boss = entities.getBoss();
+            while (boss.getHealth() > 10) {
+                boss.takeDamage();
+            }
+            entities.addBullet(new Bullet(boss.getX(), boss.getY(), 0, Sprites.LASER_BLUE_07, 1));
+            simulation.tick(input, 1.0 / 60); // The last hit lands in this tick's collision pass
+            assertFalse(entities.isBossActive());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertTrue(count(events, "se233.asterioddemo.AiDecision") > 0, "Every AI tick should be recorded.");
+        assertTrue(count(events, "se233.asterioddemo.Explosion") > 0, "The AI should have blown something up.");
+        List<String> transitions = events.stream()
+                .filter(e -> e.getEventType().getName().equals("se233.asterioddemo.StageTransition"))
+                .map(e -> e.getString("transition"))
+                .toList();
+        assertEquals(List.of("boss stage started", "boss defeated"), transitions);
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+}
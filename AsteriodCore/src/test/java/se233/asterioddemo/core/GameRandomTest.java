@@ -0,0 +1,44 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameRandomTest {
+
+    @Test
+    public void testSameSeedGivesSameStreams() {
+        GameRandom first = new GameRandom(42);
+        GameRandom second = new GameRandom(42);
+
+        for (GameRandom.Stream stream : GameRandom.Stream.values()) {
+            assertEquals(first.get(stream).nextLong(), second.get(stream).nextLong(), stream + " should repeat.");
+        }
+    }
+
+    @Test
+    public void testStreamsDoNotDisturbEachOther() {
+        GameRandom quiet = new GameRandom(7);
+        GameRandom busy = new GameRandom(7);
+
+        // Lots of explosions in one game must not move the next asteroid spawn
+        for (int i = 0; i < 1000; i++) {
+            busy.get(GameRandom.Stream.PARTICLES).nextDouble();
+        }
+
+        assertEquals(quiet.get(GameRandom.Stream.SPAWNS).nextLong(), busy.get(GameRandom.Stream.SPAWNS).nextLong());
+    }
+
+    @Test
+    public void testChunkStreamsIgnoreOrderOfUse() {
+        GameRandom random = new GameRandom(99);
+
+        // Chunks handed out in any order, as worker threads would take them, roll the same numbers
+        long chunkTwo = random.forChunk(GameRandom.Stream.ASTEROIDS, 10, 2).nextLong();
+        long chunkZero = random.forChunk(GameRandom.Stream.ASTEROIDS, 10, 0).nextLong();
+
+        assertEquals(chunkZero, random.forChunk(GameRandom.Stream.ASTEROIDS, 10, 0).nextLong());
+        assertEquals(chunkTwo, random.forChunk(GameRandom.Stream.ASTEROIDS, 10, 2).nextLong());
+        assertNotEquals(chunkZero, chunkTwo);
+    }
+}
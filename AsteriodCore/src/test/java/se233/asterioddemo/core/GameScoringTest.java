@@ -1,34 +1,30 @@
-package se233.asterioddemo;
+package se233.asterioddemo.core;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import se233.asterioddemo.*;
 import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.mock;
 
 public class GameScoringTest {
     private GameEntityManager gameEntityManager;
     private GameState gameState;
     private PlayerShip playerShip;
-    private SpriteLoader spriteLoader;
     private Logger logger;
 
     @BeforeEach
     public void setUp() {
-        spriteLoader = mock(SpriteLoader.class);
-        gameEntityManager = new GameEntityManager(spriteLoader);
+        gameEntityManager = new GameEntityManager();
         gameState = new GameState();
-        playerShip = new PlayerShip(100, 100, 5, 30, mock(SpriteLoader.class));
+        playerShip = new PlayerShip(100, 100, 5, 30);
         logger = Logger.getLogger("TestLogger");
     }
 
     @Test
     public void testScoreIncreasesWhenAsteroidIsDestroyed() {
-        Asteroid largeAsteroid = new Asteroid(100, 100, 2, 60, 3, false, mock(SpriteLoader.class));
+        Asteroid largeAsteroid = new Asteroid(100, 100, 2, 60, 3, false);
         gameEntityManager.asteroids.add(largeAsteroid);
-        Bullet bullet = new Bullet(100, 100, 0, mock(SpriteLoader.class), mock(SpriteLoader.class).toString(), 10);
+        Bullet bullet = new Bullet(100, 100, 0, Sprites.LASER_BLUE_07, 10);
         gameEntityManager.addBullet(bullet);
 
         gameEntityManager.checkPlayerBulletAsteroidCollisions(gameState, logger);
@@ -38,9 +34,9 @@ public class GameScoringTest {
 
     @Test
     public void testScoreIncreasesWhenMediumAsteroidIsDestroyed() {
-        Asteroid mediumAsteroid = new Asteroid(100, 100, 2, 40, 2, false, mock(SpriteLoader.class));
+        Asteroid mediumAsteroid = new Asteroid(100, 100, 2, 40, 2, false);
         gameEntityManager.asteroids.add(mediumAsteroid);
-        Bullet bullet = new Bullet(100, 100, 0, mock(SpriteLoader.class), mock(SpriteLoader.class).toString(), 10);
+        Bullet bullet = new Bullet(100, 100, 0, Sprites.LASER_BLUE_07, 10);
         gameEntityManager.addBullet(bullet);
 
         gameEntityManager.checkPlayerBulletAsteroidCollisions(gameState, logger);
@@ -50,9 +46,9 @@ public class GameScoringTest {
 
     @Test
     public void testScoreIncreasesWhenSmallAsteroidIsDestroyed() {
-        Asteroid smallAsteroid = new Asteroid(100, 100, 2, 20, 1, false, mock(SpriteLoader.class));
+        Asteroid smallAsteroid = new Asteroid(100, 100, 2, 20, 1, false);
         gameEntityManager.asteroids.add(smallAsteroid);
-        Bullet bullet = new Bullet(100, 100, 0, mock(SpriteLoader.class), mock(SpriteLoader.class).toString(), 10);
+        Bullet bullet = new Bullet(100, 100, 0, Sprites.LASER_BLUE_07, 10);
         gameEntityManager.addBullet(bullet);
 
         gameEntityManager.checkPlayerBulletAsteroidCollisions(gameState, logger);
@@ -62,7 +58,7 @@ public class GameScoringTest {
 
     @Test
     public void testScoreIncreasesWhenEnemyShipIsDestroyed() {
-        EnemyShip enemyShip = new EnemyShip(200, 200, 1, 75, Math.PI / 2,  mock(SpriteLoader.class));
+        EnemyShip enemyShip = new EnemyShip(200, 200, 1, 75, Math.PI / 2);
         gameEntityManager.enemyShips.add(enemyShip);
         while (enemyShip.getHealth() > 0) {
             enemyShip.takeDamage(10);
@@ -75,8 +71,8 @@ public class GameScoringTest {
 
     @Test
     public void testScoreIncreasesWhenBossIsDefeated() {
-        Boss boss = new Boss(300, 300, 2, 100,  mock(SpriteLoader.class));
-        gameEntityManager.startBossStage(null);
+        Boss boss = new Boss(300, 300, 2, 100);
+        gameEntityManager.startBossStage(SoundEffect.NONE);
         gameEntityManager.boss = boss;
         gameEntityManager.setBossActive(true);
 
@@ -0,0 +1,112 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class GameSimulationTest {
+    private static final double TICK = 1.0 / 60.0;
+
+    private GameSimulation simulation;
+    private PlayerInput input;
+
+    @BeforeEach
+    public void setUp() {
+        simulation = new GameSimulation(1280, 720, 1);
+        simulation.reset();
+        input = mock(PlayerInput.class);
+    }
+
+    @Test
+    public void testTicksSpawnEntitiesWithoutDisplay() {
+        for (int i = 0; i < 120; i++) {
+            simulation.tick(input, TICK);
+        }
+
+        assertFalse(simulation.getEntityManager().getAsteroids().isEmpty(), "Asteroids should spawn over two seconds of ticks.");
+    }
+
+    @Test
+    public void testShootingFiresBulletAndPlaysLaser() {
+        SoundEffect laser = mock(SoundEffect.class);
+        simulation.setSounds(laser, SoundEffect.NONE, SoundEffect.NONE, SoundEffect.NONE, SoundEffect.NONE);
+        when(input.isShootingPressed()).thenReturn(true);
+
+        simulation.tick(input, TICK);
+
+        assertEquals(1, simulation.getEntityManager().getBulletSystem().getLiveCount(), "One player bullet should be in flight.");
+        verify(laser).play();
+    }
+
+    @Test
+    public void testAiModePilotsTheShip() {
+        when(input.isAIModeActive()).thenReturn(true);
+
+        simulation.tick(input, TICK);
+
+        assertTrue(simulation.isAiMode(), "F1 input should hand the ship to the AI.");
+    }
+
+    @Test
+    public void testDroneLastsSevenSecondsOfGameTime() {
+        when(input.isSummonDrone()).thenReturn(true);
+        simulation.tick(input, TICK);
+        when(input.isSummonDrone()).thenReturn(false);
+        assertTrue(simulation.getDrone().isActive(), "Q should summon the drone.");
+
+        // Runs as fast as the machine allows; only the game clock decides when the drone leaves
+        for (int i = 0; i < 7 * 60 + 1; i++) {
+            simulation.tick(input, TICK);
+        }
+
+        assertFalse(simulation.isGameOver(), "A lost game stops ticking, so the ship has to outlive the drone.");
+        assertFalse(simulation.getDrone().isActive(), "The drone should leave after seven seconds of ticks.");
+    }
+
+    @Test
+    public void testSameSeedPlaysTheSameGame() {
+        when(input.isAIModeActive()).thenReturn(true);
+        GameSimulation first = new GameSimulation(1280, 720, 1234);
+        GameSimulation second = new GameSimulation(1280, 720, 1234);
+        first.reset();
+        second.reset();
+
+        playTicks(first, 3000);
+        playTicks(second, 3000);
+
+        assertSameGame(first, second);
+    }
+
+    @Test
+    public void testResetWithSeedMatchesAFreshGame() {
+        when(input.isAIModeActive()).thenReturn(true);
+        GameSimulation fresh = new GameSimulation(1280, 720, 99);
+        fresh.reset();
+        GameSimulation replayed = new GameSimulation(1280, 720, 5);
+        replayed.reset();
+        playTicks(replayed, 1000);
+
+        replayed.reset(99);
+        playTicks(fresh, 2000);
+        playTicks(replayed, 2000);
+
+        assertSameGame(fresh, replayed);
+    }
+
+    private void playTicks(GameSimulation game, int ticks) {
+        for (int i = 0; i < ticks && !game.isGameOver(); i++) {
+            game.tick(input, TICK);
+        }
+    }
+
+    private static void assertSameGame(GameSimulation expected, GameSimulation actual) {
+        assertEquals(expected.getGameState().getScore(), actual.getGameState().getScore());
+        assertEquals(expected.getPlayerShip().getHealth(), actual.getPlayerShip().getHealth());
+        assertEquals(expected.getPlayerShip().getX(), actual.getPlayerShip().getX());
+        assertEquals(expected.getPlayerShip().getY(), actual.getPlayerShip().getY());
+        assertEquals(expected.getEntityManager().getAsteroids().size(), actual.getEntityManager().getAsteroids().size());
+        assertEquals(expected.getEntityManager().getEnemyShips().size(), actual.getEntityManager().getEnemyShips().size());
+    }
+}
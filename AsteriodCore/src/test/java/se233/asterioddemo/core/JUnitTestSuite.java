@@ -0,0 +1,34 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.TestInstance;
+import org.junit.platform.suite.api.SelectClasses;
+import org.junit.platform.suite.api.Suite;
+
+@Suite
+@SelectClasses({
+        CharacterActionsTest.class,
+        CharacterMovementTest.class,
+        GameScoringTest.class,
+        SpatialHashGridTest.class,
+        BulletSystemTest.class,
+        ParticleEngineTest.class,
+        GameSimulationTest.class,
+        FixedTimestepTest.class,
+        GameClockTest.class,
+        GameRandomTest.class,
+        ReplayTest.class,
+        FrameProfilerTest.class,
+        GameEventsTest.class,
+        MetricsServerTest.class,
+        DrawCommandBufferTest.class,
+        SimulationThreadTest.class,
+        ParallelRangeTest.class,
+        TaskGraphTest.class,
+        EntityStoreTest.class,
+        SweepAndPruneTest.class,
+        SweptBulletTest.class
+
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class JUnitTestSuite {
+}
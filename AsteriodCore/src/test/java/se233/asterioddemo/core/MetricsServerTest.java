@@ -0,0 +1,69 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.Test;
+import se233.asterioddemo.metrics.GameMetrics;
+import se233.asterioddemo.metrics.MetricsServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class MetricsServerTest {
+
+    @Test
+    public void testCountersFollowTheGame() {
+        GameSimulation simulation = new GameSimulation(1280, 720, 5);
+        simulation.reset();
+        PlayerInput input = mock(PlayerInput.class);
+        when(input.isAIModeActive()).thenReturn(true);
+        for (int i = 0; i < 600 && !simulation.isGameOver(); i++) {
+            simulation.tick(input, 1.0 / 60);
+        }
+
+        GameMetrics metrics = simulation.getMetrics();
+        assertEquals(simulation.getTickCount(), metrics.get(GameMetrics.Counter.TICKS));
+        assertTrue(metrics.get(GameMetrics.Counter.ASTEROIDS_SPAWNED) > 0, "Ten seconds of play should spawn asteroids.");
+        assertTrue(metrics.get(GameMetrics.Counter.COLLISIONS_TESTED) >= metrics.get(GameMetrics.Counter.COLLISIONS_HIT));
+        assertEquals(simulation.getEntityManager().getAsteroids().size(), metrics.get(GameMetrics.Gauge.ASTEROIDS));
+        assertEquals(simulation.getGameState().getScore(), metrics.get(GameMetrics.Gauge.SCORE));
+    }
+
+    @Test
+    public void testScrapeServesPrometheusText() throws Exception {
+        GameSimulation simulation = new GameSimulation(1280, 720, 5);
+        simulation.reset();
+        PlayerInput input = mock(PlayerInput.class);
+        FrameProfiler profiler = simulation.getProfiler();
+        for (int i = 0; i < 120; i++) {
+            profiler.beginFrame();
+            simulation.tick(input, 1.0 / 60);
+            profiler.endFrame();
+        }
+
+        try (MetricsServer server = MetricsServer.start(0, simulation)) {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + "/metrics").openConnection();
+            assertEquals(200, connection.getResponseCode());
+            assertTrue(connection.getContentType().startsWith("text/plain"));
+            String body = read(connection);
+
+            assertTrue(body.contains("# TYPE asteroidx_ticks_total counter\nasteroidx_ticks_total 120\n"));
+            assertTrue(body.contains("asteroidx_entities{list=\"asteroids\"} " + simulation.getEntityManager().getAsteroids().size() + "\n"));
+            assertTrue(body.contains("asteroidx_spawns_total{kind=\"enemy_ship\"} "));
+            assertTrue(body.contains("asteroidx_frame_work_seconds_count 120\n"));
+            assertTrue(body.contains("asteroidx_phase_seconds{phase=\"collisions\",quantile=\"0.99\"} "));
+            assertTrue(body.contains("jvm_memory_heap_bytes{area=\"used\"} "));
+            assertEquals(1, body.split("# TYPE asteroidx_entities ", -1).length - 1, "Each metric family should be declared once.");
+        }
+    }
+
+    private static String read(HttpURLConnection connection) throws IOException {
+        try (InputStream in = connection.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
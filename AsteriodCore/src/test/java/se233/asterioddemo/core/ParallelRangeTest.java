@@ -0,0 +1,111 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ParallelRangeTest {
+    private static final double TICK = 1.0 / 60.0;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testChunksCoverEveryIndexOnce() {
+        ParallelRange range = new ParallelRange(pool, 0, 7);
+        AtomicIntegerArray visits = new AtomicIntegerArray(1000);
+
+        range.forEach(1000, (from, to) -> {
+            assertTrue(to - from <= 7, "No chunk should be longer than the chunk size.");
+            for (int i = from; i < to; i++) {
+                visits.incrementAndGet(i);
+            }
+        });
+
+        for (int i = 0; i < visits.length(); i++) {
+            assertEquals(1, visits.get(i), "Index " + i + " should be visited exactly once.");
+        }
+    }
+
+    @Test
+    public void testBelowThresholdRunsOnTheCallingThread() {
+        ParallelRange range = new ParallelRange(pool, 5000, 16);
+        Thread caller = Thread.currentThread();
+        int[] calls = new int[1];
+
+        range.forEach(4999, (from, to) -> {
+            assertSame(caller, Thread.currentThread());
+            assertEquals(0, from);
+            assertEquals(4999, to);
+            calls[0]++;
+        });
+
+        assertFalse(range.isParallel(4999));
+        assertTrue(range.isParallel(5000));
+        assertEquals(1, calls[0], "A small update should be one call over the whole range.");
+    }
+
+    @Test
+    public void testParallelMovementPlaysTheSameGameAsSerial() {
+        GameSimulation serial = storm(new ParallelRange(pool, Integer.MAX_VALUE, 16));
+        GameSimulation parallel = storm(new ParallelRange(pool, 0, 16));
+        PlayerInput input = mock(PlayerInput.class);
+
+        for (int i = 0; i < 600; i++) {
+            serial.tick(input, TICK);
+            parallel.tick(input, TICK);
+        }
+
+        assertEquals(serial.getGameState().getScore(), parallel.getGameState().getScore());
+        assertSamePlaces(serial.getEntityManager().getAsteroids(), parallel.getEntityManager().getAsteroids());
+        assertSamePlaces(serial.getEntityManager().getEnemyShips(), parallel.getEntityManager().getEnemyShips());
+    }
+
+    @Test
+    public void testNegativeThresholdIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelRange(pool, -1, 16));
+    }
+
+    // Enough asteroids and enemy ships that every update splits into many chunks
+    private static GameSimulation storm(ParallelRange kinematics) {
+        GameSimulation simulation = new GameSimulation(1280, 720, 77);
+        simulation.reset();
+        GameEntityManager manager = simulation.getEntityManager();
+        manager.setKinematics(kinematics);
+        SplittableRandom random = new SplittableRandom(77);
+        for (int i = 0; i < 500; i++) {
+            manager.getAsteroids().add(new Asteroid(random.nextDouble(1280), random.nextDouble(720),
+                    1 + random.nextDouble(2), 20, 20, false, simulation.getRandom()));
+        }
+        for (int i = 0; i < 200; i++) {
+            manager.getEnemyShips().add(new EnemyShip(random.nextDouble(1280), random.nextDouble(720),
+                    2, 30, random.nextDouble(2 * Math.PI), simulation.getClock(), simulation.getRandom()));
+        }
+        return simulation;
+    }
+
+    private static void assertSamePlaces(List<? extends Character> expected, List<? extends Character> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getX(), actual.get(i).getX(), "x of " + i);
+            assertEquals(expected.get(i).getY(), actual.get(i).getY(), "y of " + i);
+        }
+    }
+}
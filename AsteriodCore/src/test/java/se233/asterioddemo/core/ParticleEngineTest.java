@@ -0,0 +1,69 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParticleEngineTest {
+
+    private static void spawn(ParticleEngine engine, int kind, double life) {
+        engine.spawn(kind, 100, 100, 1, 0, 0, 0, 10, life, Palette.WHITE, Palette.WHITE, 1.0, 0);
+    }
+
+    @Test
+    public void testDeadParticlesAreRemovedInOrder() {
+        ParticleEngine engine = new ParticleEngine(16);
+        spawn(engine, ParticleEngine.DEBRIS, 1);
+        spawn(engine, ParticleEngine.DEBRIS, 3);
+        spawn(engine, ParticleEngine.DEBRIS, 1);
+
+        engine.update();
+        assertEquals(1, engine.getLiveCount(), "Particles that ran out of life should be removed.");
+
+        engine.update();
+        engine.update();
+        assertFalse(engine.isActive(), "The surviving particle should expire after its own lifetime.");
+    }
+
+    @Test
+    public void testBudgetEvictsOldestParticle() {
+        ParticleEngine engine = new ParticleEngine(3);
+        // Oldest particle sits alone on the back layer and would die on the next update
+        spawn(engine, ParticleEngine.SMOKE, 1);
+        spawn(engine, ParticleEngine.SPARK, 100);
+        spawn(engine, ParticleEngine.SPARK, 100);
+        spawn(engine, ParticleEngine.DEBRIS, 100);
+
+        assertEquals(3, engine.getLiveCount(), "Live particles should never exceed the budget.");
+
+        engine.update();
+        assertEquals(3, engine.getLiveCount(), "The oldest particle should have been the one evicted.");
+    }
+
+    @Test
+    public void testEmittersShareOneEngine() {
+        ParticleEngine engine = new ParticleEngine(4096);
+        new ExplosionEffect(engine, 40).createExplosion(100, 100, 40);
+        int afterAsteroid = engine.getLiveCount();
+        new ShipExplosionEffect(engine, 20).createExplosion(200, 200, 20, "standard");
+
+        assertTrue(afterAsteroid > 0, "Asteroid explosion should emit into the engine.");
+        assertTrue(engine.getLiveCount() > afterAsteroid, "Ship explosion should emit into the same engine.");
+    }
+
+    @Test
+    public void testTemplateSpawnsSameParticlesAsRolledExplosion() {
+        ParticleEngine rolledEngine = new ParticleEngine(4096);
+        ExplosionEffect rolled = new ExplosionEffect(rolledEngine, 40);
+        rolled.getConfig().setUseTemplates(false);
+        rolled.createExplosion(100, 100, 40);
+
+        ParticleEngine templatedEngine = new ParticleEngine(4096);
+        ExplosionEffect templated = new ExplosionEffect(templatedEngine, 40);
+        templated.createExplosion(100, 100, 40);
+        templated.createExplosion(300, 300, 40);
+
+        assertEquals(2 * rolledEngine.getLiveCount(), templatedEngine.getLiveCount(),
+                "Each templated explosion should spawn as many particles as a rolled one.");
+    }
+}
@@ -0,0 +1,156 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplayTest {
+    private static final int TICKS = 1500;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testPlaybackMatchesTheRecordedGame() throws Exception {
+        Path file = tempDir.resolve("game.axr");
+        List<String> live = recordGame(file);
+
+        ReplayPlayer player = ReplayPlayer.open(file);
+        assertEquals(live.size() - 1, player.getTickCount());
+        assertEquals(live.get(0), fingerprint(player.getSimulation()));
+        while (player.step()) {
+            assertEquals(live.get((int) player.getTick()), fingerprint(player.getSimulation()),
+                    "Replay drifted at tick " + player.getTick());
+        }
+    }
+
+    @Test
+    public void testSeekLoadsKeyframeAndMatchesTheRecordedGame() throws Exception {
+        Path file = tempDir.resolve("seek.axr");
+        List<String> live = recordGame(file);
+        ReplayPlayer player = ReplayPlayer.open(file);
+
+        int end = live.size() - 1;
+        assertTrue(end > 650, "The scripted game should outlast the first keyframe interval.");
+
+        player.seek(650);
+        assertEquals(650, player.getTick());
+        assertEquals(live.get(650), fingerprint(player.getSimulation()));
+        player.seek(end);
+        assertEquals(live.get(end), fingerprint(player.getSimulation()));
+
+        // Backwards goes through the keyframe before the target
+        player.seek(300);
+        assertEquals(live.get(300), fingerprint(player.getSimulation()));
+    }
+
+    @Test
+    public void testIdleTicksTakeOneByte() throws Exception {
+        Path file = tempDir.resolve("idle.axr");
+        GameSimulation simulation = new GameSimulation(1280, 720, 3);
+        simulation.reset();
+        ScriptedInput idle = new ScriptedInput();
+        ReplayRecorder recorder = ReplayRecorder.start(file, simulation, 60);
+        for (int i = 0; i < 100; i++) {
+            simulation.tick(recorder.record(simulation, idle), 1.0 / 60);
+        }
+        recorder.close();
+        recorder.awaitWritten();
+
+        long keyframeRecord = Files.size(file) - ReplayFormat.HEADER_BYTES - 99;
+        assertTrue(keyframeRecord > 1 && keyframeRecord < 4096, "Everything but the first tick's keyframe should be one byte per tick.");
+    }
+
+    @Test
+    public void testVarintsRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        long[] values = {0, 1, -1, 63, -64, 300, Integer.MIN_VALUE, Long.MAX_VALUE};
+        for (long value : values) {
+            ReplayFormat.writeVarint(buffer, ReplayFormat.zigzag(value));
+        }
+        buffer.flip();
+
+        for (long value : values) {
+            assertEquals(value, ReplayFormat.unzigzag(ReplayFormat.readVarint(buffer)));
+        }
+        assertEquals(1, encodedLength(ReplayFormat.zigzag(-5)), "Small mouse moves should fit in one byte.");
+    }
+
+    // Records a scripted game and returns what it looked like after each tick, starting at tick 0
+    private static List<String> recordGame(Path file) throws Exception {
+        GameSimulation simulation = new GameSimulation(1280, 720, 2024);
+        simulation.reset();
+        ScriptedInput script = new ScriptedInput();
+        List<String> states = new ArrayList<>();
+        states.add(fingerprint(simulation));
+
+        ReplayRecorder recorder = ReplayRecorder.start(file, simulation, 60);
+        for (int tick = 0; tick < TICKS && !simulation.isGameOver(); tick++) {
+            script.at(tick);
+            simulation.tick(recorder.record(simulation, script), 1.0 / 60);
+            states.add(fingerprint(simulation));
+        }
+        recorder.close();
+        recorder.awaitWritten();
+        return states;
+    }
+
+    private static String fingerprint(GameSimulation simulation) {
+        PlayerShip ship = simulation.getPlayerShip();
+        GameEntityManager entities = simulation.getEntityManager();
+        StringBuilder state = new StringBuilder()
+                .append(ship.getX()).append(',').append(ship.getY()).append(',')
+                .append(ship.getHealth()).append(',')
+                .append(simulation.getGameState().getScore()).append(',')
+                .append(simulation.getClock().millis()).append(',')
+                .append(entities.getBulletSystem().getLiveCount());
+        for (Asteroid asteroid : entities.getAsteroids()) {
+            state.append(";a").append(asteroid.getX()).append(',').append(asteroid.getY());
+        }
+        for (EnemyShip enemy : entities.getEnemyShips()) {
+            state.append(";e").append(enemy.getX()).append(',').append(enemy.getY());
+        }
+        return state.toString();
+    }
+
+    private static int encodedLength(long value) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        ReplayFormat.writeVarint(buffer, value);
+        return buffer.position();
+    }
+
+    // Flies in a loop, shoots in bursts, calls the drone and lets the AI fly the middle stretch
+    private static final class ScriptedInput implements PlayerInput {
+        private int tick = -1;
+
+        void at(int tick) {
+            this.tick = tick;
+        }
+
+        private boolean active() {
+            return tick >= 0;
+        }
+
+        @Override public boolean isLeftPressed() { return active() && tick % 240 < 60; }
+        @Override public boolean isRightPressed() { return active() && tick % 240 >= 120 && tick % 240 < 180; }
+        @Override public boolean isUpPressed() { return active() && tick % 240 >= 60 && tick % 240 < 120; }
+        @Override public boolean isDownPressed() { return active() && tick % 240 >= 180; }
+        @Override public boolean isShootingPressed() { return active() && tick % 30 < 10; }
+        @Override public boolean isCheatModeEnabled() { return false; }
+        @Override public boolean isAIModeActive() { return tick == 300; }
+        @Override public boolean isAIModeDeactivate() { return tick == 1250; }
+        @Override public boolean isShurikenMode() { return tick >= 400 && tick < 405; }
+        @Override public boolean isPluseMode() { return false; }
+        @Override public boolean isDefaultMode() { return tick >= 1200 && tick < 1205; }
+        @Override public boolean isSummonDrone() { return tick == 100 || tick == 1260; }
+        @Override public double getMouseX() { return active() ? 640 + 300 * Math.cos(tick * 0.05) : 0; }
+        @Override public double getMouseY() { return active() ? 360 + 200 * Math.sin(tick * 0.05) : 0; }
+    }
+}
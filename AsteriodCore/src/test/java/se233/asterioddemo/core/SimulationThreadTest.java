@@ -0,0 +1,110 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SimulationThreadTest {
+    private static final double TICK = 1.0 / 60.0;
+    private static final long TIMEOUT_MS = 5000;
+
+    private GameSimulation simulation;
+    private PlayerInput input;
+
+    @BeforeEach
+    public void setUp() {
+        simulation = new GameSimulation(1280, 720, 42);
+        simulation.reset();
+        input = mock(PlayerInput.class);
+    }
+
+    @Test
+    public void testSnapshotStaysPutWhileTheSimulationMovesOn() {
+        when(input.isShootingPressed()).thenReturn(true);
+        for (int i = 0; i < 120; i++) {
+            simulation.tick(input, TICK);
+        }
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.capture(simulation, 0.5, 60);
+        int asteroids = snapshot.getAsteroids().size();
+        double firstX = snapshot.getAsteroids().getX(0, 1.0);
+        int bullets = snapshot.getBullets().getLiveCount();
+        assertTrue(asteroids > 0 && bullets > 0, "Two seconds of shooting should leave asteroids and bullets to copy.");
+        assertEquals(simulation.getEntityManager().getAsteroids().get(0).getX(), firstX, 1e-9);
+
+        for (int i = 0; i < 60; i++) {
+            simulation.tick(input, TICK);
+        }
+
+        assertEquals(120, snapshot.getTick());
+        assertEquals(asteroids, snapshot.getAsteroids().size());
+        assertEquals(firstX, snapshot.getAsteroids().getX(0, 1.0), 1e-9);
+        assertEquals(bullets, snapshot.getBullets().getLiveCount());
+    }
+
+    @Test
+    public void testAlphaCarriesOnFromCaptureAndStopsAtOne() {
+        WorldSnapshot snapshot = new WorldSnapshot();
+        long before = System.nanoTime();
+        snapshot.capture(simulation, 0.25, 60);
+
+        assertEquals(0.25, snapshot.alphaAt(before), 1e-9, "A frame from before the capture should not run backwards.");
+        assertEquals(1.0, snapshot.alphaAt(before + 1_000_000_000L), 1e-9);
+    }
+
+    @Test
+    public void testThreadTicksAndPublishesNewerSnapshots() {
+        SimulationThread thread = SimulationThread.start(simulation, new FixedTimestep(240), () -> input);
+        try {
+            long firstSequence = thread.latest().getSequence();
+            waitFor(() -> thread.latest().getTick() >= 20);
+            assertTrue(thread.latest().getSequence() > firstSequence, "Each wake-up should publish a newer snapshot.");
+
+            // The buffers go round, so only compare one snapshot with the very next one handed over
+            WorldSnapshot drawing = thread.latest();
+            long drawingSequence = drawing.getSequence();
+            WorldSnapshot[] next = new WorldSnapshot[1];
+            waitFor(() -> (next[0] = thread.latest()).getSequence() > drawingSequence);
+            assertNotSame(drawing, next[0], "The display should be handed another buffer, not the one it was drawing.");
+        } finally {
+            thread.close();
+        }
+
+        assertFalse(thread.isRunning(), "Closing should stop and join the thread.");
+        long ticks = simulation.getTickCount();
+        sleep(50);
+        assertEquals(ticks, simulation.getTickCount(), "Nothing should tick after close.");
+    }
+
+    @Test
+    public void testPauseIsAppliedOnTheSimulationThread() {
+        try (SimulationThread thread = SimulationThread.start(simulation, new FixedTimestep(240), () -> input)) {
+            thread.togglePause();
+            waitFor(() -> thread.latest().isPaused());
+            long pausedAt = thread.latest().getTick();
+            sleep(50);
+
+            assertEquals(pausedAt, thread.latest().getTick(), "No ticks should run while paused.");
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the simulation thread.");
+            sleep(2);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpatialHashGridTest {
+
+    private SpatialHashGrid grid;
+
+    @BeforeEach
+    public void setUp() {
+        grid = new SpatialHashGrid(1280, 720, 80);
+    }
+
+    @Test
+    public void testQueryFindsNearbyEntity() {
+        grid.insert(0, 100, 100, 30);
+        grid.insert(1, 900, 500, 30);
+
+        int count = grid.query(110, 95, 5);
+
+        assertEquals(1, count, "Only the nearby entity should be a candidate.");
+        assertEquals(0, grid.results()[0]);
+    }
+
+    @Test
+    public void testEntitySpanningCellsIsReportedOnce() {
+        // Large asteroid overlapping four cells
+        grid.insert(7, 160, 160, 60);
+
+        int count = grid.query(160, 160, 100);
+
+        assertEquals(1, count, "An entity in several cells should only be returned once.");
+        assertEquals(7, grid.results()[0]);
+    }
+
+    @Test
+    public void testEntityPastTheEdgeSharesTheBorderCells() {
+        // Asteroid that has drifted past the right edge, as allowed by Asteroid.handleScreenEdges
+        grid.insert(3, 1290, 360, 30);
+
+        int count = grid.query(1270, 360, 10);
+
+        assertEquals(1, count, "Something just inside the edge should still see it.");
+        assertEquals(3, grid.results()[0]);
+    }
+
+    @Test
+    public void testQueryDoesNotWrapAcrossScreenSeam() {
+        grid.insert(3, 1290, 360, 30);
+
+        assertEquals(0, grid.query(5, 360, 10), "The narrow phase never matches across the seam, so neither should the grid.");
+    }
+
+    @Test
+    public void testClearRemovesEntities() {
+        grid.insert(0, 100, 100, 30);
+        grid.clear();
+
+        assertEquals(0, grid.query(100, 100, 30), "Cleared grid should return no candidates.");
+    }
+}
@@ -0,0 +1,99 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SweepAndPruneTest {
+
+    private SweepAndPrune sweep;
+
+    @BeforeEach
+    public void setUp() {
+        sweep = new SweepAndPrune();
+    }
+
+    @Test
+    public void testOnlyMoverTargetPairsAreReported() {
+        sweep.addMover(0, 0, 10, 0, 10);
+        sweep.addMover(1, 5, 15, 0, 10);
+        sweep.addTarget(0, 8, 20, 5, 15);
+        sweep.addTarget(1, 9, 12, 2, 4);
+
+        assertEquals(Set.of(pair(0, 0), pair(0, 1), pair(1, 0), pair(1, 1)), findPairs(),
+                "Movers never pair with movers, nor targets with targets.");
+    }
+
+    @Test
+    public void testBoxesOverlappingOnOnlyOneAxisAreNotPaired() {
+        sweep.addMover(0, 0, 10, 0, 10);
+        sweep.addTarget(0, 5, 15, 20, 30); // Same columns, lower down
+        sweep.addTarget(1, 20, 30, 0, 10); // Same rows, further right
+
+        assertEquals(0, sweep.findPairs());
+    }
+
+    @Test
+    public void testPairsMatchBruteForceOnRandomBoxes() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            sweep.clear();
+            int moverCount = 1 + random.nextInt(100);
+            int targetCount = 1 + random.nextInt(100);
+            // Rows of minX, maxX, minY, maxY; some start off screen and some are fractional
+            double[][] movers = randomBoxes(random, moverCount);
+            double[][] targets = randomBoxes(random, targetCount);
+            for (int i = 0; i < moverCount; i++) {
+                sweep.addMover(i, movers[i][0], movers[i][1], movers[i][2], movers[i][3]);
+            }
+            for (int i = 0; i < targetCount; i++) {
+                sweep.addTarget(i, targets[i][0], targets[i][1], targets[i][2], targets[i][3]);
+            }
+
+            Set<Long> expected = new HashSet<>();
+            for (int m = 0; m < moverCount; m++) {
+                for (int t = 0; t < targetCount; t++) {
+                    if (movers[m][0] <= targets[t][1] && targets[t][0] <= movers[m][1]
+                            && movers[m][2] <= targets[t][3] && targets[t][2] <= movers[m][3]) {
+                        expected.add(pair(m, t));
+                    }
+                }
+            }
+
+            int count = sweep.findPairs();
+            assertEquals(expected, findPairs(count), "Round " + round + " should find exactly the overlapping pairs.");
+            assertEquals(expected.size(), count, "Each pair should be reported once.");
+        }
+    }
+
+    private static double[][] randomBoxes(Random random, int count) {
+        double[][] boxes = new double[count][];
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 1400 - 60;
+            double y = random.nextDouble() * 840 - 60;
+            boxes[i] = new double[] {x, x + random.nextDouble() * 120, y, y + random.nextDouble() * 120};
+        }
+        return boxes;
+    }
+
+    private Set<Long> findPairs() {
+        return findPairs(sweep.findPairs());
+    }
+
+    private Set<Long> findPairs(int count) {
+        Set<Long> pairs = new HashSet<>();
+        for (int p = 0; p < count; p++) {
+            pairs.add(pair(sweep.pairMovers()[p], sweep.pairTargets()[p]));
+        }
+        return pairs;
+    }
+
+    private static long pair(int mover, int target) {
+        return ((long) mover << 32) | target;
+    }
+}
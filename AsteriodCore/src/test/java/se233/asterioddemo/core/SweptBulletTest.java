@@ -0,0 +1,89 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SweptBulletTest {
+    // Bullets cover 9 px per frame, so a 12-frame tick jumps 108 px: from x = 40 to x = 148
+    private static final double LONG_TICK = 12;
+
+    private GameEntityManager gameEntityManager;
+    private GameState gameState;
+    private Logger logger;
+
+    @BeforeEach
+    public void setUp() {
+        gameEntityManager = new GameEntityManager();
+        gameState = new GameState();
+        logger = Logger.getLogger("TestLogger");
+    }
+
+    @Test
+    public void testBulletThatJumpsOverAnAsteroidStillHitsIt() {
+        addAsteroid(100, 100, 1);
+        int bullet = fireAcross(100);
+
+        assertTrue(gameEntityManager.getBulletSystem().getPrevX(bullet) < 90, "The tick should start before the asteroid.");
+        assertTrue(gameEntityManager.getBulletSystem().getX(bullet) > 110, "The tick should end past the asteroid.");
+        gameEntityManager.checkPlayerBulletAsteroidCollisions(gameState, logger);
+
+        assertTrue(gameEntityManager.asteroids.isDead(0), "The path crosses the asteroid, so it should be hit.");
+        assertFalse(gameEntityManager.getBulletSystem().isAlive(bullet));
+        assertEquals(1, gameState.getScore());
+    }
+
+    @Test
+    public void testBulletPassingJustWideOfAnAsteroidMisses() {
+        addAsteroid(0, 0, 1);
+        int bullet = fire(40, 40, Math.PI / 4);
+        // Sit the asteroid beside the middle of the diagonal path, its edge two pixels clear of the
+        // bullet's, so the boxes overlap and only the swept circle test can tell it is a miss
+        BulletSystem bullets = gameEntityManager.getBulletSystem();
+        double midX = (bullets.getPrevX(bullet) + bullets.getX(bullet)) / 2;
+        double midY = (bullets.getPrevY(bullet) + bullets.getY(bullet)) / 2;
+        double offset = (10 + bullets.getRadius(bullet) + 2) / Math.sqrt(2);
+        gameEntityManager.asteroids.setX(0, midX + offset);
+        gameEntityManager.asteroids.setY(0, midY - offset);
+
+        gameEntityManager.checkPlayerBulletAsteroidCollisions(gameState, logger);
+
+        assertFalse(gameEntityManager.asteroids.isDead(0), "A near miss should not count as a hit.");
+        assertTrue(bullets.isAlive(bullet));
+        assertEquals(0, gameState.getScore());
+    }
+
+    @Test
+    public void testEarliestTargetAlongThePathTakesTheBullet() {
+        // The farther asteroid goes in first, so list order cannot decide it
+        addAsteroid(130, 100, 2);
+        addAsteroid(80, 100, 1);
+        fireAcross(100);
+
+        gameEntityManager.checkPlayerBulletAsteroidCollisions(gameState, logger);
+
+        assertTrue(gameEntityManager.asteroids.isDead(1), "The bullet reaches the nearer asteroid first.");
+        assertFalse(gameEntityManager.asteroids.isDead(0), "A bullet should only destroy one asteroid.");
+        assertEquals(1, gameState.getScore());
+    }
+
+    private void addAsteroid(double x, double y, int points) {
+        gameEntityManager.asteroids.add(new Asteroid(x, y, 0, 20, points, false));
+    }
+
+    // A player bullet heading right along y from x = 40
+    private int fireAcross(double y) {
+        return fire(40, y, 0);
+    }
+
+    // A player bullet moved by one long tick, so its swept path starts at (x, y)
+    private int fire(double x, double y, double angle) {
+        BulletSystem bullets = gameEntityManager.getBulletSystem();
+        int bullet = bullets.spawn(new Bullet(x, y, angle, Sprites.LASER_BLUE_07, 10), BulletSystem.OWNER_PLAYER);
+        bullets.update(1280, 720, LONG_TICK);
+        return bullet;
+    }
+}
@@ -0,0 +1,110 @@
+package se233.asterioddemo.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TaskGraphTest {
+    private static final double TICK = 1.0 / 60.0;
+    private static final long A = 1L;
+    private static final long B = 1L << 1;
+
+    private TaskGraph graph;
+    private FrameProfiler profiler;
+
+    @BeforeEach
+    public void setUp() {
+        graph = new TaskGraph(4);
+        profiler = new FrameProfiler();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        graph.close();
+    }
+
+    @Test
+    public void testConflictingTasksRunInTheOrderAdded() {
+        for (int run = 0; run < 200; run++) {
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            graph.add(FrameProfiler.Phase.SPAWNING, 0, A, () -> order.add("write a"));
+            graph.add(FrameProfiler.Phase.BULLETS, 0, B, () -> order.add("write b"));
+            graph.add(FrameProfiler.Phase.ENEMIES, A | B, 0, () -> order.add("read both"));
+            graph.add(FrameProfiler.Phase.ASTEROIDS, 0, A, () -> order.add("write a again"));
+            graph.run(profiler);
+
+            assertEquals(4, order.size());
+            assertTrue(order.indexOf("write a") < order.indexOf("read both"));
+            assertTrue(order.indexOf("write b") < order.indexOf("read both"));
+            assertEquals("write a again", order.get(3), "A write should wait for everything that reads what it writes.");
+        }
+    }
+
+    @Test
+    public void testIndependentTasksRunAtTheSameTime() {
+        // Both tasks only get past the barrier if they are running at once
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Runnable meet = () -> {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        graph.add(FrameProfiler.Phase.BULLETS, 0, A, meet);
+        graph.add(FrameProfiler.Phase.ASTEROIDS, 0, B, meet);
+
+        assertDoesNotThrow(() -> graph.run(profiler));
+    }
+
+    @Test
+    public void testFailureIsRethrownAndTheGraphCanRunAgain() {
+        graph.add(FrameProfiler.Phase.BULLETS, 0, A, () -> {
+            throw new IllegalStateException("boom");
+        });
+        graph.add(FrameProfiler.Phase.ASTEROIDS, 0, B, () -> { });
+        assertThrows(IllegalStateException.class, () -> graph.run(profiler));
+
+        int[] runs = new int[1];
+        graph.add(FrameProfiler.Phase.BULLETS, 0, A, () -> runs[0]++);
+        graph.run(profiler);
+        assertEquals(1, runs[0], "Only the newly added task should run.");
+    }
+
+    @Test
+    public void testWorkersPlayTheSameGameAsOneThread() {
+        PlayerInput input = mock(PlayerInput.class);
+        when(input.isAIModeActive()).thenReturn(true);
+        GameSimulation serial = new GameSimulation(1280, 720, 2024);
+        GameSimulation parallel = new GameSimulation(1280, 720, 2024);
+        serial.setTaskGraph(new TaskGraph(0));
+        parallel.setTaskGraph(graph);
+        serial.reset();
+        parallel.reset();
+
+        for (int i = 0; i < 3000 && !serial.isGameOver(); i++) {
+            serial.tick(input, TICK);
+            parallel.tick(input, TICK);
+        }
+
+        assertEquals(serial.getTickCount(), parallel.getTickCount());
+        assertEquals(serial.getGameState().getScore(), parallel.getGameState().getScore());
+        assertEquals(serial.getPlayerShip().getX(), parallel.getPlayerShip().getX());
+        assertEquals(serial.getPlayerShip().getY(), parallel.getPlayerShip().getY());
+        assertEquals(serial.getEntityManager().getAsteroids().size(), parallel.getEntityManager().getAsteroids().size());
+        assertEquals(serial.getEntityManager().getEnemyShips().size(), parallel.getEntityManager().getEnemyShips().size());
+        assertEquals(serial.getEntityManager().getBulletSystem().getLiveCount(),
+                parallel.getEntityManager().getBulletSystem().getLiveCount());
+    }
+}
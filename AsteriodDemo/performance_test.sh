@@ -4,9 +4,9 @@ echo "=== AsteroidX Performance Test ==="
 echo "Testing game performance with optimizations..."
 echo ""
 
-# Compile the project
+# Compile the project (the simulation core is installed first so the game can resolve it)
 echo "1. Compiling project..."
-mvn clean compile
+mvn -f ../pom.xml clean install -DskipTests
 if [ $? -ne 0 ]; then
     echo "❌ Compilation failed!"
     exit 1
@@ -6,6 +6,7 @@ module se233.asterioddemo {
     requires java.xml;
     requires java.desktop;
     requires org.jspecify;
+    requires se233.asterioddemo.core;
 
 
     opens se233.asterioddemo to javafx.fxml;
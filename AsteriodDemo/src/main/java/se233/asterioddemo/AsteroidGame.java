@@ -2,6 +2,7 @@ package se233.asterioddemo;
 
 import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
@@ -9,16 +10,30 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.layout.*;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import javafx.scene.media.AudioClip;
+import se233.asterioddemo.core.FixedTimestep;
+import se233.asterioddemo.core.FrameProfiler;
+import se233.asterioddemo.core.GameClock;
+import se233.asterioddemo.core.GameSimulation;
+import se233.asterioddemo.core.PlayerInput;
+import se233.asterioddemo.core.ReplayRecorder;
+import se233.asterioddemo.core.SimulationThread;
+import se233.asterioddemo.core.SoundEffect;
+import se233.asterioddemo.core.WorldSnapshot;
 import se233.asterioddemo.exception.DrawingException;
 import se233.asterioddemo.exception.GameException;
 import se233.asterioddemo.exception.SpriteNotFoundException;
+import se233.asterioddemo.jfr.FrameEvent;
+import se233.asterioddemo.metrics.MetricsServer;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
 import java.util.logging.Logger;
 import java.util.logging.LogManager;
 
@@ -31,24 +46,28 @@ public class AsteroidGame extends Application {
     private double cameraShakeY = 0;
     private double cameraShakeIntensity = 0;
     private long cameraShakeEndTime = 0;
+    private final SplittableRandom shakeRandom = new SplittableRandom(); // Screen-only, not part of the seeded game
 
-    private GameState gameState;
     private InputController inputController;
-    private GameEntityManager gameEntityManager;
+    private GameSimulation simulation;
+    private GameRenderer renderer;
+    private FixedTimestep timestep;
+    private Path replayDir;
+    private ReplayRecorder replayRecorder; // Null unless -Dasteroidx.replayDir is set
+    private MetricsServer metricsServer; // Null unless -Dasteroidx.metricsPort is set
+    private boolean showProfiler;
+    private boolean threaded; // -Dasteroidx.simThread: tick on a SimulationThread instead of in the pulse
+    private SimulationThread simulationThread; // Null unless threaded and a game is running
+    private final FrameProfiler renderProfiler = new FrameProfiler(); // The pulse's own frames when threaded
+    private final WorldSnapshot inlineWorld = new WorldSnapshot(); // What the pulse draws when not threaded
 
-    private PlayerShip playerShip;
     private boolean gameOver;
-    private boolean bossDefeated;
     private AudioClip laserSound;
     private AudioClip hitSound;
     private AudioClip explodeSound;
     private AudioClip thrustSound;
     private AudioClip bossMusic;
     private AudioClip bossStageMusic;
-    private boolean isMovingLeft = false;
-    private boolean isMovingRight = false;
-    private boolean isMovingUp = false;
-    private boolean isMovingDown = false;
 
 
     static final Logger logger = Logger.getLogger(AsteroidGame.class.getName());
@@ -64,30 +83,6 @@ public class AsteroidGame extends Application {
     private long lastFpsTime = 0;
     private double currentFps = 0.0;
     private double lastDeltaSeconds = 0.0;
-    // Cached fonts to reduce per-frame allocation churn
-    private Font fpsFont;
-    private Font uiFont20;
-    private Font uiFont15;
-
-    private Drone drone; // To track the drone
-    private boolean canSummonDrone = true; // Track if the drone can be summoned
-    private long lastDroneTime = 0;
-    private final long DRONE_COOLDOWN = 10000; // Cooldown time in milliseconds (10 seconds)
-
-    private static final String[] NUMBER_SPRITES = {
-            "numeral0.png", "numeral1.png", "numeral2.png",
-            "numeral3.png", "numeral4.png", "numeral5.png",
-            "numeral6.png", "numeral7.png", "numeral8.png", "numeral9.png"
-    };
-
-    private static final int BOSS_TRIGGER_SCORE = 100; // increase base; we'll ramp to trigger once per threshold without modulo spikes
-
-    private ShipAI shipAI;
-    private boolean aiMode = false;
-
-    private double backgroundX = 0;
-    private double backgroundSpeed = 1.2; // Faster parallax for energetic feel
-    private double elapsedTime = 0;
 
     public static void main(String[] args) {
         launch(args);
@@ -119,6 +114,39 @@ public class AsteroidGame extends Application {
         setupGameScene(primaryStage);
     }
 
+    @Override
+    public void stop() {
+        stopSimulationThread();
+        stopRecording(); // Keeps the replay of a game cut short by closing the window
+        writeProfile();
+        if (metricsServer != null) {
+            metricsServer.close();
+        }
+    }
+
+    // -Dasteroidx.profileFile picks where the frame-time histograms go on exit; empty skips them
+    private void writeProfile() {
+        String value = System.getProperty("asteroidx.profileFile", "frame-profile.txt");
+        if (simulation == null || value.isBlank()) {
+            return;
+        }
+        Path file = Paths.get(value.trim());
+        try (Writer out = Files.newBufferedWriter(file)) {
+            if (!threaded) {
+                simulation.getProfiler().writeReport(out);
+            } else {
+                // Ticks and draws are timed on different threads, so each gets its own table
+                out.append("Simulation thread").append(System.lineSeparator());
+                simulation.getProfiler().writeReport(out);
+                out.append(System.lineSeparator()).append("Render pulse").append(System.lineSeparator());
+                renderProfiler.writeReport(out);
+            }
+            logger.info("Frame profile written to " + file.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warning("Failed to write frame profile " + file + ": " + e.getMessage());
+        }
+    }
+
     private Pane createMainMenu(Stage primaryStage) {
         VBox menuLayout = new VBox(30);
         menuLayout.setStyle("-fx-alignment: center;");
@@ -167,15 +195,14 @@ public class AsteroidGame extends Application {
             gameScene = new Scene(gameRoot, 1280, 720);
 
             gc = canvas.getGraphicsContext2D();
-            gameState = new GameState();
             inputController = new InputController(gameScene);
-            gameEntityManager = new GameEntityManager(spriteLoader);
-            playerShip = new PlayerShip(640, 360, 5, 30, spriteLoader);
-
-            // Cache fonts to avoid per-frame allocations
-            fpsFont = Font.font("Arial", 12);
-            uiFont20 = new Font(20);
-            uiFont15 = new Font(15);
+            simulation = new GameSimulation(canvas.getWidth(), canvas.getHeight());
+            timestep = new FixedTimestep(readTickRate());
+            simulation.getClock().setTimeScale(readTimeScale());
+            replayDir = readReplayDir();
+            threaded = readSimThread();
+            metricsServer = MetricsServer.startIfConfigured(simulation);
+            renderer = new GameRenderer(gc, spriteLoader, backgroundImage, backgroundImageBoss);
 
             laserSound = new AudioClip(getClass().getResource("/sounds/laser.wav").toExternalForm());
             hitSound = new AudioClip(getClass().getResource("/sounds/hit.wav").toExternalForm());
@@ -186,6 +213,8 @@ public class AsteroidGame extends Application {
 
             setSoundVolumes();
             laserSound.setRate(1.2);
+            simulation.setSounds(oneShotSound(laserSound), oneShotSound(hitSound), oneShotSound(explodeSound),
+                    loopingSound(bossMusic), loopingSound(bossStageMusic));
             startAsteroidAndEnemySpawning();
 
             gameLoop = new AnimationTimer() {
@@ -201,6 +230,7 @@ public class AsteroidGame extends Application {
                         long deltaNanos = now - lastFrameTime;
                         lastDeltaSeconds = deltaNanos / 1_000_000_000.0;
                         lastFrameTime = now;
+                        frameProfiler().recordFrameInterval(deltaNanos);
 
                         updateGame();
 
@@ -223,6 +253,91 @@ public class AsteroidGame extends Application {
         }
     }
 
+    // -Dasteroidx.tickRate=30|60|120|240 picks the simulation rate, independent of the display rate
+    private static int readTickRate() {
+        String value = System.getProperty("asteroidx.tickRate");
+        if (value == null) {
+            return FixedTimestep.DEFAULT_RATE;
+        }
+        try {
+            int rate = Integer.parseInt(value.trim());
+            if (FixedTimestep.isSupported(rate)) {
+                logger.info("Simulation tick rate: " + rate + " Hz");
+                return rate;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through to the warning below
+        }
+        logger.warning("Unsupported asteroidx.tickRate '" + value + "', using " + FixedTimestep.DEFAULT_RATE + " Hz");
+        return FixedTimestep.DEFAULT_RATE;
+    }
+
+    // -Dasteroidx.simThread=true runs the simulation on its own thread; the pulse then only draws
+    private static boolean readSimThread() {
+        boolean threaded = Boolean.getBoolean("asteroidx.simThread");
+        if (threaded) {
+            logger.info("Simulation runs on its own thread");
+        }
+        return threaded;
+    }
+
+    // -Dasteroidx.replayDir=replays records every game there, to play back with ReplayPlayer
+    private static Path readReplayDir() {
+        String value = System.getProperty("asteroidx.replayDir");
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            Path dir = Paths.get(value.trim());
+            Files.createDirectories(dir);
+            logger.info("Recording replays to " + dir.toAbsolutePath());
+            return dir;
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Cannot use asteroidx.replayDir '" + value + "', not recording: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Called right after the simulation is reset, so the replay starts with the game
+    private void startRecording() {
+        stopRecording();
+        if (replayDir == null) {
+            return;
+        }
+        Path file = replayDir.resolve("replay-" + System.currentTimeMillis() + ".axr");
+        try {
+            replayRecorder = ReplayRecorder.start(file, simulation, timestep.getTickRate());
+        } catch (IOException e) {
+            logger.warning("Failed to start replay " + file + ": " + e.getMessage());
+        }
+    }
+
+    private void stopRecording() {
+        if (replayRecorder != null) {
+            replayRecorder.close();
+            replayRecorder = null;
+        }
+    }
+
+    // -Dasteroidx.timeScale=0.25 plays in slow motion, 2 at double speed
+    private static double readTimeScale() {
+        String value = System.getProperty("asteroidx.timeScale");
+        if (value == null) {
+            return 1.0;
+        }
+        try {
+            double scale = Double.parseDouble(value.trim());
+            if (scale > 0) {
+                logger.info("Game time scale: " + scale);
+                return scale;
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through to the warning below
+        }
+        logger.warning("Unsupported asteroidx.timeScale '" + value + "', using 1.0");
+        return 1.0;
+    }
+
     private void setSoundVolumes() {
         laserSound.setVolume(0.2);
         hitSound.setVolume(0.2);
@@ -232,6 +347,56 @@ public class AsteroidGame extends Application {
         bossStageMusic.setVolume(0.6);
     }
 
+    // Sounds are triggered by the simulation, so on its own thread they are handed to the FX thread
+    private SoundEffect oneShotSound(AudioClip clip) {
+        return threaded ? () -> Platform.runLater(clip::play) : clip::play;
+    }
+
+    // Music can be stopped again by the simulation, one-shot effects only ever play
+    private SoundEffect loopingSound(AudioClip clip) {
+        return new SoundEffect() {
+            @Override
+            public void play() {
+                onFxThread(clip::play);
+            }
+
+            @Override
+            public void stop() {
+                onFxThread(clip::stop);
+            }
+        };
+    }
+
+    private void onFxThread(Runnable action) {
+        if (threaded) {
+            Platform.runLater(action);
+        } else {
+            action.run();
+        }
+    }
+
+    // Called once the simulation is reset and the replay started, which it records into
+    private void startSimulationThread() {
+        if (!threaded) {
+            return;
+        }
+        ReplayRecorder recorder = replayRecorder;
+        simulationThread = SimulationThread.start(simulation, timestep,
+                recorder != null ? () -> recorder.record(simulation, inputController) : () -> inputController);
+    }
+
+    // Joins the thread, so the simulation is the FX thread's again afterwards
+    private void stopSimulationThread() {
+        if (simulationThread != null) {
+            simulationThread.close();
+            simulationThread = null;
+        }
+    }
+
+    private FrameProfiler frameProfiler() {
+        return threaded ? renderProfiler : simulation.getProfiler();
+    }
+
     private void startGame(Stage primaryStage) {
         try {
             Pane rootPane = (Pane) gameScene.getRoot();
@@ -239,18 +404,10 @@ public class AsteroidGame extends Application {
             rootPane.getChildren().add(canvas);
 
             gameOver = false;
-            bossDefeated = false;
-            gameState.reset();
-            playerShip.reset(840, 450, 5);
-            playerShip.resetHealth();
-            gameEntityManager.clearAll();
-            gameEntityManager.setBossActive(false);
-
-            canSummonDrone = true;
-            lastDroneTime = 0;
-            drone = null;
-
-            shipAI = new ShipAI(playerShip, gameEntityManager, canvas.getWidth(), canvas.getHeight(), laserSound);
+            simulation.reset();
+            timestep.reset();
+            startRecording();
+            startSimulationThread();
 
             primaryStage.setScene(gameScene);
             gameLoop.start();
@@ -262,61 +419,14 @@ public class AsteroidGame extends Application {
 
     private void updateGame() {
         try {
-            updateCameraShake();
-            clearScreen();
-
             if (!gameOver) {
-                checkShipAIMode();
-
-                if (aiMode && shipAI != null) {
-                    shipAI.update();
-                    playerShip.draw(gc);
-                } else {
-                    updatePlayerShip();
-                    handleDroneSummon();
+                if (inputController.consumeProfilerToggle()) {
+                    showProfiler = !showProfiler;
                 }
-
-                // Time-based spawning for consistent behavior across FPS
-                gameEntityManager.updateSpawning(lastDeltaSeconds);
-                
-                if (!gameEntityManager.isBossActive()) {
-                    gameEntityManager.updateAndDrawBullets(gc, canvas.getWidth(), canvas.getHeight());
-                    gameEntityManager.updateAndDrawEnemyShips(gc, playerShip.getX(), playerShip.getY());
-                    gameEntityManager.updateAndDrawEnemyBullets(gc, canvas.getWidth(), canvas.getHeight());
-                    gameEntityManager.updateAndDrawAsteroids(gc);
-                    gameEntityManager.updateAndDrawEnemyShipExplosions(gc);
-                    checkBossStage();
-                    checkCheatMode();
+                if (simulationThread != null) {
+                    drawThreadedFrame();
                 } else {
-                    gameEntityManager.updateAndDrawBoss(gc, playerShip, gameState, hitSound, logger);
-                    gameEntityManager.updateAndDrawBullets(gc, canvas.getWidth(), canvas.getHeight());
-
-                    if (gameEntityManager.getBoss() != null && gameEntityManager.getBoss().getHealth() <= 0) {
-                        gameEntityManager.setBossActive(false);
-                        bossDefeated = true;
-                        bossStageMusic.stop();
-                        logger.info("Boss defeated, returning to normal stage.");
-                    }
-                }
-
-                gameEntityManager.updateAndDrawExplosions(gc);
-                drawUI(gc, spriteLoader, gameState);
-                checkCollisions();
-
-                // Trigger camera shake if player took damage this frame
-                if (playerShip.consumeDamageEvent()) {
-                    triggerCameraShake(6, 200); // px, ms
-                }
-                
-                // Draw FPS counter for performance monitoring
-                drawFpsCounter(gc);
-
-                if (gameState.isGameOver()) {
-                    triggerGameOver();
-                }
-
-                if (!aiMode && inputController.isShootingPressed()) {
-                    fireBullet(inputController);
+                    updateInline();
                 }
             } else {
                 drawGameOver();
@@ -326,250 +436,108 @@ public class AsteroidGame extends Application {
         }
     }
 
-    private void updateCameraShake() {
-        long now = System.currentTimeMillis();
-        if (now < cameraShakeEndTime) {
-            double progress = 1.0 - ((double)(cameraShakeEndTime - now) / Math.max(1, (cameraShakeEndTime - (cameraShakeEndTime - 1))));
-            double decay = Math.max(0, 1.0 - progress);
-            cameraShakeX = (Math.random() - 0.5) * cameraShakeIntensity * decay;
-            cameraShakeY = (Math.random() - 0.5) * cameraShakeIntensity * decay;
-        } else {
-            cameraShakeX = 0;
-            cameraShakeY = 0;
-            cameraShakeIntensity = 0;
+    // Ticks the simulation in the pulse, then draws between the last two ticks
+    private void updateInline() {
+        FrameEvent frameEvent = new FrameEvent();
+        frameEvent.begin();
+        FrameProfiler profiler = simulation.getProfiler();
+        profiler.beginFrame();
+        GameClock clock = simulation.getClock();
+        if (inputController.consumePauseToggle()) {
+            clock.setPaused(!clock.isPaused());
+            logger.info(clock.isPaused() ? "Game paused." : "Game resumed.");
         }
-    }
 
-    private void triggerCameraShake(double intensity, long durationMs) {
-        cameraShakeIntensity = intensity;
-        cameraShakeEndTime = System.currentTimeMillis() + durationMs;
-    }
-
-    private void checkBossStage() {
-        if (!gameEntityManager.isBossActive() && !bossDefeated) {
-            // Use a soft gate: trigger once when passing threshold, then require next multiple
-            int score = gameState.getScore();
-            if (score >= BOSS_TRIGGER_SCORE && (score / BOSS_TRIGGER_SCORE) >= gameState.getLevel()) {
-                gameEntityManager.startBossStage(bossMusic);
-                bossStageMusic.play();
-                logger.info("Boss stage started, playing boss stage music.");
-                gameState.nextLevel();
-            }
+        // Run as many fixed ticks as the frame's game time covers, then draw between the last two
+        int ticks = timestep.advance(clock.toGameSeconds(lastDeltaSeconds));
+        for (int i = 0; i < ticks && !simulation.isGameOver(); i++) {
+            PlayerInput input = replayRecorder != null
+                    ? replayRecorder.record(simulation, inputController)
+                    : inputController;
+            simulation.tick(input, timestep.getStepSeconds());
         }
-    }
 
-    private void checkShipAIMode() {
-        if (inputController.isAIModeActive()) {
-            if (!aiMode) {
-                aiMode = true; // Activate AI mode
-                shipAI = new ShipAI(playerShip, gameEntityManager, canvas.getWidth(), canvas.getHeight(),laserSound);
-                logger.info("AI Mode activated");
-            }
+        inlineWorld.capture(simulation, timestep.getAlpha(), 0);
+        drawWorld(inlineWorld, profiler, timestep.getAlpha(), simulation.getPlayerShip().consumeDamageEvent());
+        profiler.endFrame();
+        frameEvent.end();
+        if (frameEvent.shouldCommit()) {
+            frameEvent.capture(simulation, ticks);
+            frameEvent.commit();
         }
-
-        if (inputController.isAIModeDeactivate()) {
-            if (aiMode) {
-                aiMode = false; // Deactivate AI mode
-                shipAI = null;
-                logger.info("AI Mode deactivated");
-            }
+        if (showProfiler) {
+            renderer.drawProfiler(profiler);
         }
-    }
 
-    private void checkCheatMode() {
-        if (inputController.isCheatModeEnabled() && !gameEntityManager.isBossActive()) {
-            gameEntityManager.startBossStage(bossMusic);
-            bossStageMusic.play(); // Play the boss stage background music when cheat mode activates the boss
-            logger.info("Cheat mode activated: Boss stage started.");
+        if (simulation.isGameOver()) {
+            triggerGameOver();
         }
     }
 
-    private void startAsteroidAndEnemySpawning() {
-        // Removed timer-based spawning - now handled in updateGame() for better performance
-        logger.info("Frame-based spawning enabled for better performance");
-    }
-
-    private void fireBullet(InputController inputController) {
-        // Player's bullet
-        Bullet bullet = playerShip.fireBullet(inputController);
-        if (bullet != null) {
-            gameEntityManager.addBullet(bullet);
-            laserSound.play();
+    // Draws the newest snapshot the simulation thread has published, carried on to the present
+    private void drawThreadedFrame() {
+        renderProfiler.beginFrame();
+        if (inputController.consumePauseToggle()) {
+            simulationThread.togglePause();
         }
-
-        // If the drone is active, make it fire as well
-        if (drone != null && drone.isActive()) {
-            drone.handleShooting(true); // Trigger drone shooting when the player shoots
+        WorldSnapshot world = simulationThread.latest();
+        drawWorld(world, renderProfiler, world.alphaAt(System.nanoTime()), simulationThread.consumePlayerDamage());
+        renderProfiler.endFrame();
+        if (showProfiler) {
+            renderer.drawProfiler(renderProfiler);
         }
-    }
-
 
-    private void checkCollisions() {
-        gameEntityManager.checkCollisions(gameState, playerShip, hitSound, explodeSound, logger);
-    }
-
-    private void clearScreen() {
-        gc.save();
-        gc.translate(cameraShakeX, cameraShakeY);
-        if (gameEntityManager.isBossActive()) {
-            // Simplified background rendering for better performance
-            elapsedTime += lastDeltaSeconds; // use real delta time
-            
-            // Simple parallax effect instead of complex sine wave
-            backgroundX = (elapsedTime * 20 * backgroundSpeed) % canvas.getWidth();
-            
-            // Draw background twice for seamless scrolling
-            gc.drawImage(backgroundImageBoss, -backgroundX, 0, canvas.getWidth(), canvas.getHeight());
-            gc.drawImage(backgroundImageBoss, canvas.getWidth() - backgroundX, 0, canvas.getWidth(), canvas.getHeight());
-        } else {
-            gc.drawImage(backgroundImage, 0, 0, canvas.getWidth(), canvas.getHeight());
+        if (world.isGameOver()) {
+            triggerGameOver();
         }
-
-        // Removed grid drawing for better performance
-        gc.restore();
-    }
-
-    private void drawFpsCounter(GraphicsContext gc) {
-        gc.setFill(Color.WHITE);
-        gc.setFont(fpsFont);
-        gc.fillText(String.format("FPS: %.1f", currentFps), 10, 20);
     }
 
-    // Grid drawing removed for better performance
-
-    private void updatePlayerShip() {
-        if (inputController.isLeftPressed()) {
-            if (!isMovingLeft) {
-                logger.info("PlayerShip moved left");
-                isMovingLeft = true;
-            }
-            playerShip.moveHorizontallyLeft();
-        } else {
-            isMovingLeft = false;
+    private void drawWorld(WorldSnapshot world, FrameProfiler profiler, double alpha, boolean playerDamaged) {
+        // Trigger camera shake if player took damage this frame
+        if (playerDamaged) {
+            triggerCameraShake(6, 200, world.getTimeMillis()); // px, ms
         }
+        updateCameraShake(world.getTimeMillis());
 
-        // Check for right movement input
-        if (inputController.isRightPressed()) {
-            if (!isMovingRight) {
-                logger.info("PlayerShip moved right");
-                isMovingRight = true;
-            }
-            playerShip.moveHorizontallyRight();
-        } else {
-            isMovingRight = false;
-        }
+        renderer.render(world, profiler, alpha, lastDeltaSeconds, cameraShakeX, cameraShakeY);
 
-        // Check for up movement input
-        if (inputController.isUpPressed()) {
-            if (!isMovingUp) {
-                logger.info("PlayerShip moved up");
-                isMovingUp = true;
-            }
-            playerShip.moveVerticallyUp();
-        } else {
-            isMovingUp = false;
+        // Draw FPS counter for performance monitoring
+        renderer.drawFpsCounter(currentFps);
+        if (world.isPaused()) {
+            renderer.drawPaused();
         }
+    }
 
-        if (inputController.isDownPressed()) {
-            if (!isMovingDown) {
-                logger.info("PlayerShip moved down");
-                isMovingDown = true;
-            }
-            playerShip.moveVerticallyDown();
+    // Shake runs on game time so it freezes while paused and slows down with the game
+    private void updateCameraShake(long now) {
+        if (now < cameraShakeEndTime) {
+            double progress = 1.0 - ((double)(cameraShakeEndTime - now) / Math.max(1, (cameraShakeEndTime - (cameraShakeEndTime - 1))));
+            double decay = Math.max(0, 1.0 - progress);
+            cameraShakeX = (shakeRandom.nextDouble() - 0.5) * cameraShakeIntensity * decay;
+            cameraShakeY = (shakeRandom.nextDouble() - 0.5) * cameraShakeIntensity * decay;
         } else {
-            isMovingDown = false;
+            cameraShakeX = 0;
+            cameraShakeY = 0;
+            cameraShakeIntensity = 0;
         }
-
-        playerShip.rotateToMouse(inputController.getMouseX(), inputController.getMouseY());
-
-        playerShip.updateShield();
-        playerShip.move();
-        playerShip.draw(gc);
-        playerShip.handleScreenEdges(canvas.getWidth(), canvas.getHeight());
     }
 
-    public void drawNumber(GraphicsContext gc, int number, double x, double y, SpriteLoader spriteLoader) {
-        String numberString = Integer.toString(number);
-        double spacing = 20;
-
-        for (int i = 0; i < numberString.length(); i++) {
-            int digit = Integer.parseInt(String.valueOf(numberString.charAt(i)));
-            Image sprite = spriteLoader.getSprite(NUMBER_SPRITES[digit]);
-            gc.drawImage(sprite, x + i * spacing, y);
-        }
+    private void triggerCameraShake(double intensity, long durationMs, long now) {
+        cameraShakeIntensity = intensity;
+        cameraShakeEndTime = now + durationMs;
     }
 
-    private void drawUI(GraphicsContext gc, SpriteLoader spriteLoader, GameState gameState) {
-        gc.setFill(Color.WHITE);
-        gc.setFont(uiFont20);
-
-        gc.drawImage(spriteLoader.getSprite("playerLife1_blue.png"), 20, 20);
-        drawNumber(gc, gameState.getLives(), 60, 20, spriteLoader);
-
-        double screenWidth = gc.getCanvas().getWidth();
-        drawNumber(gc, gameState.getScore(), screenWidth - 100, 20, spriteLoader);
-
-        String bulletMode = playerShip.getBulletMode();
-        gc.fillText("Bullet Mode: " + bulletMode, screenWidth / 2 - 60, canvas.getHeight() - 30);
-
-        // Display drone status
-        String droneStatusText;
-        Color droneStatusColor;
-        if (drone != null && drone.isActive()) {
-            droneStatusText = "Drone: Active";
-            droneStatusColor = Color.GREEN;
-        } else {
-            long currentTime = System.currentTimeMillis();
-            long cooldownRemaining = (lastDroneTime + DRONE_COOLDOWN - currentTime) / 1000; // Convert to seconds
-            if (cooldownRemaining > 0) {
-                droneStatusText = "Drone: Cooldown " + cooldownRemaining + "s";
-                droneStatusColor = Color.RED;
-            } else {
-                droneStatusText = "Drone: Ready";
-                droneStatusColor = Color.GREEN;
-            }
-        }
-
-        gc.setFill(droneStatusColor);
-        gc.fillText(droneStatusText, screenWidth / 2 - 60, canvas.getHeight() - 10); // Display below bullet mode
-
-        double playerHealthWidth = 200;
-        double playerHealthHeight = 15;
-        double playerHealthX = 20;
-        double playerHealthY = 60;
-
-        gc.setFill(Color.DARKGRAY);
-        gc.fillRect(playerHealthX, playerHealthY, playerHealthWidth, playerHealthHeight);
-
-        gc.setFill(Color.GREEN);
-        gc.fillRect(playerHealthX, playerHealthY, playerHealthWidth * (playerShip.getHealth() / 100.0), playerHealthHeight);
-
-        gc.setFill(Color.WHITE);
-        gc.setFont(uiFont15);
-        gc.fillText("PLAYER HP: " + playerShip.getHealth() + "/100", playerHealthX + 50, playerHealthY + 12);
-
-        if (gameEntityManager.getBoss() != null) {
-            double bossHealthWidth = 400;
-            double bossHealthHeight = 20;
-            double bossHealthX = (screenWidth - bossHealthWidth) / 2;
-
-            gc.setFill(Color.DARKGRAY);
-            gc.fillRect(bossHealthX, 10, bossHealthWidth, bossHealthHeight);
-
-            gc.setFill(Color.RED);
-            gc.fillRect(bossHealthX, 10, bossHealthWidth * (gameEntityManager.getBoss().getHealth() / 200.0), bossHealthHeight);
-            gc.setFill(Color.WHITE);
-            gc.setFont(uiFont15);
-            gc.fillText("BOSS HP: " + gameEntityManager.getBoss().getHealth() + "/200", bossHealthX + bossHealthWidth / 2 - 50, 45);
-        }
+    private void startAsteroidAndEnemySpawning() {
+        // Removed timer-based spawning - now handled in updateGame() for better performance
+        logger.info("Frame-based spawning enabled for better performance");
     }
 
+    // The simulation has already stopped the music and played the explosion
     private void triggerGameOver() {
         gameOver = true;
+        stopSimulationThread();
+        stopRecording();
         gameLoop.stop();
-        bossStageMusic.stop();
-        explodeSound.play();
-        logger.warning("Game Over! Final Score: " + gameState.getScore());
         drawGameOver();
     }
 
@@ -584,7 +552,7 @@ public class AsteroidGame extends Application {
         gameOverLabel.setStyle("-fx-font-size: 48px; -fx-text-fill: #FF0000; -fx-font-weight: bold;");
 
         // Create the final score label with styling
-        Label scoreLabel = new Label("Final Score: " + gameState.getScore());
+        Label scoreLabel = new Label("Final Score: " + simulation.getGameState().getScore());
         scoreLabel.setStyle("-fx-font-size: 24px; -fx-text-fill: #FFFFFF;");
 
         // Use the existing createStyledButton method for styling the buttons
@@ -620,9 +588,10 @@ public class AsteroidGame extends Application {
         Pane rootPane = (Pane) gameScene.getRoot();
         rootPane.getChildren().clear();
         gameLoop.stop();
+        stopSimulationThread();
         bossStageMusic.stop();
-        playerShip.resetHealth();
-        playerShip.reset(840, 450, 5);
+        stopRecording();
+        simulation.reset();
 
         Stage primaryStage = (Stage) gameScene.getWindow();
         primaryStage.setScene(menuScene);
@@ -635,46 +604,14 @@ public class AsteroidGame extends Application {
         rootPane.getChildren().add(canvas);
 
         gameOver = false;
-        gameState.reset();
-        playerShip.reset(840, 450, 5);
-        playerShip.resetHealth();
-        gameEntityManager.clearAll();
-        gameEntityManager.setBossActive(false);
-        bossDefeated = false;
-
+        stopSimulationThread();
         bossStageMusic.stop();
-        canSummonDrone = true; // Allow the player to summon the drone again after restart
-        lastDroneTime = 0; // Reset the last drone time for cooldown
-        drone = null; // Clear any existing drone
+        simulation.reset();
+        timestep.reset();
+        startRecording();
+        startSimulationThread();
 
         gameLoop.start();
         logger.info("Game restarted.");
     }
-
-    private void handleDroneSummon() {
-        try {
-            long currentTime = System.currentTimeMillis();
-
-            if (inputController.isSummonDrone() && canSummonDrone) {
-                drone = new Drone(playerShip, spriteLoader, gameEntityManager);
-                drone.activate();
-                canSummonDrone = false;
-                lastDroneTime = currentTime;
-                logger.info("Drone summoned!");
-            }
-
-            if (drone != null && drone.isActive()) {
-                boolean playerShooting = inputController.isShootingPressed();
-                drone.update(playerShooting);
-                drone.draw(gc);
-            }
-
-            if (!canSummonDrone && currentTime - lastDroneTime >= DRONE_COOLDOWN) {
-                canSummonDrone = true;
-                logger.info("Drone is ready to be summoned again.");
-            }
-        } catch (DrawingException e) {
-            logger.severe("Error handling drone summon: " + e.getMessage());
-        }
-    }
 }
@@ -0,0 +1,97 @@
+package se233.asterioddemo;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import javax.imageio.ImageIO;
+import se233.asterioddemo.core.Sprites;
+
+/**
+ * Bakes the sprite sheet and its XML into a {@link SpriteAtlas} file. The Maven build runs it in
+ * {@code process-classes}, so the atlas lands next to the sheet on the classpath:
+ *
+ * <pre>
+ * AtlasCompiler src/main/resources/sprite/sheet.png src/main/resources/sprite/sheet.xml target/classes/sprite/sheet.atlas
+ * </pre>
+ */
+public final class AtlasCompiler {
+
+    private AtlasCompiler() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3) {
+            System.err.println("Usage: AtlasCompiler <sheet.png> <sheet.xml> <out.atlas>");
+            System.exit(2);
+        }
+        Path out = Paths.get(args[2]);
+        int sprites = compile(Paths.get(args[0]), Paths.get(args[1]), out);
+        System.out.println("Wrote " + sprites + " sprites to " + out);
+    }
+
+    static int compile(Path sheetFile, Path xmlFile, Path out) throws Exception {
+        BufferedImage image = ImageIO.read(sheetFile.toFile());
+        if (image == null) {
+            throw new IOException("Cannot decode " + sheetFile);
+        }
+        int sheetWidth = image.getWidth();
+        int sheetHeight = image.getHeight();
+        int[] sheet = image.getRGB(0, 0, sheetWidth, sheetHeight, null, 0, sheetWidth);
+        SpriteAtlas.keyWhite(sheet, sheetWidth);
+
+        List<SpriteAtlas.Region> regions;
+        try (InputStream xml = Files.newInputStream(xmlFile)) {
+            regions = SpriteAtlas.readRegions(xml);
+        }
+        checkSpriteIds(regions);
+
+        byte[][] names = new byte[regions.size()][];
+        int indexBytes = 24;
+        for (int id = 0; id < regions.size(); id++) {
+            names[id] = regions.get(id).name.getBytes(StandardCharsets.UTF_8);
+            indexBytes += 2 + names[id].length + 16;
+        }
+
+        ByteBuffer atlas = ByteBuffer.allocate(indexBytes + sheet.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        atlas.putInt(SpriteAtlas.MAGIC);
+        atlas.putInt(SpriteAtlas.VERSION);
+        atlas.putInt(sheetWidth);
+        atlas.putInt(sheetHeight);
+        atlas.putInt(regions.size());
+        atlas.putInt(indexBytes);
+        for (int id = 0; id < regions.size(); id++) {
+            SpriteAtlas.Region region = regions.get(id);
+            atlas.putShort((short) names[id].length);
+            atlas.put(names[id]);
+            atlas.putInt(region.x);
+            atlas.putInt(region.y);
+            atlas.putInt(region.width);
+            atlas.putInt(region.height);
+        }
+        for (int argb : sheet) {
+            atlas.putInt(SpriteAtlas.premultiply(argb));
+        }
+
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        Files.write(out, atlas.array());
+        return regions.size();
+    }
+
+    // The game indexes sprites by the ids in Sprites, so they have to follow the sheet exactly
+    private static void checkSpriteIds(List<SpriteAtlas.Region> regions) throws IOException {
+        boolean matches = regions.size() == Sprites.COUNT;
+        for (int id = 0; matches && id < regions.size(); id++) {
+            matches = regions.get(id).name.equals(Sprites.name(id));
+        }
+        if (!matches) {
+            throw new IOException("Sprites.java no longer matches the sheet's XML; regenerate it with SpriteIdGenerator");
+        }
+    }
+}
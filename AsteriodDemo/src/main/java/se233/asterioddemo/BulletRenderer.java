@@ -0,0 +1,69 @@
+package se233.asterioddemo;
+
+import se233.asterioddemo.core.BulletSystem;
+import se233.asterioddemo.render.DrawCommandBuffer;
+
+/**
+ * Submits every live bullet in a {@link BulletSystem} as draw commands: the fading trails on one
+ * layer and the sprites on the next.
+ */
+public class BulletRenderer {
+    private static final double TRAIL_FADE = 0.05;
+    private static final int TRAIL_COLOR = 0xff00ffff; // Cyan
+    private static final double SPIN_COS = Math.cos(BulletSystem.SHURIKEN_SPIN);
+    private static final double SPIN_SIN = Math.sin(BulletSystem.SHURIKEN_SPIN);
+
+    private final SpriteLoader spriteLoader;
+
+    public BulletRenderer(SpriteLoader spriteLoader) {
+        this.spriteLoader = spriteLoader;
+    }
+
+    // alpha blends each bullet between its position before and after the last tick
+    public void submit(DrawCommandBuffer buffer, int trailLayer, int spriteLayer, BulletSystem bullets, double alpha) {
+        for (int i = bullets.nextAlive(0); i >= 0; i = bullets.nextAlive(i + 1)) {
+            submitTrail(buffer, trailLayer, bullets, i, alpha);
+        }
+
+        for (int i = bullets.nextAlive(0); i >= 0; i = bullets.nextAlive(i + 1)) {
+            int spriteId = bullets.getSpriteId(i);
+            SpriteRegion sprite = spriteLoader.getRegion(spriteId);
+            if (sprite == null) {
+                continue;
+            }
+            // Bullets keep their sprite's own size
+            buffer.sprite(spriteLayer, spriteId, lerp(bullets.getPrevX(i), bullets.getX(i), alpha),
+                    lerp(bullets.getPrevY(i), bullets.getY(i), alpha),
+                    Math.max(sprite.getWidth(), sprite.getHeight()), Math.toDegrees(bullets.getRotation(i)), 1.0);
+        }
+    }
+
+    private static void submitTrail(DrawCommandBuffer buffer, int layer, BulletSystem bullets, int i, double alpha) {
+        int length = bullets.getTrailLength(i);
+        if (length == 0) {
+            return;
+        }
+        boolean shuriken = bullets.isShuriken(i);
+        double dotSize = bullets.getSize(i) * 0.5;
+        double px = lerp(bullets.getPrevX(i), bullets.getX(i), alpha);
+        double py = lerp(bullets.getPrevY(i), bullets.getY(i), alpha);
+        double stepX = bullets.getVelocityX(i);
+        double stepY = bullets.getVelocityY(i);
+
+        // Walk back along the path the bullet took; shuriken velocity is un-rotated one tick at a time
+        for (int k = 1; k <= length; k++) {
+            if (shuriken) {
+                double turnedX = stepX * SPIN_COS + stepY * SPIN_SIN;
+                stepY = -stepX * SPIN_SIN + stepY * SPIN_COS;
+                stepX = turnedX;
+            }
+            px -= stepX;
+            py -= stepY;
+            buffer.fillOval(layer, DrawCommandBuffer.BLEND_NORMAL, 1.0 - k * TRAIL_FADE, TRAIL_COLOR, px, py, dotSize, dotSize);
+        }
+    }
+
+    private static double lerp(double from, double to, double alpha) {
+        return from + (to - from) * alpha;
+    }
+}
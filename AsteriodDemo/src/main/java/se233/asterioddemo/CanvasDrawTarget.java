@@ -0,0 +1,104 @@
+package se233.asterioddemo;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.BlendMode;
+import javafx.scene.paint.Color;
+import se233.asterioddemo.render.DrawCommandBuffer;
+import se233.asterioddemo.render.DrawTarget;
+
+/**
+ * Plays a {@link DrawCommandBuffer} onto a Canvas. Rotated rectangles become polygons, so no
+ * command needs a save and restore.
+ */
+public class CanvasDrawTarget implements DrawTarget {
+    private static final int COLOR_CACHE_SIZE = 256; // Power of two, far more than the emitters use
+
+    private final GraphicsContext gc;
+    private final SpriteCache spriteCache;
+    // Packed ARGB -> Color, open addressing, so drawing never allocates a Color after warm-up
+    private final int[] cachedArgb = new int[COLOR_CACHE_SIZE];
+    private final Color[] cachedColors = new Color[COLOR_CACHE_SIZE];
+    private final double[] cornersX = new double[4];
+    private final double[] cornersY = new double[4];
+
+    public CanvasDrawTarget(GraphicsContext gc, SpriteCache spriteCache) {
+        this.gc = gc;
+        this.spriteCache = spriteCache;
+    }
+
+    @Override
+    public void setBlend(int blend) {
+        gc.setGlobalBlendMode(blend == DrawCommandBuffer.BLEND_ADD ? BlendMode.ADD : BlendMode.SRC_OVER);
+    }
+
+    @Override
+    public void setAlpha(double alpha) {
+        gc.setGlobalAlpha(alpha);
+    }
+
+    @Override
+    public void setPaint(int argb) {
+        Color color = color(argb);
+        gc.setFill(color);
+        gc.setStroke(color);
+    }
+
+    @Override
+    public void setLineWidth(double width) {
+        gc.setLineWidth(width);
+    }
+
+    @Override
+    public void drawSprite(int spriteId, double x, double y, double size, double degrees) {
+        spriteCache.draw(gc, spriteId, x, y, size, degrees);
+    }
+
+    @Override
+    public void fillRect(double x, double y, double width, double height, double degrees) {
+        if (degrees == 0) {
+            gc.fillRect(x - width / 2, y - height / 2, width, height);
+            return;
+        }
+        double radians = Math.toRadians(degrees);
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        double halfW = width / 2;
+        double halfH = height / 2;
+        for (int corner = 0; corner < 4; corner++) {
+            double cx = corner == 0 || corner == 3 ? -halfW : halfW;
+            double cy = corner < 2 ? -halfH : halfH;
+            cornersX[corner] = x + cx * cos - cy * sin;
+            cornersY[corner] = y + cx * sin + cy * cos;
+        }
+        gc.fillPolygon(cornersX, cornersY, 4);
+    }
+
+    @Override
+    public void fillOval(double x, double y, double width, double height) {
+        gc.fillOval(x - width / 2, y - height / 2, width, height);
+    }
+
+    @Override
+    public void strokeOval(double x, double y, double width, double height) {
+        gc.strokeOval(x - width / 2, y - height / 2, width, height);
+    }
+
+    @Override
+    public void strokeLine(double x1, double y1, double x2, double y2) {
+        gc.strokeLine(x1, y1, x2, y2);
+    }
+
+    private Color color(int argb) {
+        int index = (argb * 0x9E3779B1) >>> 24; // Top 8 bits of a multiplicative hash
+        while (cachedColors[index] != null) {
+            if (cachedArgb[index] == argb) {
+                return cachedColors[index];
+            }
+            index = (index + 1) & (COLOR_CACHE_SIZE - 1);
+        }
+        Color color = Color.rgb((argb >> 16) & 0xff, (argb >> 8) & 0xff, argb & 0xff, ((argb >>> 24) & 0xff) / 255.0);
+        cachedArgb[index] = argb;
+        cachedColors[index] = color;
+        return color;
+    }
+}
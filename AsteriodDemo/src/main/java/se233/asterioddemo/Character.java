@@ -1,46 +0,0 @@
-package se233.asterioddemo;
-
-import javafx.scene.canvas.GraphicsContext;
-
-public abstract class Character implements GameObject{
-    protected double x, y;
-    protected double speed;
-    protected double size;
-
-    public Character(double x, double y, double speed, double size) {
-        this.x = x;
-        this.y = y;
-        this.speed = speed;
-        this.size = size;
-    }
-
-    public abstract void move();  // Abstract method, each character type will have its own movement logic
-
-    public void draw(GraphicsContext gc) {
-        // Common draw logic can go here, but will likely be overridden
-    }
-
-    public double getX() {
-        return x;
-    }
-
-    public void setX(double x) {
-        this.x = x;
-    }
-
-    public double getY() {
-        return y;
-    }
-
-    public void setY(double y) {
-        this.y = y;
-    }
-
-    public double getSize() {
-        return size;
-    }
-
-    public void setSize(double size) {
-        this.size = size;
-    }
-}
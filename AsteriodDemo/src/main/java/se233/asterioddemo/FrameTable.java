@@ -0,0 +1,186 @@
+package se233.asterioddemo;
+
+import java.util.Arrays;
+
+/**
+ * The {@link SpriteCache}'s frames by their long key, with a cap on the bytes they hold. Keys sit in
+ * an open-addressing table of primitive longs, so a lookup on the draw path neither boxes nor
+ * allocates. Entries are rows of parallel arrays linked from least to most recently used, and once
+ * the cap is passed the least recently used are dropped, though never the one just added.
+ * Nothing here needs JavaFX.
+ */
+final class FrameTable<V> {
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final long maxBytes;
+    private long bytes = 0;
+    private int size = 0;
+
+    // Linear probing: each bucket holds an entry, or NONE; twice as many buckets as entries
+    private int[] buckets;
+    private int mask;
+
+    // Entries, reused through the free list
+    private long[] keys;
+    private Object[] values;
+    private long[] entryBytes;
+    private int[] older;
+    private int[] newer;
+    private int oldest = NONE;
+    private int newest = NONE;
+    private int[] freeEntries;
+    private int freeCount = 0;
+    private int entryCount = 0; // Entries at or above this have never been used
+
+    FrameTable(long maxBytes) {
+        this.maxBytes = maxBytes;
+        keys = new long[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+        entryBytes = new long[INITIAL_CAPACITY];
+        older = new int[INITIAL_CAPACITY];
+        newer = new int[INITIAL_CAPACITY];
+        freeEntries = new int[INITIAL_CAPACITY];
+        rehash();
+    }
+
+    // The frame for the key, now the most recently used; null when there is none
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int bucket = find(key);
+        if (bucket < 0) {
+            return null;
+        }
+        int entry = buckets[bucket];
+        unlink(entry);
+        linkNewest(entry);
+        return (V) values[entry];
+    }
+
+    // Whether the key has a frame, without counting as a use
+    boolean contains(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Adds a frame for a key that has none, then drops the least recently used frames until the
+     * total is back under the cap or only the new one is left.
+     */
+    void put(long key, V value, long frameBytes) {
+        if (find(key) >= 0) {
+            throw new IllegalArgumentException("Key already has a frame: " + Long.toHexString(key));
+        }
+        if (freeCount == 0 && entryCount == keys.length) {
+            grow(keys.length * 2);
+        }
+        int entry = freeCount > 0 ? freeEntries[--freeCount] : entryCount++;
+        keys[entry] = key;
+        values[entry] = value;
+        entryBytes[entry] = frameBytes;
+        linkNewest(entry);
+        int bucket = home(key);
+        while (buckets[bucket] != NONE) {
+            bucket = (bucket + 1) & mask;
+        }
+        buckets[bucket] = entry;
+        size++;
+        bytes += frameBytes;
+
+        while (bytes > maxBytes && size > 1) {
+            remove(find(keys[oldest]));
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long bytes() {
+        return bytes;
+    }
+
+    private int find(long key) {
+        for (int bucket = home(key); ; bucket = (bucket + 1) & mask) {
+            int entry = buckets[bucket];
+            if (entry == NONE) {
+                return -1;
+            }
+            if (keys[entry] == key) {
+                return bucket;
+            }
+        }
+    }
+
+    private void remove(int bucket) {
+        int entry = buckets[bucket];
+        unlink(entry);
+        values[entry] = null;
+        bytes -= entryBytes[entry];
+        freeEntries[freeCount++] = entry;
+        size--;
+
+        // Close the gap by pulling back any later entry whose probe passed through it
+        int gap = bucket;
+        for (int i = (bucket + 1) & mask; buckets[i] != NONE; i = (i + 1) & mask) {
+            int home = home(keys[buckets[i]]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                buckets[gap] = buckets[i];
+                gap = i;
+            }
+        }
+        buckets[gap] = NONE;
+    }
+
+    private void linkNewest(int entry) {
+        older[entry] = newest;
+        newer[entry] = NONE;
+        if (newest != NONE) {
+            newer[newest] = entry;
+        } else {
+            oldest = entry;
+        }
+        newest = entry;
+    }
+
+    private void unlink(int entry) {
+        if (older[entry] != NONE) {
+            newer[older[entry]] = newer[entry];
+        } else {
+            oldest = newer[entry];
+        }
+        if (newer[entry] != NONE) {
+            older[newer[entry]] = older[entry];
+        } else {
+            newest = older[entry];
+        }
+    }
+
+    private int home(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L; // Spreads keys that differ only in their low bits
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+    private void grow(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        entryBytes = Arrays.copyOf(entryBytes, capacity);
+        older = Arrays.copyOf(older, capacity);
+        newer = Arrays.copyOf(newer, capacity);
+        freeEntries = Arrays.copyOf(freeEntries, capacity);
+        rehash();
+    }
+
+    // Only called when every entry is in use, so all of them go back in
+    private void rehash() {
+        buckets = new int[keys.length * 2];
+        mask = buckets.length - 1;
+        Arrays.fill(buckets, NONE);
+        for (int entry = 0; entry < entryCount; entry++) {
+            int bucket = home(keys[entry]);
+            while (buckets[bucket] != NONE) {
+                bucket = (bucket + 1) & mask;
+            }
+            buckets[bucket] = entry;
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package se233.asterioddemo;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import se233.asterioddemo.core.Boss;
+import se233.asterioddemo.core.FrameProfiler;
+import se233.asterioddemo.core.LatencyHistogram;
+import se233.asterioddemo.core.Sprites;
+import se233.asterioddemo.core.WorldSnapshot;
+import se233.asterioddemo.exception.DrawingException;
+import se233.asterioddemo.exception.SpriteNotFoundException;
+import se233.asterioddemo.render.DrawCommandBuffer;
+
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Draws one frame from a {@link WorldSnapshot}, so it never needs the live simulation and can run
+ * while the simulation ticks on another thread.
+ */
+public class GameRenderer {
+    private static final Logger logger = Logger.getLogger(GameRenderer.class.getName());
+
+    private static final int SHIP_FRAMES = 4;
+
+    // Draw command layers, back to front
+    private static final int LAYER_BULLET_TRAILS = 0;
+    private static final int LAYER_BULLETS = 1;
+    private static final int LAYER_ENEMIES = 2;
+    private static final int LAYER_ASTEROIDS = 3;
+    private static final int LAYER_PARTICLES = 4; // One per particle engine layer from here
+
+    // Profiler overlay: one bar per frame, 4 px per millisecond, one colour per phase
+    private static final double GRAPH_X = 10;
+    private static final double GRAPH_BOTTOM = 700;
+    private static final double GRAPH_PX_PER_MS = 4;
+    private static final double GRAPH_MAX_MS = 50;
+    private static final Color[] PHASE_COLORS = {
+            Color.DODGERBLUE, Color.MEDIUMPURPLE, Color.CYAN, Color.ORANGERED, Color.SANDYBROWN, Color.MAGENTA,
+            Color.GOLD, Color.LIMEGREEN, Color.LIGHTGRAY, Color.PINK, Color.WHITE
+    };
+    private static final Color GRAPH_BACKGROUND = Color.rgb(0, 0, 0, 0.6);
+
+    private final GraphicsContext gc;
+    private final SpriteLoader spriteLoader;
+    private final SpriteCache spriteCache;
+    private final Image backgroundImage;
+    private final Image backgroundImageBoss;
+    private final BulletRenderer bulletRenderer;
+    private final ParticleRenderer particleRenderer = new ParticleRenderer();
+    private final DrawCommandBuffer commands = new DrawCommandBuffer();
+    private final CanvasDrawTarget canvasTarget;
+    private AnimatedSprite shipSprite;
+    private final SpriteRegion droneSprite;
+    private final SpriteRegion lifeIcon;
+    private final SpriteRegion[] numberSprites = new SpriteRegion[10];
+
+    // Cached fonts to reduce per-frame allocation churn
+    private final Font fpsFont = Font.font("Arial", 12);
+    private final Font profilerFont = Font.font("Monospaced", 11); // Keeps the percentile columns lined up
+    private final Font uiFont20 = new Font(20);
+    private final Font uiFont15 = new Font(15);
+
+    private double backgroundX = 0;
+    private double backgroundSpeed = 1.2; // Faster parallax for energetic feel
+    private double elapsedTime = 0;
+    private double alpha = 1.0; // Interpolation between the last two ticks for the frame being drawn
+    // Flame flicker is purely visual, so it stays out of the simulation's seeded streams
+    private final SplittableRandom random = new SplittableRandom();
+    private long timeMillis = 0; // Game clock for the frame being drawn, so effects freeze with the game
+
+    public GameRenderer(GraphicsContext gc, SpriteLoader spriteLoader, Image backgroundImage, Image backgroundImageBoss) {
+        this.gc = gc;
+        this.spriteLoader = spriteLoader;
+        this.backgroundImage = backgroundImage;
+        this.backgroundImageBoss = backgroundImageBoss;
+        this.spriteCache = SpriteCache.fromSystemProperties(spriteLoader);
+        this.bulletRenderer = new BulletRenderer(spriteLoader);
+        this.canvasTarget = new CanvasDrawTarget(gc, spriteCache);
+        this.droneSprite = spriteLoader.getRegion(Sprites.PLAYER_LIFE_1_ORANGE);
+        this.lifeIcon = spriteLoader.getRegion(Sprites.PLAYER_LIFE_1_BLUE);
+        for (int digit = 0; digit < numberSprites.length; digit++) {
+            numberSprites[digit] = spriteLoader.getRegion(Sprites.NUMERAL_0 + digit); // numeral0..9 sit in order on the sheet
+        }
+
+        try {
+            Image newShipImage = new Image(getClass().getResource("/sprite/newship.png").toExternalForm());
+            if (newShipImage.isError()) {
+                throw new SpriteNotFoundException("Failed to load ship sprite sheet");
+            }
+            this.shipSprite = new AnimatedSprite(newShipImage, SHIP_FRAMES, SHIP_FRAMES, 1, 0, 0, 117, 117);
+        } catch (SpriteNotFoundException e) {
+            logger.severe("Error loading ship sprite: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Draws one display frame and times its phases into {@code profiler}. {@code alpha} is how far
+     * the frame lies between the last two simulation ticks (0 to 1); moving things are drawn that
+     * far between their two positions.
+     */
+    public void render(WorldSnapshot world, FrameProfiler profiler, double alpha, double deltaSeconds, double shakeX, double shakeY) {
+        long t = profiler.start();
+        this.alpha = alpha;
+        this.timeMillis = world.getTimeMillis();
+        drawBackground(world.isBossActive(), deltaSeconds, shakeX, shakeY);
+
+        drawPlayerShip(world);
+        drawDrone(world.getDrone());
+
+        if (world.isBossActive()) {
+            drawBoss(world); // Under its bullets, which the flush below draws
+        }
+        bulletRenderer.submit(commands, LAYER_BULLET_TRAILS, LAYER_BULLETS, world.getBullets(), alpha);
+        if (!world.isBossActive()) {
+            WorldSnapshot.Bodies enemies = world.getEnemyShips();
+            for (int i = 0; i < enemies.size(); i++) {
+                submitEnemyShip(enemies, i);
+            }
+            WorldSnapshot.Bodies asteroids = world.getAsteroids();
+            for (int i = 0; i < asteroids.size(); i++) {
+                submitAsteroid(asteroids, i);
+            }
+        }
+        commands.flush(canvasTarget);
+
+        t = profiler.end(FrameProfiler.Phase.DRAW_WORLD, t);
+        particleRenderer.submit(commands, LAYER_PARTICLES, world.getParticles(), alpha,
+                gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        commands.flush(canvasTarget);
+        t = profiler.end(FrameProfiler.Phase.DRAW_PARTICLES, t);
+        drawUI(world);
+        profiler.end(FrameProfiler.Phase.DRAW_UI, t);
+    }
+
+    private void drawBackground(boolean bossActive, double deltaSeconds, double shakeX, double shakeY) {
+        double width = gc.getCanvas().getWidth();
+        double height = gc.getCanvas().getHeight();
+        gc.save();
+        gc.translate(shakeX, shakeY);
+        if (bossActive) {
+            // Simplified background rendering for better performance
+            elapsedTime += deltaSeconds; // use real delta time
+
+            // Simple parallax effect instead of complex sine wave
+            backgroundX = (elapsedTime * 20 * backgroundSpeed) % width;
+
+            // Draw background twice for seamless scrolling
+            gc.drawImage(backgroundImageBoss, -backgroundX, 0, width, height);
+            gc.drawImage(backgroundImageBoss, width - backgroundX, 0, width, height);
+        } else {
+            gc.drawImage(backgroundImage, 0, 0, width, height);
+        }
+        gc.restore();
+    }
+
+    private void drawPlayerShip(WorldSnapshot world) {
+        if (shipSprite == null) {
+            return;
+        }
+        WorldSnapshot.Body ship = world.getShip();
+        gc.save();
+        gc.translate(ship.getX(alpha), ship.getY(alpha));
+        gc.rotate(ship.getRotation());
+
+        // Hit animation effect
+        if (world.isShipHitFlashing() && (timeMillis / 100) % 2 == 0) {
+            gc.setGlobalAlpha(0.5);
+        }
+
+        shipSprite.setFrame(world.getShipAnimationFrame() % SHIP_FRAMES);
+        shipSprite.render(gc, -shipSprite.getWidth() / 2, -shipSprite.getHeight() / 2);
+
+        // Draw shield if active
+        if (world.isShieldActive()) {
+            drawShield(world.getShieldAlpha(), shipSprite.getWidth() * 1.2);
+        }
+
+        // Draw thrust effect
+        if (world.isThrusting()) {
+            drawThrustEffect(shipSprite.getHeight() * 0.2);
+        }
+
+        gc.restore();
+    }
+
+    private void drawShield(double shieldAlpha, double size) {
+        gc.setStroke(Color.rgb(100, 200, 255, shieldAlpha));
+        gc.setLineWidth(3);
+        gc.strokeOval(-size / 2, -size / 2, size, size);
+
+        // Add shield wave effect
+        double waveSize = size * (1 + Math.sin(timeMillis * 0.005) * 0.05);
+        gc.setStroke(Color.rgb(100, 200, 255, shieldAlpha * 0.5));
+        gc.strokeOval(-waveSize / 2, -waveSize / 2, waveSize, waveSize);
+    }
+
+    private void drawThrustEffect(double baseSize) {
+        double time = timeMillis * 0.001;
+
+        // Main thrust
+        for (int i = 0; i < 3; i++) {
+            double flickerSize = baseSize * (1 + Math.sin(time * 10 + i) * 0.2);
+            double opacity = 0.7 - (i * 0.2);
+
+            gc.setGlobalAlpha(opacity);
+            gc.setFill(getFlameColor());
+
+            double flickerX = Math.sin(time * 20 + i) * baseSize * 0.1;
+            double[] xPoints = {
+                    flickerX,
+                    -flickerSize + flickerX,
+                    flickerSize + flickerX
+            };
+            double[] yPoints = {
+                    0,
+                    flickerSize * 1.5,
+                    flickerSize * 1.5
+            };
+
+            gc.fillPolygon(xPoints, yPoints, 3);
+        }
+
+        // Add particle effects
+        for (int i = 0; i < 2; i++) {
+            double particleSize = baseSize * 0.3;
+            double particleX = (random.nextDouble() - 0.5) * baseSize;
+            double particleY = baseSize * 1.2 + random.nextDouble() * baseSize * 0.5;
+
+            gc.setGlobalAlpha(0.3);
+            gc.setFill(Color.WHITE);
+            gc.fillOval(particleX - particleSize / 2, particleY - particleSize / 2,
+                    particleSize, particleSize);
+        }
+
+        gc.setGlobalAlpha(1.0);
+    }
+
+    private Color getFlameColor() {
+        // Returns different colors for flame variation
+        double roll = random.nextDouble();
+        if (roll < 0.3) return Color.ORANGE;
+        if (roll < 0.6) return Color.YELLOW;
+        return Color.RED;
+    }
+
+    private void drawDrone(WorldSnapshot.Body drone) {
+        if (drone == null) {
+            return;
+        }
+        double x = drone.getX(alpha);
+        double y = drone.getY(alpha);
+        if (droneSprite != null) {
+            spriteCache.draw(gc, Sprites.PLAYER_LIFE_1_ORANGE, x, y,
+                    Math.max(droneSprite.getWidth(), droneSprite.getHeight()), drone.getRotation());
+        } else {
+            gc.setFill(Color.GRAY);
+            gc.fillOval(x - 10, y - 10, 20, 20);
+        }
+    }
+
+    private void submitEnemyShip(WorldSnapshot.Bodies enemies, int i) {
+        commands.sprite(LAYER_ENEMIES, enemies.getSpriteId(i), enemies.getX(i, alpha), enemies.getY(i, alpha),
+                enemies.getSize(i), enemies.getRotation(i), 1.0);
+    }
+
+    private void submitAsteroid(WorldSnapshot.Bodies asteroids, int i) {
+        try {
+            if (spriteLoader.getRegion(asteroids.getSpriteId(i)) == null) {
+                throw new DrawingException("Asteroid image is null, cannot draw.");
+            }
+            commands.sprite(LAYER_ASTEROIDS, asteroids.getSpriteId(i), asteroids.getX(i, alpha), asteroids.getY(i, alpha),
+                    asteroids.getSize(i), asteroids.getRotation(i), 1.0);
+        } catch (DrawingException e) {
+            logger.log(Level.WARNING, e.getMessage());
+        }
+    }
+
+    private void drawBoss(WorldSnapshot world) {
+        WorldSnapshot.Body boss = world.getBoss();
+        if (boss == null) {
+            return;
+        }
+        if (!world.isBossVisible()) {
+            logger.warning("Boss is not visible!");
+            return;
+        }
+        double x = boss.getX(alpha);
+        double y = boss.getY(alpha);
+        double size = boss.getSize();
+
+        // Draw the current UFO sprite
+        SpriteRegion currentSprite = spriteLoader.getRegion(boss.getSpriteId());
+        if (currentSprite != null) {
+            currentSprite.draw(gc, x - size / 2, y - size / 2, size, size);
+        }
+
+        // Draw health bar with phase indicator
+        double healthBarWidth = size * (world.getBossHealth() / 200.0);
+        gc.setFill(getPhaseColor(world.getBossPhase()));
+        gc.fillRect(x - size / 2, y - size - 10, healthBarWidth, 5);
+
+        // Draw attack pattern indicator
+        gc.setFill(getPatternColor(world.getBossPattern()));
+        gc.fillOval(x - 5, y - size - 20, 10, 10);
+    }
+
+    private static Color getPhaseColor(int phase) {
+        return switch (phase) {
+            case 2 -> Color.ORANGE;
+            case 3 -> Color.PURPLE;
+            default -> Color.RED;
+        };
+    }
+
+    private static Color getPatternColor(Boss.AttackPattern pattern) {
+        return switch (pattern) {
+            case SINGLE -> Color.GREEN;
+            case SPREAD -> Color.RED;
+            case SPIRAL -> Color.BLUE;
+            case WAVE -> Color.YELLOW;
+        };
+    }
+
+    public void drawNumber(int number, double x, double y) {
+        double spacing = 20;
+        int digits = 1;
+        for (int rest = number / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+
+        // Peel digits off the right so nothing is allocated per frame
+        int rest = number;
+        for (int i = digits - 1; i >= 0; i--) {
+            numberSprites[rest % 10].draw(gc, x + i * spacing, y);
+            rest /= 10;
+        }
+    }
+
+    private void drawUI(WorldSnapshot world) {
+        double screenWidth = gc.getCanvas().getWidth();
+        double screenHeight = gc.getCanvas().getHeight();
+
+        gc.setFill(Color.WHITE);
+        gc.setFont(uiFont20);
+
+        lifeIcon.draw(gc, 20, 20);
+        drawNumber(world.getLives(), 60, 20);
+        drawNumber(world.getScore(), screenWidth - 100, 20);
+
+        String bulletMode = world.getBulletMode();
+        gc.fillText("Bullet Mode: " + bulletMode, screenWidth / 2 - 60, screenHeight - 30);
+
+        // Display drone status
+        String droneStatusText;
+        Color droneStatusColor;
+        if (world.getDrone() != null) {
+            droneStatusText = "Drone: Active";
+            droneStatusColor = Color.GREEN;
+        } else {
+            long cooldownRemaining = world.getDroneCooldownRemainingMs() / 1000; // Convert to seconds
+            if (cooldownRemaining > 0) {
+                droneStatusText = "Drone: Cooldown " + cooldownRemaining + "s";
+                droneStatusColor = Color.RED;
+            } else {
+                droneStatusText = "Drone: Ready";
+                droneStatusColor = Color.GREEN;
+            }
+        }
+
+        gc.setFill(droneStatusColor);
+        gc.fillText(droneStatusText, screenWidth / 2 - 60, screenHeight - 10); // Display below bullet mode
+
+        double playerHealthWidth = 200;
+        double playerHealthHeight = 15;
+        double playerHealthX = 20;
+        double playerHealthY = 60;
+
+        gc.setFill(Color.DARKGRAY);
+        gc.fillRect(playerHealthX, playerHealthY, playerHealthWidth, playerHealthHeight);
+
+        gc.setFill(Color.GREEN);
+        gc.fillRect(playerHealthX, playerHealthY, playerHealthWidth * (world.getShipHealth() / 100.0), playerHealthHeight);
+
+        gc.setFill(Color.WHITE);
+        gc.setFont(uiFont15);
+        gc.fillText("PLAYER HP: " + world.getShipHealth() + "/100", playerHealthX + 50, playerHealthY + 12);
+
+        if (world.getBoss() != null) {
+            double bossHealthWidth = 400;
+            double bossHealthHeight = 20;
+            double bossHealthX = (screenWidth - bossHealthWidth) / 2;
+
+            gc.setFill(Color.DARKGRAY);
+            gc.fillRect(bossHealthX, 10, bossHealthWidth, bossHealthHeight);
+
+            gc.setFill(Color.RED);
+            gc.fillRect(bossHealthX, 10, bossHealthWidth * (world.getBossHealth() / 200.0), bossHealthHeight);
+            gc.setFill(Color.WHITE);
+            gc.setFont(uiFont15);
+            gc.fillText("BOSS HP: " + world.getBossHealth() + "/200", bossHealthX + bossHealthWidth / 2 - 50, 45);
+        }
+    }
+
+    public void drawFpsCounter(double currentFps) {
+        gc.setFill(Color.WHITE);
+        gc.setFont(fpsFont);
+        gc.fillText(String.format("FPS: %.1f", currentFps), 10, 20);
+    }
+
+    /**
+     * Draws the last {@link FrameProfiler#HISTORY_FRAMES} frames as stacked per-phase bars, newest on
+     * the right, with lines at 60 and 30 FPS, and the percentiles of every phase beside them.
+     */
+    public void drawProfiler(FrameProfiler profiler) {
+        FrameProfiler.Phase[] phases = FrameProfiler.Phase.values();
+        double graphHeight = GRAPH_MAX_MS * GRAPH_PX_PER_MS;
+        double graphTop = GRAPH_BOTTOM - graphHeight;
+        gc.setFill(GRAPH_BACKGROUND);
+        gc.fillRect(GRAPH_X - 5, graphTop - 5, FrameProfiler.HISTORY_FRAMES * 2 + 10 + 330, graphHeight + 10);
+
+        int frames = profiler.getHistorySize();
+        for (int age = 0; age < frames; age++) {
+            double x = GRAPH_X + (FrameProfiler.HISTORY_FRAMES - 1 - age) * 2;
+            double y = GRAPH_BOTTOM;
+            for (FrameProfiler.Phase phase : phases) {
+                double height = profiler.getHistoryPhaseNanos(age, phase) / 1e6 * GRAPH_PX_PER_MS;
+                if (height > 0) {
+                    height = Math.min(height, y - graphTop);
+                    y -= height;
+                    gc.setFill(PHASE_COLORS[phase.ordinal()]);
+                    gc.fillRect(x, y, 2, height);
+                }
+            }
+            // Whatever the phases do not cover: the loop itself, the overlay and the FPS counter
+            double frameTop = GRAPH_BOTTOM - Math.min(profiler.getHistoryFrameNanos(age) / 1e6 * GRAPH_PX_PER_MS, graphHeight);
+            if (frameTop < y) {
+                gc.setFill(Color.DIMGRAY);
+                gc.fillRect(x, frameTop, 2, y - frameTop);
+            }
+        }
+
+        gc.setStroke(Color.YELLOW);
+        gc.setLineWidth(1);
+        for (double ms : new double[]{1000.0 / 60, 1000.0 / 30}) {
+            double y = GRAPH_BOTTOM - ms * GRAPH_PX_PER_MS;
+            gc.strokeLine(GRAPH_X, y, GRAPH_X + FrameProfiler.HISTORY_FRAMES * 2, y);
+        }
+
+        gc.setFont(profilerFont);
+        double textX = GRAPH_X + FrameProfiler.HISTORY_FRAMES * 2 + 10;
+        double textY = graphTop + 12;
+        gc.setFill(Color.WHITE);
+        gc.fillText("ms            p50     p99   p99.9     max", textX, textY);
+        textY = drawPercentiles("interval", profiler.getIntervalHistogram(), Color.WHITE, textX, textY + 14);
+        textY = drawPercentiles("frame", profiler.getFrameHistogram(), Color.DIMGRAY, textX, textY);
+        for (FrameProfiler.Phase phase : phases) {
+            textY = drawPercentiles(phase.getLabel(), profiler.getHistogram(phase), PHASE_COLORS[phase.ordinal()], textX, textY);
+        }
+    }
+
+    private double drawPercentiles(String label, LatencyHistogram histogram, Color color, double x, double y) {
+        gc.setFill(color);
+        gc.fillRect(x, y - 8, 8, 8);
+        gc.setFill(Color.WHITE);
+        gc.fillText(String.format("%-12s %7.2f %7.2f %7.2f %7.2f", label,
+                histogram.getValueAtQuantile(0.5) / 1e6, histogram.getValueAtQuantile(0.99) / 1e6,
+                histogram.getValueAtQuantile(0.999) / 1e6, histogram.getMax() / 1e6), x + 12, y);
+        return y + 14;
+    }
+
+    public void drawPaused() {
+        gc.setFill(Color.WHITE);
+        gc.setFont(uiFont20);
+        gc.fillText("PAUSED", gc.getCanvas().getWidth() / 2 - 40, gc.getCanvas().getHeight() / 2);
+    }
+}
@@ -3,15 +3,22 @@ package se233.asterioddemo;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseEvent;
-
-public class InputController {
-    private boolean left, right, up, down, shooting;
-    private boolean cheatMode;
-    private boolean AIModeActive; // Changed to track if F1 was pressed
-    private boolean AIModeDeactivate; // Track if F2 was pressed
-    private boolean shurikenMode, pluseMode, defaultMode;
-    private boolean summonDrone; // New variable to track drone summoning
-    private double mouseX, mouseY;
+import se233.asterioddemo.core.PlayerInput;
+
+/**
+ * Keyboard and mouse state, written by JavaFX events. Fields are volatile because with
+ * {@code -Dasteroidx.simThread=true} the simulation thread reads them.
+ */
+public class InputController implements PlayerInput {
+    private volatile boolean left, right, up, down, shooting;
+    private volatile boolean cheatMode;
+    private volatile boolean AIModeActive; // Changed to track if F1 was pressed
+    private volatile boolean AIModeDeactivate; // Track if F2 was pressed
+    private volatile boolean shurikenMode, pluseMode, defaultMode;
+    private volatile boolean summonDrone; // New variable to track drone summoning
+    private volatile boolean pauseToggled; // Set by 'P', cleared once the game loop has seen it
+    private volatile boolean profilerToggled; // Set by F3, same as pause
+    private volatile double mouseX, mouseY;
 
     public InputController(Scene scene) {
         scene.setOnKeyPressed(event -> {
@@ -52,6 +59,9 @@ public class InputController {
             if (event.getCode() == KeyCode.Q) {
                 summonDrone = true;
             }
+
+            if (event.getCode() == KeyCode.P) pauseToggled = true;
+            if (event.getCode() == KeyCode.F3) profilerToggled = true;
         });
 
         scene.setOnKeyReleased(event -> {
@@ -88,60 +98,87 @@ public class InputController {
     }
 
     // Getter methods for movement, actions, and state
+    @Override
     public boolean isLeftPressed() {
         return left;
     }
 
+    @Override
     public boolean isRightPressed() {
         return right;
     }
 
+    @Override
     public boolean isUpPressed() {
         return up;
     }
 
+    @Override
     public boolean isDownPressed() {
         return down;
     }
 
+    @Override
     public boolean isShootingPressed() {
         return shooting;
     }
 
+    @Override
     public boolean isCheatModeEnabled() {
         return cheatMode;
     }
 
+    @Override
     public boolean isAIModeActive() {
         return AIModeActive;
     }
 
+    @Override
     public boolean isAIModeDeactivate() {
         return AIModeDeactivate;
     }
 
+    @Override
     public boolean isShurikenMode() {
         return shurikenMode;
     }
 
+    @Override
     public boolean isPluseMode() {
         return pluseMode;
     }
 
+    @Override
     public boolean isDefaultMode() {
         return defaultMode;
     }
 
     // Check if the 'Q' key was pressed to summon a drone
+    @Override
     public boolean isSummonDrone() {
         return summonDrone;
     }
 
+    // Pause is handled by the game loop rather than the simulation, so it is not part of PlayerInput
+    public boolean consumePauseToggle() {
+        boolean toggled = pauseToggled;
+        pauseToggled = false;
+        return toggled;
+    }
+
+    public boolean consumeProfilerToggle() {
+        boolean toggled = profilerToggled;
+        profilerToggled = false;
+        return toggled;
+    }
+
     // Get position of mouse movement
+    @Override
     public double getMouseX() {
         return mouseX;
     }
 
+    @Override
     public double getMouseY() {
         return mouseY;
     }
@@ -0,0 +1,113 @@
+package se233.asterioddemo;
+
+import se233.asterioddemo.core.ParticleEngine;
+import se233.asterioddemo.render.DrawCommandBuffer;
+
+import java.util.SplittableRandom;
+
+/**
+ * Turns the particles held by a {@link ParticleEngine} into draw commands, one buffer layer per
+ * engine layer, oldest first.
+ */
+public class ParticleRenderer {
+    // Margin for culling off-screen particles during drawing
+    private static final double OFFSCREEN_MARGIN = 16.0;
+    private static final int WHITE = 0xffffffff;
+
+    private final SplittableRandom random = new SplittableRandom(); // Flicker is purely visual, so it is rolled here
+
+    /**
+     * Submits every on-screen particle. Engine layer {@code n} goes to buffer layer
+     * {@code firstLayer + n}; alpha blends each particle between its position before and after the
+     * last tick.
+     */
+    public void submit(DrawCommandBuffer buffer, int firstLayer, ParticleEngine engine, double alpha,
+                       double screenWidth, double screenHeight) {
+        double minX = -OFFSCREEN_MARGIN;
+        double minY = -OFFSCREEN_MARGIN;
+        double maxX = screenWidth + OFFSCREEN_MARGIN;
+        double maxY = screenHeight + OFFSCREEN_MARGIN;
+
+        for (int layer = 0; layer < ParticleEngine.LAYER_COUNT; layer++) {
+            int count = engine.getParticleCount(layer);
+            for (int n = 0; n < count; n++) {
+                int i = engine.slot(layer, n);
+                double prevX = engine.getPrevX(layer, i);
+                double prevY = engine.getPrevY(layer, i);
+                double x = prevX + (engine.getX(layer, i) - prevX) * alpha;
+                double y = prevY + (engine.getY(layer, i) - prevY) * alpha;
+                double size = engine.getSize(layer, i);
+                if (x + size < minX || x - size > maxX || y + size < minY || y - size > maxY) {
+                    continue;
+                }
+                submitParticle(buffer, firstLayer + layer, engine, layer, i, x, y);
+            }
+        }
+    }
+
+    private void submitParticle(DrawCommandBuffer buffer, int drawLayer, ParticleEngine engine, int layer, int i, double x, double y) {
+        int kind = engine.getKind(layer, i);
+        double size = engine.getSize(layer, i);
+        int primary = engine.getPrimaryColor(layer, i);
+        int secondary = engine.getSecondaryColor(layer, i);
+
+        double opacity = engine.getLifeFraction(layer, i);
+        if (kind == ParticleEngine.SMOKE) {
+            opacity *= 0.3; // Make smoke more transparent
+        } else if (ParticleEngine.flickers(kind)) {
+            opacity *= random.nextDouble() * 0.3 + engine.getFlicker(layer, i);
+        }
+        int blend = ParticleEngine.isAdditive(kind) ? DrawCommandBuffer.BLEND_ADD : DrawCommandBuffer.BLEND_NORMAL;
+
+        switch (kind) {
+            case ParticleEngine.DEBRIS, ParticleEngine.SHIP_DEBRIS ->
+                    buffer.fillRect(drawLayer, blend, opacity, primary, x, y, size, size / 2, engine.getRotation(layer, i));
+            case ParticleEngine.SPARK -> {
+                // Glowing spark: white centre inside the coloured glow
+                buffer.fillOval(drawLayer, blend, opacity, WHITE, x, y, size / 2, size / 2);
+                buffer.fillOval(drawLayer, blend, opacity, primary, x, y, size, size);
+            }
+            case ParticleEngine.SMOKE -> buffer.fillOval(drawLayer, blend, opacity, primary, x, y, size, size);
+            case ParticleEngine.CORE -> buffer.fillOval(drawLayer, blend, opacity, WHITE, x, y, size, size);
+            case ParticleEngine.ENERGY_SPARK -> {
+                buffer.fillOval(drawLayer, blend, opacity, secondary, x, y, size, size);
+                buffer.fillOval(drawLayer, blend, opacity, primary, x, y, size / 1.5, size / 1.5);
+            }
+            case ParticleEngine.PLASMA_CLOUD -> {
+                // Two overlapping translucent ovals; the colours already carry their alpha
+                buffer.fillOval(drawLayer, blend, opacity, primary, x, y, size, size);
+                buffer.fillOval(drawLayer, blend, opacity, secondary, x, y, (2 * size) / 3, (2 * size) / 3);
+            }
+            case ParticleEngine.CORE_BURST -> {
+                buffer.fillOval(drawLayer, blend, opacity, WHITE, x, y, size / 1.5, size / 1.5);
+                buffer.strokeOval(drawLayer, blend, opacity, primary, size / 4, x, y, size, size);
+            }
+            case ParticleEngine.ELECTRIC_ARC -> {
+                submitArc(buffer, drawLayer, blend, opacity, primary, 2, engine, layer, i, x, y);
+                // Glow
+                submitArc(buffer, drawLayer, blend, opacity * 0.5, secondary, 1, engine, layer, i, x, y);
+            }
+            default -> {
+            }
+        }
+    }
+
+    // The arc's points lie along the particle's rotated x axis, so turn them into screen space here
+    private static void submitArc(DrawCommandBuffer buffer, int drawLayer, int blend, double opacity, int argb, double stroke,
+                                  ParticleEngine engine, int layer, int i, double x, double y) {
+        double radians = Math.toRadians(engine.getRotation(layer, i));
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        double step = engine.getArcStep(layer, i);
+        int points = engine.getArcPointCount(layer, i);
+        for (int p = 0; p < points - 1; p++) {
+            double x1 = p * step;
+            double y1 = engine.getArcY(layer, i, p);
+            double x2 = (p + 1) * step;
+            double y2 = engine.getArcY(layer, i, p + 1);
+            buffer.strokeLine(drawLayer, blend, opacity, argb, stroke,
+                    x + x1 * cos - y1 * sin, y + x1 * sin + y1 * cos,
+                    x + x2 * cos - y2 * sin, y + x2 * sin + y2 * cos);
+        }
+    }
+}
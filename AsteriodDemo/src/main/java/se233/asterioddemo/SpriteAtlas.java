@@ -0,0 +1,239 @@
+package se233.asterioddemo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The sprite sheet's regions, and the binary atlas {@link AtlasCompiler} bakes them into at build
+ * time so the game can skip decoding the PNG. Nothing here needs JavaFX.
+ *
+ * <p>Atlas layout, all little-endian: magic, version, sheet width and height, sprite count and the
+ * byte offset of the pixels; then per sprite its name (a short byte length and UTF-8 bytes) and its
+ * x, y, width and height on the sheet. The sprite's id is its place in that index. The pixels are
+ * the whole sheet as premultiplied ARGB ints with near-white already keyed out, which in
+ * little-endian is JavaFX's own BGRA_PRE byte layout.
+ */
+final class SpriteAtlas {
+    static final int MAGIC = 0x54415841; // "AXAT" as little-endian bytes
+    static final int VERSION = 2;
+
+    // -Dasteroidx.cacheDir=<dir> picks where an atlas inside the jar is copied out to be mapped
+    static final String CACHE_DIR_PROPERTY = "asteroidx.cacheDir";
+
+    private static final Logger logger = Logger.getLogger(SpriteAtlas.class.getName());
+
+    final int sheetWidth;
+    final int sheetHeight;
+    final List<Region> regions;
+    private final ByteBuffer data;
+    private final int pixelOffset;
+
+    private SpriteAtlas(int sheetWidth, int sheetHeight, List<Region> regions, ByteBuffer data, int pixelOffset) {
+        this.sheetWidth = sheetWidth;
+        this.sheetHeight = sheetHeight;
+        this.regions = regions;
+        this.data = data;
+        this.pixelOffset = pixelOffset;
+    }
+
+    // A read-only view of the sheet's rows, sheetWidth * 4 bytes each
+    ByteBuffer pixels() {
+        return data.slice(pixelOffset, sheetWidth * sheetHeight * 4);
+    }
+
+    /**
+     * Maps the atlas when it is a plain file. Inside a jar, which is how the packaged game ships, a
+     * resource cannot be mapped, so it is copied out once into the cache directory and that copy is
+     * mapped from then on. Only when no copy can be made is it read onto the heap.
+     */
+    static SpriteAtlas open(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Bad atlas location " + url, e);
+            }
+        }
+        URLConnection connection = url.openConnection();
+        long length = connection.getContentLengthLong();
+        try {
+            if (length >= 0) {
+                return map(cachedCopy(connection, length, cacheDirectory()));
+            }
+        } catch (IOException e) {
+            logger.warning("Cannot cache the sprite atlas, reading it into memory: " + e.getMessage());
+        }
+        try (InputStream in = url.openStream()) {
+            return parse(ByteBuffer.wrap(in.readAllBytes()));
+        }
+    }
+
+    /**
+     * The atlas resource as a file in {@code directory}, copied out on first use. The file name
+     * carries the format version, the resource's length and its timestamp, so a rebuilt jar gets a
+     * fresh copy rather than a stale one.
+     */
+    static Path cachedCopy(URLConnection resource, long length, Path directory) throws IOException {
+        Path file = directory.resolve("sheet-v" + VERSION + "-" + length + "-" + resource.getLastModified() + ".atlas");
+        if (Files.isRegularFile(file) && Files.size(file) == length) {
+            return file;
+        }
+        Files.createDirectories(directory);
+        // Written under a temporary name and moved into place, so a half-written copy is never mapped
+        Path partial = Files.createTempFile(directory, "sheet", ".part");
+        try {
+            try (InputStream in = resource.getInputStream()) {
+                Files.copy(in, partial, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (Files.size(partial) != length) {
+                throw new IOException("Sprite atlas copy came out at " + Files.size(partial) + " bytes, expected " + length);
+            }
+            try {
+                Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+        logger.info("Copied the sprite atlas to " + file);
+        return file;
+    }
+
+    // -Dasteroidx.cacheDir, or an asteroidx folder in the temp directory
+    private static Path cacheDirectory() {
+        String dir = System.getProperty(CACHE_DIR_PROPERTY);
+        if (dir != null && !dir.isBlank()) {
+            return Path.of(dir.trim());
+        }
+        return Path.of(System.getProperty("java.io.tmpdir"), "asteroidx");
+    }
+
+    static SpriteAtlas map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping outlives the channel
+            return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    static SpriteAtlas parse(ByteBuffer buffer) throws IOException {
+        ByteBuffer data = buffer.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            if (data.getInt() != MAGIC) {
+                throw new IOException("Not a sprite atlas");
+            }
+            int version = data.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported sprite atlas version " + version);
+            }
+            int sheetWidth = data.getInt();
+            int sheetHeight = data.getInt();
+            int count = data.getInt();
+            int pixelOffset = data.getInt();
+            if (pixelOffset < 0 || (long) pixelOffset + 4L * sheetWidth * sheetHeight > data.capacity()) {
+                throw new IOException("Sprite atlas is cut short");
+            }
+            List<Region> regions = new ArrayList<>(count);
+            for (int id = 0; id < count; id++) {
+                byte[] name = new byte[Short.toUnsignedInt(data.getShort())];
+                data.get(name);
+                Region region = new Region(new String(name, StandardCharsets.UTF_8),
+                        data.getInt(), data.getInt(), data.getInt(), data.getInt());
+                if (region.x < 0 || region.y < 0 || region.x + region.width > sheetWidth || region.y + region.height > sheetHeight) {
+                    throw new IOException("Sprite " + region.name + " lies off the sheet");
+                }
+                regions.add(region);
+            }
+            return new SpriteAtlas(sheetWidth, sheetHeight, regions, data, pixelOffset);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt sprite atlas", e);
+        }
+    }
+
+    // Streams through the atlas XML for its SubTexture entries
+    static List<Region> readRegions(InputStream xml) throws XMLStreamException {
+        List<Region> regions = new ArrayList<>();
+        XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(xml);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "SubTexture".equals(reader.getLocalName())) {
+                    regions.add(new Region(
+                            reader.getAttributeValue(null, "name"),
+                            Integer.parseInt(reader.getAttributeValue(null, "x")),
+                            Integer.parseInt(reader.getAttributeValue(null, "y")),
+                            Integer.parseInt(reader.getAttributeValue(null, "width")),
+                            Integer.parseInt(reader.getAttributeValue(null, "height"))));
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return regions;
+    }
+
+    // Makes near-white pixels transparent across the sheet, a band of rows per fork-join task
+    static void keyWhite(int[] sheet, int sheetWidth) {
+        IntStream.range(0, sheet.length / sheetWidth).parallel().forEach(row -> {
+            for (int i = row * sheetWidth, end = i + sheetWidth; i < end; i++) {
+                int argb = sheet[i];
+                int red = (argb >> 16) & 0xff;
+                int green = (argb >> 8) & 0xff;
+                int blue = argb & 0xff;
+                if (red >= 250 && green >= 250 && blue >= 250) {
+                    sheet[i] = 0x00000000;
+                }
+            }
+        });
+    }
+
+    // Scales the colour by alpha, rounding the way JavaFX does
+    static int premultiply(int argb) {
+        int alpha = argb >>> 24;
+        if (alpha == 0xff) {
+            return argb;
+        }
+        if (alpha == 0) {
+            return 0;
+        }
+        int red = (((argb >> 16) & 0xff) * alpha + 127) / 255;
+        int green = (((argb >> 8) & 0xff) * alpha + 127) / 255;
+        int blue = ((argb & 0xff) * alpha + 127) / 255;
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+
+    static final class Region {
+        final String name;
+        final int x;
+        final int y;
+        final int width;
+        final int height;
+
+        Region(String name, int x, int y, int width, int height) {
+            this.name = name;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
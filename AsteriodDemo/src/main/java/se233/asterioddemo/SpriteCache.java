@@ -0,0 +1,193 @@
+package se233.asterioddemo;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import se233.asterioddemo.core.Sprites;
+
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * Draws sprites scaled and rotated, optionally from pre-rendered frames so each draw is a plain
+ * unrotated blit instead of a save, translate, rotate, scale and restore.
+ * <p>
+ * Frames are built the first time a sprite is drawn at a given pixel size and rotation step, and
+ * the least recently drawn ones are dropped once the cache outgrows its memory cap.
+ * {@code -Dasteroidx.spriteCache=off|low|high} picks the quality (off draws with transforms as
+ * before) and {@code -Dasteroidx.spriteCacheMB} the cap.
+ */
+public class SpriteCache {
+    private static final Logger logger = Logger.getLogger(SpriteCache.class.getName());
+
+    public static final String QUALITY_PROPERTY = "asteroidx.spriteCache";
+    public static final String SIZE_PROPERTY = "asteroidx.spriteCacheMB";
+    private static final long DEFAULT_MEGABYTES = 64;
+
+    public enum Quality {
+        OFF(0, false),
+        LOW(48, false),    // 7.5 degree steps, nearest-pixel sampling
+        HIGH(128, true);   // 2.8 degree steps, bilinear and supersampled when shrinking
+
+        final int rotationSteps;
+        final boolean smooth;
+
+        Quality(int rotationSteps, boolean smooth) {
+            this.rotationSteps = rotationSteps;
+            this.smooth = smooth;
+        }
+    }
+
+    private final SpriteLoader spriteLoader;
+    private final Quality quality;
+    private final int[][] sourcePixels = new int[Sprites.COUNT][];
+    private final FrameTable<Frame> frames;
+
+    public SpriteCache(SpriteLoader spriteLoader, Quality quality, long maxBytes) {
+        this.spriteLoader = spriteLoader;
+        this.quality = quality;
+        this.frames = new FrameTable<>(maxBytes);
+    }
+
+    public static SpriteCache fromSystemProperties(SpriteLoader spriteLoader) {
+        String value = System.getProperty(QUALITY_PROPERTY, "off").trim();
+        Quality quality;
+        try {
+            quality = Quality.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Unsupported " + QUALITY_PROPERTY + " '" + value + "', drawing without the cache");
+            quality = Quality.OFF;
+        }
+        long megabytes = Long.getLong(SIZE_PROPERTY, DEFAULT_MEGABYTES);
+        if (megabytes <= 0) {
+            logger.warning("Unsupported " + SIZE_PROPERTY + " " + megabytes + ", using " + DEFAULT_MEGABYTES);
+            megabytes = DEFAULT_MEGABYTES;
+        }
+        if (quality != Quality.OFF) {
+            logger.info("Sprite cache: " + quality + " quality, up to " + megabytes + " MB");
+        }
+        return new SpriteCache(spriteLoader, quality, megabytes << 20);
+    }
+
+    /**
+     * Draws a sprite centred on (cx, cy), scaled so its longer side is {@code size} pixels and
+     * turned {@code degrees} clockwise.
+     *
+     * @return false when the sheet has no such sprite
+     */
+    public boolean draw(GraphicsContext gc, int spriteId, double cx, double cy, double size, double degrees) {
+        SpriteRegion region = spriteLoader.getRegion(spriteId);
+        if (region == null) {
+            return false;
+        }
+        double scale = size / Math.max(region.getWidth(), region.getHeight());
+        if (quality == Quality.OFF) {
+            gc.save();
+            gc.translate(cx, cy);
+            gc.rotate(degrees);
+            gc.scale(scale, scale);
+            region.draw(gc, -region.getWidth() / 2, -region.getHeight() / 2);
+            gc.restore();
+            return true;
+        }
+
+        int steps = quality.rotationSteps;
+        int step = Math.floorMod((int) Math.round(degrees * steps / 360.0), steps);
+        int pixelSize = Math.max(1, (int) Math.round(size));
+        long key = ((long) spriteId << 32) | ((long) pixelSize << 16) | step;
+        Frame frame = frames.get(key);
+        if (frame == null) {
+            frame = render(spriteId, region, pixelSize / Math.max(region.getWidth(), region.getHeight()), step * 360.0 / steps);
+            frames.put(key, frame, frame.bytes()); // Drops the least recently drawn frames past the cap
+        }
+        gc.drawImage(frame.image, cx - frame.side / 2.0, cy - frame.side / 2.0);
+        return true;
+    }
+
+    // Rotates and scales the sprite into a square frame big enough for any angle
+    private Frame render(int spriteId, SpriteRegion region, double scale, double degrees) {
+        int[] source = sourcePixels[spriteId];
+        if (source == null) {
+            source = region.readPixels();
+            sourcePixels[spriteId] = source;
+        }
+        int sw = (int) region.getWidth();
+        int sh = (int) region.getHeight();
+        int side = (int) Math.ceil(Math.hypot(sw * scale, sh * scale)) + 2;
+
+        // Walk the frame and map each pixel back onto the unrotated, unscaled sprite
+        double radians = Math.toRadians(degrees);
+        double cos = Math.cos(radians) / scale;
+        double sin = Math.sin(radians) / scale;
+        int samples = quality.smooth ? Math.min(4, Math.max(1, (int) Math.ceil(1 / scale))) : 1;
+        int[] pixels = new int[side * side];
+        double half = side / 2.0;
+        for (int py = 0; py < side; py++) {
+            for (int px = 0; px < side; px++) {
+                int a = 0, r = 0, g = 0, b = 0;
+                for (int sy = 0; sy < samples; sy++) {
+                    for (int sx = 0; sx < samples; sx++) {
+                        double dx = px + (sx + 0.5) / samples - half;
+                        double dy = py + (sy + 0.5) / samples - half;
+                        double u = dx * cos + dy * sin + sw / 2.0;
+                        double v = -dx * sin + dy * cos + sh / 2.0;
+                        int argb = quality.smooth ? bilinear(source, sw, sh, u - 0.5, v - 0.5) : nearest(source, sw, sh, u, v);
+                        a += argb >>> 24;
+                        r += (argb >> 16) & 0xff;
+                        g += (argb >> 8) & 0xff;
+                        b += argb & 0xff;
+                    }
+                }
+                int n = samples * samples;
+                pixels[py * side + px] = ((a / n) << 24) | ((r / n) << 16) | ((g / n) << 8) | (b / n);
+            }
+        }
+
+        WritableImage image = new WritableImage(side, side);
+        image.getPixelWriter().setPixels(0, 0, side, side, PixelFormat.getIntArgbPreInstance(), pixels, 0, side);
+        return new Frame(image, side);
+    }
+
+    private static int nearest(int[] source, int sw, int sh, double u, double v) {
+        int x = (int) Math.floor(u);
+        int y = (int) Math.floor(v);
+        return x < 0 || y < 0 || x >= sw || y >= sh ? 0 : source[y * sw + x];
+    }
+
+    // Premultiplied, so blending towards transparent edges does not darken them
+    private static int bilinear(int[] source, int sw, int sh, double u, double v) {
+        int x0 = (int) Math.floor(u);
+        int y0 = (int) Math.floor(v);
+        double fx = u - x0;
+        double fy = v - y0;
+        int p00 = texel(source, sw, sh, x0, y0);
+        int p10 = texel(source, sw, sh, x0 + 1, y0);
+        int p01 = texel(source, sw, sh, x0, y0 + 1);
+        int p11 = texel(source, sw, sh, x0 + 1, y0 + 1);
+        int argb = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            double top = ((p00 >>> shift) & 0xff) * (1 - fx) + ((p10 >>> shift) & 0xff) * fx;
+            double bottom = ((p01 >>> shift) & 0xff) * (1 - fx) + ((p11 >>> shift) & 0xff) * fx;
+            argb |= ((int) (top * (1 - fy) + bottom * fy + 0.5)) << shift;
+        }
+        return argb;
+    }
+
+    private static int texel(int[] source, int sw, int sh, int x, int y) {
+        return x < 0 || y < 0 || x >= sw || y >= sh ? 0 : source[y * sw + x];
+    }
+
+    private static final class Frame {
+        final WritableImage image;
+        final int side;
+
+        Frame(WritableImage image, int side) {
+            this.image = image;
+            this.side = side;
+        }
+
+        long bytes() {
+            return 4L * side * side;
+        }
+    }
+}
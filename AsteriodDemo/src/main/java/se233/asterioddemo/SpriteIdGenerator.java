@@ -0,0 +1,104 @@
+package se233.asterioddemo;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Writes {@code se233.asterioddemo.core.Sprites}, the int id constants for every sprite in the
+ * sheet's XML. Run it again whenever the sheet changes; the atlas build fails until it has been:
+ *
+ * <pre>
+ * mvn -q -pl AsteriodDemo exec:java -Dexec.mainClass=se233.asterioddemo.SpriteIdGenerator \
+ *     -Dexec.args="src/main/resources/sprite/sheet.xml ../AsteriodCore/src/main/java/se233/asterioddemo/core/Sprites.java"
+ * </pre>
+ */
+public final class SpriteIdGenerator {
+
+    private SpriteIdGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: SpriteIdGenerator <sheet.xml> <Sprites.java>");
+            System.exit(2);
+        }
+        List<SpriteAtlas.Region> regions;
+        try (InputStream xml = Files.newInputStream(Paths.get(args[0]))) {
+            regions = SpriteAtlas.readRegions(xml);
+        }
+        Path out = Paths.get(args[1]);
+        Files.writeString(out, generate(regions), StandardCharsets.UTF_8);
+        System.out.println("Wrote " + regions.size() + " sprite ids to " + out);
+    }
+
+    static String generate(List<SpriteAtlas.Region> regions) {
+        StringBuilder source = new StringBuilder();
+        source.append("package se233.asterioddemo.core;\n\n")
+                .append("import java.util.HashMap;\n")
+                .append("import java.util.Map;\n\n")
+                .append("/**\n")
+                .append(" * Ids for every sprite on the sprite sheet, numbered in the order of {@code sheet.xml}, so\n")
+                .append(" * spawning and drawing can index arrays instead of looking names up. Generated by\n")
+                .append(" * {@code SpriteIdGenerator}; do not edit.\n")
+                .append(" */\n")
+                .append("public final class Sprites {\n")
+                .append("    public static final int NONE = -1;\n\n");
+
+        Set<String> constants = new HashSet<>();
+        for (int id = 0; id < regions.size(); id++) {
+            String constant = constantName(regions.get(id).name);
+            if (!constants.add(constant)) {
+                throw new IllegalStateException("Two sprites map to the constant " + constant);
+            }
+            source.append("    public static final int ").append(constant).append(" = ").append(id).append(";\n");
+        }
+        source.append("\n    public static final int COUNT = ").append(regions.size()).append(";\n\n")
+                .append("    private static final String[] NAMES = {\n");
+        for (SpriteAtlas.Region region : regions) {
+            source.append("            \"").append(region.name).append("\",\n");
+        }
+        source.append("    };\n\n")
+                .append("    private static final Map<String, Integer> IDS = new HashMap<>();\n\n")
+                .append("    static {\n")
+                .append("        for (int id = 0; id < NAMES.length; id++) {\n")
+                .append("            IDS.put(NAMES[id], id);\n")
+                .append("        }\n")
+                .append("    }\n\n")
+                .append("    private Sprites() {\n")
+                .append("    }\n\n")
+                .append("    // For loading and saved state, not per frame; NONE for a name not on the sheet\n")
+                .append("    public static int id(String name) {\n")
+                .append("        Integer id = IDS.get(name);\n")
+                .append("        return id == null ? NONE : id;\n")
+                .append("    }\n\n")
+                .append("    public static String name(int id) {\n")
+                .append("        return NAMES[id];\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    // laserBlue07.png -> LASER_BLUE_07, meteorBrown_big1.png -> METEOR_BROWN_BIG_1
+    static String constantName(String spriteName) {
+        String base = spriteName.endsWith(".png") ? spriteName.substring(0, spriteName.length() - 4) : spriteName;
+        StringBuilder constant = new StringBuilder();
+        char previous = '_';
+        for (char c : base.toCharArray()) {
+            boolean wordStart = (Character.isUpperCase(c) && Character.isLowerCase(previous))
+                    || (Character.isDigit(c) && Character.isLetter(previous));
+            if (wordStart) {
+                constant.append('_');
+            }
+            constant.append(Character.isLetterOrDigit(c) ? c : '_');
+            previous = c;
+        }
+        return constant.toString().toUpperCase(Locale.ROOT);
+    }
+}
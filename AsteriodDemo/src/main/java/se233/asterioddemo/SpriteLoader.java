@@ -1,73 +1,126 @@
 package se233.asterioddemo;
 
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.WritableImage;
-import javafx.scene.image.PixelReader;
-import javafx.scene.image.PixelWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Paths;
 import java.util.HashMap;
-import org.w3c.dom.Document;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import javafx.geometry.Rectangle2D;
+import java.util.List;
+import java.util.logging.Logger;
+import se233.asterioddemo.core.Sprites;
 
+/**
+ * Loads the sprite sheet once as a single white-keyed image and hands out a {@link SpriteRegion}
+ * per sprite on it, by {@link Sprites} id on the hot paths and by name for everything else.
+ */
 public class SpriteLoader {
-    private HashMap<String, Image> spriteMap = new HashMap<>();
+    private static final Logger logger = Logger.getLogger(SpriteLoader.class.getName());
 
+    // -Dasteroidx.atlas=<file> maps a prebuilt atlas from disk instead of the one on the classpath
+    public static final String ATLAS_PROPERTY = "asteroidx.atlas";
+
+    private HashMap<String, SpriteRegion> regionMap = new HashMap<>();
+    private final SpriteRegion[] regionsById = new SpriteRegion[Sprites.COUNT];
+    private WritableImage sheet;
+
+    /**
+     * Loads the sheet from the binary atlas built next to it ({@code sheet.atlas} for
+     * {@code sheet.png}), and falls back to decoding the PNG with its XML when there is none.
+     */
     public SpriteLoader(String spriteSheetPath, String xmlPath) {
+        SpriteAtlas atlas = openAtlas(spriteSheetPath);
+        if (atlas != null) {
+            loadAtlas(atlas);
+        } else {
+            loadSheet(spriteSheetPath, xmlPath);
+        }
+    }
+
+    // Regions already read from an atlas or XML, over a sheet loaded elsewhere
+    SpriteLoader(WritableImage sheet, List<SpriteAtlas.Region> regions) {
+        this.sheet = sheet;
+        addRegions(regions);
+    }
+
+    private SpriteAtlas openAtlas(String spriteSheetPath) {
+        String file = System.getProperty(ATLAS_PROPERTY);
         try {
+            if (file != null && !file.isBlank()) {
+                return SpriteAtlas.map(Paths.get(file.trim()));
+            }
+            int dot = spriteSheetPath.lastIndexOf('.');
+            URL url = getClass().getResource((dot < 0 ? spriteSheetPath : spriteSheetPath.substring(0, dot)) + ".atlas");
+            return url == null ? null : SpriteAtlas.open(url);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Cannot use sprite atlas, decoding the sheet instead: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // One straight copy out of the atlas; the pixels are already keyed and in JavaFX's own layout
+    private void loadAtlas(SpriteAtlas atlas) {
+        sheet = new WritableImage(atlas.sheetWidth, atlas.sheetHeight);
+        sheet.getPixelWriter().setPixels(0, 0, atlas.sheetWidth, atlas.sheetHeight,
+                PixelFormat.getByteBgraPreInstance(), atlas.pixels(), atlas.sheetWidth * 4);
+        addRegions(atlas.regions);
+    }
+
+    private void loadSheet(String spriteSheetPath, String xmlPath) {
+        try (InputStream sheetStream = getClass().getResourceAsStream(spriteSheetPath);
+             InputStream xmlStream = getClass().getResourceAsStream(xmlPath)) {
             // Load image with transparency enabled
             Image spriteSheet = new Image(
-                    getClass().getResourceAsStream(spriteSheetPath),
+                    sheetStream,
                     -1, -1, true, true  // preserveRatio=true, smooth=true
             );
 
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(getClass().getResourceAsStream(xmlPath));
-            doc.getDocumentElement().normalize();
-
-            NodeList nodeList = doc.getElementsByTagName("SubTexture");
+            // The whole sheet in one read, keyed in place and written back in one go
+            int sheetWidth = (int) spriteSheet.getWidth();
+            int sheetHeight = (int) spriteSheet.getHeight();
+            int[] pixels = new int[sheetWidth * sheetHeight];
+            spriteSheet.getPixelReader().getPixels(0, 0, sheetWidth, sheetHeight,
+                    PixelFormat.getIntArgbInstance(), pixels, 0, sheetWidth);
+            SpriteAtlas.keyWhite(pixels, sheetWidth);
 
-            for (int i = 0; i < nodeList.getLength(); i++) {
-                Element element = (Element) nodeList.item(i);
-                String name = element.getAttribute("name");
-                int x = Integer.parseInt(element.getAttribute("x"));
-                int y = Integer.parseInt(element.getAttribute("y"));
-                int width = Integer.parseInt(element.getAttribute("width"));
-                int height = Integer.parseInt(element.getAttribute("height"));
-
-                // Create a new transparent image for each sprite
-                WritableImage sprite = new WritableImage(width, height);
-                PixelWriter pixelWriter = sprite.getPixelWriter();
-                PixelReader pixelReader = spriteSheet.getPixelReader();
-
-                // Copy pixels with transparency
-                for (int py = 0; py < height; py++) {
-                    for (int px = 0; px < width; px++) {
-                        int argb = pixelReader.getArgb(x + px, y + py);
-                        // Check if pixel is white (you might need to adjust these values)
-                        int red = (argb >> 16) & 0xff;
-                        int green = (argb >> 8) & 0xff;
-                        int blue = argb & 0xff;
-                        if (red >= 250 && green >= 250 && blue >= 250) {
-                            // Make white pixels transparent
-                            argb = 0x00000000;
-                        }
-                        pixelWriter.setArgb(px, py, argb);
-                    }
-                }
-
-                spriteMap.put(name, sprite);
-            }
+            sheet = new WritableImage(sheetWidth, sheetHeight);
+            sheet.getPixelWriter().setPixels(0, 0, sheetWidth, sheetHeight,
+                    PixelFormat.getIntArgbInstance(), pixels, 0, sheetWidth);
+            addRegions(SpriteAtlas.readRegions(xmlStream));
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
-    public Image getSprite(String name) {
-        return spriteMap.get(name);
+    private void addRegions(List<SpriteAtlas.Region> regions) {
+        for (SpriteAtlas.Region region : regions) {
+            SpriteRegion sprite = new SpriteRegion(sheet, region.x, region.y, region.width, region.height);
+            regionMap.put(region.name, sprite);
+            int id = Sprites.id(region.name);
+            if (id != Sprites.NONE) {
+                regionsById[id] = sprite;
+            }
+        }
+        for (int id = 0; id < regionsById.length; id++) {
+            if (regionsById[id] == null) {
+                logger.severe("Sprite sheet has no " + Sprites.name(id));
+            }
+        }
+    }
+
+    // Null when the sheet has no sprite by that name
+    public SpriteRegion getRegion(String name) {
+        return regionMap.get(name);
+    }
+
+    // One of the Sprites ids; null when the loaded sheet lacks it
+    public SpriteRegion getRegion(int id) {
+        return regionsById[id];
+    }
+
+    public Image getSheet() {
+        return sheet;
     }
-}
\ No newline at end of file
+}
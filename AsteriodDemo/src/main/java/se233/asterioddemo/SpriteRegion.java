@@ -0,0 +1,61 @@
+package se233.asterioddemo;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+
+/**
+ * One sprite: a rectangle on the shared sprite sheet. Every sprite is drawn from the same sheet
+ * texture with the source-rectangle form of {@code drawImage}, so runs of sprite draws stay on one
+ * texture.
+ */
+public final class SpriteRegion {
+    private final Image sheet;
+    private final double x;
+    private final double y;
+    private final double width;
+    private final double height;
+
+    public SpriteRegion(Image sheet, double x, double y, double width, double height) {
+        this.sheet = sheet;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    // Draws at its own size with the top-left corner at (dx, dy)
+    public void draw(GraphicsContext gc, double dx, double dy) {
+        gc.drawImage(sheet, x, y, width, height, dx, dy, width, height);
+    }
+
+    public void draw(GraphicsContext gc, double dx, double dy, double dw, double dh) {
+        gc.drawImage(sheet, x, y, width, height, dx, dy, dw, dh);
+    }
+
+    // The sprite's own pixels as premultiplied ARGB, row by row
+    public int[] readPixels() {
+        return readPixels(sheet.getPixelReader());
+    }
+
+    int[] readPixels(PixelReader reader) {
+        int w = (int) width;
+        int h = (int) height;
+        int[] pixels = new int[w * h];
+        reader.getPixels((int) x, (int) y, w, h, PixelFormat.getIntArgbPreInstance(), pixels, 0, w);
+        return pixels;
+    }
+
+    public Image getSheet() {
+        return sheet;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,101 @@
+package se233.asterioddemo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameTableTest {
+
+    @Test
+    public void testLeastRecentlyDrawnFrameIsDroppedFirst() {
+        FrameTable<String> frames = new FrameTable<>(300);
+        frames.put(key(1), "a", 100);
+        frames.put(key(2), "b", 100);
+        frames.put(key(3), "c", 100);
+
+        assertEquals("a", frames.get(key(1)), "Drawing a makes b the oldest.");
+        frames.put(key(4), "d", 100);
+
+        assertFalse(frames.contains(key(2)), "b was drawn least recently, so it goes first.");
+        assertTrue(frames.contains(key(1)));
+        assertTrue(frames.contains(key(3)));
+        assertTrue(frames.contains(key(4)));
+
+        frames.put(key(5), "e", 100);
+        assertFalse(frames.contains(key(3)), "c is next in line once b has gone.");
+        assertEquals(3, frames.size());
+        assertEquals(300, frames.bytes());
+    }
+
+    @Test
+    public void testCapDropsAsManyFramesAsItTakes() {
+        FrameTable<String> frames = new FrameTable<>(300);
+        frames.put(key(1), "a", 100);
+        frames.put(key(2), "b", 100);
+        frames.put(key(3), "c", 100);
+
+        frames.put(key(4), "d", 250);
+
+        assertEquals(1, frames.size(), "All three older frames have to go to fit under the cap.");
+        assertEquals(250, frames.bytes());
+        assertEquals("d", frames.get(key(4)));
+    }
+
+    @Test
+    public void testFrameJustBuiltIsKeptEvenOverTheCap() {
+        FrameTable<String> frames = new FrameTable<>(300);
+        frames.put(key(1), "a", 100);
+
+        frames.put(key(2), "huge", 1000);
+
+        assertEquals(1, frames.size());
+        assertFalse(frames.contains(key(1)));
+        assertEquals("huge", frames.get(key(2)), "The frame about to be drawn must survive its own eviction.");
+        assertEquals(1000, frames.bytes());
+
+        frames.put(key(3), "b", 100);
+        assertFalse(frames.contains(key(2)), "It goes as soon as a newer frame arrives.");
+        assertEquals(100, frames.bytes());
+    }
+
+    @Test
+    public void testMatchesAnAccessOrderedMapOverManyFrames() {
+        // Keys shaped like the cache's: sprite id, pixel size and rotation step
+        Random random = new Random(3);
+        long cap = 40_000;
+        FrameTable<Long> frames = new FrameTable<>(cap);
+        LinkedHashMap<Long, Long> reference = new LinkedHashMap<>(16, 0.75f, true); // Key to bytes
+        long referenceBytes = 0;
+
+        for (int i = 0; i < 20_000; i++) {
+            long key = ((long) random.nextInt(40) << 32) | ((long) (16 + random.nextInt(8)) << 16) | random.nextInt(48);
+            Long found = frames.get(key);
+            assertEquals(reference.get(key) == null ? null : key, found, "Draw " + i + " should find the same frames.");
+            if (found == null) {
+                long size = 1 + random.nextInt(1200);
+                frames.put(key, key, size);
+                reference.put(key, size);
+                referenceBytes += size;
+                Iterator<Map.Entry<Long, Long>> oldest = reference.entrySet().iterator();
+                while (referenceBytes > cap && reference.size() > 1) {
+                    referenceBytes -= oldest.next().getValue();
+                    oldest.remove();
+                }
+            }
+            assertEquals(reference.size(), frames.size());
+            assertEquals(referenceBytes, frames.bytes());
+        }
+        for (long key : reference.keySet()) {
+            assertTrue(frames.contains(key));
+        }
+    }
+
+    private static long key(int spriteId) {
+        return ((long) spriteId << 32) | (32L << 16);
+    }
+}
@@ -1,21 +1,16 @@
 package se233.asterioddemo;
 
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
 @Suite
 @SelectClasses({
-        CharacterActionsTest.class,
-        CharacterMovementTest.class,
-        GameScoringTest.class
+        SpriteAtlasTest.class,
+        SpriteLoaderTest.class,
+        FrameTableTest.class
 
 })
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class JUnitTestSuite {
-    @BeforeAll
-    public static void initJfxRuntime() {
-        javafx.application.Platform.startup(() -> {});
-    }
 }
@@ -0,0 +1,151 @@
+package se233.asterioddemo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import se233.asterioddemo.core.Sprites;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import javax.imageio.ImageIO;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpriteAtlasTest {
+    private static final Path SHEET = Path.of("src/main/resources/sprite/sheet.png");
+    private static final Path XML = Path.of("src/main/resources/sprite/sheet.xml");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCompiledAtlasParsesBackToTheSheet() throws Exception {
+        Path file = tempDir.resolve("sheet.atlas");
+        int count = AtlasCompiler.compile(SHEET, XML, file);
+
+        SpriteAtlas atlas = SpriteAtlas.map(file);
+
+        List<SpriteAtlas.Region> expected;
+        try (InputStream xml = Files.newInputStream(XML)) {
+            expected = SpriteAtlas.readRegions(xml);
+        }
+        assertEquals(Sprites.COUNT, count);
+        assertEquals(expected.size(), atlas.regions.size());
+        for (int id = 0; id < expected.size(); id++) {
+            SpriteAtlas.Region region = atlas.regions.get(id);
+            assertEquals(Sprites.name(id), region.name, "A sprite's id should be its place in the atlas.");
+            assertEquals(expected.get(id).x, region.x);
+            assertEquals(expected.get(id).y, region.y);
+            assertEquals(expected.get(id).width, region.width);
+            assertEquals(expected.get(id).height, region.height);
+        }
+
+        BufferedImage image = ImageIO.read(SHEET.toFile());
+        assertEquals(image.getWidth(), atlas.sheetWidth);
+        assertEquals(image.getHeight(), atlas.sheetHeight);
+        int[] sheet = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+        SpriteAtlas.keyWhite(sheet, image.getWidth());
+        ByteBuffer pixels = atlas.pixels().order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < sheet.length; i++) {
+            if (pixels.getInt(i * 4) != SpriteAtlas.premultiply(sheet[i])) {
+                fail("Pixel " + i + " of the atlas differs from the keyed, premultiplied sheet.");
+            }
+        }
+    }
+
+    @Test
+    public void testCompilerRejectsSheetThatNoLongerMatchesSprites() throws Exception {
+        // Drop the last sprite, as if the sheet had been regenerated without updating Sprites.java
+        String xml = Files.readString(XML);
+        int last = xml.lastIndexOf("<SubTexture");
+        Path shorter = tempDir.resolve("sheet.xml");
+        Files.writeString(shorter, xml.substring(0, last) + xml.substring(xml.indexOf("/>", last) + 2));
+
+        IOException e = assertThrows(IOException.class,
+                () -> AtlasCompiler.compile(SHEET, shorter, tempDir.resolve("sheet.atlas")));
+        assertTrue(e.getMessage().contains("SpriteIdGenerator"), "The error should say how to fix it.");
+    }
+
+    @Test
+    public void testParseRejectsTruncatedAtlas() throws Exception {
+        Path file = tempDir.resolve("sheet.atlas");
+        AtlasCompiler.compile(SHEET, XML, file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        ByteBuffer cut = ByteBuffer.wrap(bytes, 0, bytes.length - 1).slice();
+        assertThrows(IOException.class, () -> SpriteAtlas.parse(cut));
+        bytes[0] ^= 1;
+        assertThrows(IOException.class, () -> SpriteAtlas.parse(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void testAtlasInsideAJarIsCopiedOutOnceAndMapped() throws Exception {
+        Path atlasFile = tempDir.resolve("sheet.atlas");
+        AtlasCompiler.compile(SHEET, XML, atlasFile);
+        Path jar = tempDir.resolve("game.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("sprite/sheet.atlas"));
+            Files.copy(atlasFile, out);
+            out.closeEntry();
+        }
+        URL url = new URL("jar:" + jar.toUri() + "!/sprite/sheet.atlas");
+        Path cacheDir = tempDir.resolve("cache");
+
+        URLConnection connection = url.openConnection();
+        connection.setUseCaches(false);
+        Path copy = SpriteAtlas.cachedCopy(connection, connection.getContentLengthLong(), cacheDir);
+        assertEquals(-1, Files.mismatch(atlasFile, copy), "The copy should match the atlas in the jar.");
+        FileTime written = Files.getLastModifiedTime(copy);
+        Files.setLastModifiedTime(copy, FileTime.fromMillis(written.toMillis() - 60_000));
+        FileTime aged = Files.getLastModifiedTime(copy);
+
+        URLConnection again = url.openConnection();
+        again.setUseCaches(false);
+        assertEquals(copy, SpriteAtlas.cachedCopy(again, again.getContentLengthLong(), cacheDir));
+        assertEquals(aged, Files.getLastModifiedTime(copy), "A second start should map the existing copy.");
+        try (var files = Files.list(cacheDir)) {
+            assertEquals(1, files.count(), "No temporary file should be left behind.");
+        }
+
+        String previous = System.setProperty(SpriteAtlas.CACHE_DIR_PROPERTY, cacheDir.toString());
+        try {
+            SpriteAtlas atlas = SpriteAtlas.open(url);
+            assertEquals(Sprites.COUNT, atlas.regions.size());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(SpriteAtlas.CACHE_DIR_PROPERTY);
+            } else {
+                System.setProperty(SpriteAtlas.CACHE_DIR_PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    public void testTruncatedCopyIsReplaced() throws Exception {
+        Path atlasFile = tempDir.resolve("sheet.atlas");
+        AtlasCompiler.compile(SHEET, XML, atlasFile);
+        URLConnection connection = atlasFile.toUri().toURL().openConnection();
+        long length = connection.getContentLengthLong();
+        Path cacheDir = tempDir.resolve("cache");
+        Path copy = SpriteAtlas.cachedCopy(connection, length, cacheDir);
+
+        // A copy cut short, say by a full disk, must not be mapped as it is
+        try (OutputStream out = Files.newOutputStream(copy)) {
+            out.write(new byte[16]);
+        }
+        URLConnection again = atlasFile.toUri().toURL().openConnection();
+        assertEquals(copy, SpriteAtlas.cachedCopy(again, length, cacheDir));
+        assertEquals(-1, Files.mismatch(atlasFile, copy));
+    }
+}
@@ -0,0 +1,154 @@
+package se233.asterioddemo;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritablePixelFormat;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import se233.asterioddemo.core.Sprites;
+
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// JavaFX images need a running toolkit, so these work from the parsed regions and a stand-in reader
+public class SpriteLoaderTest {
+    private static final int SHEET_WIDTH = 1024;
+    private static final int SHEET_HEIGHT = 1024;
+
+    private List<SpriteAtlas.Region> regions;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        try (InputStream xml = Files.newInputStream(Path.of("src/main/resources/sprite/sheet.xml"))) {
+            regions = SpriteAtlas.readRegions(xml);
+        }
+    }
+
+    @Test
+    public void testEverySpriteIdFindsItsRegion() {
+        SpriteLoader loader = new SpriteLoader(null, regions);
+
+        for (int id = 0; id < Sprites.COUNT; id++) {
+            SpriteAtlas.Region expected = regions.get(id);
+            SpriteRegion region = loader.getRegion(id);
+            assertNotNull(region, Sprites.name(id) + " should be on the sheet.");
+            assertSame(region, loader.getRegion(Sprites.name(id)), "By id and by name should be the same region.");
+            assertEquals(expected.width, region.getWidth());
+            assertEquals(expected.height, region.getHeight());
+        }
+    }
+
+    @Test
+    public void testReadPixelsReadsOnlyItsOwnRectangle() {
+        SpriteLoader loader = new SpriteLoader(null, regions);
+        SheetReader reader = new SheetReader();
+
+        for (int id = 0; id < Sprites.COUNT; id++) {
+            SpriteAtlas.Region expected = regions.get(id);
+            int[] pixels = loader.getRegion(id).readPixels(reader);
+
+            assertEquals(expected.width * expected.height, pixels.length);
+            assertEquals(reader.pixelAt(expected.x, expected.y), pixels[0], Sprites.name(id) + " should start at its corner.");
+            assertEquals(reader.pixelAt(expected.x + expected.width - 1, expected.y + expected.height - 1),
+                    pixels[pixels.length - 1], Sprites.name(id) + " should end at its opposite corner.");
+        }
+    }
+
+    @Test
+    public void testSpriteMissingFromTheSheetIsReported() {
+        int missing = Sprites.id("meteorBrown_big1.png");
+        List<SpriteAtlas.Region> partial = new ArrayList<>(regions);
+        partial.remove(missing);
+        List<String> errors = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getLevel() == Level.SEVERE) {
+                    errors.add(record.getMessage());
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(SpriteLoader.class.getName());
+        logger.addHandler(handler);
+        SpriteLoader loader;
+        try {
+            loader = new SpriteLoader(null, partial);
+        } finally {
+            logger.removeHandler(handler);
+        }
+
+        assertNull(loader.getRegion(missing));
+        assertEquals(List.of("Sprite sheet has no meteorBrown_big1.png"), errors);
+        assertNull(loader.getRegion("notASprite.png"));
+        assertEquals(Sprites.NONE, Sprites.id("notASprite.png"), "A name not on the sheet has no id.");
+    }
+
+    // A sheet whose every pixel is its own index, so a read shows exactly which pixels it took
+    private static final class SheetReader implements PixelReader {
+        int pixelAt(int x, int y) {
+            return y * SHEET_WIDTH + x;
+        }
+
+        @Override
+        public void getPixels(int x, int y, int w, int h, WritablePixelFormat<IntBuffer> pixelformat,
+                              int[] buffer, int offset, int scanlineStride) {
+            if (x < 0 || y < 0 || x + w > SHEET_WIDTH || y + h > SHEET_HEIGHT) {
+                throw new IndexOutOfBoundsException("Read past the sheet: " + x + "," + y + " " + w + "x" + h);
+            }
+            for (int row = 0; row < h; row++) {
+                for (int column = 0; column < w; column++) {
+                    buffer[offset + row * scanlineStride + column] = pixelAt(x + column, y + row);
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public PixelFormat getPixelFormat() {
+            return PixelFormat.getIntArgbPreInstance();
+        }
+
+        @Override
+        public int getArgb(int x, int y) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Color getColor(int x, int y) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends Buffer> void getPixels(int x, int y, int w, int h, WritablePixelFormat<T> pixelformat,
+                                                 T buffer, int scanlineStride) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void getPixels(int x, int y, int w, int h, WritablePixelFormat<ByteBuffer> pixelformat,
+                              byte[] buffer, int offset, int scanlineStride) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}